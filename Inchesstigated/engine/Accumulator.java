@@ -0,0 +1,113 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import figure.properties.FigureColor;
+import interfaces.FigureListener;
+import location.BitBoard;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the hidden layer of a {@link Network} of both players for the
+ *         current position. It's not computed for each position, but each
+ *         figure, which is set or removed, adds or subtracts the weights of a
+ *         single feature. Since adding and subtracting cancel each other out,
+ *         a move taken back restores the former values exactly.
+ *
+ *         The accumulator follows a bit board, which it's attached to by
+ *         {@link #attach(BitBoard)}, like the bit board of a search or the bit
+ *         board of the {@link location.Matrix}.
+ */
+public final class Accumulator implements FigureListener {
+	/** the weights of the network */
+	private final Network network;
+
+	/** the hidden values of each player, indexed by FigureColor */
+	private final short[][] values;
+
+	/**
+	 * Create an accumulator of the given network without any figure.
+	 *
+	 * @param network
+	 *            the weights of the network
+	 */
+	public Accumulator(final Network network) {
+		this.network = network;
+		this.values = new short[BitBoard.COLORS.length][network.getHiddenSize()];
+		this.network.setBiases(this.values[FigureColor.WHITE.ordinal()]);
+		this.network.setBiases(this.values[FigureColor.BLACK.ordinal()]);
+	}
+
+	/**
+	 * Compute the hidden values of the given position from scratch.
+	 *
+	 * @param board
+	 *            the position to use
+	 */
+	public void refresh(final BitBoard board) {
+		this.network.setBiases(this.values[FigureColor.WHITE.ordinal()]);
+		this.network.setBiases(this.values[FigureColor.BLACK.ordinal()]);
+
+		long occupied = board.getOccupancy();
+		while (occupied != 0L) {
+			final int field = Long.numberOfTrailingZeros(occupied);
+			occupied &= occupied - 1;
+
+			this.onFigureSet(board.getFigure(field), field);
+		}
+	}
+
+	/**
+	 * Compute the hidden values of the given position and follow each change of
+	 * the bit board from now on.
+	 *
+	 * @param board
+	 *            the bit board to follow
+	 */
+	public void attach(final BitBoard board) {
+		this.refresh(board);
+		board.setFigureListener(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see interfaces.FigureListener#onFigureSet(int, int)
+	 */
+	@Override
+	public void onFigureSet(final int figure, final int field) {
+		this.network.addFeature(this.values[FigureColor.WHITE.ordinal()], Network.getFeature(FigureColor.WHITE, figure, field));
+		this.network.addFeature(this.values[FigureColor.BLACK.ordinal()], Network.getFeature(FigureColor.BLACK, figure, field));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see interfaces.FigureListener#onFigureRemoved(int, int)
+	 */
+	@Override
+	public void onFigureRemoved(final int figure, final int field) {
+		this.network.subtractFeature(this.values[FigureColor.WHITE.ordinal()], Network.getFeature(FigureColor.WHITE, figure, field));
+		this.network.subtractFeature(this.values[FigureColor.BLACK.ordinal()], Network.getFeature(FigureColor.BLACK, figure, field));
+	}
+
+	/**
+	 * Rate the current position from the view of the given player.
+	 *
+	 * @param side
+	 *            the side to move
+	 *
+	 * @return the score in centipawns, positive if the given player is ahead
+	 */
+	public int evaluate(final FigureColor side) {
+		return this.network.evaluate(this.values[side.ordinal()], this.values[side.ordinal() ^ 1]);
+	}
+}
@@ -0,0 +1,211 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.PieceSquareTable;
+
+/**
+ * @author swunsch
+ *
+ *         Rates a position by the material of both players and the fields of
+ *         their figures (piece square tables), where the scores of the middle
+ *         game and the end game are blended by the phase of the game (tapered
+ *         evaluation).
+ *
+ *         The scores are not computed for each position, but are updated by
+ *         the {@link BitBoard} for each figure, which is set or removed (see
+ *         {@link PieceSquareTable}), thus a rating is a single lookup.
+ *
+ *         The Pawn structure adds a bonus for each passed Pawn by it's rank
+ *         and a penalty for each doubled and isolated Pawn. Since the Pawns
+ *         rarely move, the rating of the Pawn structure is cached in a
+ *         {@link PawnTable} by the Pawn key of the position.
+ *
+ *         Each score is given in centipawns, where a Pawn is worth 100.
+ */
+public final class Evaluation {
+	/* penalties for each doubled and each isolated Pawn */
+	private static final int DOUBLED_MIDDLE_GAME = -10;
+	private static final int DOUBLED_END_GAME = -20;
+	private static final int ISOLATED_MIDDLE_GAME = -10;
+	private static final int ISOLATED_END_GAME = -15;
+
+	/* bonus of a passed Pawn, indexed by the rank from the view of it's color */
+	private static final int[] PASSED_MIDDLE_GAME = {
+			0, 5, 10, 15, 25, 40, 60, 0
+	};
+	private static final int[] PASSED_END_GAME = {
+			0, 10, 15, 25, 40, 65, 100, 0
+	};
+
+	/** all fields of each file */
+	private static final long[] FILE_MASKS = new long[8];
+
+	/** all fields of the neighbor files of each file */
+	private static final long[] NEIGHBOR_FILE_MASKS = new long[8];
+
+	/** all fields in front of a Pawn on it's own and the neighbor files, indexed by FigureColor and field */
+	private static final long[][] PASSED_MASKS = new long[BitBoard.COLORS.length][BitBoard.NBR_OF_FIELDS];
+
+	static {
+		for (int file = 0; file < 8; file++) {
+			Evaluation.FILE_MASKS[file] = 0x0101010101010101L << file;
+		}
+		for (int file = 0; file < 8; file++) {
+			Evaluation.NEIGHBOR_FILE_MASKS[file] = ((file > 0) ? Evaluation.FILE_MASKS[file - 1] : 0L) | ((file < 7) ? Evaluation.FILE_MASKS[file + 1] : 0L);
+		}
+
+		for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+			final long files = Evaluation.FILE_MASKS[field & 7] | Evaluation.NEIGHBOR_FILE_MASKS[field & 7];
+			final int rank = field >>> 3;
+			final long above = (rank == 7) ? 0L : (-1L << ((rank + 1) << 3));
+			final long below = (1L << (rank << 3)) - 1L;
+
+			Evaluation.PASSED_MASKS[FigureColor.WHITE.ordinal()][field] = files & above;
+			Evaluation.PASSED_MASKS[FigureColor.BLACK.ordinal()][field] = files & below;
+		}
+	}
+
+	/** no instance required */
+	private Evaluation() {
+	}
+
+	/**
+	 * Receive the value of a figure type.
+	 *
+	 * @param type
+	 *            the figure type
+	 *
+	 * @return the value in centipawns, 0 for the King
+	 */
+	public static int getValue(final FigureSet type) {
+		return PieceSquareTable.getValue(type);
+	}
+
+	/**
+	 * Receive the value of a figure on the bit board.
+	 *
+	 * @param figure
+	 *            the figure as (type << 1) | color
+	 *
+	 * @return the value in centipawns, 0 for the King
+	 */
+	public static int getValue(final int figure) {
+		return PieceSquareTable.getValue(BitBoard.TYPES[figure >>> 1]);
+	}
+
+	/**
+	 * Rate the given position from the view of the side to move, where the Pawn
+	 * structure is rated from scratch.
+	 *
+	 * @param board
+	 *            the position to rate
+	 *
+	 * @return the score in centipawns, positive if the side to move is ahead
+	 */
+	public static int evaluate(final BitBoard board) {
+		return Evaluation.evaluate(board, Evaluation.getPawnStructure(board));
+	}
+
+	/**
+	 * Rate the given position from the view of the side to move, where the rating
+	 * of the Pawn structure is received from the given table, if possible.
+	 *
+	 * @param board
+	 *            the position to rate
+	 * @param pawnTable
+	 *            the table of rated Pawn structures, which is updated for an
+	 *            unknown Pawn structure
+	 *
+	 * @return the score in centipawns, positive if the side to move is ahead
+	 */
+	public static int evaluate(final BitBoard board, final PawnTable pawnTable) {
+		final long pawnKey = board.getPawnKey();
+		long pawns = pawnTable.probe(pawnKey);
+		if (pawns == PawnTable.NO_ENTRY) {
+			pawns = Evaluation.getPawnStructure(board);
+			pawnTable.store(pawnKey, pawns);
+		}
+
+		return Evaluation.evaluate(board, pawns);
+	}
+
+	/**
+	 * Rate the Pawn structure of the given position: passed, doubled and
+	 * isolated Pawns of both players.
+	 *
+	 * @param board
+	 *            the position to rate
+	 *
+	 * @return the middle game and the end game score, positive if white is
+	 *         ahead, see {@link PawnTable#pack(int, int)}
+	 */
+	public static long getPawnStructure(final BitBoard board) {
+		int middleGame = 0;
+		int endGame = 0;
+
+		for (final FigureColor color : BitBoard.COLORS) {
+			final long own = board.getFigureMask(FigureSet.PAWN, color);
+			final long opponent = board.getFigureMask(FigureSet.PAWN, FigureColor.getOpponentColor(color));
+			final int sign = (color == FigureColor.WHITE) ? 1 : -1;
+
+			for (int file = 0; file < 8; file++) {
+				final int count = Long.bitCount(own & Evaluation.FILE_MASKS[file]);
+				if (count > 1) {
+					middleGame += sign * Evaluation.DOUBLED_MIDDLE_GAME * (count - 1);
+					endGame += sign * Evaluation.DOUBLED_END_GAME * (count - 1);
+				}
+			}
+
+			long pawns = own;
+			while (pawns != 0L) {
+				final int field = Long.numberOfTrailingZeros(pawns);
+				pawns &= pawns - 1;
+				final int file = field & 7;
+
+				if ((own & Evaluation.NEIGHBOR_FILE_MASKS[file]) == 0L) {
+					middleGame += sign * Evaluation.ISOLATED_MIDDLE_GAME;
+					endGame += sign * Evaluation.ISOLATED_END_GAME;
+				}
+
+				/* neither an opposing Pawn in front or beside, nor an own Pawn in front */
+				final long front = Evaluation.PASSED_MASKS[color.ordinal()][field];
+				if (((opponent & front) == 0L) && ((own & front & Evaluation.FILE_MASKS[file]) == 0L)) {
+					final int rank = (color == FigureColor.WHITE) ? (field >>> 3) : (7 - (field >>> 3));
+					middleGame += sign * Evaluation.PASSED_MIDDLE_GAME[rank];
+					endGame += sign * Evaluation.PASSED_END_GAME[rank];
+				}
+			}
+		}
+
+		return PawnTable.pack(middleGame, endGame);
+	}
+
+	/**
+	 * Rate the given position by the incremental score and the given rating of
+	 * the Pawn structure.
+	 *
+	 * @param board
+	 *            the position to rate
+	 * @param pawns
+	 *            the rating of the Pawn structure, see {@link PawnTable#pack(int, int)}
+	 *
+	 * @return the score in centipawns, positive if the side to move is ahead
+	 */
+	private static int evaluate(final BitBoard board, final long pawns) {
+		final int score = board.getScore() + PieceSquareTable.taper(PawnTable.getMiddleGame(pawns), PawnTable.getEndGame(pawns), board.getPhase());
+		return (board.getSideToMove() == FigureColor.WHITE) ? score : -score;
+	}
+}
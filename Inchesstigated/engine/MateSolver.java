@@ -0,0 +1,267 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import figure.properties.FigureColor;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Proves or refutes a forced mate in n moves of the side to move by a
+ *         depth limited AND/OR search: the attacker needs a single move, which
+ *         mates, any move of the defender has to be answered by a mate. The
+ *         last move of the attacker has to threaten the King, thus all other
+ *         moves are skipped without searching the answers of the defender.
+ *
+ *         Unlike {@link figure.FigureKing#createPossibleEscapeFields()}, which
+ *         checks the fields of the King only, a mate is known by the legal moves
+ *         of all figures. The moves of the root position are split across a
+ *         fork join pool, where all tasks are cancelled by the first found
+ *         mate. The number of moves is raised from 1 to n, thus the shortest
+ *         mate is found.
+ */
+public final class MateSolver {
+	/** the pool for the moves of the root position */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Create a solver, which uses the given pool.
+	 *
+	 * @param pool
+	 *            the pool for the moves of the root position
+	 */
+	public MateSolver(final ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Search the shortest forced mate in up to n moves of the side to move.
+	 *
+	 * @param board
+	 *            the position to solve, which is not changed
+	 * @param n
+	 *            the maximum number of moves of the attacker, at least 1
+	 *
+	 * @return the first move of the shortest forced mate,<br>
+	 *         or {@link Move#NONE}, if there is no forced mate in n moves
+	 */
+	public int solve(final BitBoard board, final int n) {
+		for (int length = 1; length <= n; length++) {
+			final int mate = this.solveExactly(board, length);
+			if (mate != Move.NONE) {
+				return mate;
+			}
+		}
+
+		return Move.NONE;
+	}
+
+	/**
+	 * Search a forced mate in n moves of the side to move by all threads of the
+	 * pool, where a shorter mate is found as well.
+	 *
+	 * @param board
+	 *            the position to solve, which is not changed
+	 * @param n
+	 *            the number of moves of the attacker, at least 1
+	 *
+	 * @return the first move of a forced mate,<br>
+	 *         or {@link Move#NONE}, if there is no forced mate in n moves
+	 */
+	private int solveExactly(final BitBoard board, final int n) {
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int count = MoveGenerator.generateLegalMoves(board, moves);
+		final AtomicBoolean solved = new AtomicBoolean(false);
+
+		final List<MateTask> tasks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			tasks.add(new MateTask(board, moves[i], n, solved));
+		}
+
+		for (final MateTask task : tasks) {
+			this.pool.execute(task);
+		}
+
+		int mate = Move.NONE;
+		for (int i = 0; i < count; i++) {
+			if (tasks.get(i).join() && (mate == Move.NONE)) {
+				mate = moves[i];
+			}
+		}
+
+		return mate;
+	}
+
+	/**
+	 * Check by a single thread, if the side to move forces a mate in n moves.
+	 *
+	 * @param board
+	 *            the position to solve; it's equal to the given position afterwards
+	 * @param n
+	 *            the number of moves of the attacker, at least 1
+	 *
+	 * @return true, if there is a forced mate,<br>
+	 *         false, otherwise
+	 */
+	public static boolean onForcedMate(final BitBoard board, final int n) {
+		return MateSolver.onAttackerMates(board, n, new int[2 * n][MoveGenerator.MAX_MOVES], 0, new AtomicBoolean(false));
+	}
+
+	/**
+	 * Check, if any move of the attacker forces a mate (OR node).
+	 *
+	 * @param board
+	 *            the position, where the attacker has to move
+	 * @param n
+	 *            the number of moves of the attacker left
+	 * @param moves
+	 *            one move array for each ply
+	 * @param ply
+	 *            the distance to the root
+	 * @param cancel
+	 *            true, if the search has to stop
+	 *
+	 * @return true, if a move forces a mate,<br>
+	 *         false, otherwise or if the search has been cancelled
+	 */
+	private static boolean onAttackerMates(final BitBoard board, final int n, final int[][] moves, final int ply, final AtomicBoolean cancel) {
+		final int[] list = moves[ply];
+		final int count = MoveGenerator.generateLegalMoves(board, list);
+
+		for (int i = 0; i < count; i++) {
+			if (cancel.get()) {
+				return false;
+			}
+
+			if (MateSolver.onMatingMove(board, list[i], n, moves, ply + 1, cancel)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Make a move of the attacker and check, if each answer of the defender is
+	 * answered by a mate (AND node).
+	 *
+	 * @param board
+	 *            the position, where the attacker has to move
+	 * @param move
+	 *            the move of the attacker
+	 * @param n
+	 *            the number of moves of the attacker left, including this move
+	 * @param moves
+	 *            one move array for each ply
+	 * @param ply
+	 *            the distance of the defender to the root
+	 * @param cancel
+	 *            true, if the search has to stop
+	 *
+	 * @return true, if this move forces a mate,<br>
+	 *         false, otherwise
+	 */
+	private static boolean onMatingMove(final BitBoard board, final int move, final int n, final int[][] moves, final int ply, final AtomicBoolean cancel) {
+		final FigureColor defender = FigureColor.getOpponentColor(board.getSideToMove());
+		board.makeMove(move);
+
+		final boolean check = board.onCheck(defender);
+		boolean mate = false;
+
+		/* the last move of the attacker has to threaten the King */
+		if (check || (n > 1)) {
+			final int[] list = moves[ply];
+			final int count = MoveGenerator.generateLegalMoves(board, list);
+
+			if (count == 0) {
+				mate = check; // otherwise stalemate
+			} else if (n > 1) {
+				mate = true;
+				for (int i = 0; (i < count) && mate; i++) {
+					board.makeMove(list[i]);
+					mate = MateSolver.onAttackerMates(board, n - 1, moves, ply + 1, cancel);
+					board.unmakeMove();
+				}
+			}
+		}
+
+		board.unmakeMove();
+		return mate;
+	}
+
+	/**
+	 * @author swunsch
+	 *
+	 *         Checks a single root move on it's own copy of the root position.
+	 */
+	private static final class MateTask extends RecursiveTask<Boolean> {
+		private static final long serialVersionUID = 1L;
+
+		/** the own copy of the root position */
+		private final BitBoard board;
+
+		/** the root move to check */
+		private final int move;
+
+		/** the number of moves of the attacker, including the root move */
+		private final int n;
+
+		/** true, if a mate has been found by any task */
+		private final AtomicBoolean solved;
+
+		/**
+		 * Create a task for a single root move.
+		 *
+		 * @param root
+		 *            the root position to copy
+		 * @param move
+		 *            the root move
+		 * @param n
+		 *            the number of moves of the attacker
+		 * @param solved
+		 *            the flag of all tasks of the root position
+		 */
+		MateTask(final BitBoard root, final int move, final int n, final AtomicBoolean solved) {
+			this.board = new BitBoard(root);
+			this.move = move;
+			this.n = n;
+			this.solved = solved;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected Boolean compute() {
+			if (this.solved.get()) {
+				return Boolean.FALSE;
+			}
+
+			final boolean mate = MateSolver.onMatingMove(this.board, this.move, this.n, new int[2 * this.n][MoveGenerator.MAX_MOVES], 1, this.solved);
+			if (mate) {
+				this.solved.set(true);
+			}
+
+			return mate;
+		}
+	}
+}
@@ -0,0 +1,468 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import figure.properties.FigureColor;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Searches the best move by a Monte Carlo tree search (MCTS): each
+ *         iteration selects a path through the tree by the upper confidence
+ *         bound (UCT), adds the children of the last node and plays random
+ *         moves until the game is decided. The result is counted by each node
+ *         of the path, the most visited move of the root is the best move.
+ *
+ *         Several threads share the same tree, where each thread plays on it's
+ *         own copy of the position. A node, which is selected by a thread,
+ *         counts as a lost visit ("virtual loss") until the result is known,
+ *         thus the other threads select different paths.
+ *
+ *         A random game doesn't create any object: the moves are generated into
+ *         the array of the thread and each move is taken back afterwards.
+ */
+public final class MonteCarloSearch {
+	/** the exploration constant of UCT, about sqrt(2) */
+	private static final double EXPLORATION = 1.4;
+
+	/** a random game is rated by the evaluation after 64 half moves */
+	private static final int MAX_PLAYOUT = 64;
+
+	/** an evaluation above this score decides a random game */
+	private static final int WIN_MARGIN = 300;
+
+	/* results in half points from the view of the side to move */
+	private static final int LOSS = 0;
+	private static final int DRAW = 1;
+	private static final int WIN = 2;
+
+	/** the position to search */
+	private final BitBoard position;
+
+	/** the number of threads, at least 1 */
+	private final int threads;
+
+	/** the ratings of the Pawn structures at the end of the playouts of all threads */
+	private final PawnTable pawnTable = new PawnTable();
+
+	/** the root of the tree */
+	private Node root;
+
+	/** the time, when the search has to stop (System.nanoTime()) */
+	private long deadline;
+
+	/** true, if the search has been stopped by {@link #stop()} */
+	private volatile boolean stopped;
+
+	/**
+	 * Create a Monte Carlo tree search of the given position.
+	 *
+	 * @param position
+	 *            the position to search, which is copied by each thread
+	 * @param threads
+	 *            the number of threads
+	 */
+	public MonteCarloSearch(final BitBoard position, final int threads) {
+		this.position = position;
+		this.threads = Math.max(1, threads);
+	}
+
+	/**
+	 * Search the best move by all threads within the time budget.
+	 *
+	 * @param millis
+	 *            the time budget in milliseconds
+	 *
+	 * @return the most visited move of the root, where the score is derived from
+	 *         it's winning rate and the nodes are the number of random games
+	 */
+	public SearchResult search(final long millis) {
+		final long start = System.nanoTime();
+		this.deadline = start + (millis * 1000000L);
+		this.root = new Node(Move.NONE, null);
+
+		final Thread[] workers = new Thread[this.threads];
+		for (int i = 0; i < workers.length; i++) {
+			workers[i] = new Thread(new Worker(new BitBoard(this.position), start + i), "mcts-" + i);
+			workers[i].setDaemon(true);
+			workers[i].start();
+		}
+
+		for (final Thread worker : workers) {
+			try {
+				worker.join();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				this.stop();
+			}
+		}
+
+		return this.createResult((System.nanoTime() - start) / 1000000L);
+	}
+
+	/** Stop the search as soon as possible, like from another thread. */
+	public void stop() {
+		this.stopped = true;
+	}
+
+	/**
+	 * Receive the table of Pawn structures of all threads.
+	 *
+	 * @return the table with it's statistics
+	 */
+	public PawnTable getPawnTable() {
+		return this.pawnTable;
+	}
+
+	/**
+	 * Create the result of the search by the most visited path of the tree.
+	 *
+	 * @param millis
+	 *            the used time in milliseconds
+	 *
+	 * @return the result
+	 */
+	private SearchResult createResult(final long millis) {
+		final int[] pv = new int[Search.MAX_PLY];
+		int length = 0;
+
+		Node node = this.root;
+		while ((length < pv.length) && (node.children != null) && (node.children.length > 0)) {
+			Node best = node.children[0];
+			for (final Node child : node.children) {
+				if (child.visits > best.visits) {
+					best = child;
+				}
+			}
+			if (best.visits == 0) {
+				break;
+			}
+			pv[length++] = best.move;
+			node = best;
+		}
+
+		if (length == 0) {
+			return new SearchResult(Move.NONE, 0, 0, this.root.visits, millis, new int[0]);
+		}
+
+		final Node best = this.getChild(this.root, pv[0]);
+		return new SearchResult(pv[0], MonteCarloSearch.toCentipawns((double) best.score / (2.0 * best.visits)), length, this.root.visits, millis,
+				Arrays.copyOf(pv, length));
+	}
+
+	/**
+	 * Receive the child of a node by it's move.
+	 *
+	 * @param node
+	 *            the parent node
+	 * @param move
+	 *            the move of the child
+	 *
+	 * @return the child
+	 */
+	private Node getChild(final Node node, final int move) {
+		for (final Node child : node.children) {
+			if (child.move == move) {
+				return child;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Convert a winning rate to centipawns by the logistic curve, where a rate of
+	 * 75% is worth about 190 centipawns.
+	 *
+	 * @param rate
+	 *            the winning rate from 0 to 1
+	 *
+	 * @return the score in centipawns
+	 */
+	private static int toCentipawns(final double rate) {
+		final double bounded = Math.min(0.999, Math.max(0.001, rate));
+		return (int) Math.round(-400.0 * Math.log10((1.0 / bounded) - 1.0));
+	}
+
+	/**
+	 * @author swunsch
+	 *
+	 *         A node of the tree, which is reached by a single move. The visits
+	 *         and the score are updated by all threads without any lock, only
+	 *         the children are added under the lock of the node.
+	 */
+	private static final class Node {
+		private static final AtomicIntegerFieldUpdater<Node> VISITS = AtomicIntegerFieldUpdater.newUpdater(Node.class, "visits");
+		private static final AtomicIntegerFieldUpdater<Node> SCORE = AtomicIntegerFieldUpdater.newUpdater(Node.class, "score");
+
+		/** the move, which leads to this node */
+		final int move;
+
+		/** the parent node, null for the root */
+		final Node parent;
+
+		/** the children, null until the node has been expanded */
+		volatile Node[] children;
+
+		/** the result of a finished game, or -1 */
+		volatile int terminal = -1;
+
+		/** the number of visits, including the running visits */
+		volatile int visits;
+
+		/** the results in half points from the view of the side, which made the move */
+		volatile int score;
+
+		/**
+		 * Create a node.
+		 *
+		 * @param move
+		 *            the move, which leads to this node
+		 * @param parent
+		 *            the parent node
+		 */
+		Node(final int move, final Node parent) {
+			this.move = move;
+			this.parent = parent;
+		}
+
+		/** Count a visit, which is a loss until it's result has been added. */
+		void addVirtualLoss() {
+			Node.VISITS.incrementAndGet(this);
+		}
+
+		/**
+		 * Add the result of a visit.
+		 *
+		 * @param result
+		 *            the result in half points
+		 */
+		void addScore(final int result) {
+			Node.SCORE.addAndGet(this, result);
+		}
+	}
+
+	/**
+	 * @author swunsch
+	 *
+	 *         A thread of the search with it's own copy of the position, it's own
+	 *         move array and it's own random numbers.
+	 */
+	private final class Worker implements Runnable {
+		/** the own copy of the root position */
+		private final BitBoard board;
+
+		/** the moves of the current position */
+		private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+		/** the state of the random numbers (xorshift) */
+		private long seed;
+
+		/**
+		 * Create a thread of the search.
+		 *
+		 * @param board
+		 *            the own copy of the root position
+		 * @param seed
+		 *            the start of the random numbers
+		 */
+		Worker(final BitBoard board, final long seed) {
+			this.board = board;
+			this.seed = (seed == 0L) ? 1L : seed;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			while (!MonteCarloSearch.this.stopped && (System.nanoTime() < MonteCarloSearch.this.deadline)) {
+				this.iterate(MonteCarloSearch.this.root);
+			}
+		}
+
+		/**
+		 * Select a path, expand it's last node, play a random game and count it's
+		 * result by each node of the path.
+		 *
+		 * @param root
+		 *            the root of the tree
+		 */
+		private void iterate(final Node root) {
+			Node node = root;
+			node.addVirtualLoss();
+			int made = 0;
+			int result;
+
+			while (true) {
+				if (node.terminal >= 0) {
+					result = node.terminal;
+					break;
+				}
+
+				Node[] children = node.children;
+				if (children == null) {
+					/* a node is expanded on it's second visit, the root at once */
+					if ((node != root) && (node.visits <= 1)) {
+						result = this.playout();
+						break;
+					}
+					children = this.expand(node);
+					if (node.terminal >= 0) {
+						result = node.terminal; // mate, stalemate or draw
+						break;
+					}
+				}
+
+				node = this.select(node, children);
+				node.addVirtualLoss();
+				this.board.makeMove(node.move);
+				made++;
+			}
+
+			for (int i = 0; i < made; i++) {
+				this.board.unmakeMove();
+			}
+
+			/* the result is known for the side to move, the node counts it for the side, which made the move */
+			for (Node current = node; current != null; current = current.parent) {
+				result = MonteCarloSearch.WIN - result;
+				current.addScore(result);
+			}
+		}
+
+		/**
+		 * Add all children of a node, where a finished game gets no children.
+		 *
+		 * @param node
+		 *            the node of the current position
+		 *
+		 * @return the children
+		 */
+		private Node[] expand(final Node node) {
+			synchronized (node) {
+				if (node.children != null) {
+					return node.children;
+				}
+
+				final int count = MoveGenerator.generateLegalMoves(this.board, this.moves);
+				final Node[] children = new Node[count];
+				for (int i = 0; i < count; i++) {
+					children[i] = new Node(this.moves[i], node);
+				}
+
+				if (count == 0) {
+					node.terminal = this.board.onCheck(this.board.getSideToMove()) ? MonteCarloSearch.LOSS : MonteCarloSearch.DRAW;
+				} else if ((node.parent != null) && (this.board.onRepetition() || (this.board.getHalfMoveClock() >= 100))) {
+					node.terminal = MonteCarloSearch.DRAW;
+				}
+
+				node.children = children;
+				return children;
+			}
+		}
+
+		/**
+		 * Select the child with the highest upper confidence bound, where a child
+		 * without any visit comes first.
+		 *
+		 * @param node
+		 *            the parent node
+		 * @param children
+		 *            the children of the parent node
+		 *
+		 * @return the selected child
+		 */
+		private Node select(final Node node, final Node[] children) {
+			final double logVisits = Math.log(Math.max(1, node.visits));
+			Node best = children[0];
+			double bestValue = Double.NEGATIVE_INFINITY;
+
+			for (final Node child : children) {
+				final int visits = child.visits;
+				if (visits == 0) {
+					return child;
+				}
+
+				final double value = ((double) child.score / (2.0 * visits)) + (MonteCarloSearch.EXPLORATION * Math.sqrt(logVisits / visits));
+				if (value > bestValue) {
+					bestValue = value;
+					best = child;
+				}
+			}
+
+			return best;
+		}
+
+		/**
+		 * Play random moves, until the game is decided, and take them back.
+		 *
+		 * @return the result from the view of the side to move
+		 */
+		private int playout() {
+			int plies = 0;
+			int result;
+
+			while (true) {
+				final FigureColor side = this.board.getSideToMove();
+				final int count = MoveGenerator.generateLegalMoves(this.board, this.moves);
+
+				if (count == 0) {
+					result = this.board.onCheck(side) ? MonteCarloSearch.LOSS : MonteCarloSearch.DRAW;
+					break;
+				}
+				if ((this.board.getHalfMoveClock() >= 100) || (Long.bitCount(this.board.getOccupancy()) == 2)) {
+					result = MonteCarloSearch.DRAW; // 50 moves or two Kings only
+					break;
+				}
+				if (plies >= MonteCarloSearch.MAX_PLAYOUT) {
+					final int score = Evaluation.evaluate(this.board, MonteCarloSearch.this.pawnTable);
+					result = (score >= MonteCarloSearch.WIN_MARGIN) ? MonteCarloSearch.WIN
+							: ((score <= -MonteCarloSearch.WIN_MARGIN) ? MonteCarloSearch.LOSS : MonteCarloSearch.DRAW);
+					break;
+				}
+
+				this.board.makeMove(this.moves[this.nextRandom(count)]);
+				plies++;
+			}
+
+			for (int i = 0; i < plies; i++) {
+				this.board.unmakeMove();
+			}
+
+			/* the result is known for the side to move at the end of the random game */
+			return ((plies & 1) == 0) ? result : (MonteCarloSearch.WIN - result);
+		}
+
+		/**
+		 * Receive the next random number (xorshift).
+		 *
+		 * @param bound
+		 *            the upper bound, exclusive
+		 *
+		 * @return a number from 0 to bound - 1
+		 */
+		private int nextRandom(final int bound) {
+			this.seed ^= this.seed << 13;
+			this.seed ^= this.seed >>> 7;
+			this.seed ^= this.seed << 17;
+			return (int) ((this.seed >>> 33) % bound);
+		}
+	}
+}
@@ -0,0 +1,373 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+
+import figure.properties.FigureColor;
+
+/**
+ * @author swunsch
+ *
+ *         The quantized weights of a small neural network, which rates a
+ *         position. The input is one feature for each figure on each field
+ *         (768 features), seen by both players: the side to move sees it's
+ *         figures as "own" figures, the opponent sees the mirrored position.
+ *         The hidden layer of each player (see {@link Accumulator}) is clipped
+ *         to 0 ... {@link #QA} and both hidden layers are weighted to a single
+ *         output.
+ *
+ *         The weights are stored in a file of big endian values:
+ *
+ *         <pre>
+ *         int    magic "INCH" (0x494E4348)
+ *         int    version 1
+ *         int    hidden size n
+ *         short  feature weights [768][n]
+ *         short  feature biases [n]
+ *         short  output weights [2 * n], first the side to move
+ *         int    output bias
+ *         </pre>
+ *
+ *         The feature of a figure is (figure << 6) | field, where the figure
+ *         is (type << 1) | color.
+ */
+public final class Network {
+	/** the first value of a network file */
+	public static final int MAGIC = 0x494E4348;
+
+	/** the version of the file format */
+	public static final int VERSION = 1;
+
+	/** one feature for each figure ((type << 1) | color) on each field */
+	public static final int FEATURES = 768;
+
+	/** the maximum size of the hidden layer */
+	public static final int MAX_HIDDEN = 4096;
+
+	/* quantization of the hidden layer, the output weights and the output */
+	public static final int QA = 255;
+	public static final int QB = 64;
+	public static final int SCALE = 400;
+
+	/** the size of the hidden layer */
+	private final int hidden;
+
+	/** the weights of each feature, hidden values in a row for each feature */
+	private final short[] featureWeights;
+
+	/** the bias of each hidden value */
+	private final short[] featureBiases;
+
+	/** the weights of the hidden values of the side to move and of the opponent */
+	private final short[] outputWeights;
+
+	/** the bias of the output */
+	private final int outputBias;
+
+	/**
+	 * Create a network by the given weights.
+	 *
+	 * @param hidden
+	 *            the size of the hidden layer
+	 * @param featureWeights
+	 *            the weights of each feature, {@link #FEATURES} * hidden values
+	 * @param featureBiases
+	 *            the bias of each hidden value
+	 * @param outputWeights
+	 *            the weights of both hidden layers, 2 * hidden values
+	 * @param outputBias
+	 *            the bias of the output
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the sizes of the weights don't match
+	 */
+	public Network(final int hidden, final short[] featureWeights, final short[] featureBiases, final short[] outputWeights, final int outputBias) {
+		if ((hidden < 1) || (hidden > Network.MAX_HIDDEN)) {
+			throw new IllegalArgumentException("invalid size of the hidden layer: " + hidden);
+		}
+		if ((featureWeights.length != (Network.FEATURES * hidden)) || (featureBiases.length != hidden) || (outputWeights.length != (2 * hidden))) {
+			throw new IllegalArgumentException("the weights don't match the hidden layer of size " + hidden);
+		}
+
+		this.hidden = hidden;
+		this.featureWeights = featureWeights;
+		this.featureBiases = featureBiases;
+		this.outputWeights = outputWeights;
+		this.outputBias = outputBias;
+	}
+
+	/**
+	 * Load a network from a file.
+	 *
+	 * @param path
+	 *            the path of the file
+	 *
+	 * @return the loaded network
+	 *
+	 * @throws IOException
+	 *             if the file is not readable or not a network file
+	 */
+	public static Network load(final String path) throws IOException {
+		try (InputStream in = new FileInputStream(path)) {
+			return Network.read(in);
+		}
+	}
+
+	/**
+	 * Read a network from the given stream.
+	 *
+	 * @param in
+	 *            the stream, which is not closed
+	 *
+	 * @return the read network
+	 *
+	 * @throws IOException
+	 *             if the stream is not readable or doesn't hold a network
+	 */
+	public static Network read(final InputStream in) throws IOException {
+		final DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+
+		try {
+			if ((data.readInt() != Network.MAGIC) || (data.readInt() != Network.VERSION)) {
+				throw new IOException("not a network file of version " + Network.VERSION);
+			}
+
+			final int hidden = data.readInt();
+			if ((hidden < 1) || (hidden > Network.MAX_HIDDEN)) {
+				throw new IOException("invalid size of the hidden layer: " + hidden);
+			}
+
+			final short[] featureWeights = Network.readShorts(data, Network.FEATURES * hidden);
+			final short[] featureBiases = Network.readShorts(data, hidden);
+			final short[] outputWeights = Network.readShorts(data, 2 * hidden);
+			return new Network(hidden, featureWeights, featureBiases, outputWeights, data.readInt());
+		} catch (final EOFException e) {
+			throw new IOException("the network file is incomplete", e);
+		}
+	}
+
+	/**
+	 * Save this network to a file.
+	 *
+	 * @param path
+	 *            the path of the file
+	 *
+	 * @throws IOException
+	 *             if the file is not writable
+	 */
+	public void save(final String path) throws IOException {
+		try (OutputStream out = new FileOutputStream(path)) {
+			this.write(out);
+		}
+	}
+
+	/**
+	 * Write this network to the given stream.
+	 *
+	 * @param out
+	 *            the stream, which is flushed, but not closed
+	 *
+	 * @throws IOException
+	 *             if the stream is not writable
+	 */
+	public void write(final OutputStream out) throws IOException {
+		final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+		data.writeInt(Network.MAGIC);
+		data.writeInt(Network.VERSION);
+		data.writeInt(this.hidden);
+		Network.writeShorts(data, this.featureWeights);
+		Network.writeShorts(data, this.featureBiases);
+		Network.writeShorts(data, this.outputWeights);
+		data.writeInt(this.outputBias);
+		data.flush();
+	}
+
+	/**
+	 * Create a network of random weights. It doesn't play well, but it has the
+	 * size and the speed of a trained network.
+	 *
+	 * @param hidden
+	 *            the size of the hidden layer
+	 * @param seed
+	 *            the seed of the random numbers, the same seed creates the same
+	 *            network
+	 *
+	 * @return the created network
+	 */
+	public static Network createRandom(final int hidden, final long seed) {
+		final Random random = new Random(seed);
+		final short[] featureWeights = new short[Network.FEATURES * hidden];
+		final short[] featureBiases = new short[hidden];
+		final short[] outputWeights = new short[2 * hidden];
+
+		for (int i = 0; i < featureWeights.length; i++) {
+			featureWeights[i] = (short) (random.nextInt(65) - 32);
+		}
+		for (int i = 0; i < hidden; i++) {
+			featureBiases[i] = (short) random.nextInt(Network.QA);
+		}
+		for (int i = 0; i < outputWeights.length; i++) {
+			outputWeights[i] = (short) (random.nextInt(129) - 64);
+		}
+
+		return new Network(hidden, featureWeights, featureBiases, outputWeights, 0);
+	}
+
+	/**
+	 * Receive the size of the hidden layer.
+	 *
+	 * @return the number of hidden values of each player
+	 */
+	public int getHiddenSize() {
+		return this.hidden;
+	}
+
+	/**
+	 * Receive the feature of a figure on a field, seen by the given player.
+	 *
+	 * @param perspective
+	 *            the player, who sees the figure
+	 * @param figure
+	 *            the figure as (type << 1) | color
+	 * @param field
+	 *            the field index
+	 *
+	 * @return the feature from 0 to {@link #FEATURES} - 1
+	 */
+	public static int getFeature(final FigureColor perspective, final int figure, final int field) {
+		if (perspective == FigureColor.WHITE) {
+			return (figure << 6) | field;
+		}
+
+		/* black sees the mirrored position with the colors changed */
+		return ((figure ^ 1) << 6) | (field ^ 56);
+	}
+
+	/**
+	 * Initialize the hidden values of a player without any figure.
+	 *
+	 * @param values
+	 *            the hidden values to set
+	 */
+	void setBiases(final short[] values) {
+		System.arraycopy(this.featureBiases, 0, values, 0, this.hidden);
+	}
+
+	/**
+	 * Add the weights of a feature to the hidden values. The loop is simple
+	 * enough to be vectorized by the just in time compiler.
+	 *
+	 * @param values
+	 *            the hidden values to change
+	 * @param feature
+	 *            the feature, which has been set
+	 */
+	void addFeature(final short[] values, final int feature) {
+		final short[] weights = this.featureWeights;
+		final int offset = feature * this.hidden;
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (short) (values[i] + weights[offset + i]);
+		}
+	}
+
+	/**
+	 * Subtract the weights of a feature from the hidden values.
+	 *
+	 * @param values
+	 *            the hidden values to change
+	 * @param feature
+	 *            the feature, which has been removed
+	 */
+	void subtractFeature(final short[] values, final int feature) {
+		final short[] weights = this.featureWeights;
+		final int offset = feature * this.hidden;
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (short) (values[i] - weights[offset + i]);
+		}
+	}
+
+	/**
+	 * Rate a position by the hidden values of both players.
+	 *
+	 * @param own
+	 *            the hidden values of the side to move
+	 * @param opponent
+	 *            the hidden values of the opponent
+	 *
+	 * @return the score in centipawns, positive if the side to move is ahead
+	 */
+	int evaluate(final short[] own, final short[] opponent) {
+		final short[] weights = this.outputWeights;
+		final int n = this.hidden;
+		int sum = 0;
+
+		for (int i = 0; i < n; i++) {
+			sum += Math.min(Math.max(own[i], 0), Network.QA) * weights[i];
+		}
+		for (int i = 0; i < n; i++) {
+			sum += Math.min(Math.max(opponent[i], 0), Network.QA) * weights[n + i];
+		}
+
+		return (int) (((long) (sum + this.outputBias) * Network.SCALE) / (Network.QA * Network.QB));
+	}
+
+	/**
+	 * Read the given number of shorts.
+	 *
+	 * @param data
+	 *            the stream to read
+	 * @param count
+	 *            the number of shorts
+	 *
+	 * @return the read shorts
+	 *
+	 * @throws IOException
+	 *             if the stream is not readable
+	 */
+	private static short[] readShorts(final DataInputStream data, final int count) throws IOException {
+		final short[] values = new short[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = data.readShort();
+		}
+		return values;
+	}
+
+	/**
+	 * Write all given shorts.
+	 *
+	 * @param data
+	 *            the stream to write
+	 * @param values
+	 *            the shorts to write
+	 *
+	 * @throws IOException
+	 *             if the stream is not writable
+	 */
+	private static void writeShorts(final DataOutputStream data, final short[] values) throws IOException {
+		for (final short value : values) {
+			data.writeShort(value);
+		}
+	}
+}
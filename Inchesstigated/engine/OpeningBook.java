@@ -0,0 +1,258 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the known moves of opening positions. The book is a file,
+ *         which is mapped into memory instead of being read onto the heap:
+ *         each probe finds the entries of a position by a binary search on the
+ *         Zobrist key (see {@link BitBoard#getKey()}), thus only the few pages
+ *         around the searched entries are ever loaded.
+ *
+ *         The file holds big endian values:
+ *
+ *         <pre>
+ *         int    magic "IBOK" (0x49424F4B)
+ *         int    version 1
+ *         int    number of entries
+ *         entry  [number of entries], each of {@link #ENTRY_SIZE} bytes:
+ *                long key, int packed move, int weight
+ *         </pre>
+ *
+ *         The entries are sorted by their key, the entries of the same key by
+ *         their weight, the highest weight first.
+ */
+public final class OpeningBook {
+	/** the first value of a book file */
+	public static final int MAGIC = 0x49424F4B;
+
+	/** the version of the file format */
+	public static final int VERSION = 1;
+
+	/** the size of the header in bytes */
+	public static final int HEADER_SIZE = 12;
+
+	/** the size of each entry in bytes */
+	public static final int ENTRY_SIZE = 16;
+
+	/** the mapped file, only read by absolute positions, thus shared by all threads */
+	private final ByteBuffer buffer;
+
+	/** the number of entries */
+	private final int count;
+
+	/**
+	 * Create a book of the given mapped file.
+	 *
+	 * @param buffer
+	 *            the whole file
+	 * @param count
+	 *            the number of entries
+	 */
+	private OpeningBook(final ByteBuffer buffer, final int count) {
+		this.buffer = buffer;
+		this.count = count;
+	}
+
+	/**
+	 * Map a book file into memory. The file is closed at once, the mapping
+	 * stays valid as long as this book is in use.
+	 *
+	 * @param path
+	 *            the path of the file
+	 *
+	 * @return the opened book
+	 *
+	 * @throws IOException
+	 *             if the file is not readable or not a book file
+	 */
+	public static OpeningBook open(final String path) throws IOException {
+		try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if ((size < OpeningBook.HEADER_SIZE) || (size > Integer.MAX_VALUE)) {
+				throw new IOException("not a book file of version " + OpeningBook.VERSION + ": " + path);
+			}
+
+			final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+			if ((buffer.getInt(0) != OpeningBook.MAGIC) || (buffer.getInt(4) != OpeningBook.VERSION)) {
+				throw new IOException("not a book file of version " + OpeningBook.VERSION + ": " + path);
+			}
+
+			final int count = buffer.getInt(8);
+			if ((count < 0) || (size != (OpeningBook.HEADER_SIZE + ((long) count * OpeningBook.ENTRY_SIZE)))) {
+				throw new IOException("the book file is incomplete: " + path);
+			}
+
+			return new OpeningBook(buffer, count);
+		}
+	}
+
+	/**
+	 * Save a book file of the given moves. The entries don't need to be sorted,
+	 * but each move of a position should be given once.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @param keys
+	 *            the key of the position of each entry
+	 * @param moves
+	 *            the packed move of each entry
+	 * @param weights
+	 *            the weight of each entry, like the number of games
+	 * @param count
+	 *            the number of entries
+	 *
+	 * @throws IOException
+	 *             if the file is not writable
+	 */
+	public static void save(final String path, final long[] keys, final int[] moves, final int[] weights, final int count) throws IOException {
+		final Integer[] order = new Integer[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.<Integer> comparingLong(i -> keys[i]).thenComparing(Comparator.<Integer> comparingInt(i -> weights[i]).reversed()));
+
+		try (DataOutputStream data = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)))) {
+			data.writeInt(OpeningBook.MAGIC);
+			data.writeInt(OpeningBook.VERSION);
+			data.writeInt(count);
+
+			for (final int i : order) {
+				data.writeLong(keys[i]);
+				data.writeInt(moves[i]);
+				data.writeInt(weights[i]);
+			}
+		}
+	}
+
+	/**
+	 * Receive the number of entries.
+	 *
+	 * @return the number of entries of all positions
+	 */
+	public int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Receive all moves of a position, the highest weight first.
+	 *
+	 * @param key
+	 *            the key of the position
+	 * @param moves
+	 *            the array to fill with the packed moves
+	 * @param weights
+	 *            the array to fill with the weights, or null
+	 *
+	 * @return the number of moves, at most the size of the array
+	 */
+	public int getMoves(final long key, final int[] moves, final int[] weights) {
+		int found = 0;
+
+		for (int entry = this.findFirst(key); (entry < this.count) && (found < moves.length); entry++) {
+			final int offset = OpeningBook.HEADER_SIZE + (entry * OpeningBook.ENTRY_SIZE);
+			if (this.buffer.getLong(offset) != key) {
+				break;
+			}
+
+			moves[found] = this.buffer.getInt(offset + 8);
+			if (weights != null) {
+				weights[found] = this.buffer.getInt(offset + 12);
+			}
+			found++;
+		}
+
+		return found;
+	}
+
+	/**
+	 * Receive the book move of the given position with the highest weight. Each
+	 * move is checked against the legal moves, thus a key, which is shared by
+	 * another position, never returns a wrong move.
+	 *
+	 * @param board
+	 *            the position, where the side to move is going to move
+	 *
+	 * @return the packed move,<br>
+	 *         or {@link Move#NONE}, if the position is not in the book
+	 */
+	public int probe(final BitBoard board) {
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int found = this.getMoves(board.getKey(), moves, null);
+		if (found == 0) {
+			return Move.NONE;
+		}
+
+		final int[] legal = new int[MoveGenerator.MAX_MOVES];
+		final int count = MoveGenerator.generateLegalMoves(board, legal);
+		for (int i = 0; i < found; i++) {
+			for (int j = 0; j < count; j++) {
+				if (moves[i] == legal[j]) {
+					return moves[i];
+				}
+			}
+		}
+
+		return Move.NONE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "book " + this.count + " entries";
+	}
+
+	/**
+	 * Receive the first entry, whose key is not lower than the given key.
+	 *
+	 * @param key
+	 *            the key of the position
+	 *
+	 * @return the index of the entry,<br>
+	 *         or the number of entries, if all keys are lower
+	 */
+	private int findFirst(final long key) {
+		int low = 0;
+		int high = this.count;
+
+		while (low < high) {
+			final int middle = (low + high) >>> 1;
+			if (this.buffer.getLong(OpeningBook.HEADER_SIZE + (middle * OpeningBook.ENTRY_SIZE)) < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+}
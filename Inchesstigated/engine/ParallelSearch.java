@@ -0,0 +1,163 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import location.BitBoard;
+
+/**
+ * @author swunsch
+ *
+ *         Searches the best move by several threads at the same time ("Lazy
+ *         SMP"): each thread searches the same position on it's own copy of
+ *         the board, where all threads share a single
+ *         {@link TranspositionTable}. A thread finds the results of the other
+ *         threads in the table, thus the main thread reaches a higher depth
+ *         within the same time.
+ *
+ *         The result is the result of the main thread, the helper threads are
+ *         stopped as soon as the main thread has finished.
+ */
+public final class ParallelSearch {
+	/** the position to search */
+	private final BitBoard position;
+
+	/** the number of threads, at least 1 */
+	private final int threads;
+
+	/** the table of all threads */
+	private final TranspositionTable table;
+
+	/** the table of Pawn structures of all threads */
+	private final PawnTable pawnTable;
+
+	/** the neural network of all threads, or null for the handcrafted evaluation */
+	private Network network;
+
+	/** the exact results of the small endings of all threads, or null */
+	private Tablebase tablebase;
+
+	/**
+	 * Create a parallel search of the given position.
+	 *
+	 * @param position
+	 *            the position to search, which is copied by each thread
+	 * @param threads
+	 *            the number of threads
+	 * @param table
+	 *            the transposition table of all threads
+	 */
+	public ParallelSearch(final BitBoard position, final int threads, final TranspositionTable table) {
+		this(position, threads, table, new PawnTable());
+	}
+
+	/**
+	 * Create a parallel search of the given position.
+	 *
+	 * @param position
+	 *            the position to search, which is copied by each thread
+	 * @param threads
+	 *            the number of threads
+	 * @param table
+	 *            the transposition table of all threads
+	 * @param pawnTable
+	 *            the table of Pawn structures of all threads
+	 */
+	public ParallelSearch(final BitBoard position, final int threads, final TranspositionTable table, final PawnTable pawnTable) {
+		this.position = position;
+		this.threads = Math.max(1, threads);
+		this.table = table;
+		this.pawnTable = pawnTable;
+	}
+
+	/**
+	 * Rate the positions by the given neural network, where each thread has it's
+	 * own hidden layer.
+	 *
+	 * @param network
+	 *            the network to use, or null for the handcrafted evaluation
+	 */
+	public void setNetwork(final Network network) {
+		this.network = network;
+	}
+
+	/**
+	 * Rate each position of an ending of the given tablebase exactly.
+	 *
+	 * @param tablebase
+	 *            the tablebase to use, or null to search each position
+	 */
+	public void setTablebase(final Tablebase tablebase) {
+		this.tablebase = tablebase;
+	}
+
+	/**
+	 * Receive the table of Pawn structures of all threads.
+	 *
+	 * @return the table with it's statistics
+	 */
+	public PawnTable getPawnTable() {
+		return this.pawnTable;
+	}
+
+	/**
+	 * Search the best move by all threads.
+	 *
+	 * @param millis
+	 *            the time budget in milliseconds
+	 * @param maxDepth
+	 *            the maximum depth of the main thread in half moves
+	 *
+	 * @return the result of the main thread, where the nodes of all threads are
+	 *         counted
+	 */
+	public SearchResult search(final long millis, final int maxDepth) {
+		this.table.newSearch(); // the entries of the former search are replaced first
+
+		final Search main = new Search(this.position, this.table, this.pawnTable);
+		main.setNetwork(this.network);
+		main.setTablebase(this.tablebase);
+		final Search[] helpers = new Search[this.threads - 1];
+		final Thread[] workers = new Thread[helpers.length];
+
+		for (int i = 0; i < helpers.length; i++) {
+			final Search helper = new Search(this.position, this.table, this.pawnTable);
+			helper.setHelper(i + 1);
+			helper.setNetwork(this.network);
+			helper.setTablebase(this.tablebase);
+			helpers[i] = helper;
+
+			workers[i] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					helper.search(millis, Search.MAX_DEPTH);
+				}
+			}, "search-helper-" + (i + 1));
+			workers[i].setDaemon(true);
+			workers[i].start();
+		}
+
+		final SearchResult result = main.search(millis, maxDepth);
+
+		long nodes = main.getNodes();
+		for (int i = 0; i < helpers.length; i++) {
+			helpers[i].stop();
+			try {
+				workers[i].join();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			nodes += helpers[i].getNodes();
+		}
+
+		return new SearchResult(result.getBestMove(), result.getScore(), result.getDepth(), nodes, result.getMillis(), result.getPrincipalVariation());
+	}
+}
@@ -0,0 +1,214 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the rating of already seen Pawn structures by their Pawn key
+ *         (see {@link location.BitBoard#getPawnKey()}). Most moves don't move
+ *         or capture a Pawn, thus nearly each rating of the Pawn structure is
+ *         found in this table.
+ *
+ *         Like the {@link TranspositionTable}, the table is shared by all
+ *         threads without any lock: each entry is stored as two longs, the key
+ *         XOR the data and the data itself, where the data holds the middle
+ *         game score in the upper and the end game score in the lower 32 bits.
+ *         A new entry always replaces the old entry.
+ */
+public final class PawnTable {
+	/** the result of {@link #probe(long)}, if the Pawn structure has not been found */
+	public static final long NO_ENTRY = Long.MIN_VALUE;
+
+	/** the default number of entries (256 KB) */
+	public static final int DEFAULT_CAPACITY = 1 << 14;
+
+	/** all entries, each entry holds the key XOR the data and the data */
+	private final long[] entries;
+
+	/** the number of entries minus one */
+	private final int mask;
+
+	/* statistics of all threads */
+	private final LongAdder probes = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+
+	/** Create an empty table with the default number of entries. */
+	public PawnTable() {
+		this(PawnTable.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create an empty table.
+	 *
+	 * @param capacity
+	 *            the number of entries, a power of two
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the number of entries is not a positive power of two
+	 */
+	public PawnTable(final int capacity) {
+		if ((capacity < 1) || (Integer.bitCount(capacity) != 1)) {
+			throw new IllegalArgumentException("invalid size of the pawn table: " + capacity + " entries");
+		}
+
+		this.entries = new long[capacity << 1];
+		this.mask = capacity - 1;
+		this.clear();
+	}
+
+	/**
+	 * Receive the stored rating of a Pawn structure.
+	 *
+	 * @param pawnKey
+	 *            the Pawn key of the position
+	 *
+	 * @return the data, decoded by {@link #getMiddleGame(long)} and
+	 *         {@link #getEndGame(long)},<br>
+	 *         or {@link #NO_ENTRY}, if the Pawn structure has not been found
+	 */
+	public long probe(final long pawnKey) {
+		final int index = this.getIndex(pawnKey);
+		final long data = this.entries[index + 1];
+		this.probes.increment();
+
+		if ((this.entries[index] ^ data) != pawnKey) {
+			return PawnTable.NO_ENTRY;
+		}
+
+		this.hits.increment();
+		return data;
+	}
+
+	/**
+	 * Store the rating of a Pawn structure.
+	 *
+	 * @param pawnKey
+	 *            the Pawn key of the position
+	 * @param data
+	 *            the rating, see {@link #pack(int, int)}
+	 */
+	public void store(final long pawnKey, final long data) {
+		final int index = this.getIndex(pawnKey);
+		this.entries[index] = pawnKey ^ data;
+		this.entries[index + 1] = data;
+	}
+
+	/** Remove all entries and reset the statistics. */
+	public void clear() {
+		/* an empty entry never matches, even for a position without any Pawn */
+		for (int i = 0; i < this.entries.length; i += 2) {
+			this.entries[i] = PawnTable.NO_ENTRY;
+			this.entries[i + 1] = 0L;
+		}
+		this.probes.reset();
+		this.hits.reset();
+	}
+
+	/**
+	 * Receive the number of entries.
+	 *
+	 * @return the number of entries, a power of two
+	 */
+	public int getCapacity() {
+		return this.entries.length >>> 1;
+	}
+
+	/**
+	 * Receive the number of probes of all threads.
+	 *
+	 * @return the number of probes
+	 */
+	public long getProbes() {
+		return this.probes.sum();
+	}
+
+	/**
+	 * Receive the number of found Pawn structures of all threads.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Receive the rate of found Pawn structures.
+	 *
+	 * @return the hits divided by the probes, 0 without any probe
+	 */
+	public double getHitRate() {
+		final long count = this.getProbes();
+		return (count == 0L) ? 0.0 : ((double) this.getHits() / count);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("pawns %d entries probes %d hits %d (%.1f%%)", this.getCapacity(), this.getProbes(), this.getHits(), this.getHitRate() * 100.0);
+	}
+
+	/**
+	 * Receive the index of the entry of a Pawn structure.
+	 *
+	 * @param pawnKey
+	 *            the Pawn key of the position
+	 *
+	 * @return the index of the first long of the entry
+	 */
+	private int getIndex(final long pawnKey) {
+		return ((int) pawnKey & this.mask) << 1;
+	}
+
+	/**
+	 * Pack the scores of a Pawn structure into the data of an entry.
+	 *
+	 * @param middleGame
+	 *            the middle game score, positive if white is ahead
+	 * @param endGame
+	 *            the end game score, positive if white is ahead
+	 *
+	 * @return the data of an entry
+	 */
+	public static long pack(final int middleGame, final int endGame) {
+		return ((long) middleGame << 32) | (endGame & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Receive the middle game score of an entry.
+	 *
+	 * @param data
+	 *            the data of the entry
+	 *
+	 * @return the score in centipawns, positive if white is ahead
+	 */
+	public static int getMiddleGame(final long data) {
+		return (int) (data >> 32);
+	}
+
+	/**
+	 * Receive the end game score of an entry.
+	 *
+	 * @param data
+	 *            the data of the entry
+	 *
+	 * @return the score in centipawns, positive if white is ahead
+	 */
+	public static int getEndGame(final long data) {
+		return (int) data;
+	}
+}
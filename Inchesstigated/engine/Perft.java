@@ -0,0 +1,169 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import location.BitBoard;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Counts all leaf nodes of the move tree up to a given depth
+ *         (performance test, "perft"). The known numbers of many positions are
+ *         published, thus it's the way to verify the move generator, and the
+ *         nodes per second are the throughput of the move generator.
+ *
+ *         The divide mode counts the nodes below each move of the root
+ *         position, where each move is counted by a task of a fork join pool.
+ */
+public final class Perft {
+	/** no instance required */
+	private Perft() {
+	}
+
+	/**
+	 * Count all leaf nodes up to the given depth.
+	 *
+	 * @param board
+	 *            the position to use; it's equal to the given position afterwards
+	 * @param depth
+	 *            the depth in half moves
+	 *
+	 * @return the number of leaf nodes
+	 */
+	public static long countNodes(final BitBoard board, final int depth) {
+		if (depth <= 0) {
+			return 1L;
+		}
+
+		return Perft.countNodes(board, depth, new int[depth + 1][MoveGenerator.MAX_MOVES]);
+	}
+
+	/**
+	 * Count all leaf nodes up to the given depth, where each depth uses it's own
+	 * move array.
+	 *
+	 * @param board
+	 *            the position to use
+	 * @param depth
+	 *            the depth in half moves, at least 1
+	 * @param moves
+	 *            one move array for each depth
+	 *
+	 * @return the number of leaf nodes
+	 */
+	private static long countNodes(final BitBoard board, final int depth, final int[][] moves) {
+		final int[] current = moves[depth];
+		final int count = MoveGenerator.generateLegalMoves(board, current);
+
+		/* the last depth doesn't need to make each move */
+		if (depth == 1) {
+			return count;
+		}
+
+		long nodes = 0L;
+		for (int i = 0; i < count; i++) {
+			board.makeMove(current[i]);
+			nodes += Perft.countNodes(board, depth - 1, moves);
+			board.unmakeMove();
+		}
+
+		return nodes;
+	}
+
+	/**
+	 * Count the leaf nodes below each move of the root position, where the moves
+	 * are split across the given fork join pool.
+	 *
+	 * @param board
+	 *            the root position, which is not changed
+	 * @param depth
+	 *            the depth in half moves, at least 1
+	 * @param moves
+	 *            the array to fill with each root move
+	 * @param nodes
+	 *            the array to fill with the number of leaf nodes for each root
+	 *            move
+	 * @param pool
+	 *            the pool to use
+	 *
+	 * @return the number of root moves
+	 */
+	public static int divide(final BitBoard board, final int depth, final int[] moves, final long[] nodes, final ForkJoinPool pool) {
+		final int count = MoveGenerator.generateLegalMoves(board, moves);
+
+		final List<DivideTask> tasks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			tasks.add(new DivideTask(board, moves[i], depth - 1));
+		}
+
+		for (final DivideTask task : tasks) {
+			pool.execute(task);
+		}
+
+		for (int i = 0; i < count; i++) {
+			nodes[i] = tasks.get(i).join();
+		}
+
+		return count;
+	}
+
+	/**
+	 * @author swunsch
+	 *
+	 *         Counts the leaf nodes below a single root move on it's own copy of
+	 *         the root position.
+	 */
+	private static final class DivideTask extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+
+		/** the own copy of the root position */
+		private final BitBoard board;
+
+		/** the root move to make */
+		private final int move;
+
+		/** the depth below the root move */
+		private final int depth;
+
+		/**
+		 * Create a task for a single root move.
+		 *
+		 * @param root
+		 *            the root position to copy
+		 * @param move
+		 *            the root move
+		 * @param depth
+		 *            the depth below the root move
+		 */
+		DivideTask(final BitBoard root, final int move, final int depth) {
+			this.board = new BitBoard(root);
+			this.move = move;
+			this.depth = depth;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected Long compute() {
+			this.board.makeMove(this.move);
+			return Perft.countNodes(this.board, this.depth);
+		}
+	}
+}
@@ -0,0 +1,690 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import java.util.Arrays;
+
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Searches the best move of a position by an iterative deepening
+ *         alpha-beta search with principal variation search: the first move of
+ *         each node is searched with the full window, any other move with a
+ *         null window, and only a move, which beats the first one, is searched
+ *         again. The leaves are resolved by a quiescence search over all
+ *         captures and promotions.
+ *
+ *         The moves are ordered by the principal variation of the last depth,
+ *         captures by the most valuable victim and the least valuable attacker
+ *         (MVV-LVA), two killer moves of each ply and the history of all quiet
+ *         moves, which have caused a cutoff before. A capture, which loses
+ *         material by the {@link StaticExchange}, is searched after the killer
+ *         moves and skipped by the quiescence search.
+ *
+ *         A search uses it's own copy of the position, thus any number of
+ *         searches may run at the same time. The results of all searched
+ *         positions are stored in a {@link TranspositionTable}, which may be
+ *         shared by the searches of a {@link ParallelSearch}.
+ */
+public final class Search {
+	/** the maximum number of half moves from the root */
+	public static final int MAX_PLY = 64;
+
+	/** the score of a mate at the root, a mate in n half moves scores MATE - n */
+	public static final int MATE = 30000;
+
+	/** greater than any score */
+	public static final int INFINITE = 32000;
+
+	/** the maximum depth of the iterative deepening */
+	public static final int MAX_DEPTH = Search.MAX_PLY - 1;
+
+	/** the size of the table of a search without a given table */
+	private static final int DEFAULT_TABLE_MEGABYTES = 1;
+
+	/** the time is checked after each 2048 nodes */
+	private static final int CHECK_INTERVAL = 2047;
+
+	/* the order of the moves, a higher score first */
+	private static final int SCORE_PV = 2000000;
+	private static final int SCORE_HASH = 1900000;
+	private static final int SCORE_CAPTURE = 1000000;
+	private static final int SCORE_FIRST_KILLER = 900000;
+	private static final int SCORE_SECOND_KILLER = 800000;
+	private static final int SCORE_LOSING_CAPTURE = 750000;
+	private static final int MAX_HISTORY = 700000;
+
+	/** the position to search, a copy of the given position */
+	private final BitBoard board;
+
+	/** the results of all searched positions */
+	private final TranspositionTable table;
+
+	/** the ratings of all seen Pawn structures */
+	private final PawnTable pawnTable;
+
+	/** the hidden layer of the neural network, or null for the handcrafted evaluation */
+	private Accumulator accumulator;
+
+	/** the exact results of the small endings, or null */
+	private Tablebase tablebase;
+
+	/** the moves of each ply */
+	private final int[][] moves;
+
+	/** the order score of each move of each ply */
+	private final int[][] orders;
+
+	/** two quiet moves of each ply, which have caused a cutoff */
+	private final int[][] killers;
+
+	/** the cutoffs of each quiet move, indexed by color and (from << 6) | to */
+	private final int[][] history;
+
+	/** the principal variation of each ply */
+	private final int[][] pvTable;
+	private final int[] pvLength;
+
+	/** the principal variation of the last completed depth */
+	private int[] lastPv;
+
+	/** true, while the current node is a part of the last principal variation */
+	private boolean followPv;
+
+	/** the number of visited nodes */
+	private long nodes;
+
+	/** the time, when the search has to stop (System.nanoTime()) */
+	private long deadline;
+
+	/** true, if the time is checked; the first depth is always completed */
+	private boolean checkTime;
+
+	/** true, if the search has been stopped by time or by {@link #stop()} */
+	private volatile boolean stopped;
+
+	/** the first depth of the iterative deepening */
+	private int firstDepth = 1;
+
+	/** true, if this search helps a {@link ParallelSearch} until it's stopped */
+	private boolean helper;
+
+	/**
+	 * Create a search of the given position with it's own transposition table.
+	 *
+	 * @param position
+	 *            the position to search, which is copied
+	 */
+	public Search(final BitBoard position) {
+		this(position, new TranspositionTable(Search.DEFAULT_TABLE_MEGABYTES));
+	}
+
+	/**
+	 * Create a search of the given position.
+	 *
+	 * @param position
+	 *            the position to search, which is copied
+	 * @param table
+	 *            the transposition table, which may be shared with other searches
+	 */
+	public Search(final BitBoard position, final TranspositionTable table) {
+		this(position, table, new PawnTable());
+	}
+
+	/**
+	 * Create a search of the given position.
+	 *
+	 * @param position
+	 *            the position to search, which is copied
+	 * @param table
+	 *            the transposition table, which may be shared with other searches
+	 * @param pawnTable
+	 *            the table of Pawn structures, which may be shared with other
+	 *            searches
+	 */
+	public Search(final BitBoard position, final TranspositionTable table, final PawnTable pawnTable) {
+		this.board = new BitBoard(position);
+		this.table = table;
+		this.pawnTable = pawnTable;
+		this.moves = new int[Search.MAX_PLY + 1][MoveGenerator.MAX_MOVES];
+		this.orders = new int[Search.MAX_PLY + 1][MoveGenerator.MAX_MOVES];
+		this.killers = new int[Search.MAX_PLY + 1][2];
+		this.history = new int[BitBoard.COLORS.length][BitBoard.NBR_OF_FIELDS * BitBoard.NBR_OF_FIELDS];
+		this.pvTable = new int[Search.MAX_PLY + 1][Search.MAX_PLY + 1];
+		this.pvLength = new int[Search.MAX_PLY + 1];
+		this.lastPv = new int[0];
+	}
+
+	/**
+	 * Search the best move, where the depth is raised by one half move after each
+	 * completed depth, until the time budget or the maximum depth is reached.
+	 *
+	 * @param millis
+	 *            the time budget in milliseconds
+	 * @param maxDepth
+	 *            the maximum depth in half moves
+	 *
+	 * @return the result of the last completed depth
+	 */
+	public SearchResult search(final long millis, final int maxDepth) {
+		final long start = System.nanoTime();
+		this.deadline = start + (millis * 1000000L);
+		this.checkTime = false;
+		this.nodes = 0L;
+		this.lastPv = new int[0];
+		for (final int[] killer : this.killers) {
+			Arrays.fill(killer, Move.NONE);
+		}
+		for (final int[] entries : this.history) {
+			Arrays.fill(entries, 0);
+		}
+
+		int bestMove = Move.NONE;
+		int bestScore = 0;
+		int reached = 0;
+
+		for (int depth = this.firstDepth; depth <= Math.min(maxDepth, Search.MAX_DEPTH); depth++) {
+			this.followPv = true;
+			final int score = this.alphaBeta(depth, -Search.INFINITE, Search.INFINITE, 0);
+			this.checkTime = true;
+
+			if (this.stopped) {
+				break; // this depth has not been completed
+			}
+
+			this.lastPv = Arrays.copyOf(this.pvTable[0], this.pvLength[0]);
+			bestMove = (this.lastPv.length == 0) ? Move.NONE : this.lastPv[0];
+			bestScore = score;
+			reached = depth;
+
+			/* a found mate doesn't change anymore, and the next depth would take too long */
+			final long elapsed = System.nanoTime() - start;
+			if ((bestMove == Move.NONE) || (Math.abs(score) >= (Search.MATE - Search.MAX_PLY)) || (!this.helper && (elapsed > ((this.deadline - start) / 2)))) {
+				break;
+			}
+		}
+
+		return new SearchResult(bestMove, bestScore, reached, this.nodes, (System.nanoTime() - start) / 1000000L, this.lastPv);
+	}
+
+	/**
+	 * Stop the search as soon as possible, like from another thread. A stopped
+	 * search is never started again.
+	 */
+	public void stop() {
+		this.stopped = true;
+	}
+
+	/**
+	 * Let this search help a {@link ParallelSearch}: it doesn't stop after half
+	 * of the time budget, and each second helper starts one half move deeper, thus
+	 * the helpers fill the transposition table with different depths.
+	 *
+	 * @param index
+	 *            the index of the helper, starting with 1
+	 */
+	void setHelper(final int index) {
+		this.helper = true;
+		this.firstDepth = 1 + (index & 1);
+	}
+
+	/**
+	 * Rate the positions of this search by the given neural network instead of
+	 * the handcrafted evaluation. The hidden layer is updated by each move of the
+	 * search.
+	 *
+	 * @param network
+	 *            the network to use, or null for the handcrafted evaluation
+	 */
+	public void setNetwork(final Network network) {
+		if (network == null) {
+			this.board.setFigureListener(null);
+			this.accumulator = null;
+		} else {
+			this.accumulator = new Accumulator(network);
+			this.accumulator.attach(this.board);
+		}
+	}
+
+	/**
+	 * Rate each position of an ending of the given tablebase exactly instead of
+	 * searching it.
+	 *
+	 * @param tablebase
+	 *            the tablebase to use, or null to search each position
+	 */
+	public void setTablebase(final Tablebase tablebase) {
+		this.tablebase = tablebase;
+	}
+
+	/**
+	 * Receive the number of visited nodes of the current search.
+	 *
+	 * @return the number of nodes
+	 */
+	public long getNodes() {
+		return this.nodes;
+	}
+
+	/**
+	 * Receive the table of Pawn structures of this search.
+	 *
+	 * @return the table with it's statistics
+	 */
+	public PawnTable getPawnTable() {
+		return this.pawnTable;
+	}
+
+	/**
+	 * Search a node with the given depth and window.
+	 *
+	 * @param depth
+	 *            the remaining depth in half moves
+	 * @param alpha
+	 *            the lower bound
+	 * @param beta
+	 *            the upper bound
+	 * @param ply
+	 *            the distance to the root
+	 *
+	 * @return the score from the view of the side to move
+	 */
+	private int alphaBeta(final int depth, int alpha, final int beta, final int ply) {
+		this.pvLength[ply] = ply;
+
+		if ((ply > 0) && (this.board.onRepetition() || (this.board.getHalfMoveClock() >= 100))) {
+			return 0;
+		}
+
+		/* an ending of the tablebase is known exactly, where a mate is counted from the root */
+		if ((ply > 0) && (this.tablebase != null)) {
+			final int score = this.tablebase.probe(this.board);
+			if (score != Tablebase.NOT_FOUND) {
+				return (score > 0) ? (score - ply) : ((score < 0) ? (score + ply) : 0);
+			}
+		}
+
+		/* a threatened King is not able to stand still, thus it's searched one half move deeper */
+		final boolean inCheck = this.board.onCheck(this.board.getSideToMove());
+		final int remaining = inCheck ? (depth + 1) : depth;
+
+		if ((remaining <= 0) || (ply >= Search.MAX_PLY)) {
+			return this.quiescence(alpha, beta, ply);
+		}
+
+		if (this.onTimeOut()) {
+			return 0;
+		}
+
+		/* a known result of the same depth replaces the search of a null window */
+		final long key = this.board.getKey();
+		final long entry = this.table.probe(key);
+		int hashMove = Move.NONE;
+		if (entry != TranspositionTable.NO_ENTRY) {
+			hashMove = TranspositionTable.getMove(entry);
+
+			if ((ply > 0) && ((beta - alpha) == 1) && (TranspositionTable.getDepth(entry) >= remaining)) {
+				final int score = Search.fromTable(TranspositionTable.getScore(entry), ply);
+				final int bound = TranspositionTable.getBound(entry);
+
+				if ((bound == TranspositionTable.BOUND_EXACT) || ((bound == TranspositionTable.BOUND_LOWER) && (score >= beta))
+						|| ((bound == TranspositionTable.BOUND_UPPER) && (score <= alpha))) {
+					return score;
+				}
+			}
+		}
+
+		final int[] list = this.moves[ply];
+		final int count = MoveGenerator.generateLegalMoves(this.board, list);
+		if (count == 0) {
+			return inCheck ? (-Search.MATE + ply) : 0; // mate or stalemate
+		}
+
+		int pvMove = Move.NONE;
+		if (this.followPv) {
+			if (ply < this.lastPv.length) {
+				pvMove = this.lastPv[ply];
+			} else {
+				this.followPv = false;
+			}
+		}
+		this.orderMoves(ply, count, pvMove, hashMove);
+
+		final int color = this.board.getSideToMove().ordinal();
+		final int originalAlpha = alpha;
+		int bestScore = -Search.INFINITE;
+		int bestMove = Move.NONE;
+
+		for (int i = 0; i < count; i++) {
+			final int move = this.pickMove(ply, i, count);
+			final boolean quiet = this.onQuiet(move);
+
+			if (i > 0) {
+				this.followPv = false; // only the first move continues the last principal variation
+			}
+
+			this.board.makeMove(move);
+			int score;
+			if (i == 0) {
+				score = -this.alphaBeta(remaining - 1, -beta, -alpha, ply + 1);
+			} else {
+				score = -this.alphaBeta(remaining - 1, -alpha - 1, -alpha, ply + 1);
+				if ((score > alpha) && (score < beta)) {
+					score = -this.alphaBeta(remaining - 1, -beta, -alpha, ply + 1);
+				}
+			}
+			this.board.unmakeMove();
+
+			if (this.stopped) {
+				return 0;
+			}
+
+			if (score > bestScore) {
+				bestScore = score;
+				bestMove = move;
+
+				if (score > alpha) {
+					alpha = score;
+					this.updatePv(ply, move);
+
+					if (score >= beta) {
+						if (quiet) {
+							this.storeCutoff(ply, color, move, remaining);
+						}
+						break;
+					}
+				}
+			}
+		}
+
+		final int bound;
+		if (bestScore >= beta) {
+			bound = TranspositionTable.BOUND_LOWER;
+		} else if (bestScore > originalAlpha) {
+			bound = TranspositionTable.BOUND_EXACT;
+		} else {
+			bound = TranspositionTable.BOUND_UPPER;
+		}
+		this.table.store(key, bestMove, Search.toTable(bestScore, ply), remaining, bound);
+
+		return bestScore;
+	}
+
+	/**
+	 * Convert a score for the transposition table, where a mate is counted from
+	 * the stored position instead of the root.
+	 *
+	 * @param score
+	 *            the score of the search
+	 * @param ply
+	 *            the distance to the root
+	 *
+	 * @return the score to store
+	 */
+	private static int toTable(final int score, final int ply) {
+		if (score >= (Search.MATE - Search.MAX_PLY)) {
+			return score + ply;
+		} else if (score <= -(Search.MATE - Search.MAX_PLY)) {
+			return score - ply;
+		}
+
+		return score;
+	}
+
+	/**
+	 * Convert a score of the transposition table, where a mate is counted from
+	 * the root again.
+	 *
+	 * @param score
+	 *            the stored score
+	 * @param ply
+	 *            the distance to the root
+	 *
+	 * @return the score of the search
+	 */
+	private static int fromTable(final int score, final int ply) {
+		if (score >= (Search.MATE - Search.MAX_PLY)) {
+			return score - ply;
+		} else if (score <= -(Search.MATE - Search.MAX_PLY)) {
+			return score + ply;
+		}
+
+		return score;
+	}
+
+	/**
+	 * Resolve all captures and promotions, where the side to move may also stand
+	 * still with the score of the current position.
+	 *
+	 * @param alpha
+	 *            the lower bound
+	 * @param beta
+	 *            the upper bound
+	 * @param ply
+	 *            the distance to the root
+	 *
+	 * @return the score from the view of the side to move
+	 */
+	private int quiescence(int alpha, final int beta, final int ply) {
+		this.pvLength[ply] = ply;
+
+		if (this.onTimeOut()) {
+			return 0;
+		}
+
+		final int standPat = (this.accumulator != null) ? this.accumulator.evaluate(this.board.getSideToMove()) : Evaluation.evaluate(this.board, this.pawnTable);
+		if ((standPat >= beta) || (ply >= Search.MAX_PLY)) {
+			return standPat;
+		}
+		if (standPat > alpha) {
+			alpha = standPat;
+		}
+
+		final int count = MoveGenerator.generateLegalCaptures(this.board, this.moves[ply]);
+		this.orderMoves(ply, count, Move.NONE, Move.NONE);
+
+		int bestScore = standPat;
+		for (int i = 0; i < count; i++) {
+			final int move = this.pickMove(ply, i, count);
+
+			/* a capture, which loses material, never raises alpha */
+			if (this.orders[ply][i] < Search.SCORE_CAPTURE) {
+				continue;
+			}
+
+			this.board.makeMove(move);
+			final int score = -this.quiescence(-beta, -alpha, ply + 1);
+			this.board.unmakeMove();
+
+			if (this.stopped) {
+				return 0;
+			}
+
+			if (score > bestScore) {
+				bestScore = score;
+
+				if (score > alpha) {
+					alpha = score;
+					this.updatePv(ply, move);
+
+					if (score >= beta) {
+						break;
+					}
+				}
+			}
+		}
+
+		return bestScore;
+	}
+
+	/**
+	 * Count the visited node and check the time budget after each interval.
+	 *
+	 * @return true, if the search has to stop,<br>
+	 *         false, otherwise
+	 */
+	private boolean onTimeOut() {
+		this.nodes++;
+
+		if (this.checkTime && ((this.nodes & Search.CHECK_INTERVAL) == 0L) && (System.nanoTime() > this.deadline)) {
+			this.stopped = true;
+		}
+
+		return this.stopped;
+	}
+
+	/**
+	 * Add the given move in front of the principal variation of the next ply.
+	 *
+	 * @param ply
+	 *            the distance to the root
+	 * @param move
+	 *            the best move of this ply
+	 */
+	private void updatePv(final int ply, final int move) {
+		final int[] pv = this.pvTable[ply];
+		pv[ply] = move;
+
+		final int length = this.pvLength[ply + 1];
+		System.arraycopy(this.pvTable[ply + 1], ply + 1, pv, ply + 1, length - (ply + 1));
+		this.pvLength[ply] = Math.max(ply + 1, length);
+	}
+
+	/**
+	 * Remember a quiet move, which has caused a cutoff, as killer move of this ply
+	 * and in the history of the moving color.
+	 *
+	 * @param ply
+	 *            the distance to the root
+	 * @param color
+	 *            the color to move
+	 * @param move
+	 *            the quiet move
+	 * @param depth
+	 *            the remaining depth
+	 */
+	private void storeCutoff(final int ply, final int color, final int move, final int depth) {
+		final int[] killer = this.killers[ply];
+		if (killer[0] != move) {
+			killer[1] = killer[0];
+			killer[0] = move;
+		}
+
+		final int[] entries = this.history[color];
+		final int index = (Move.getFrom(move) << 6) | Move.getTo(move);
+		entries[index] += depth * depth;
+
+		if (entries[index] > Search.MAX_HISTORY) {
+			for (int i = 0; i < entries.length; i++) {
+				entries[i] >>= 1;
+			}
+		}
+	}
+
+	/**
+	 * Check, if the given move neither captures nor promotes.
+	 *
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return true, if it's a quiet move,<br>
+	 *         false, otherwise
+	 */
+	private boolean onQuiet(final int move) {
+		return !this.board.onReserved(Move.getTo(move)) && (Move.getFlag(move) != Move.FLAG_EN_PASSANT) && !Move.onPromotion(move);
+	}
+
+	/**
+	 * Rate each move of the given ply for the order of the search.
+	 *
+	 * @param ply
+	 *            the distance to the root
+	 * @param count
+	 *            the number of moves
+	 * @param pvMove
+	 *            the move of the last principal variation, which comes first
+	 * @param hashMove
+	 *            the best move of the transposition table, which comes next
+	 */
+	private void orderMoves(final int ply, final int count, final int pvMove, final int hashMove) {
+		final int[] list = this.moves[ply];
+		final int[] order = this.orders[ply];
+		final int[] killer = this.killers[ply];
+		final int[] entries = this.history[this.board.getSideToMove().ordinal()];
+
+		for (int i = 0; i < count; i++) {
+			final int move = list[i];
+			final int to = Move.getTo(move);
+
+			if (move == pvMove) {
+				order[i] = Search.SCORE_PV;
+			} else if (move == hashMove) {
+				order[i] = Search.SCORE_HASH;
+			} else if (!this.onQuiet(move)) {
+				/* most valuable victim, least valuable attacker */
+				final int victim = this.board.onReserved(to) ? Evaluation.getValue(this.board.getFigure(to)) : 0;
+				final int enPassant = (Move.getFlag(move) == Move.FLAG_EN_PASSANT) ? Evaluation.getValue(FigureSet.PAWN) : 0;
+				final int promotion = Move.onPromotion(move) ? Evaluation.getValue(Move.getPromotion(move)) : 0;
+				final int attacker = Evaluation.getValue(this.board.getFigure(Move.getFrom(move)));
+
+				final int mvvLva = ((victim + enPassant + promotion) * 16) - (attacker / 10);
+				final boolean winning = ((victim + enPassant + promotion) >= attacker) || StaticExchange.onExchangeAtLeast(this.board, move, 0);
+				order[i] = (winning ? Search.SCORE_CAPTURE : Search.SCORE_LOSING_CAPTURE) + mvvLva;
+			} else if (move == killer[0]) {
+				order[i] = Search.SCORE_FIRST_KILLER;
+			} else if (move == killer[1]) {
+				order[i] = Search.SCORE_SECOND_KILLER;
+			} else {
+				order[i] = entries[(Move.getFrom(move) << 6) | to];
+			}
+		}
+	}
+
+	/**
+	 * Move the best rated move of all moves left to the given index.
+	 *
+	 * @param ply
+	 *            the distance to the root
+	 * @param index
+	 *            the index of the next move to search
+	 * @param count
+	 *            the number of moves
+	 *
+	 * @return the next move to search
+	 */
+	private int pickMove(final int ply, final int index, final int count) {
+		final int[] list = this.moves[ply];
+		final int[] order = this.orders[ply];
+
+		int best = index;
+		for (int i = index + 1; i < count; i++) {
+			if (order[i] > order[best]) {
+				best = i;
+			}
+		}
+
+		final int move = list[best];
+		list[best] = list[index];
+		list[index] = move;
+
+		final int score = order[best];
+		order[best] = order[index];
+		order[index] = score;
+
+		return move;
+	}
+}
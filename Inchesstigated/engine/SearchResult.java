@@ -0,0 +1,150 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import location.Move;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the result of a search: the best move with it's score and
+ *         principal variation, the reached depth and the number of visited
+ *         nodes.
+ */
+public final class SearchResult {
+	/** the best move, {@link Move#NONE} if there is no legal move */
+	private final int bestMove;
+
+	/** the score of the best move in centipawns from the view of the side to move */
+	private final int score;
+
+	/** the last completed depth */
+	private final int depth;
+
+	/** the number of visited nodes */
+	private final long nodes;
+
+	/** the used time in milliseconds */
+	private final long millis;
+
+	/** the principal variation, starting with the best move */
+	private final int[] pv;
+
+	/**
+	 * Create the result of a search.
+	 *
+	 * @param bestMove
+	 *            the best move
+	 * @param score
+	 *            the score of the best move
+	 * @param depth
+	 *            the last completed depth
+	 * @param nodes
+	 *            the number of visited nodes
+	 * @param millis
+	 *            the used time in milliseconds
+	 * @param pv
+	 *            the principal variation
+	 */
+	public SearchResult(final int bestMove, final int score, final int depth, final long nodes, final long millis, final int[] pv) {
+		this.bestMove = bestMove;
+		this.score = score;
+		this.depth = depth;
+		this.nodes = nodes;
+		this.millis = millis;
+		this.pv = pv;
+	}
+
+	/**
+	 * Receive the best move.
+	 *
+	 * @return the packed move, <br>
+	 *         or {@link Move#NONE}, if there is no legal move
+	 */
+	public int getBestMove() {
+		return this.bestMove;
+	}
+
+	/**
+	 * Receive the score of the best move.
+	 *
+	 * @return the score in centipawns from the view of the side to move
+	 */
+	public int getScore() {
+		return this.score;
+	}
+
+	/**
+	 * Receive the last completed depth.
+	 *
+	 * @return the depth in half moves
+	 */
+	public int getDepth() {
+		return this.depth;
+	}
+
+	/**
+	 * Receive the number of visited nodes.
+	 *
+	 * @return the number of nodes
+	 */
+	public long getNodes() {
+		return this.nodes;
+	}
+
+	/**
+	 * Receive the used time.
+	 *
+	 * @return the time in milliseconds
+	 */
+	public long getMillis() {
+		return this.millis;
+	}
+
+	/**
+	 * Receive the number of visited nodes per second.
+	 *
+	 * @return the nodes per second
+	 */
+	public long getNodesPerSecond() {
+		return (this.nodes * 1000L) / Math.max(1L, this.millis);
+	}
+
+	/**
+	 * Receive the principal variation.
+	 *
+	 * @return the expected moves, starting with the best move
+	 */
+	public int[] getPrincipalVariation() {
+		return this.pv.clone();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append("depth ").append(this.depth);
+		sb.append(" score ").append(this.score);
+		sb.append(" nodes ").append(this.nodes);
+		sb.append(" nps ").append(this.getNodesPerSecond());
+		sb.append(" time ").append(this.millis).append(" ms");
+		sb.append(" pv");
+		for (final int move : this.pv) {
+			sb.append(' ').append(Move.toString(move));
+		}
+
+		return sb.toString();
+	}
+}
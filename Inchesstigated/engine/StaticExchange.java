@@ -0,0 +1,259 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Rates a capture by the static exchange evaluation (SEE): both players
+ *         capture on the destination field by turns, each time with their least
+ *         valuable figure, where each player may stop capturing, whenever it
+ *         doesn't win anything anymore.
+ *
+ *         The attackers of the field are received from the {@link BitBoard}
+ *         with the current occupancy. Whenever a figure has captured, it's
+ *         removed from the occupancy, thus a Rook, Runner or Queen behind it
+ *         ("x-ray") attacks the field as well. Pinned figures are not
+ *         considered.
+ */
+public final class StaticExchange {
+	/** the value of each figure type, indexed by FigureSet, where the King is never captured */
+	private static final int[] VALUES = {
+			Evaluation.getValue(FigureSet.PAWN), Evaluation.getValue(FigureSet.KNIGHT), Evaluation.getValue(FigureSet.ROOK), Evaluation.getValue(FigureSet.RUNNER),
+			20000, Evaluation.getValue(FigureSet.QUEEN)
+	};
+
+	/** the figure types from the least to the most valuable figure */
+	private static final int[] ORDER = {
+			FigureSet.PAWN.ordinal(), FigureSet.KNIGHT.ordinal(), FigureSet.RUNNER.ordinal(), FigureSet.ROOK.ordinal(), FigureSet.QUEEN.ordinal(), FigureSet.KING.ordinal()
+	};
+
+	/** the maximum number of captures on a single field */
+	private static final int MAX_EXCHANGES = 32;
+
+	/** no instance required */
+	private StaticExchange() {
+	}
+
+	/**
+	 * Receive the value of the given move after all exchanges on it's destination
+	 * field.
+	 *
+	 * @param board
+	 *            the position, where the move will be made
+	 * @param move
+	 *            the packed move, usually a capture
+	 *
+	 * @return the won (positive) or lost (negative) material in centipawns for
+	 *         the side to move
+	 */
+	public static int getExchangeValue(final BitBoard board, final int move) {
+		final int from = Move.getFrom(move);
+		final int to = Move.getTo(move);
+		final int[] gain = new int[StaticExchange.MAX_EXCHANGES];
+		long occupancy = board.getOccupancy();
+
+		gain[0] = StaticExchange.getCapturedValue(board, move);
+		if (Move.getFlag(move) == Move.FLAG_EN_PASSANT) {
+			occupancy ^= BitBoard.getFieldMask(to ^ 8);
+		}
+
+		/* the value of the figure on the destination field, which may be captured next */
+		int figureValue = StaticExchange.getMovedValue(board, move);
+		long fromMask = BitBoard.getFieldMask(from);
+		FigureColor side = board.getColorOn(from);
+		int depth = 0;
+
+		while ((fromMask != 0L) && (depth < (StaticExchange.MAX_EXCHANGES - 1))) {
+			depth++;
+			gain[depth] = figureValue - gain[depth - 1]; // the opponent captures the last moved figure
+
+			/* neither player wins anything by the next capture */
+			if (Math.max(-gain[depth - 1], gain[depth]) < 0) {
+				break;
+			}
+
+			occupancy ^= fromMask;
+			side = FigureColor.getOpponentColor(side);
+			final long attackers = board.getAttackers(to, side, occupancy) & occupancy;
+
+			fromMask = 0L;
+			for (final int type : StaticExchange.ORDER) {
+				final long candidates = attackers & board.getTypeMask(BitBoard.TYPES[type]);
+				if (candidates != 0L) {
+					fromMask = candidates & -candidates;
+					figureValue = StaticExchange.VALUES[type];
+					break;
+				}
+			}
+		}
+
+		/* each player chooses between the capture and to stop capturing */
+		while (--depth > 0) {
+			gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+		}
+
+		return gain[0];
+	}
+
+	/**
+	 * Check, if the given move wins at least the given material after all
+	 * exchanges on it's destination field. Unlike
+	 * {@link #getExchangeValue(BitBoard, int)}, it doesn't create any object, thus
+	 * it's in use to skip losing captures during a search.
+	 *
+	 * @param board
+	 *            the position, where the move will be made
+	 * @param move
+	 *            the packed move, usually a capture
+	 * @param threshold
+	 *            the material to win in centipawns
+	 *
+	 * @return true, if the move wins at least the given material,<br>
+	 *         false, otherwise
+	 */
+	public static boolean onExchangeAtLeast(final BitBoard board, final int move, final int threshold) {
+		final int from = Move.getFrom(move);
+		final int to = Move.getTo(move);
+
+		/* the balance, if the opponent doesn't capture */
+		int swap = StaticExchange.getCapturedValue(board, move) - threshold;
+		if (swap < 0) {
+			return false;
+		}
+
+		/* the balance, if the opponent captures the moved figure */
+		swap = StaticExchange.getMovedValue(board, move) - swap;
+		if (swap <= 0) {
+			return true;
+		}
+
+		long occupancy = board.getOccupancy() ^ BitBoard.getFieldMask(from);
+		if (Move.getFlag(move) == Move.FLAG_EN_PASSANT) {
+			occupancy ^= BitBoard.getFieldMask(to ^ 8);
+		}
+
+		FigureColor side = board.getColorOn(from);
+		boolean result = true;
+
+		while (true) {
+			side = FigureColor.getOpponentColor(side);
+			final long attackers = board.getAttackers(to, side, occupancy) & occupancy;
+			if (attackers == 0L) {
+				break;
+			}
+
+			result = !result;
+
+			int type = 0;
+			long candidates = 0L;
+			for (final int next : StaticExchange.ORDER) {
+				candidates = attackers & board.getTypeMask(BitBoard.TYPES[next]);
+				if (candidates != 0L) {
+					type = next;
+					break;
+				}
+			}
+
+			/* the King captures only, if the opponent has no attacker left */
+			if (type == FigureSet.KING.ordinal()) {
+				final FigureColor opponent = FigureColor.getOpponentColor(side);
+				return ((board.getAttackers(to, opponent, occupancy) & occupancy) != 0L) ? !result : result;
+			}
+
+			swap = StaticExchange.VALUES[type] - swap;
+			if (swap < (result ? 1 : 0)) {
+				break;
+			}
+
+			occupancy ^= candidates & -candidates;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Receive the highest value of all captures of the side to move, which is the
+	 * material left unprotected by the last move of the opponent.
+	 *
+	 * @param board
+	 *            the position to check
+	 * @param moves
+	 *            the array to fill, at least {@link MoveGenerator#MAX_MOVES}
+	 *            entries
+	 *
+	 * @return the won material of the best capture in centipawns,<br>
+	 *         or 0, if no capture wins any material
+	 */
+	public static int getHangingValue(final BitBoard board, final int[] moves) {
+		final int count = MoveGenerator.generateLegalCaptures(board, moves);
+		int best = 0;
+
+		for (int i = 0; i < count; i++) {
+			best = Math.max(best, StaticExchange.getExchangeValue(board, moves[i]));
+		}
+
+		return best;
+	}
+
+	/**
+	 * Receive the value of the figure, which is captured by the given move,
+	 * including the gain of a promotion.
+	 *
+	 * @param board
+	 *            the position, where the move will be made
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return the value in centipawns
+	 */
+	private static int getCapturedValue(final BitBoard board, final int move) {
+		final int to = Move.getTo(move);
+		int value = 0;
+
+		if (Move.getFlag(move) == Move.FLAG_EN_PASSANT) {
+			value = StaticExchange.VALUES[FigureSet.PAWN.ordinal()];
+		} else if (board.onReserved(to)) {
+			value = StaticExchange.VALUES[board.getFigure(to) >>> 1];
+		}
+
+		if (Move.onPromotion(move)) {
+			value += StaticExchange.VALUES[Move.getPromotion(move).ordinal()] - StaticExchange.VALUES[FigureSet.PAWN.ordinal()];
+		}
+
+		return value;
+	}
+
+	/**
+	 * Receive the value of the moved figure on it's destination field.
+	 *
+	 * @param board
+	 *            the position, where the move will be made
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return the value in centipawns, the value of the new figure of a promotion
+	 */
+	private static int getMovedValue(final BitBoard board, final int move) {
+		if (Move.onPromotion(move)) {
+			return StaticExchange.VALUES[Move.getPromotion(move).ordinal()];
+		}
+
+		return StaticExchange.VALUES[board.getFigure(Move.getFrom(move)) >>> 1];
+	}
+}
@@ -0,0 +1,662 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the exact result of each position of the endings King and
+ *         Queen, King and Rook or King and Pawn against the lone King: the
+ *         number of half moves to the mate, or a draw.
+ *
+ *         Each ending is generated by retrograde analysis: first all mates are
+ *         marked, then each pass marks the positions one half move further
+ *         from a mate, where the stronger side needs a single move into a
+ *         marked position and the lone King needs all moves to end in marked
+ *         positions. A position, which is never marked, is a draw. The passes
+ *         split the positions across all threads of a {@link ForkJoinPool}.
+ *
+ *         The stronger side is always white here, a position of a black Queen,
+ *         Rook or Pawn is mirrored. The index of a position is (side to move
+ *         &lt;&lt; 18) | (white King &lt;&lt; 12) | (black King &lt;&lt; 6) |
+ *         figure, where each field is a field index.
+ *
+ *         Each ending is stored in it's own file (like "KQK.itb"), which is
+ *         mapped into memory by {@link #open(String)}. The file holds big
+ *         endian values:
+ *
+ *         <pre>
+ *         int    magic "ITBL" (0x4954424C)
+ *         int    version 1
+ *         int    type of the figure (ordinal of FigureSet)
+ *         int    bits of each entry
+ *         long   entries [], as many entries in each long as fit into it,
+ *                the first entry in the lowest bits; each entry holds the
+ *                half moves to the mate plus one, or 0 for a draw
+ *         </pre>
+ */
+public final class Tablebase {
+	/** the first value of a tablebase file */
+	public static final int MAGIC = 0x4954424C;
+
+	/** the version of the file format */
+	public static final int VERSION = 1;
+
+	/** the result of {@link #probe(BitBoard)}, if the position is not in the tablebase */
+	public static final int NOT_FOUND = Integer.MIN_VALUE;
+
+	/** the number of figures of each ending, including both Kings */
+	public static final int MAX_FIGURES = 3;
+
+	/** all endings in the order of their generation, the Pawn promotes to a Queen or a Rook */
+	public static final FigureSet[] ENDINGS = {
+			FigureSet.QUEEN, FigureSet.ROOK, FigureSet.PAWN
+	};
+
+	/** the number of positions of each ending */
+	public static final int SIZE = 1 << 19;
+
+	/** the size of the header in bytes */
+	private static final int HEADER_SIZE = 16;
+
+	/** the number of positions of each task */
+	private static final int CHUNK = 1 << 12;
+
+	/** a successor, which is a draw, like the capture of the only figure */
+	private static final int DRAW_EXIT = -1;
+
+	/** the files of each ending, indexed by FigureSet */
+	private final ByteBuffer[] tables = new ByteBuffer[BitBoard.TYPES.length];
+
+	/** Create a tablebase without any ending. */
+	public Tablebase() {
+	}
+
+	/**
+	 * Map all files of the endings, which are found in the given directory.
+	 *
+	 * @param directory
+	 *            the directory of the files
+	 *
+	 * @return the opened tablebase
+	 *
+	 * @throws IOException
+	 *             if a file is not readable or not a tablebase file, or if no
+	 *             file has been found
+	 */
+	public static Tablebase open(final String directory) throws IOException {
+		final Tablebase tablebase = new Tablebase();
+		boolean found = false;
+
+		for (final FigureSet type : Tablebase.ENDINGS) {
+			final Path path = Paths.get(directory, Tablebase.getFileName(type));
+			if (!Files.isRegularFile(path)) {
+				continue;
+			}
+
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				final ByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+				if ((table.limit() < Tablebase.HEADER_SIZE) || (table.getInt(0) != Tablebase.MAGIC) || (table.getInt(4) != Tablebase.VERSION) || (table.getInt(8) != type.ordinal())) {
+					throw new IOException("not a tablebase file of version " + Tablebase.VERSION + ": " + path);
+				}
+
+				final int bits = table.getInt(12);
+				if ((bits < 1) || (bits > Byte.SIZE) || (table.limit() != Tablebase.getFileSize(bits))) {
+					throw new IOException("the tablebase file is incomplete: " + path);
+				}
+
+				tablebase.tables[type.ordinal()] = table;
+				found = true;
+			}
+		}
+
+		if (!found) {
+			throw new IOException("no tablebase file found in " + directory);
+		}
+
+		return tablebase;
+	}
+
+	/**
+	 * Save the files of all generated or opened endings.
+	 *
+	 * @param directory
+	 *            the directory of the files
+	 *
+	 * @throws IOException
+	 *             if a file is not writable
+	 */
+	public void save(final String directory) throws IOException {
+		for (final FigureSet type : Tablebase.ENDINGS) {
+			final ByteBuffer table = this.tables[type.ordinal()];
+			if (table == null) {
+				continue;
+			}
+
+			final ByteBuffer data = table.duplicate();
+			data.rewind();
+			try (FileChannel channel = FileChannel.open(Paths.get(directory, Tablebase.getFileName(type)), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING)) {
+				while (data.hasRemaining()) {
+					channel.write(data);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Receive the file name of an ending.
+	 *
+	 * @param type
+	 *            the type of the figure beside both Kings
+	 *
+	 * @return the file name, like "KQK.itb"
+	 */
+	public static String getFileName(final FigureSet type) {
+		return "K" + type.name().charAt(0) + "K.itb";
+	}
+
+	/**
+	 * Check, if an ending is available.
+	 *
+	 * @param type
+	 *            the type of the figure beside both Kings
+	 *
+	 * @return true, if the ending has been generated or opened,<br>
+	 *         false, otherwise
+	 */
+	public boolean onAvailable(final FigureSet type) {
+		return this.tables[type.ordinal()] != null;
+	}
+
+	/**
+	 * Generate an ending by all threads of the pool. The Pawn ending requires
+	 * the Queen and Rook endings, since the Pawn may promote.
+	 *
+	 * @param type
+	 *            the type of the figure beside both Kings, one of
+	 *            {@link #ENDINGS}
+	 * @param pool
+	 *            the threads to use
+	 *
+	 * @return the longest distance to a mate in half moves
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the type is not one of {@link #ENDINGS}
+	 * @throws IllegalStateException
+	 *             if the Pawn ending misses the Queen or Rook ending
+	 */
+	public int generate(final FigureSet type, final ForkJoinPool pool) {
+		if ((type != FigureSet.QUEEN) && (type != FigureSet.ROOK) && (type != FigureSet.PAWN)) {
+			throw new IllegalArgumentException("no ending of " + type);
+		}
+		if ((type == FigureSet.PAWN) && (!this.onAvailable(FigureSet.QUEEN) || !this.onAvailable(FigureSet.ROOK))) {
+			throw new IllegalStateException("the Pawn ending requires the Queen and Rook endings");
+		}
+
+		final int[][] successors = new int[Tablebase.SIZE][];
+		final byte[] values = new byte[Tablebase.SIZE];
+
+		/* each legal position with it's successors, the mates are marked at once */
+		final List<SuccessorTask> successorTasks = new ArrayList<>();
+		for (int from = 0; from < Tablebase.SIZE; from += Tablebase.CHUNK) {
+			successorTasks.add(new SuccessorTask(this, type, successors, values, from));
+		}
+		int promotions = 0;
+		for (final SuccessorTask task : successorTasks) {
+			pool.execute(task);
+		}
+		for (final SuccessorTask task : successorTasks) {
+			promotions = Math.max(promotions, task.join());
+		}
+
+		/* pass n marks the positions with a mate in n half moves, until nothing is left to mark */
+		int pass = 1;
+		int idle = 0;
+		int longest = 0;
+		while ((idle < 2) || (pass <= promotions)) {
+			final List<PassTask> passTasks = new ArrayList<>();
+			for (int from = 0; from < Tablebase.SIZE; from += Tablebase.CHUNK) {
+				passTasks.add(new PassTask(successors, values, from, pass));
+			}
+			int marked = 0;
+			for (final PassTask task : passTasks) {
+				pool.execute(task);
+			}
+			for (final PassTask task : passTasks) {
+				marked += task.join();
+			}
+
+			if (marked > 0) {
+				longest = pass;
+				idle = 0;
+			} else {
+				idle++;
+			}
+			pass++;
+		}
+
+		this.tables[type.ordinal()] = Tablebase.pack(type, values, longest + 1);
+		return longest;
+	}
+
+	/**
+	 * Rate a position of an ending exactly.
+	 *
+	 * @param board
+	 *            the position to rate
+	 *
+	 * @return like the scores of the {@link Search} at the root: {@link Search#MATE}
+	 *         - n, if the side to move mates in n half moves, -{@link Search#MATE}
+	 *         + n, if the side to move is mated in n half moves, 0 for a draw,<br>
+	 *         or {@link #NOT_FOUND}, if the position is not in the tablebase
+	 */
+	public int probe(final BitBoard board) {
+		final long occupied = board.getOccupancy();
+		if ((Long.bitCount(occupied) != Tablebase.MAX_FIGURES) || (board.getCastlingRights() != 0)) {
+			return Tablebase.NOT_FOUND;
+		}
+
+		final long figures = occupied & ~board.getTypeMask(FigureSet.KING);
+		if (Long.bitCount(figures) != 1) {
+			return Tablebase.NOT_FOUND;
+		}
+
+		final int field = Long.numberOfTrailingZeros(figures);
+		final FigureSet type = board.getTypeOn(field);
+		final ByteBuffer table = this.tables[type.ordinal()];
+		if (table == null) {
+			return Tablebase.NOT_FOUND;
+		}
+
+		/* the stronger side is always white in the tablebase */
+		final FigureColor strong = board.getColorOn(field);
+		final FigureColor side = board.getSideToMove();
+		final int mirror = (strong == FigureColor.WHITE) ? 0 : 56;
+		final int strongKing = board.getKingField(strong) ^ mirror;
+		final int loneKing = board.getKingField(FigureColor.getOpponentColor(strong)) ^ mirror;
+		final int figure = field ^ mirror;
+
+		if (((type == FigureSet.PAWN) && ((figure < 8) || (figure >= 56))) || board.onCheck(FigureColor.getOpponentColor(side))) {
+			return Tablebase.NOT_FOUND;
+		}
+
+		final int value = Tablebase.read(table, Tablebase.getIndex((side == strong) ? FigureColor.WHITE : FigureColor.BLACK, strongKing, loneKing, figure));
+		if (value == 0) {
+			return 0;
+		}
+
+		return (side == strong) ? (Search.MATE - (value - 1)) : (-Search.MATE + (value - 1));
+	}
+
+	/**
+	 * Receive the best move of a position of an ending: the fastest mate of the
+	 * stronger side, or the longest defense of the lone King.
+	 *
+	 * @param board
+	 *            the position, which is not changed
+	 *
+	 * @return the packed move,<br>
+	 *         or {@link Move#NONE}, if the position is not in the tablebase or
+	 *         there is no legal move
+	 */
+	public int getBestMove(final BitBoard board) {
+		if (this.probe(board) == Tablebase.NOT_FOUND) {
+			return Move.NONE;
+		}
+
+		final BitBoard position = new BitBoard(board);
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int count = MoveGenerator.generateLegalMoves(position, moves);
+		int bestMove = Move.NONE;
+		int bestScore = -Search.INFINITE;
+
+		for (int i = 0; i < count; i++) {
+			position.makeMove(moves[i]);
+			final int score = this.probe(position);
+			position.unmakeMove();
+
+			/* the capture of the only figure or a promotion to a Knight or Runner is a draw */
+			final int rating = (score == Tablebase.NOT_FOUND) ? 0 : -score;
+			if (rating > bestScore) {
+				bestScore = rating;
+				bestMove = moves[i];
+			}
+		}
+
+		return bestMove;
+	}
+
+	/**
+	 * Receive the index of a position, where the stronger side is white.
+	 *
+	 * @param side
+	 *            the side to move
+	 * @param whiteKing
+	 *            the field of the white King
+	 * @param blackKing
+	 *            the field of the black King
+	 * @param figure
+	 *            the field of the white figure
+	 *
+	 * @return the index from 0 to {@link #SIZE} - 1
+	 */
+	private static int getIndex(final FigureColor side, final int whiteKing, final int blackKing, final int figure) {
+		return (side.ordinal() << 18) | (whiteKing << 12) | (blackKing << 6) | figure;
+	}
+
+	/**
+	 * Receive the size of a file.
+	 *
+	 * @param bits
+	 *            the bits of each entry
+	 *
+	 * @return the size in bytes
+	 */
+	private static int getFileSize(final int bits) {
+		final int perLong = Long.SIZE / bits;
+		return Tablebase.HEADER_SIZE + (((Tablebase.SIZE + perLong) - 1) / perLong) * Long.BYTES;
+	}
+
+	/**
+	 * Read an entry of an ending.
+	 *
+	 * @param table
+	 *            the file of the ending
+	 * @param index
+	 *            the index of the position
+	 *
+	 * @return the half moves to the mate plus one, or 0 for a draw
+	 */
+	private static int read(final ByteBuffer table, final int index) {
+		final int bits = table.getInt(12);
+		final int perLong = Long.SIZE / bits;
+		final long entries = table.getLong(Tablebase.HEADER_SIZE + ((index / perLong) * Long.BYTES));
+		return (int) (entries >>> ((index % perLong) * bits)) & ((1 << bits) - 1);
+	}
+
+	/**
+	 * Pack all entries of an ending into it's file.
+	 *
+	 * @param type
+	 *            the type of the figure beside both Kings
+	 * @param values
+	 *            the half moves to the mate plus one of each position, or 0
+	 * @param max
+	 *            the highest value
+	 *
+	 * @return the whole file
+	 */
+	private static ByteBuffer pack(final FigureSet type, final byte[] values, final int max) {
+		final int bits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(max));
+		final int perLong = Long.SIZE / bits;
+		final ByteBuffer table = ByteBuffer.allocate(Tablebase.getFileSize(bits));
+		table.putInt(Tablebase.MAGIC).putInt(Tablebase.VERSION).putInt(type.ordinal()).putInt(bits);
+
+		for (int first = 0; first < Tablebase.SIZE; first += perLong) {
+			long entries = 0L;
+			for (int i = 0; (i < perLong) && ((first + i) < Tablebase.SIZE); i++) {
+				entries |= (long) values[first + i] << (i * bits);
+			}
+			table.putLong(entries);
+		}
+
+		return table;
+	}
+
+	/**
+	 * @author swunsch
+	 *
+	 *         Collects the successors of a range of positions on it's own bit
+	 *         board, where a successor is the index of the position after a
+	 *         move, or the negative value of a promotion plus one. Illegal
+	 *         positions have no successors at all.
+	 */
+	private static final class SuccessorTask extends RecursiveTask<Integer> {
+		private static final long serialVersionUID = 1L;
+
+		/** the tablebase with the endings of the promotions */
+		private final Tablebase tablebase;
+
+		/** the type of the figure beside both Kings */
+		private final FigureSet type;
+
+		/** the successors of each position to fill */
+		private final int[][] successors;
+
+		/** the values of each position to mark the mates */
+		private final byte[] values;
+
+		/** the first position of the range */
+		private final int from;
+
+		/**
+		 * Create a task for a range of {@link Tablebase#CHUNK} positions.
+		 *
+		 * @param tablebase
+		 *            the tablebase with the endings of the promotions
+		 * @param type
+		 *            the type of the figure beside both Kings
+		 * @param successors
+		 *            the successors of each position to fill
+		 * @param values
+		 *            the values of each position to mark the mates
+		 * @param from
+		 *            the first position of the range
+		 */
+		SuccessorTask(final Tablebase tablebase, final FigureSet type, final int[][] successors, final byte[] values, final int from) {
+			this.tablebase = tablebase;
+			this.type = type;
+			this.successors = successors;
+			this.values = values;
+			this.from = from;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected Integer compute() {
+			final BitBoard board = new BitBoard();
+			final int[] moves = new int[MoveGenerator.MAX_MOVES];
+			int promotions = 0;
+
+			for (int index = this.from; index < (this.from + Tablebase.CHUNK); index++) {
+				final FigureColor side = BitBoard.COLORS[index >>> 18];
+				final int whiteKing = (index >>> 12) & 63;
+				final int blackKing = (index >>> 6) & 63;
+				final int figure = index & 63;
+
+				if ((whiteKing == blackKing) || (whiteKing == figure) || (blackKing == figure)) {
+					continue;
+				}
+				if ((this.type == FigureSet.PAWN) && ((figure < 8) || (figure >= 56))) {
+					continue;
+				}
+
+				board.clearAll();
+				board.setFigure(whiteKing, FigureColor.WHITE, FigureSet.KING);
+				board.setFigure(blackKing, FigureColor.BLACK, FigureSet.KING);
+				board.setFigure(figure, FigureColor.WHITE, this.type);
+				board.setSideToMove(side);
+				if (board.onCheck(FigureColor.getOpponentColor(side))) {
+					continue; // the King of the side, which has just moved, is threatened
+				}
+
+				final int count = MoveGenerator.generateLegalMoves(board, moves);
+				final int[] list = new int[count];
+				for (int i = 0; i < count; i++) {
+					board.makeMove(moves[i]);
+					list[i] = this.getSuccessor(board);
+					board.unmakeMove();
+
+					if (list[i] < Tablebase.DRAW_EXIT) {
+						promotions = Math.max(promotions, -list[i] - 1);
+					}
+				}
+				this.successors[index] = list;
+
+				if ((count == 0) && (side == FigureColor.BLACK) && board.onCheck(FigureColor.BLACK)) {
+					this.values[index] = 1; // mated
+				}
+			}
+
+			return promotions;
+		}
+
+		/**
+		 * Receive the successor of the position after a move.
+		 *
+		 * @param board
+		 *            the position after the move
+		 *
+		 * @return the index of the position,<br>
+		 *         or the negative value of the position after a promotion plus
+		 *         one, where {@link Tablebase#DRAW_EXIT} is a draw
+		 */
+		private int getSuccessor(final BitBoard board) {
+			final long figures = board.getColorMask(FigureColor.WHITE) & ~board.getTypeMask(FigureSet.KING);
+			if (figures == 0L) {
+				return Tablebase.DRAW_EXIT; // the lone King has captured the figure
+			}
+
+			final int field = Long.numberOfTrailingZeros(figures);
+			final FigureSet type = board.getTypeOn(field);
+			final int index = Tablebase.getIndex(board.getSideToMove(), board.getKingField(FigureColor.WHITE), board.getKingField(FigureColor.BLACK), field);
+			if (type == this.type) {
+				return index;
+			}
+
+			final ByteBuffer table = this.tablebase.tables[type.ordinal()];
+			return (table == null) ? Tablebase.DRAW_EXIT : (-Tablebase.read(table, index) - 1);
+		}
+	}
+
+	/**
+	 * @author swunsch
+	 *
+	 *         Marks all positions of a range, which are mated in the given
+	 *         number of half moves. White marks it's positions on odd passes
+	 *         only, black on even passes only, thus each pass only reads values,
+	 *         which are not written by the same pass.
+	 */
+	private static final class PassTask extends RecursiveTask<Integer> {
+		private static final long serialVersionUID = 1L;
+
+		/** the successors of each position */
+		private final int[][] successors;
+
+		/** the values of each position to mark */
+		private final byte[] values;
+
+		/** the first position of the range */
+		private final int from;
+
+		/** the number of half moves to the mate */
+		private final int pass;
+
+		/**
+		 * Create a task for a range of {@link Tablebase#CHUNK} positions.
+		 *
+		 * @param successors
+		 *            the successors of each position
+		 * @param values
+		 *            the values of each position to mark
+		 * @param from
+		 *            the first position of the range
+		 * @param pass
+		 *            the number of half moves to the mate
+		 */
+		PassTask(final int[][] successors, final byte[] values, final int from, final int pass) {
+			this.successors = successors;
+			this.values = values;
+			this.from = from;
+			this.pass = pass;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected Integer compute() {
+			final int side = ((this.pass & 1) == 1) ? FigureColor.WHITE.ordinal() : FigureColor.BLACK.ordinal();
+			final int first = Math.max(this.from, side << 18);
+			final int last = Math.min(this.from + Tablebase.CHUNK, (side + 1) << 18);
+			int marked = 0;
+
+			for (int index = first; index < last; index++) {
+				final int[] list = this.successors[index];
+				if ((list == null) || (this.values[index] != 0)) {
+					continue;
+				}
+
+				if (side == FigureColor.WHITE.ordinal()) {
+					/* a single move to a position, where black is mated one half move earlier */
+					for (final int successor : list) {
+						if (this.getValue(successor) == this.pass) {
+							this.values[index] = (byte) (this.pass + 1);
+							marked++;
+							break;
+						}
+					}
+				} else if (list.length > 0) {
+					/* each move of black leads to a marked position, the last of them in this pass */
+					boolean mated = true;
+					for (final int successor : list) {
+						if (this.getValue(successor) == 0) {
+							mated = false;
+							break;
+						}
+					}
+					if (mated) {
+						this.values[index] = (byte) (this.pass + 1);
+						marked++;
+					}
+				}
+			}
+
+			return marked;
+		}
+
+		/**
+		 * Receive the value of a successor.
+		 *
+		 * @param successor
+		 *            the index of the position or the negative value plus one
+		 *
+		 * @return the half moves to the mate plus one, or 0 for a draw
+		 */
+		private int getValue(final int successor) {
+			return (successor >= 0) ? this.values[successor] : (-successor - 1);
+		}
+	}
+}
@@ -0,0 +1,348 @@
+/**
+ * @package: engine
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package engine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import location.Move;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the results of already searched positions by their key. The
+ *         table is shared by all threads of a search without any lock: each
+ *         entry is stored as two longs, the key XOR the data and the data
+ *         itself. If two threads write the same entry at the same time, the
+ *         key doesn't match the data anymore and the entry is ignored.
+ *
+ *         The entries are grouped into buckets of four entries (64 bytes),
+ *         where the number of buckets is a power of two. A new entry replaces
+ *         the entry of the same position, otherwise the entry with the lowest
+ *         depth, where an entry of an older search counts less.
+ *
+ *         <pre>
+ *         bits  0 - 16: best move
+ *         bits 17 - 32: score + 32768
+ *         bits 33 - 40: depth
+ *         bits 41 - 42: bound (exact, lower, upper)
+ *         bits 43 - 48: age of the search
+ *         </pre>
+ */
+public final class TranspositionTable {
+	/** the result of {@link #probe(long)}, if the position has not been found */
+	public static final long NO_ENTRY = 0L;
+
+	/* bounds of a score, never 0, thus a stored entry is never NO_ENTRY */
+	public static final int BOUND_EXACT = 1;
+	public static final int BOUND_LOWER = 2;
+	public static final int BOUND_UPPER = 3;
+
+	/** the maximum size in megabytes */
+	public static final int MAX_MEGABYTES = 4096;
+
+	/* bit positions */
+	private static final int SHIFT_SCORE = 17;
+	private static final int SHIFT_DEPTH = 33;
+	private static final int SHIFT_BOUND = 41;
+	private static final int SHIFT_AGE = 43;
+
+	private static final int MOVE_MASK = 0x1FFFF;
+	private static final int AGE_MASK = 0x3F;
+	private static final int SCORE_OFFSET = 32768;
+
+	/** each bucket holds four entries of two longs (64 bytes) */
+	private static final int BUCKET_LONGS = 8;
+	private static final int BUCKET_BYTES = TranspositionTable.BUCKET_LONGS * Long.BYTES;
+
+	/** an entry of an older search is worth eight half moves less */
+	private static final int AGE_WEIGHT = 8;
+
+	/** the number of buckets to count for the usage */
+	private static final int USAGE_SAMPLE = 250;
+
+	/** all buckets, each entry holds the key XOR the data and the data */
+	private final long[] entries;
+
+	/** the number of buckets minus one */
+	private final int mask;
+
+	/** the size in megabytes */
+	private final int megabytes;
+
+	/** the age of the current search */
+	private int age;
+
+	/* statistics of all threads */
+	private final LongAdder probes = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * Create an empty table.
+	 *
+	 * @param megabytes
+	 *            the size in megabytes, where the number of buckets is rounded
+	 *            down to a power of two
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the size is less than 1 or greater than {@link #MAX_MEGABYTES}
+	 */
+	public TranspositionTable(final int megabytes) {
+		if ((megabytes < 1) || (megabytes > TranspositionTable.MAX_MEGABYTES)) {
+			throw new IllegalArgumentException("invalid size of the transposition table: " + megabytes + " MB");
+		}
+
+		final long buckets = Long.highestOneBit(((long) megabytes << 20) / TranspositionTable.BUCKET_BYTES);
+		this.entries = new long[(int) (buckets * TranspositionTable.BUCKET_LONGS)];
+		this.mask = (int) buckets - 1;
+		this.megabytes = megabytes;
+	}
+
+	/**
+	 * Receive the stored data of a position.
+	 *
+	 * @param key
+	 *            the key of the position
+	 *
+	 * @return the data, decoded by {@link #getMove(long)}, {@link #getScore(long)},
+	 *         {@link #getDepth(long)} and {@link #getBound(long)},<br>
+	 *         or {@link #NO_ENTRY}, if the position has not been found
+	 */
+	public long probe(final long key) {
+		this.probes.increment();
+
+		final int index = this.getBucket(key);
+		for (int i = index; i < (index + TranspositionTable.BUCKET_LONGS); i += 2) {
+			final long data = this.entries[i + 1];
+
+			if (((this.entries[i] ^ data) == key) && (data != TranspositionTable.NO_ENTRY)) {
+				this.hits.increment();
+				return data;
+			}
+		}
+
+		return TranspositionTable.NO_ENTRY;
+	}
+
+	/**
+	 * Store the result of a position. It replaces the entry of the same position,
+	 * otherwise the entry of the bucket with the lowest depth, where an entry of
+	 * an older search counts less.
+	 *
+	 * @param key
+	 *            the key of the position
+	 * @param move
+	 *            the best move, or {@link Move#NONE} to keep a stored move
+	 * @param score
+	 *            the score
+	 * @param depth
+	 *            the searched depth
+	 * @param bound
+	 *            one of the BOUND values
+	 */
+	public void store(final long key, final int move, final int score, final int depth, final int bound) {
+		final int index = this.getBucket(key);
+		int bestMove = move;
+		int replace = index;
+		int lowest = Integer.MAX_VALUE;
+
+		for (int i = index; i < (index + TranspositionTable.BUCKET_LONGS); i += 2) {
+			final long data = this.entries[i + 1];
+
+			if ((this.entries[i] ^ data) == key) {
+				if (bestMove == Move.NONE) {
+					bestMove = TranspositionTable.getMove(data);
+				}
+				replace = i;
+				break;
+			}
+
+			final int relativeAge = (this.age - TranspositionTable.getAge(data)) & TranspositionTable.AGE_MASK;
+			final int value = TranspositionTable.getDepth(data) - (relativeAge * TranspositionTable.AGE_WEIGHT);
+			if (value < lowest) {
+				lowest = value;
+				replace = i;
+			}
+		}
+
+		final long data = (bestMove & TranspositionTable.MOVE_MASK) | ((long) (score + TranspositionTable.SCORE_OFFSET) << TranspositionTable.SHIFT_SCORE)
+				| ((long) depth << TranspositionTable.SHIFT_DEPTH) | ((long) bound << TranspositionTable.SHIFT_BOUND)
+				| ((long) this.age << TranspositionTable.SHIFT_AGE);
+
+		this.entries[replace] = key ^ data;
+		this.entries[replace + 1] = data;
+	}
+
+	/**
+	 * Start a new search, where all stored entries become older and are replaced
+	 * first.
+	 */
+	public void newSearch() {
+		this.age = (this.age + 1) & TranspositionTable.AGE_MASK;
+	}
+
+	/** Remove all entries and reset the statistics. */
+	public void clear() {
+		Arrays.fill(this.entries, 0L);
+		this.age = 0;
+		this.probes.reset();
+		this.hits.reset();
+	}
+
+	/**
+	 * Receive the size of this table.
+	 *
+	 * @return the size in megabytes
+	 */
+	public int getMegabytes() {
+		return this.megabytes;
+	}
+
+	/**
+	 * Receive the number of entries.
+	 *
+	 * @return the number of entries, a power of two
+	 */
+	public int getCapacity() {
+		return this.entries.length >>> 1;
+	}
+
+	/**
+	 * Receive the number of probes of all threads.
+	 *
+	 * @return the number of probes
+	 */
+	public long getProbes() {
+		return this.probes.sum();
+	}
+
+	/**
+	 * Receive the number of found positions of all threads.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Receive the rate of found positions.
+	 *
+	 * @return the hits divided by the probes, 0 without any probe
+	 */
+	public double getHitRate() {
+		final long count = this.getProbes();
+		return (count == 0L) ? 0.0 : ((double) this.getHits() / count);
+	}
+
+	/**
+	 * Receive the usage of this table by the current search, counted by the
+	 * first buckets.
+	 *
+	 * @return the used entries in permill
+	 */
+	public int getUsage() {
+		final int buckets = Math.min(this.mask + 1, TranspositionTable.USAGE_SAMPLE);
+		int used = 0;
+
+		for (int i = 1; i < (buckets * TranspositionTable.BUCKET_LONGS); i += 2) {
+			final long data = this.entries[i];
+			if ((data != TranspositionTable.NO_ENTRY) && (TranspositionTable.getAge(data) == this.age)) {
+				used++;
+			}
+		}
+
+		return (used * 1000) / (buckets * (TranspositionTable.BUCKET_LONGS / 2));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("hash %d MB usage %.1f%% probes %d hits %d (%.1f%%)", this.megabytes, this.getUsage() / 10.0, this.getProbes(), this.getHits(),
+				this.getHitRate() * 100.0);
+	}
+
+	/**
+	 * Receive the first index of the bucket of a position.
+	 *
+	 * @param key
+	 *            the key of the position
+	 *
+	 * @return the index of the first long of the bucket
+	 */
+	private int getBucket(final long key) {
+		return ((int) key & this.mask) * TranspositionTable.BUCKET_LONGS;
+	}
+
+	/**
+	 * Receive the best move of an entry.
+	 *
+	 * @param data
+	 *            the data of the entry
+	 *
+	 * @return the packed move
+	 */
+	public static int getMove(final long data) {
+		return (int) data & TranspositionTable.MOVE_MASK;
+	}
+
+	/**
+	 * Receive the score of an entry.
+	 *
+	 * @param data
+	 *            the data of the entry
+	 *
+	 * @return the score
+	 */
+	public static int getScore(final long data) {
+		return ((int) (data >>> TranspositionTable.SHIFT_SCORE) & 0xFFFF) - TranspositionTable.SCORE_OFFSET;
+	}
+
+	/**
+	 * Receive the searched depth of an entry.
+	 *
+	 * @param data
+	 *            the data of the entry
+	 *
+	 * @return the depth in half moves
+	 */
+	public static int getDepth(final long data) {
+		return (int) (data >>> TranspositionTable.SHIFT_DEPTH) & 0xFF;
+	}
+
+	/**
+	 * Receive the bound of the score of an entry.
+	 *
+	 * @param data
+	 *            the data of the entry
+	 *
+	 * @return one of the BOUND values
+	 */
+	public static int getBound(final long data) {
+		return (int) (data >>> TranspositionTable.SHIFT_BOUND) & 0x3;
+	}
+
+	/**
+	 * Receive the age of the search, which has stored an entry.
+	 *
+	 * @param data
+	 *            the data of the entry
+	 *
+	 * @return the age
+	 */
+	private static int getAge(final long data) {
+		return (int) (data >>> TranspositionTable.SHIFT_AGE) & TranspositionTable.AGE_MASK;
+	}
+}
@@ -132,23 +132,23 @@ public enum CastlingEvent {
 
 				/* white figures are in use | ↓ check, if the right Rook is in use */
 				if (rook.onCorrectLocationIdentification(TowerSpawnLocation.RIGHT_SIDE)) {
-					coordKing = new Coordinates("G1");
+					coordKing = Coordinates.valueOf("G1");
 
 					FigureProcedure.INSTANCE.updateFigureProperties(king, coordKing);
 					king.markToImpossibleCastling();
 
-					coordTower = new Coordinates("F1");
+					coordTower = Coordinates.valueOf("F1");
 					FigureProcedure.INSTANCE.updateFigureProperties(rook, coordTower);
 					rook.markToImpossibleCastling();
 				}
 			} else {
 				/* black figures are in use | ↓ check, if the right Rook is in use */
 				if (rook.onCorrectLocationIdentification(TowerSpawnLocation.RIGHT_SIDE)) {
-					coordKing = new Coordinates("G8");
+					coordKing = Coordinates.valueOf("G8");
 					FigureProcedure.INSTANCE.updateFigureProperties(king, coordKing);
 					king.markToImpossibleCastling();
 
-					coordTower = new Coordinates("F8");
+					coordTower = Coordinates.valueOf("F8");
 					FigureProcedure.INSTANCE.updateFigureProperties(rook, coordTower);
 					rook.markToImpossibleCastling();
 				}
@@ -157,21 +157,21 @@ public enum CastlingEvent {
 			/* check, if the white figures are in use */
 			if (colorToListen == FigureColor.WHITE) {
 				if (rook.onCorrectLocationIdentification(TowerSpawnLocation.LEFT_SIDE)) {
-					coordKing = new Coordinates("C1");
+					coordKing = Coordinates.valueOf("C1");
 					FigureProcedure.INSTANCE.updateFigureProperties(king, coordKing);
 					king.markToImpossibleCastling();
 
-					coordTower = new Coordinates("D1");
+					coordTower = Coordinates.valueOf("D1");
 					FigureProcedure.INSTANCE.updateFigureProperties(rook, coordTower);
 					rook.markToImpossibleCastling();
 				}
 			} else {
 				if (rook.onCorrectLocationIdentification(TowerSpawnLocation.LEFT_SIDE)) {
-					coordKing = new Coordinates("C8");
+					coordKing = Coordinates.valueOf("C8");
 					FigureProcedure.INSTANCE.updateFigureProperties(king, coordKing);
 					king.markToImpossibleCastling();
 
-					coordTower = new Coordinates("D8");
+					coordTower = Coordinates.valueOf("D8");
 					FigureProcedure.INSTANCE.updateFigureProperties(rook, coordTower);
 					rook.markToImpossibleCastling();
 				}
@@ -11,7 +11,6 @@
  */
 package figure;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import event.MoveEvent;
@@ -19,7 +18,8 @@ import figure.properties.FigureColor;
 import figure.properties.FigureHolder;
 import figure.properties.FigureSet;
 import figure.properties.ProtectedFigure;
-import figure.properties.TowerIdentification;
+import location.AttackMap;
+import location.BitBoard;
 import location.Coordinates;
 import location.Matrix;
 import location.Orientation;
@@ -171,106 +171,25 @@ public abstract class BaseFigure {
 	 * in use, if a figure wants to move from start to destination, where the allied
 	 * King may be threatened by any figure of the opponent.<br>
 	 * <br>
-	 * It's in use for each opponent Rook, Runner and Queen only. Every Pawn, Knight
-	 * and the King itself aren't affected by this condition check.<br>
-	 * <br>
-	 * The original figures are not using, thus these steps below describes the
-	 * algorithm:
-	 * <ol>
-	 * <li>create a clone of the figure to move</li>
-	 * <li>set a temporary allied figure of given type to the first detected
-	 * opponent figure type</li>
-	 * <li>move cloned figure to destination</li>
-	 * <li>update the threat list of the temporary allied figure</li>
-	 * </ol>
-	 *
-	 * If <u>this</u> figure may now "protect" the allied King, then the opponent's
-	 * figure will also threat the King. In that case the possible move of given
-	 * figure T is invalid and it's impossible to move with that figure now.
+	 * The move is checked on the bit board of the matrix by the pinned figures and
+	 * the threatening figures of the allied King (see
+	 * {@link BitBoard#onLegalMove(int)}), thus no figure is cloned and neither the
+	 * matrix nor any figure list is touched. If the allied King is threatened
+	 * after this move, then the move of given figure T is invalid.
 	 *
 	 * @param destination
 	 *            the destination coordinate
 	 * @param figureToUse
 	 *            the figure to use
 	 *
-	 * @return true, if this figure is able to hit the opponent's figure,<br>
+	 * @return true, if the allied King is not threatened after this move,<br>
 	 *         false, otherwise
-	 * @throws CloneNotSupportedException
-	 *             if the clone operation fails
 	 */
-	// FIXME: the instructions below could affect the original figure, thus this
-	// method is not implemented in the final game
-	public final <T extends BaseFigure> boolean onAbleToMove(final Coordinates destination, final T figureToUse) throws CloneNotSupportedException {
-		boolean condition = true;
-		boolean alreadyDone = false;
-
-		final FigureColor opponentColor = FigureColor.getOpponentColor(figureToUse.getFigureColor());
-		final FigureColor ownColor = figureToUse.getFigureColor();
-
-		final FigureKing alliedKing = FigureHolder.INSTANCE.getKing(ownColor);
-		@SuppressWarnings("unchecked")
-		final T clonedFigure = (T) figureToUse.clone();
-
-		for (final FigureSet tmpType : FigureSet.values()) {
-			if (!alreadyDone) {
-				if (tmpType == FigureSet.ROOK) {
-
-					for (final FigureRook rookOpponent : FigureHolder.INSTANCE.getListOfAllRooks(opponentColor)) {
-						if (!alreadyDone) {
-							/* create an allied figure on the opponent's figure area */
-							final FigureRook tmpAlliedRook = new FigureRook(rookOpponent.getLocation(), ownColor, TowerIdentification.IMPOSSIBLE_TO_CASTLE);
-
-							/* move the cloned figure to destination */
-							clonedFigure.removeAllProtectedFigures();
-							clonedFigure.removeAllThreatAreas();
-							Matrix.INSTANCE.removeProtections(clonedFigure, clonedFigure.getFigureColor(), clonedFigure.getFigureType());
-							Matrix.INSTANCE.setNewFigureLocation(clonedFigure, destination, false);
-							clonedFigure.updateThreatList(Matrix.INSTANCE.createNewThreatList(clonedFigure, destination));
-
-							/* now update the Rook's covered areas */
-							tmpAlliedRook.updateThreatList(Matrix.INSTANCE.createNewThreatList(tmpAlliedRook, tmpAlliedRook.getLocation()));
-
-							/* and check, which figure might be protected by allied Rook */
-							for (final ProtectedFigure pf : tmpAlliedRook.getProtectedFigureList()) {
-								if (pf.getProtectedFigure().equals(alliedKing)) { // if the allied King has been spotted
-									condition = false; // then the original opponent Rook would now threat the King
-									alreadyDone = true; // which means the move of given figure T is invalid.
-								}
-							}
-						}
-					}
-				} else if (tmpType == FigureSet.RUNNER) {
-					for (final FigureRunner runnerOpponent : FigureHolder.INSTANCE.getListOfAllRunners(opponentColor)) {
-						if (!alreadyDone) {
-							/* create an allied figure on the opponent's figure area */
-							final FigureRunner tmpAlliedRunner = new FigureRunner(runnerOpponent.getLocation(), ownColor, runnerOpponent.getAreaColor());
-
-							/* move the cloned figure to destination */
-							clonedFigure.removeAllProtectedFigures();
-							clonedFigure.removeAllThreatAreas();
-							Matrix.INSTANCE.removeProtections(clonedFigure, clonedFigure.getFigureColor(), clonedFigure.getFigureType());
-							Matrix.INSTANCE.setNewFigureLocation(clonedFigure, destination, false);
-							clonedFigure.updateThreatList(Matrix.INSTANCE.createNewThreatList(clonedFigure, destination));
-
-							/* now update the Runner's covered areas */
-							tmpAlliedRunner.updateThreatList(Matrix.INSTANCE.createNewThreatList(tmpAlliedRunner, tmpAlliedRunner.getLocation()));
-
-							/* and check, which figure might be protected by allied Runner */
-							for (final ProtectedFigure pf : tmpAlliedRunner.getProtectedFigureList()) {
-								if (pf.getProtectedFigure().equals(alliedKing)) { // if the allied King has been spotted
-									condition = false; // then the original opponent Runner would now threat the King
-									alreadyDone = true; // which means the move of given figure T is invalid.
-								}
-							}
-						}
-					}
-				} else if (tmpType == FigureSet.QUEEN) {
-
-				}
-			}
-		}
+	public final <T extends BaseFigure> boolean onAbleToMove(final Coordinates destination, final T figureToUse) {
+		final BitBoard board = Matrix.INSTANCE.getBitBoard();
+		final int move = board.createMove(figureToUse.getLocation().getIndex(), destination.getIndex(), null);
 
-		return condition;
+		return board.onLegalMove(move);
 	}
 
 	/**
@@ -287,7 +206,7 @@ public abstract class BaseFigure {
 	 * @see FigureSet
 	 */
 	protected final <T extends BaseFigure> boolean onProtectedBySubAlly(final T figure, final FigureSet set) {
-		List<ProtectedFigure> listProtected = new ArrayList<>();
+		List<ProtectedFigure> listProtected;
 		final FigureColor color = figure.getFigureColor();
 
 		if (set == FigureSet.KING) {
@@ -302,8 +221,10 @@ public abstract class BaseFigure {
 
 			return false;
 		} else {
-			for (final BaseFigure bf : FigureHolder.INSTANCE.getListOfAllFiguresBy(set, color)) {
-				listProtected = bf.getProtectedFigureList();
+			final int nbrOfFigures = FigureHolder.INSTANCE.getNumberOfFigures(set, color);
+
+			for (int i = 0; i < nbrOfFigures; i++) {
+				listProtected = FigureHolder.INSTANCE.getFigure(set, color, i).getProtectedFigureList();
 
 				for (final ProtectedFigure pf : listProtected) {
 					if (pf.getProtectedFigure().equals(figure)) {
@@ -324,17 +245,20 @@ public abstract class BaseFigure {
 	 * <ul>
 	 * <li>old threat areas</li>
 	 * <li>old protected figures</li>
-	 * <li>any other allied figure has also to remove this figure from its protected
-	 * figure list, if possible</li>
 	 * </ul>
 	 * Also to do:
 	 * <ul>
 	 * <li>set the figure to it's new location (handled by
 	 * {@link Matrix#setNewFigureLocation(BaseFigure, Coordinates, boolean)}</li>
-	 * <li>every other allied figure has to add this figure to it's protected figure
-	 * list, if possible</li>
+	 * <li>every other figure, which covers the old or the new location, has to
+	 * update it's threat areas and protected figures</li>
 	 * </ul>
 	 *
+	 * Only the figures, whose covered areas have been changed, are updated (see
+	 * {@link AttackMap#takeAffectedFields()}). Any figure, which has protected the
+	 * given figure T, covers the old location and any figure, which protects T now,
+	 * covers the new location, thus no protected figure list needs to be scanned.
+	 *
 	 * @param figure
 	 *            the figure to reset
 	 * @param loc
@@ -344,58 +268,20 @@ public abstract class BaseFigure {
 		/* reset operations */
 		figure.removeAllProtectedFigures();
 		figure.removeAllThreatAreas();
-		Matrix.INSTANCE.removeProtections(figure, figure.getFigureColor(), figure.getFigureType());
 
 		/* new operation */
 		Matrix.INSTANCE.setNewFigureLocation(figure, loc, false);
 
-		// also add the figure to the protected list of all allied figures left,
-		// if their area move pool contains the location of the given figure T
-		final FigureColor color = figure.getFigureColor();
+		long affected = Matrix.INSTANCE.getAttackMap().takeAffectedFields();
+		while (affected != 0L) {
+			final BaseFigure bf = Matrix.INSTANCE.getFigureOnField(Coordinates.valueOf(Long.numberOfTrailingZeros(affected)));
+			affected &= affected - 1; // remove this field from the mask
 
-		for (final FigureSet tmpType : FigureSet.values()) {
-			if (tmpType == FigureSet.KING) {
-				final FigureKing tmpKing = FigureHolder.INSTANCE.getKing(color);
-				tmpKing.removeAllProtectedFigures();
-				tmpKing.removeAllThreatAreas();
-				tmpKing.updateThreatList(Matrix.INSTANCE.createNewThreatList(tmpKing, tmpKing.getLocation()));
-
-			} else {
-				final List<? extends BaseFigure> figureList = FigureHolder.INSTANCE.getListOfAllFiguresBy(tmpType, color);
-
-				for (final BaseFigure bf : figureList) {
-					if (!(bf.equals(figure))) { // the used figure T needs to be ignored
-						bf.removeAllThreatAreas();
-						bf.removeAllProtectedFigures();
-						bf.updateThreatList(Matrix.INSTANCE.createNewThreatList(bf, bf.getLocation()));
-					}
-
-					/*
-					 * --------------------------------------------------------------------------
-					 * FIXME: The instructions below may cause a set of not handled exceptions in
-					 * Java system classes, thus every allied figure left will now refresh it's
-					 * properties.
-					 * --------------------------------------------------------------------------
-					 */
-					// if (!(bf.getFigureType() == FigureSet.KING)) { // ignore the King
-					//
-					// for (final Coordinates coveredArea : bf.getThreatAreas()) {
-					// if (coveredArea.getCoordinatesXY().equals(loc.getCoordinatesXY())) {
-					// switch (tmpType) {
-					// case PAWN: // the Pawn, King and the Knight can't be
-					// case KNIGHT: // used with the required orientation
-					// case KING:
-					// bf.updateFigureToProtect(figure, null);
-					// break;
-					// default: // any other figure left (Rook, Runner, Queen)
-					// Matrix.INSTANCE.onInterruptProtectionChain(bf, figure,
-					// bf.getProtectedFigureList());
-					// } // end switch
-					// } // end if (2)
-					// } // end for (3)
-					// } // end if (1)
-				} // end for (2)
-			} // end if (1)
-		} // end for (1)
+			if ((bf != null) && !(bf.equals(figure))) { // the used figure T needs to be ignored
+				bf.removeAllThreatAreas();
+				bf.removeAllProtectedFigures();
+				bf.updateThreatList(Matrix.INSTANCE.createNewThreatList(bf, bf.getLocation()));
+			}
+		}
 	} // end method
 }
@@ -18,7 +18,6 @@ import event.CastlingEvent;
 import event.CastlingEvent.CastlingState;
 import event.MoveEvent;
 import figure.properties.FigureColor;
-import figure.properties.FigureHolder;
 import figure.properties.FigureSet;
 import figure.properties.KingDestinationNotifier;
 import figure.properties.KingMoveInformation;
@@ -58,7 +57,7 @@ public final class FigureKing extends BaseFigure implements CastlingInterface {
 	private boolean threatened;
 	private boolean flagAbleToHit;
 	private BaseFigure threatFigure;
-	private static BaseFigure spottedFigure;
+	private BaseFigure spottedFigure;
 	private List<Coordinates> kingsCircle;
 	private final List<ProtectedFigure> listOfProtectedFigures;
 	
@@ -73,7 +72,7 @@ public final class FigureKing extends BaseFigure implements CastlingInterface {
 	public FigureKing(final Coordinates loc, final FigureColor color) {
 		this.kingInfo = KingMoveInformation.NOT_MOVED_BEFORE;
 		this.destinationKing = KingDestinationNotifier.FIELD_IS_FREE;
-		FigureKing.spottedFigure = null;
+		this.spottedFigure = null;
 		this.castlingState = CastlingState.STILL_POSSIBLE;
 		this.listOfProtectedFigures = new ArrayList<>(8);
 		this.kingsCircle = new ArrayList<>(8);
@@ -127,66 +126,20 @@ public final class FigureKing extends BaseFigure implements CastlingInterface {
 	 */
 	@Override
 	public <T extends BaseFigure> boolean onHitOpponent(final T opponentFigure) {
-		FigureColor color = opponentFigure.getFigureColor();
+		final FigureColor color = opponentFigure.getFigureColor();
 		if (color == this.colorKing) {
 			return false;
 		}
 		
-		/* predefined modification: the King is able to hit any figure */
-		this.flagAbleToHit = true;
-		
-		/* check, if the opponent figure is not protected by any other figure */
-		color = FigureColor.getOpponentColor(this.colorKing);
-		boolean alreadyDone = false;
-		
-		if (this.onOpponentProtection(opponentFigure, FigureHolder.INSTANCE.getKing(color))) {
-			this.flagAbleToHit = false;
-			alreadyDone = true;
-		}
-		
-		if (!alreadyDone) {
-			for (final FigureSet tmpType : FigureSet.values()) {
-				if (!(tmpType == FigureSet.KING)) { // ignore the King
-					
-					final List<? extends BaseFigure> figureList = FigureHolder.INSTANCE.getListOfAllFiguresBy(tmpType, color);
-					
-					for (final BaseFigure bf : figureList) {
-						if (this.onOpponentProtection(opponentFigure, bf)) {
-							this.flagAbleToHit = false;
-							alreadyDone = true;
-							break;
-						}
-					}
-				}
-			}
-		}
+		/*
+		 * The King is able to hit any figure, which is not protected by any other
+		 * figure of the opponent, thus the opponent must not cover this field.
+		 */
+		this.flagAbleToHit = !Matrix.INSTANCE.getAttackMap().onAttacked(opponentFigure.getLocation().getIndex(), color);
 		
 		return this.flagAbleToHit;
 	}
 	
-	/**
-	 * Check, if this King is able to hit any figure, where the given figure may be
-	 * protected by any other figure.
-	 *
-	 * @param opponentFigure
-	 *            the figure to hit
-	 * @param bf
-	 *            this figure may protect opponentFigure
-	 * @return true, if opponentFigure is not protected by given bf,<br>
-	 *         false, otherwise
-	 */
-	private <T extends BaseFigure> boolean onOpponentProtection(final T opponentFigure, final BaseFigure bf) {
-		final List<ProtectedFigure> protectedFigureListBy = bf.getProtectedFigureList();
-		
-		for (final ProtectedFigure pf : protectedFigureListBy) {
-			if (pf.getProtectedFigure().equals(opponentFigure)) {
-				return true;
-			}
-		}
-		
-		return false;
-	}
-	
 	/*
 	 * (non-Javadoc)
 	 * @see figure.BaseFigure#getLocation()
@@ -286,30 +239,10 @@ public final class FigureKing extends BaseFigure implements CastlingInterface {
 			return true;
 		}
 		
-		final FigureColor color = FigureColor.getOpponentColor(this.colorKing);
-		boolean justCompleted = false;
-		
-		for (final FigureSet set : FigureSet.values()) {
-			if (set != this.FIGURE_TYPE) {
-				final List<? extends BaseFigure> figureList = FigureHolder.INSTANCE.getListOfAllFiguresBy(set, color);
-				
-				for (final BaseFigure bf : figureList) {
-					if (!justCompleted) {
-						for (final Coordinates c : bf.getThreatAreas()) {
-							if (c.getCoordinatesXY().equals(this.loc.getCoordinatesXY())) {
-								justCompleted = true;
-								this.threatened = true;
-								this.addKingsThreat(bf);
-								break;
-							}
-						}
-					}
-				}
-			}
-			
-			if (justCompleted) {
-				break;
-			}
+		/* the figures of the opponent, which cover the King's field, are known by the bit board */
+		final long checkers = Matrix.INSTANCE.getBitBoard().getCheckers(this.colorKing);
+		if (checkers != 0L) {
+			this.addKingsThreat(Matrix.INSTANCE.getFigureOnField(Coordinates.valueOf(Long.numberOfTrailingZeros(checkers))));
 		}
 		
 		return this.threatened;
@@ -429,64 +362,15 @@ public final class FigureKing extends BaseFigure implements CastlingInterface {
 		
 		switch (this.destinationKing) {
 			case FIELD_IS_FREE: {
-				boolean alreadyDone = false;
-				
-				/* check, if this field is not covered by any opponent figure */
-				final FigureColor opponentColor = FigureColor.getOpponentColor(this.colorKing);
-				
-				/* check, if this King is not inside of the opponent's Kings circle */
-				if (!this.onPossibleKingMove(loc, FigureHolder.INSTANCE.getKing(opponentColor))) {
-					moveResult = MoveEvent.INCORRECT_MOVE;
-					alreadyDone = true;
-				}
-				
 				/*
-				 * also check, if the new field is not covered by another opponent figure, if
-				 * necessary
+				 * check, if this field is not covered by any opponent figure, including the
+				 * opponent's King circle; a ray through this King covers also the fields
+				 * behind
 				 */
-				if (!alreadyDone && (moveResult == MoveEvent.SUCCESSFULLY_MOVE)) {
-					for (final FigurePawn tmpPawn : FigureHolder.INSTANCE.getListOfAllPawns(opponentColor)) {
-						if (!this.onPossibleKingMove(loc, tmpPawn)) {
-							moveResult = MoveEvent.INCORRECT_MOVE;
-							alreadyDone = true;
-						}
-					}
-				}
-				
-				if (!alreadyDone && (moveResult == MoveEvent.SUCCESSFULLY_MOVE)) {
-					for (final FigureKnight tmpKnight : FigureHolder.INSTANCE.getListOfAllKnights(opponentColor)) {
-						if (!this.onPossibleKingMove(loc, tmpKnight)) {
-							moveResult = MoveEvent.INCORRECT_MOVE;
-							alreadyDone = true;
-						}
-					}
-				}
-				
-				if (!alreadyDone && (moveResult == MoveEvent.SUCCESSFULLY_MOVE)) {
-					for (final FigureRook tmpRook : FigureHolder.INSTANCE.getListOfAllRooks(opponentColor)) {
-						if (!this.onPossibleKingMove(loc, tmpRook)) {
-							moveResult = MoveEvent.INCORRECT_MOVE;
-							alreadyDone = true;
-						}
-					}
-				}
-				
-				if (!alreadyDone && (moveResult == MoveEvent.SUCCESSFULLY_MOVE)) {
-					for (final FigureRunner tmpRunner : FigureHolder.INSTANCE.getListOfAllRunners(opponentColor)) {
-						if (!this.onPossibleKingMove(loc, tmpRunner)) {
-							moveResult = MoveEvent.INCORRECT_MOVE;
-							alreadyDone = true;
-						}
-					}
-				}
+				final FigureColor opponentColor = FigureColor.getOpponentColor(this.colorKing);
 				
-				if (!alreadyDone && (moveResult == MoveEvent.SUCCESSFULLY_MOVE)) {
-					for (final FigureQueen tmpQueen : FigureHolder.INSTANCE.getListOfAllQueens(opponentColor)) {
-						if (!this.onPossibleKingMove(loc, tmpQueen)) {
-							moveResult = MoveEvent.INCORRECT_MOVE;
-							alreadyDone = true;
-						}
-					}
+				if (Matrix.INSTANCE.getAttackMap().onAttacked(loc.getIndex(), opponentColor)) {
+					moveResult = MoveEvent.INCORRECT_MOVE;
 				}
 				
 				break;
@@ -497,7 +381,7 @@ public final class FigureKing extends BaseFigure implements CastlingInterface {
 			}
 			case FIELD_IS_BLOCKED_BY_OPPONENT: {
 				/* check, if the opponent's figure is not protected by any other figure */
-				if (!this.onHitOpponent(FigureKing.spottedFigure)) {
+				if (!this.onHitOpponent(this.spottedFigure)) {
 					moveResult = MoveEvent.INCORRECT_MOVE;
 				}
 				
@@ -508,30 +392,6 @@ public final class FigureKing extends BaseFigure implements CastlingInterface {
 		return moveResult;
 	}
 	
-	/**
-	 * Check, if this King is able to move to the given location. It's a save area,
-	 * if this is not covered by any opponent's figure.
-	 *
-	 * @param loc
-	 *            the new possible location
-	 * @param figure
-	 *            the figure to compare
-	 * @return true, if this field is save,<br>
-	 *         false, otherwise
-	 */
-	private <T extends BaseFigure> boolean onPossibleKingMove(final Coordinates loc, final T figure) {
-		final List<Coordinates> threatAreasBy = figure.getThreatAreas();
-		
-		/* check, if the opponent figure covers the new location of this King */
-		for (final Coordinates c : threatAreasBy) {
-			if (loc.getCoordinatesXY().equals(c.getCoordinatesXY())) {
-				return false;
-			}
-		}
-		
-		return true;
-	}
-	
 	/**
 	 * Whenever this King is threatened, a list of possible escape routes are going
 	 * to create, if the King is required to move.
@@ -587,6 +447,6 @@ public final class FigureKing extends BaseFigure implements CastlingInterface {
 	 */
 	public void updateDestinationNotifier(final KingDestinationNotifier info, final BaseFigure spotted) {
 		this.destinationKing = info;
-		FigureKing.spottedFigure = spotted;
+		this.spottedFigure = spotted;
 	}
 }
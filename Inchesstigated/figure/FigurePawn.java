@@ -198,7 +198,7 @@ public final class FigurePawn extends BaseFigure {
 	 *
 	 * @return the last move information for this Pawn.
 	 */
-	private PawnMoveInformation getMoveInformation() {
+	public PawnMoveInformation getMoveInformation() {
 		return this.info;
 	}
 
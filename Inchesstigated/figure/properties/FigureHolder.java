@@ -11,10 +11,11 @@
  */
 package figure.properties;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.RandomAccess;
 
 import figure.BaseFigure;
 import figure.FigureKing;
@@ -28,19 +29,44 @@ import figure.FigureRunner;
  * @author swunsch
  *
  *         Holds all figures in separated lists.
+ *
+ *         The figures are stored in arrays, indexed by color and type, thus
+ *         each list is a view of such an array instead of a copy. All figures
+ *         of a color and type can also be visited by index, see
+ *         {@link #getNumberOfFigures(FigureSet, FigureColor)} and
+ *         {@link #getFigure(FigureSet, FigureColor, int)}, where no object is
+ *         created at all.
  */
 public enum FigureHolder {
 	INSTANCE;
 
-	/* holds figures and color */
-	Map<FigureColor, List<FigurePawn>> listOfPawns = new HashMap<>();
-	Map<FigureColor, List<FigureRunner>> listofRunners = new HashMap<>();
-	Map<FigureColor, List<FigureRook>> listOfRooks = new HashMap<>();
-	Map<FigureColor, List<FigureKnight>> listOfKnights = new HashMap<>();
-	Map<FigureColor, List<FigureQueen>> listOfQueens = new HashMap<>();
+	/** initial capacity for each color and type: two figures and eight promoted Pawns */
+	private static final int INITIAL_CAPACITY = 10;
+
+	/* holds figures, indexed by FigureColor and FigureSet */
+	private final BaseFigure[][][] figures;
+
+	/* number of figures, indexed by FigureColor and FigureSet */
+	private final int[][] counts;
+
+	/* the list view of each array, indexed by FigureColor and FigureSet */
+	private final List<?>[][] views;
+
+	/** The constructor for this singleton class. */
+	private FigureHolder() {
+		final int nbrOfColors = FigureColor.values().length;
+		final int nbrOfTypes = FigureSet.values().length;
+
+		this.figures = new BaseFigure[nbrOfColors][nbrOfTypes][FigureHolder.INITIAL_CAPACITY];
+		this.counts = new int[nbrOfColors][nbrOfTypes];
+		this.views = new List<?>[nbrOfColors][nbrOfTypes];
 
-	FigureKing kingWhite = null;
-	FigureKing kingBlack = null;
+		for (int color = 0; color < nbrOfColors; color++) {
+			for (int type = 0; type < nbrOfTypes; type++) {
+				this.views[color][type] = new FigureView<>(color, type);
+			}
+		}
+	}
 
 	/**
 	 * Update any list depending on modifier (`ADD` or `REMOVE`), where the given
@@ -51,81 +77,21 @@ public enum FigureHolder {
 	 * @param figure
 	 *            the figure to use
 	 */
-	@SuppressWarnings("incomplete-switch")
 	public <T extends BaseFigure> void updateFigureList(final Modifier mod, final T figure) {
-		final FigureColor figureColor = figure.getFigureColor();
 		final FigureSet figureType = figure.getFigureType();
+		if (figureType == FigureSet.KING) {
+			return; // use addKingToHolder() instead
+		}
+
+		final int color = figure.getFigureColor().ordinal();
+		final int type = figureType.ordinal();
 
 		switch (mod) {
 			case ADD:
-				switch (figureType) {
-					case PAWN:
-						final List<FigurePawn> tmpListForPawns = this.getListOfAllPawns(figureColor);
-						tmpListForPawns.add((FigurePawn) figure);
-						this.listOfPawns.put(figureColor, tmpListForPawns);
-
-						break;
-					case KNIGHT:
-						final List<FigureKnight> tmpListForKnights = this.getListOfAllKnights(figureColor);
-						tmpListForKnights.add((FigureKnight) figure);
-						this.listOfKnights.put(figureColor, tmpListForKnights);
-
-						break;
-					case RUNNER:
-						final List<FigureRunner> tmpListForRunners = this.getListOfAllRunners(figureColor);
-						tmpListForRunners.add((FigureRunner) figure);
-						this.listofRunners.put(figureColor, tmpListForRunners);
-
-						break;
-					case ROOK:
-						final List<FigureRook> tmpListForRooks = this.getListOfAllRooks(figureColor);
-						tmpListForRooks.add((FigureRook) figure);
-						this.listOfRooks.put(figureColor, tmpListForRooks);
-
-						break;
-					case QUEEN:
-						final List<FigureQueen> tmpListForQueens = this.getListOfAllQueens(figureColor);
-						tmpListForQueens.add((FigureQueen) figure);
-						this.listOfQueens.put(figureColor, tmpListForQueens);
-
-						break;
-				}
-
+				this.addFigure(color, type, figure);
 				break;
 			case REMOVE:
-				switch (figureType) {
-					case PAWN:
-						final List<FigurePawn> tmpListForPawns = this.getListOfAllPawns(figureColor);
-						tmpListForPawns.remove(figure);
-						this.listOfPawns.put(figureColor, tmpListForPawns);
-
-						break;
-					case KNIGHT:
-						final List<FigureKnight> tmpListForKnights = this.getListOfAllKnights(figureColor);
-						tmpListForKnights.remove(figure);
-						this.listOfKnights.put(figureColor, tmpListForKnights);
-
-						break;
-					case RUNNER:
-						final List<FigureRunner> tmpListForRunners = this.getListOfAllRunners(figureColor);
-						tmpListForRunners.remove(figure);
-						this.listofRunners.put(figureColor, tmpListForRunners);
-
-						break;
-					case ROOK:
-						final List<FigureRook> tmpListForRooks = this.getListOfAllRooks(figureColor);
-						tmpListForRooks.remove(figure);
-						this.listOfRooks.put(figureColor, tmpListForRooks);
-
-						break;
-					case QUEEN:
-						final List<FigureQueen> tmpListForQueens = this.getListOfAllQueens(figureColor);
-						tmpListForQueens.remove(figure);
-						this.listOfQueens.put(figureColor, tmpListForQueens);
-
-						break;
-				}
-
+				this.removeFigure(color, type, figure);
 				break;
 		}
 	}
@@ -137,18 +103,106 @@ public enum FigureHolder {
 	 *            the King to add
 	 */
 	public void addKingToHolder(final FigureKing king) {
-		final FigureColor color = king.getFigureColor();
-		if (color == FigureColor.WHITE) {
-			if (this.kingWhite == null) {
-				this.kingWhite = king;
-			}
-		} else {
-			if (this.kingBlack == null) {
-				this.kingBlack = king;
+		final int color = king.getFigureColor().ordinal();
+		final int type = FigureSet.KING.ordinal();
+
+		if (this.counts[color][type] == 0) {
+			this.addFigure(color, type, king);
+		}
+	}
+
+	/**
+	 * Add a figure to the end of the array of it's color and type.
+	 *
+	 * @param color
+	 *            the color index
+	 * @param type
+	 *            the type index
+	 * @param figure
+	 *            the figure to add
+	 */
+	private void addFigure(final int color, final int type, final BaseFigure figure) {
+		final int count = this.counts[color][type];
+
+		if (count == this.figures[color][type].length) {
+			this.figures[color][type] = Arrays.copyOf(this.figures[color][type], count << 1);
+		}
+
+		this.figures[color][type][count] = figure;
+		this.counts[color][type] = count + 1;
+	}
+
+	/**
+	 * Remove a figure from the array of it's color and type, where the order of
+	 * all other figures is kept.
+	 *
+	 * @param color
+	 *            the color index
+	 * @param type
+	 *            the type index
+	 * @param figure
+	 *            the figure to remove
+	 */
+	private void removeFigure(final int color, final int type, final BaseFigure figure) {
+		final BaseFigure[] array = this.figures[color][type];
+		final int count = this.counts[color][type];
+
+		for (int i = 0; i < count; i++) {
+			if (array[i].equals(figure)) {
+				System.arraycopy(array, i + 1, array, i, count - i - 1);
+				array[count - 1] = null;
+				this.counts[color][type] = count - 1;
+				return;
 			}
 		}
 	}
 
+	/**
+	 * Receive the number of figures with the given type and color.
+	 *
+	 * @param type
+	 *            the type to select
+	 * @param color
+	 *            the color to use
+	 *
+	 * @return the number of figures
+	 */
+	public int getNumberOfFigures(final FigureSet type, final FigureColor color) {
+		return this.counts[color.ordinal()][type.ordinal()];
+	}
+
+	/**
+	 * Receive a single figure with the given type and color.
+	 *
+	 * @param type
+	 *            the type to select
+	 * @param color
+	 *            the color to use
+	 * @param index
+	 *            the index from 0 to
+	 *            {@link #getNumberOfFigures(FigureSet, FigureColor)} - 1
+	 *
+	 * @return the figure
+	 */
+	public BaseFigure getFigure(final FigureSet type, final FigureColor color, final int index) {
+		return this.figures[color.ordinal()][type.ordinal()][index];
+	}
+
+	/**
+	 * Receive the list view with all figures by given type and color.
+	 *
+	 * @param type
+	 *            the type to select
+	 * @param color
+	 *            the color to use
+	 *
+	 * @return the unmodifiable view of the figures
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends BaseFigure> List<T> getView(final FigureSet type, final FigureColor color) {
+		return (List<T>) this.views[color.ordinal()][type.ordinal()];
+	}
+
 	/**
 	 * Get the list of all Pawns depending on the given color.
 	 * 
@@ -158,17 +212,7 @@ public enum FigureHolder {
 	 * @return the list of Pawns with the given color only
 	 */
 	public List<FigurePawn> getListOfAllPawns(final FigureColor color) {
-		final List<FigurePawn> pawnList = new ArrayList<>();
-
-		for (final List<FigurePawn> tmp : this.listOfPawns.values()) {
-			for (final FigurePawn tmpPawn : tmp) {
-				if (color == tmpPawn.getFigureColor()) {
-					pawnList.add(tmpPawn);
-				}
-			}
-		}
-
-		return pawnList;
+		return this.getView(FigureSet.PAWN, color);
 	}
 
 	/**
@@ -180,17 +224,7 @@ public enum FigureHolder {
 	 * @return the list of Runners with the given color only
 	 */
 	public List<FigureRunner> getListOfAllRunners(final FigureColor color) {
-		final List<FigureRunner> runnerList = new ArrayList<>();
-
-		for (final List<FigureRunner> tmp : this.listofRunners.values()) {
-			for (final FigureRunner tmpRunner : tmp) {
-				if (color == tmpRunner.getFigureColor()) {
-					runnerList.add(tmpRunner);
-				}
-			}
-		}
-
-		return runnerList;
+		return this.getView(FigureSet.RUNNER, color);
 	}
 
 	/**
@@ -202,17 +236,7 @@ public enum FigureHolder {
 	 * @return the list of Knights with the given color only
 	 */
 	public List<FigureKnight> getListOfAllKnights(final FigureColor color) {
-		final List<FigureKnight> knightList = new ArrayList<>();
-
-		for (final List<FigureKnight> tmp : this.listOfKnights.values()) {
-			for (final FigureKnight tmpKnight : tmp) {
-				if (color == tmpKnight.getFigureColor()) {
-					knightList.add(tmpKnight);
-				}
-			}
-		}
-
-		return knightList;
+		return this.getView(FigureSet.KNIGHT, color);
 	}
 
 	/**
@@ -224,17 +248,7 @@ public enum FigureHolder {
 	 * @return the list of Rooks with the given color only
 	 */
 	public List<FigureRook> getListOfAllRooks(final FigureColor color) {
-		final List<FigureRook> rookList = new ArrayList<>();
-
-		for (final List<FigureRook> tmp : this.listOfRooks.values()) {
-			for (final FigureRook tmpRook : tmp) {
-				if (color == tmpRook.getFigureColor()) {
-					rookList.add(tmpRook);
-				}
-			}
-		}
-
-		return rookList;
+		return this.getView(FigureSet.ROOK, color);
 	}
 
 	/**
@@ -246,17 +260,7 @@ public enum FigureHolder {
 	 * @return the list of Queens with the given color only
 	 */
 	public List<FigureQueen> getListOfAllQueens(final FigureColor color) {
-		final List<FigureQueen> queenList = new ArrayList<>();
-
-		for (final List<FigureQueen> tmp : this.listOfQueens.values()) {
-			for (final FigureQueen tmpQueen : tmp) {
-				if (color == tmpQueen.getFigureColor()) {
-					queenList.add(tmpQueen);
-				}
-			}
-		}
-
-		return queenList;
+		return this.getView(FigureSet.QUEEN, color);
 	}
 
 	/**
@@ -268,11 +272,7 @@ public enum FigureHolder {
 	 * @return the required King
 	 */
 	public FigureKing getKing(final FigureColor color) {
-		if (color == FigureColor.BLACK) {
-			return this.kingBlack;
-		}
-
-		return this.kingWhite;
+		return (FigureKing) this.figures[color.ordinal()][FigureSet.KING.ordinal()][0];
 	}
 
 	/**
@@ -283,30 +283,63 @@ public enum FigureHolder {
 	 * @param color
 	 *            the color to use
 	 * 
-	 * @return the required list
+	 * @return the required list, which is empty for the King
 	 */
-	@SuppressWarnings("incomplete-switch")
 	public List<? extends BaseFigure> getListOfAllFiguresBy(final FigureSet type, final FigureColor color) {
-		List<? extends BaseFigure> list = new ArrayList<>();
+		if (type == FigureSet.KING) {
+			return Collections.emptyList();
+		}
 
-		switch (type) {
-			case PAWN:
-				list = this.getListOfAllPawns(color);
-				break;
-			case KNIGHT:
-				list = this.getListOfAllKnights(color);
-				break;
-			case RUNNER:
-				list = this.getListOfAllRunners(color);
-				break;
-			case ROOK:
-				list = this.getListOfAllRooks(color);
-				break;
-			case QUEEN:
-				list = this.getListOfAllQueens(color);
-				break;
+		return this.getView(type, color);
+	}
+
+	/**
+	 * @author swunsch
+	 *
+	 *         An unmodifiable list, which reads the figures of a single color and
+	 *         type directly from the arrays of this holder.
+	 */
+	private final class FigureView<T extends BaseFigure> extends AbstractList<T> implements RandomAccess {
+		/** the color index */
+		private final int color;
+
+		/** the type index */
+		private final int type;
+
+		/**
+		 * Create the view of a single color and type.
+		 *
+		 * @param color
+		 *            the color index
+		 * @param type
+		 *            the type index
+		 */
+		FigureView(final int color, final int type) {
+			this.color = color;
+			this.type = type;
 		}
 
-		return list;
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#get(int)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public T get(final int index) {
+			if ((index < 0) || (index >= this.size())) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+			}
+
+			return (T) FigureHolder.this.figures[this.color][this.type][index];
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return FigureHolder.this.counts[this.color][this.type];
+		}
 	}
 }
@@ -0,0 +1,175 @@
+/**
+ * @package: game
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package game;
+
+import figure.properties.FigureColor;
+import location.AttackMap;
+import location.BitBoard;
+import location.Matrix;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the position of a single game: the {@link BitBoard} with the
+ *         figures of each color and type and the {@link AttackMap} of this
+ *         position.
+ *
+ *         No position is shared between two games, thus any number of games
+ *         may be played and searched at the same time, like one game for each
+ *         thread of a search. The graphical interface is not a part of this:
+ *         it's figures, the {@link Matrix}, the last moved figures and the
+ *         result of the game stay singletons, thus only one game per virtual
+ *         machine can be played by the window.
+ *
+ *         The default game (see {@link #getDefault()}) belongs to these
+ *         singletons: it uses the bit board and the attack map of
+ *         {@link Matrix#INSTANCE}, which are updated by the moves of the
+ *         figures on the matrix. Therefore the moves of this game should be
+ *         made by the figures only, not by {@link #makeMove(int)}.
+ */
+public final class Game {
+	/** the game of the graphical interface */
+	private static final Game DEFAULT = new Game(Matrix.INSTANCE.getBitBoard(), Matrix.INSTANCE.getAttackMap());
+
+	/** the position of this game */
+	private final BitBoard board;
+
+	/** the covered fields of the position */
+	private final AttackMap attackMap;
+
+	/** Create a new game with the start position. */
+	public Game() {
+		this(BitBoard.START_POSITION);
+	}
+
+	/**
+	 * Create a new game with the given position.
+	 *
+	 * @param fen
+	 *            the position in Forsyth-Edwards notation
+	 */
+	public Game(final String fen) {
+		this.board = new BitBoard();
+		this.board.setPosition(fen);
+		this.attackMap = new AttackMap(this.board);
+	}
+
+	/**
+	 * Create an independent copy of the given game, like for a further thread of
+	 * a search. The made moves are copied as well, thus they can be taken back.
+	 *
+	 * @param other
+	 *            the game to copy
+	 */
+	public Game(final Game other) {
+		this.board = new BitBoard(other.board);
+		this.attackMap = new AttackMap(this.board);
+	}
+
+	/**
+	 * Create the game of the given bit board and it's attack map.
+	 *
+	 * @param board
+	 *            the bit board to use
+	 * @param attackMap
+	 *            the attack map of this bit board
+	 */
+	private Game(final BitBoard board, final AttackMap attackMap) {
+		this.board = board;
+		this.attackMap = attackMap;
+	}
+
+	/**
+	 * Receive the game of the graphical interface.
+	 *
+	 * @return the default game
+	 */
+	public static Game getDefault() {
+		return Game.DEFAULT;
+	}
+
+	/**
+	 * Replace the whole position and start the game from scratch.
+	 *
+	 * @param fen
+	 *            the position in Forsyth-Edwards notation
+	 */
+	public void setPosition(final String fen) {
+		this.board.setPosition(fen);
+		this.attackMap.reset();
+	}
+
+	/**
+	 * Make the given move, where the attack map is updated as well. The move is
+	 * not checked for legality (see {@link BitBoard#onLegalMove(int)}).
+	 *
+	 * @param move
+	 *            the packed move, see {@link Move}
+	 */
+	public void makeMove(final int move) {
+		this.board.makeMove(move);
+		this.attackMap.update(Move.getChangedFields(move));
+	}
+
+	/**
+	 * Take back the last made move.
+	 *
+	 * @throws IllegalStateException
+	 *             if there is no move to take back
+	 */
+	public void unmakeMove() {
+		final int move = this.board.getLastMove();
+		this.board.unmakeMove();
+		this.attackMap.update(Move.getChangedFields(move));
+	}
+
+	/**
+	 * Collect all legal moves of the side to move.
+	 *
+	 * @param moves
+	 *            the array to fill, at least {@link MoveGenerator#MAX_MOVES} long
+	 *
+	 * @return the number of legal moves
+	 */
+	public int generateLegalMoves(final int[] moves) {
+		return MoveGenerator.generateLegalMoves(this.board, moves);
+	}
+
+	/**
+	 * Receive the color of the side to move.
+	 *
+	 * @return the color to move
+	 */
+	public FigureColor getSideToMove() {
+		return this.board.getSideToMove();
+	}
+
+	/**
+	 * Receive the position of this game.
+	 *
+	 * @return the bit board
+	 */
+	public BitBoard getBitBoard() {
+		return this.board;
+	}
+
+	/**
+	 * Receive the covered fields of the position.
+	 *
+	 * @return the attack map
+	 */
+	public AttackMap getAttackMap() {
+		return this.attackMap;
+	}
+}
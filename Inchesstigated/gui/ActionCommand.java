@@ -11,6 +11,7 @@
  */
 package gui;
 
+import java.awt.EventQueue;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
@@ -21,8 +22,13 @@ import java.util.List;
 
 import javax.swing.JButton;
 
+import engine.SearchResult;
 import event.GameEvent;
 import gui.FigureProcedure.MoveState;
+import interfaces.GameListener;
+import location.BitBoard;
+import location.Matrix;
+import location.Move;
 
 /**
  * @author swunsch, ptoepel
@@ -65,6 +71,12 @@ public class ActionCommand implements ActionListener, MouseListener, MouseMotion
 	/** start with a valid move state */
 	MoveState currentState = MoveState.VALID;
 
+	/** the computer opponent, or null, if two players are in use */
+	private ComputerPlayer computer = null;
+
+	/** A flag, if the computer opponent is searching it's move right now. */
+	private boolean computerSearching = false;
+
 	/**
 	 * Will hold the figure ID by name (position 0), figure color (position 1),
 	 * start coordinate (position 2), destination coordinate (position 3).
@@ -178,6 +190,7 @@ public class ActionCommand implements ActionListener, MouseListener, MouseMotion
 
 						/* let the figure move from start to destination */
 						FigureProcedure.INSTANCE.moveFigure(this.figureMoveAction[0], this.figureMoveAction[1], this.figureMoveAction[2], this.figureMoveAction[3]);
+						this.letComputerMove();
 					}
 
 					/* reset */
@@ -297,6 +310,94 @@ public class ActionCommand implements ActionListener, MouseListener, MouseMotion
 		FigureProcedure.INSTANCE.moveFigure(figureID, figureColorAsWord, start, destination); // now let move a figure from start to destination
 	}
 
+	/**
+	 * Play against the given computer opponent.
+	 *
+	 * @param computer
+	 *            the computer opponent, or null for two players
+	 */
+	public void setComputerPlayer(final ComputerPlayer computer) {
+		this.computer = computer;
+	}
+
+	/**
+	 * Let the computer opponent move, if it's the computer's turn and the game is
+	 * still active. The move is searched by a thread of it's own, thus the window
+	 * is still in use while the computer thinks. The move itself is made on the
+	 * event dispatch thread, like any move of the player (see
+	 * {@link #finishComputerMove(ComputerPlayer, SearchResult, long)}).
+	 */
+	public void letComputerMove() {
+		if ((this.computer == null) || this.computerSearching || !this.computer.onTurn() || (GameEvent.getCurrentGameEvent() != GameEvent.NO_RESULT)) {
+			return;
+		}
+
+		this.computerSearching = true;
+
+		final ComputerPlayer player = this.computer;
+		final BitBoard position = player.createPosition(); // the figures of the matrix are read on this thread only
+		final long key = position.getKey(); // the side to move, the castling rights and the "en passant" field, too
+
+		final Thread searcher = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				SearchResult result = null;
+				try {
+					result = player.search(position);
+				} catch (final RuntimeException e) {
+					e.printStackTrace();
+				}
+
+				final SearchResult found = result;
+				EventQueue.invokeLater(new Runnable() {
+					@Override
+					public void run() {
+						ActionCommand.this.finishComputerMove(player, found, key);
+					}
+				});
+			}
+		}, "computer-" + player.getFigureColor());
+		searcher.setDaemon(true); // never keeps the closed window alive
+		searcher.start();
+	}
+
+	/**
+	 * Make the searched move of the computer opponent on the event dispatch
+	 * thread. The reached depth, the nodes per second and the statistics of the
+	 * transposition table and the table of Pawn structures are passed to the
+	 * user interface (see
+	 * {@link interfaces.GameListener#onComputerSearched(String)}).
+	 *
+	 * @param player
+	 *            the computer opponent
+	 * @param result
+	 *            the result of the search, or null, if the search has failed
+	 * @param key
+	 *            the key of the searched position, including the side to move,
+	 *            the castling rights and the "en passant" field
+	 */
+	private void finishComputerMove(final ComputerPlayer player, final SearchResult result, final long key) {
+		this.computerSearching = false;
+
+		if ((result == null) || (GameEvent.getCurrentGameEvent() != GameEvent.NO_RESULT)) {
+			return;
+		}
+
+		/* the position has been changed while searching, thus search again */
+		if (Matrix.INSTANCE.getPositionKey() != key) {
+			this.letComputerMove();
+			return;
+		}
+
+		final GameListener listener = FigureProcedure.INSTANCE.getGameListener();
+		listener.onComputerSearched(player.getFigureColor() + ": " + result + "\n" + player.getTranspositionTable() + "\n" + player.getPawnTable());
+
+		/* a rejected move leaves the computer without any move, thus the player has to know it */
+		if ((result.getBestMove() != Move.NONE) && !player.makeMove(result.getBestMove())) {
+			listener.onComputerMoveRejected(Move.toString(result.getBestMove()));
+		}
+	}
+
 	/**
 	 * Methods for buttons outside the chess board.
 	 *
@@ -309,6 +410,7 @@ public class ActionCommand implements ActionListener, MouseListener, MouseMotion
 	public void DoCastling() {
 		// System.out.println("Button Rochade wurde gedr\u00FCckt.");
 		Inchesstigated.infoDialog(1, "");
+		this.letComputerMove();
 	}
 
 	public void OfferRemis() {
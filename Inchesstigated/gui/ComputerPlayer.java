@@ -0,0 +1,394 @@
+/**
+ * @package: gui
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package gui;
+
+import engine.MonteCarloSearch;
+import engine.Network;
+import engine.OpeningBook;
+import engine.ParallelSearch;
+import engine.PawnTable;
+import engine.Search;
+import engine.SearchResult;
+import engine.Tablebase;
+import engine.TranspositionTable;
+import event.CastlingEvent.CastlingType;
+import event.MoveWatcherEvent;
+import figure.BaseFigure;
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+import interfaces.GameListener;
+import location.BitBoard;
+import location.Coordinates;
+import location.Matrix;
+import location.Move;
+
+/**
+ * @author swunsch
+ *
+ *         The computer opponent. It searches the best move of the current game
+ *         by a {@link ParallelSearch}, where the move is made by
+ *         {@link FigureProcedure}, like any move of a human player. The
+ *         transposition table and the table of Pawn structures are kept from
+ *         move to move. Otherwise the move is
+ *         searched by a {@link MonteCarloSearch}, which uses the same number of
+ *         threads and the same time budget.
+ *
+ *         The position to search is read from the bit board of the
+ *         {@link Matrix}, where the castling rights are known by the moves of
+ *         the Kings and Rooks, and "en passant" is known by the last moved
+ *         Pawn of the opponent.
+ *
+ *         If an {@link OpeningBook} is set, each position of the book is
+ *         answered by the book move without any search. Likewise each position
+ *         of a {@link Tablebase} is played exactly.
+ */
+public final class ComputerPlayer {
+	/** the default size of the transposition table in megabytes */
+	public static final int DEFAULT_MEGABYTES = 16;
+
+	/** the color of the computer */
+	private final FigureColor color;
+
+	/** the time budget for each move in milliseconds */
+	private final long millis;
+
+	/** the number of search threads */
+	private final int threads;
+
+	/** the results of all former searches */
+	private final TranspositionTable table;
+
+	/** the ratings of all Pawn structures of former searches */
+	private final PawnTable pawnTable;
+
+	/** the way to search the best move */
+	private Strategy strategy = Strategy.ALPHA_BETA;
+
+	/** the neural network of the alpha-beta search, or null for the handcrafted evaluation */
+	private Network network = null;
+
+	/** the book of opening moves, or null to search each move */
+	private OpeningBook book = null;
+
+	/** the exact results of the small endings, or null to search each move */
+	private Tablebase tablebase = null;
+
+	/**
+	 * Create a computer opponent, which searches by a single thread.
+	 *
+	 * @param color
+	 *            the color of the computer
+	 * @param millis
+	 *            the time budget for each move in milliseconds
+	 */
+	public ComputerPlayer(final FigureColor color, final long millis) {
+		this(color, millis, 1, ComputerPlayer.DEFAULT_MEGABYTES);
+	}
+
+	/**
+	 * Create a computer opponent.
+	 *
+	 * @param color
+	 *            the color of the computer
+	 * @param millis
+	 *            the time budget for each move in milliseconds
+	 * @param threads
+	 *            the number of search threads
+	 * @param megabytes
+	 *            the size of the transposition table in megabytes
+	 */
+	public ComputerPlayer(final FigureColor color, final long millis, final int threads, final int megabytes) {
+		this.color = color;
+		this.millis = millis;
+		this.threads = threads;
+		this.table = new TranspositionTable(megabytes);
+		this.pawnTable = new PawnTable();
+	}
+
+	/**
+	 * Receive the color of the computer.
+	 *
+	 * @return the color
+	 */
+	public FigureColor getFigureColor() {
+		return this.color;
+	}
+
+	/**
+	 * Select the way to search the best move.
+	 *
+	 * @param strategy
+	 *            the strategy to use
+	 */
+	public void setStrategy(final Strategy strategy) {
+		this.strategy = strategy;
+	}
+
+	/**
+	 * Rate the positions of the alpha-beta search by the given neural network.
+	 *
+	 * @param network
+	 *            the network to use, or null for the handcrafted evaluation
+	 */
+	public void setNetwork(final Network network) {
+		this.network = network;
+	}
+
+	/**
+	 * Answer each position of the given book by the book move.
+	 *
+	 * @param book
+	 *            the book to use, or null to search each move
+	 */
+	public void setOpeningBook(final OpeningBook book) {
+		this.book = book;
+	}
+
+	/**
+	 * Play each position of an ending of the given tablebase exactly.
+	 *
+	 * @param tablebase
+	 *            the tablebase to use, or null to search each move
+	 */
+	public void setTablebase(final Tablebase tablebase) {
+		this.tablebase = tablebase;
+	}
+
+	/**
+	 * Receive the transposition table, which is kept from move to move.
+	 *
+	 * @return the table with it's statistics
+	 */
+	public TranspositionTable getTranspositionTable() {
+		return this.table;
+	}
+
+	/**
+	 * Receive the table of Pawn structures, which is kept from move to move.
+	 *
+	 * @return the table with it's statistics
+	 */
+	public PawnTable getPawnTable() {
+		return this.pawnTable;
+	}
+
+	/**
+	 * Check, if the computer has to move now.
+	 *
+	 * @return true, if the last move has been made by the opponent or if the
+	 *         computer has to start the game,<br>
+	 *         false, otherwise
+	 */
+	public boolean onTurn() {
+		final FigureColor lastColor = MoveWatcherEvent.getLastFigureColor();
+		if (lastColor == null) {
+			return this.color == FigureColor.WHITE;
+		}
+
+		return lastColor != this.color;
+	}
+
+	/**
+	 * Search and make the best move of the computer, like in a game without any
+	 * window.
+	 *
+	 * @return the result of the search, where the reached depth and the nodes per
+	 *         second are shown by {@link SearchResult#toString()}
+	 *
+	 * @see #search(BitBoard)
+	 */
+	public SearchResult play() {
+		final SearchResult result = this.search(this.createPosition());
+		if (result.getBestMove() != Move.NONE) {
+			this.makeMove(result.getBestMove());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Search the best move of the given position, or take the book move, if the
+	 * position is found in the opening book, or the tablebase move, if the
+	 * position is an ending of the tablebase. No figure of the matrix is used,
+	 * thus the search may run on any thread, while the window is still in use.
+	 *
+	 * @param position
+	 *            the position to search, see {@link #createPosition()}
+	 *
+	 * @return the result of the search, where the reached depth and the nodes per
+	 *         second are shown by {@link SearchResult#toString()}
+	 */
+	public SearchResult search(final BitBoard position) {
+		final int tablebaseMove = (this.tablebase != null) ? this.tablebase.getBestMove(position) : Move.NONE;
+		final int bookMove = ((tablebaseMove == Move.NONE) && (this.book != null)) ? this.book.probe(position) : Move.NONE;
+		if (tablebaseMove != Move.NONE) {
+			return new SearchResult(tablebaseMove, this.tablebase.probe(position), 0, 0L, 0L, new int[] {
+					tablebaseMove
+			});
+		} else if (bookMove != Move.NONE) {
+			return new SearchResult(bookMove, 0, 0, 0L, 0L, new int[] {
+					bookMove
+			});
+		} else if (this.strategy == Strategy.MONTE_CARLO) {
+			return new MonteCarloSearch(position, this.threads).search(this.millis);
+		}
+
+		final ParallelSearch search = new ParallelSearch(position, this.threads, this.table, this.pawnTable);
+		search.setNetwork(this.network);
+		search.setTablebase(this.tablebase);
+		return search.search(this.millis, Search.MAX_DEPTH);
+	}
+
+	/**
+	 * Copy the position of the matrix, where the computer has to move. The bit
+	 * board of the matrix knows the castling rights, the "en passant" field, the
+	 * half move clock and all positions of the game, thus the search sees each
+	 * repetition and the fifty move rule, too. The matrix is read, thus this is
+	 * called by the thread of the window only.
+	 *
+	 * @return the position to search
+	 */
+	public BitBoard createPosition() {
+		return new BitBoard(Matrix.INSTANCE.getBitBoard());
+	}
+
+	/**
+	 * Make the given move by the figures of the matrix. The figures of the
+	 * matrix are changed, thus this is called by the thread of the window only.
+	 *
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return true, if the matrix has reached the position after the move,<br>
+	 *         false, if the move has been rejected
+	 */
+	public boolean makeMove(final int move) {
+		final BitBoard expected = this.createPosition();
+		expected.makeMove(move);
+
+		final Coordinates from = Coordinates.valueOf(Move.getFrom(move));
+		final Coordinates to = Coordinates.valueOf(Move.getTo(move));
+
+		if (Move.getFlag(move) == Move.FLAG_CASTLING) {
+			FigureProcedure.INSTANCE.collectCastlingDecision((to.getFile() > from.getFile()) ? CastlingType.SMALL_CASTLING : CastlingType.BIG_CASTLING);
+			return Matrix.INSTANCE.getPositionKey() == expected.getKey();
+		}
+
+		final BaseFigure figure = Matrix.INSTANCE.getFigureOnField(from);
+		if (figure == null) {
+			return false;
+		}
+
+		final GameListener listener = FigureProcedure.INSTANCE.getGameListener();
+
+		/* the new figure of a promotion is selected by the computer, not by the player */
+		if (Move.onPromotion(move)) {
+			FigureProcedure.INSTANCE.setGameListener(new PromotionListener(listener, Move.getPromotion(move)));
+		}
+
+		try {
+			FigureProcedure.INSTANCE.moveFigure(figure.getFigureType().toString(), this.color.toString(), from.getCoordinatesXY(), to.getCoordinatesXY());
+		} finally {
+			FigureProcedure.INSTANCE.setGameListener(listener);
+		}
+
+		return Matrix.INSTANCE.getPositionKey() == expected.getKey();
+	}
+
+	/**
+	 * Nested enumeration, which holds the way to search the best move.
+	 */
+	public enum Strategy {
+		ALPHA_BETA, MONTE_CARLO
+	}
+
+	/**
+	 * @author swunsch
+	 *
+	 *         Forwards each notification to the user interface, except the
+	 *         selection of a promotion, which is already known.
+	 */
+	private static final class PromotionListener implements GameListener {
+		/** the user interface */
+		private final GameListener listener;
+
+		/** the new figure of the Pawn */
+		private final FigureSet promotion;
+
+		/**
+		 * Create the listener for a single promotion.
+		 *
+		 * @param listener
+		 *            the user interface
+		 * @param promotion
+		 *            the new figure of the Pawn
+		 */
+		PromotionListener(final GameListener listener, final FigureSet promotion) {
+			this.listener = listener;
+			this.promotion = promotion;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see interfaces.GameListener#onFigureMoved(java.lang.String, java.lang.String, java.lang.String, java.lang.String)
+		 */
+		@Override
+		public void onFigureMoved(final String figureID, final String figureColorAsWord, final String startCoordAsWord, final String destinationCoordAsWord) {
+			this.listener.onFigureMoved(figureID, figureColorAsWord, startCoordAsWord, destinationCoordAsWord);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see interfaces.GameListener#onFigureCaptured(int)
+		 */
+		@Override
+		public void onFigureCaptured(final int labelID) {
+			this.listener.onFigureCaptured(labelID);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see interfaces.GameListener#onPawnPromotion()
+		 */
+		@Override
+		public String onPawnPromotion() {
+			return this.promotion.toString();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see interfaces.GameListener#onMoveFinished(gui.MoveHistory)
+		 */
+		@Override
+		public void onMoveFinished(final MoveHistory history) {
+			this.listener.onMoveFinished(history);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see interfaces.GameListener#onInvalidMove()
+		 */
+		@Override
+		public void onInvalidMove() {
+			this.listener.onInvalidMove();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see interfaces.GameListener#onCastlingRejected(java.lang.String)
+		 */
+		@Override
+		public void onCastlingRejected(final String reason) {
+			this.listener.onCastlingRejected(reason);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/**
+ * @package: gui
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package gui;
+
+import java.awt.Color;
+import java.awt.Graphics;
+
+import javax.swing.JComponent;
+
+/**
+ * @author swunsch
+ *
+ *         A vertical bar beside the chess field, which shows the score of the
+ *         current position: the white part grows from the bottom, whenever
+ *         white is ahead, and the black part grows from the top, whenever black
+ *         is ahead. An advantage of {@link #MAX_SCORE} or more fills the whole
+ *         bar.
+ *
+ *         The score is only stored by {@link #setScore(int)}, which may be
+ *         called by any thread, and the bar is painted later by the event
+ *         dispatch thread.
+ */
+public class EvaluationBar extends JComponent {
+	private static final long serialVersionUID = 1L;
+
+	/** the score in centipawns, which fills the whole bar */
+	public static final int MAX_SCORE = 1000;
+
+	/** the score in centipawns, positive if white is ahead */
+	private volatile int score = 0;
+
+	/**
+	 * Update the shown score and repaint the bar.
+	 *
+	 * @param score
+	 *            the score in centipawns, positive if white is ahead
+	 */
+	public void setScore(final int score) {
+		this.score = score;
+		this.repaint();
+	}
+
+	/**
+	 * Receive the shown score.
+	 *
+	 * @return the score in centipawns, positive if white is ahead
+	 */
+	public int getScore() {
+		return this.score;
+	}
+
+	/**
+	 * Receive the height of the white part of the bar.
+	 *
+	 * @param height
+	 *            the height of the whole bar
+	 *
+	 * @return the height of the white part, half of the bar for an equal score
+	 */
+	int getWhiteHeight(final int height) {
+		final int limited = Math.max(-EvaluationBar.MAX_SCORE, Math.min(EvaluationBar.MAX_SCORE, this.score));
+		return (height * (limited + EvaluationBar.MAX_SCORE)) / (2 * EvaluationBar.MAX_SCORE);
+	}
+
+	/**
+	 * Draw the black and the white part of the bar.
+	 *
+	 * @param g
+	 *            using Graphics-class by "java.awt.Graphics"
+	 */
+	@Override
+	protected void paintComponent(final Graphics g) {
+		super.paintComponent(g);
+		final int width = this.getWidth();
+		final int height = this.getHeight();
+		final int white = this.getWhiteHeight(height);
+
+		g.setColor(Color.BLACK);
+		g.fillRect(0, 0, width, height - white);
+		g.setColor(Color.WHITE);
+		g.fillRect(0, height - white, width, white);
+		g.setColor(Color.GRAY);
+		g.drawRect(0, 0, width - 1, height - 1);
+	}
+}
@@ -11,8 +11,6 @@
  */
 package gui;
 
-import java.util.List;
-
 import event.CastlingEvent;
 import event.CastlingEvent.CastlingState;
 import event.CastlingEvent.CastlingType;
@@ -33,8 +31,12 @@ import figure.properties.Modifier;
 import figure.properties.TowerIdentification;
 import figure.properties.TowerSpawnLocation;
 import gui.MoveHistory.MoveType;
+import interfaces.GameListener;
+import location.BitBoard;
 import location.Coordinates;
 import location.Matrix;
+import location.Move;
+import location.MoveGenerator;
 
 /**
  * @author swunsch<br>
@@ -53,6 +55,9 @@ import location.Matrix;
  *         For example: A figure Pawn may be promoted to a higher leveled
  *         figure, if the last field has been reached, depending on the color of
  *         the Pawn.
+ *
+ *         No window is required: each result of a move is notified to the
+ *         {@link GameListener}, which is implemented by the user interface.
  */
 public enum FigureProcedure {
 	INSTANCE;
@@ -75,6 +80,8 @@ public enum FigureProcedure {
 	private static final int NBR_OF_PAWNS = 8;
 	private static final int NBR_OF_DOUBLE_FIGURES = 2;
 	private MoveState moveState; // holds the current move state (valid or invalid only)
+	private GameListener listener = new GameListener() {
+	}; // notified for each move, nothing to show by default
 
 	/**
 	 * Hold the location for each required figure.
@@ -86,6 +93,25 @@ public enum FigureProcedure {
 			"A1", "B1", "C1", "D1", "E1", "F1", "G1", "H1" /* 24 - 31 */
 	};
 
+	/**
+	 * Set the user interface, which is notified for each result of a move.
+	 *
+	 * @param listener
+	 *            the user interface to use
+	 */
+	public void setGameListener(final GameListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Receive the user interface, which is notified for each result of a move.
+	 *
+	 * @return the user interface in use
+	 */
+	public GameListener getGameListener() {
+		return this.listener;
+	}
+
 	/**
 	 * Initializing all figures by given figure type and it's starting coordinate.
 	 *
@@ -99,11 +125,11 @@ public enum FigureProcedure {
 				switch (type) {
 					case KING: {
 						if (color == FigureColor.BLACK) {
-							this.blackKing = new FigureKing(new Coordinates(this.locationHolderForFigures[4]), color); // E8
+							this.blackKing = new FigureKing(Coordinates.valueOf(this.locationHolderForFigures[4]), color); // E8
 							FigureHolder.INSTANCE.addKingToHolder(this.blackKing);
 							Matrix.INSTANCE.setNewFigureLocation(this.blackKing, this.blackKing.getLocation(), true);
 						} else {
-							this.whiteKing = new FigureKing(new Coordinates(this.locationHolderForFigures[28]), color); // E1
+							this.whiteKing = new FigureKing(Coordinates.valueOf(this.locationHolderForFigures[28]), color); // E1
 							FigureHolder.INSTANCE.addKingToHolder(this.whiteKing);
 							Matrix.INSTANCE.setNewFigureLocation(this.whiteKing, this.whiteKing.getLocation(), true);
 						}
@@ -114,9 +140,9 @@ public enum FigureProcedure {
 							this.blackKnight = new FigureKnight[FigureProcedure.NBR_OF_DOUBLE_FIGURES];
 							for (int i = 0; i < FigureProcedure.NBR_OF_DOUBLE_FIGURES; i++) {
 								if (i == 0) {
-									this.blackKnight[i] = new FigureKnight(new Coordinates(this.locationHolderForFigures[1]), color); // B8
+									this.blackKnight[i] = new FigureKnight(Coordinates.valueOf(this.locationHolderForFigures[1]), color); // B8
 								} else {
-									this.blackKnight[i] = new FigureKnight(new Coordinates(this.locationHolderForFigures[6]), color); // G8
+									this.blackKnight[i] = new FigureKnight(Coordinates.valueOf(this.locationHolderForFigures[6]), color); // G8
 								}
 
 								FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, this.blackKnight[i]);
@@ -127,9 +153,9 @@ public enum FigureProcedure {
 							this.whiteKnight = new FigureKnight[FigureProcedure.NBR_OF_DOUBLE_FIGURES];
 							for (int i = 0; i < FigureProcedure.NBR_OF_DOUBLE_FIGURES; i++) {
 								if (i == 0) {
-									this.whiteKnight[i] = new FigureKnight(new Coordinates(this.locationHolderForFigures[25]), color); // B1
+									this.whiteKnight[i] = new FigureKnight(Coordinates.valueOf(this.locationHolderForFigures[25]), color); // B1
 								} else {
-									this.whiteKnight[i] = new FigureKnight(new Coordinates(this.locationHolderForFigures[30]), color); // G1
+									this.whiteKnight[i] = new FigureKnight(Coordinates.valueOf(this.locationHolderForFigures[30]), color); // G1
 								}
 
 								FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, this.whiteKnight[i]);
@@ -145,28 +171,28 @@ public enum FigureProcedure {
 							for (int i = 0; i < FigureProcedure.NBR_OF_PAWNS; i++) {
 								switch (i) {
 									case 0:
-										this.blackPawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[8])); // A7
+										this.blackPawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[8])); // A7
 										break;
 									case 1:
-										this.blackPawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[9])); // B7
+										this.blackPawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[9])); // B7
 										break;
 									case 2:
-										this.blackPawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[10])); // C7
+										this.blackPawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[10])); // C7
 										break;
 									case 3:
-										this.blackPawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[11])); // D7
+										this.blackPawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[11])); // D7
 										break;
 									case 4:
-										this.blackPawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[12])); // E7
+										this.blackPawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[12])); // E7
 										break;
 									case 5:
-										this.blackPawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[13])); // F7
+										this.blackPawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[13])); // F7
 										break;
 									case 6:
-										this.blackPawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[14])); // G7
+										this.blackPawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[14])); // G7
 										break;
 									case 7:
-										this.blackPawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[15])); // H7
+										this.blackPawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[15])); // H7
 										break;
 								}
 
@@ -179,28 +205,28 @@ public enum FigureProcedure {
 							for (int i = 0; i < FigureProcedure.NBR_OF_PAWNS; i++) {
 								switch (i) {
 									case 0:
-										this.whitePawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[16])); // A2
+										this.whitePawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[16])); // A2
 										break;
 									case 1:
-										this.whitePawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[17])); // B2
+										this.whitePawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[17])); // B2
 										break;
 									case 2:
-										this.whitePawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[18])); // C2
+										this.whitePawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[18])); // C2
 										break;
 									case 3:
-										this.whitePawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[19])); // D2
+										this.whitePawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[19])); // D2
 										break;
 									case 4:
-										this.whitePawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[20])); // E2
+										this.whitePawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[20])); // E2
 										break;
 									case 5:
-										this.whitePawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[21])); // F2
+										this.whitePawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[21])); // F2
 										break;
 									case 6:
-										this.whitePawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[22])); // G2
+										this.whitePawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[22])); // G2
 										break;
 									case 7:
-										this.whitePawn[i] = new FigurePawn(color, new Coordinates(this.locationHolderForFigures[23])); // H2
+										this.whitePawn[i] = new FigurePawn(color, Coordinates.valueOf(this.locationHolderForFigures[23])); // H2
 										break;
 								}
 
@@ -213,7 +239,7 @@ public enum FigureProcedure {
 					}
 					case QUEEN: {
 						if (color == FigureColor.BLACK) {
-							this.blackQueen = new FigureQueen(new Coordinates(this.locationHolderForFigures[3]), color); // D8
+							this.blackQueen = new FigureQueen(Coordinates.valueOf(this.locationHolderForFigures[3]), color); // D8
 							FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, this.blackQueen);
 							Matrix.INSTANCE.setNewFigureLocation(this.blackQueen, this.blackQueen.getLocation(), true);
 							this.blackQueen.updateThreatList(Matrix.INSTANCE.createNewThreatList(this.blackQueen, this.blackQueen.getLocation()));
@@ -226,7 +252,7 @@ public enum FigureProcedure {
 							this.blackKing.updateThreatList(Matrix.INSTANCE.createNewThreatList(this.blackKing, this.blackKing.getLocation()));
 
 						} else {
-							this.whiteQueen = new FigureQueen(new Coordinates(this.locationHolderForFigures[27]), color); // D1
+							this.whiteQueen = new FigureQueen(Coordinates.valueOf(this.locationHolderForFigures[27]), color); // D1
 							FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, this.whiteQueen);
 							Matrix.INSTANCE.setNewFigureLocation(this.whiteQueen, this.whiteQueen.getLocation(), true);
 							this.whiteQueen.updateThreatList(Matrix.INSTANCE.createNewThreatList(this.whiteQueen, this.whiteQueen.getLocation()));
@@ -242,9 +268,9 @@ public enum FigureProcedure {
 							this.blackRook = new FigureRook[FigureProcedure.NBR_OF_DOUBLE_FIGURES];
 							for (int i = 0; i < FigureProcedure.NBR_OF_DOUBLE_FIGURES; i++) {
 								if (i == 0) {
-									this.blackRook[i] = new FigureRook(new Coordinates(this.locationHolderForFigures[0]), color, TowerIdentification.POSSIBLE_TO_CASTLE); // A8
+									this.blackRook[i] = new FigureRook(Coordinates.valueOf(this.locationHolderForFigures[0]), color, TowerIdentification.POSSIBLE_TO_CASTLE); // A8
 								} else {
-									this.blackRook[i] = new FigureRook(new Coordinates(this.locationHolderForFigures[7]), color, TowerIdentification.POSSIBLE_TO_CASTLE); // H8
+									this.blackRook[i] = new FigureRook(Coordinates.valueOf(this.locationHolderForFigures[7]), color, TowerIdentification.POSSIBLE_TO_CASTLE); // H8
 								}
 								FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, this.blackRook[i]);
 								Matrix.INSTANCE.setNewFigureLocation(this.blackRook[i], this.blackRook[i].getLocation(), true);
@@ -254,9 +280,9 @@ public enum FigureProcedure {
 							this.whiteRook = new FigureRook[FigureProcedure.NBR_OF_DOUBLE_FIGURES];
 							for (int i = 0; i < FigureProcedure.NBR_OF_DOUBLE_FIGURES; i++) {
 								if (i == 0) {
-									this.whiteRook[i] = new FigureRook(new Coordinates(this.locationHolderForFigures[24]), color, TowerIdentification.POSSIBLE_TO_CASTLE); // A1
+									this.whiteRook[i] = new FigureRook(Coordinates.valueOf(this.locationHolderForFigures[24]), color, TowerIdentification.POSSIBLE_TO_CASTLE); // A1
 								} else {
-									this.whiteRook[i] = new FigureRook(new Coordinates(this.locationHolderForFigures[31]), color, TowerIdentification.POSSIBLE_TO_CASTLE); // H1
+									this.whiteRook[i] = new FigureRook(Coordinates.valueOf(this.locationHolderForFigures[31]), color, TowerIdentification.POSSIBLE_TO_CASTLE); // H1
 								}
 								FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, this.whiteRook[i]);
 								Matrix.INSTANCE.setNewFigureLocation(this.whiteRook[i], this.whiteRook[i].getLocation(), true);
@@ -271,10 +297,10 @@ public enum FigureProcedure {
 							for (int i = 0; i < FigureProcedure.NBR_OF_DOUBLE_FIGURES; i++) {
 								if (i == 0) {
 									final String coordC8 = this.locationHolderForFigures[2];
-									this.blackRunner[i] = new FigureRunner(new Coordinates(coordC8), color, AreaColor.getAreaColor(coordC8)); // C8
+									this.blackRunner[i] = new FigureRunner(Coordinates.valueOf(coordC8), color, AreaColor.getAreaColor(coordC8)); // C8
 								} else {
 									final String coordF8 = this.locationHolderForFigures[5];
-									this.blackRunner[i] = new FigureRunner(new Coordinates(coordF8), color, AreaColor.getAreaColor(coordF8)); // F8
+									this.blackRunner[i] = new FigureRunner(Coordinates.valueOf(coordF8), color, AreaColor.getAreaColor(coordF8)); // F8
 								}
 								FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, this.blackRunner[i]);
 								Matrix.INSTANCE.setNewFigureLocation(this.blackRunner[i], this.blackRunner[i].getLocation(), true);
@@ -285,10 +311,10 @@ public enum FigureProcedure {
 							for (int i = 0; i < FigureProcedure.NBR_OF_DOUBLE_FIGURES; i++) {
 								if (i == 0) {
 									final String coordC1 = this.locationHolderForFigures[26];
-									this.whiteRunner[i] = new FigureRunner(new Coordinates(coordC1), color, AreaColor.getAreaColor(coordC1)); // C1
+									this.whiteRunner[i] = new FigureRunner(Coordinates.valueOf(coordC1), color, AreaColor.getAreaColor(coordC1)); // C1
 								} else {
 									final String coordF1 = this.locationHolderForFigures[29];
-									this.whiteRunner[i] = new FigureRunner(new Coordinates(coordF1), color, AreaColor.getAreaColor(coordF1)); // F1
+									this.whiteRunner[i] = new FigureRunner(Coordinates.valueOf(coordF1), color, AreaColor.getAreaColor(coordF1)); // F1
 								}
 								FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, this.whiteRunner[i]);
 								Matrix.INSTANCE.setNewFigureLocation(this.whiteRunner[i], this.whiteRunner[i].getLocation(), true);
@@ -301,6 +327,8 @@ public enum FigureProcedure {
 				}
 			}
 		}
+
+		Matrix.INSTANCE.startNewGame(); // white moves first, all castlings are possible
 	}
 
 	/**
@@ -330,58 +358,21 @@ public enum FigureProcedure {
 		this.moveState = MoveState.VALID; // assuming, that the current move state is valid
 
 		/* properties to use */
-		final Coordinates destination = new Coordinates(destinationCoordinateAsWord); // create coordinate to use
-		BaseFigure figure = null; // figure to use
+		final Coordinates start = Coordinates.valueOf(startCoordinateAsWord);
+		final Coordinates destination = Coordinates.valueOf(destinationCoordinateAsWord); // create coordinate to use
 		final MoveHistory history = new MoveHistory(); // move history to use
 		final FigureColor currentColor = FigureColor.getColorType(figureColorAsWord); // receive the figure color
 
-		if (figureID.equals(Inchesstigated.UNIQUE_FIGURE_ID[0])) { // a Rook is in use
-			final List<FigureRook> listOfRooks = FigureHolder.INSTANCE.getListOfAllRooks(currentColor); // reveal which Rook is in use --> by startCoordinateAsWord
-
-			for (final FigureRook tmpRook : listOfRooks) {
-				if (tmpRook.getLocation().getCoordinatesXY().equals(startCoordinateAsWord)) { // this is the current Rook to use
-					figure = tmpRook; // cast figure with tmpRook
-					break; // avoid to call unexpected exceptions for any type
-				}
-			}
-		} else if (figureID.equals(Inchesstigated.UNIQUE_FIGURE_ID[1])) { // a Knight is in use
-			final List<FigureKnight> listOfKnights = FigureHolder.INSTANCE.getListOfAllKnights(currentColor);
-
-			for (final FigureKnight tmpKnight : listOfKnights) {
-				if (tmpKnight.getLocation().getCoordinatesXY().equals(startCoordinateAsWord)) {
-					figure = tmpKnight;
-					break;
-				}
-			}
-		} else if (figureID.equals(Inchesstigated.UNIQUE_FIGURE_ID[2])) { // Runner
-			final List<FigureRunner> listOfRunners = FigureHolder.INSTANCE.getListOfAllRunners(currentColor);
-
-			for (final FigureRunner tmpRunner : listOfRunners) {
-				if (tmpRunner.getLocation().getCoordinatesXY().equals(startCoordinateAsWord)) {
-					figure = tmpRunner;
-					break;
-				}
-			}
-		} else if (figureID.equals(Inchesstigated.UNIQUE_FIGURE_ID[3])) { // Queen
-			final List<FigureQueen> listOfQueens = FigureHolder.INSTANCE.getListOfAllQueens(currentColor);
-
-			for (final FigureQueen tmpQueen : listOfQueens) {
-				if (tmpQueen.getLocation().getCoordinatesXY().equals(startCoordinateAsWord)) {
-					figure = tmpQueen;
-					break;
-				}
-			}
-		} else if (figureID.equals(Inchesstigated.UNIQUE_FIGURE_ID[4])) { // King
-			figure = FigureHolder.INSTANCE.getKing(currentColor);
-		} else if (figureID.equals(Inchesstigated.UNIQUE_FIGURE_ID[5])) { // Pawn
-			final List<FigurePawn> listOfPawns = FigureHolder.INSTANCE.getListOfAllPawns(currentColor);
-
-			for (final FigurePawn tmpPawn : listOfPawns) {
-				if (tmpPawn.getLocation().getCoordinatesXY().equals(startCoordinateAsWord)) {
-					figure = tmpPawn;
-					break;
-				}
-			}
+		/*
+		 * the matrix holds the figure of each field, thus the figure to use is known by
+		 * it's start coordinate, no list of figures needs to be scanned, but this
+		 * figure must be an own figure of the given type
+		 */
+		final BaseFigure figure = Matrix.INSTANCE.getFigureOnField(start);
+		if ((figure == null) || (figure.getFigureColor() != currentColor) || !figure.getFigureType().toString().equals(figureID)) {
+			this.listener.onInvalidMove();
+			this.moveState = MoveState.INVALID;
+			return;
 		}
 
 		final FigureSet type = figure.getFigureType(); // receive the current used figure
@@ -394,15 +385,22 @@ public enum FigureProcedure {
 		final FigureKing opponentKing = FigureHolder.INSTANCE.getKing(opponentColor); // may in use, if the foes King may be threatened now
 		final FigureKing ownKing = FigureHolder.INSTANCE.getKing(currentColor);
 
+		/*
+		 * a pinned figure may only move along the line to it's King, where the pinned
+		 * figures are known by the bit board (see BitBoard#getPinned(FigureColor))
+		 */
+		final boolean legalMove = figure.onAbleToMove(destination, figure);
+
 		/*
 		 * --------------------------------------------------------------------------
 		 * Check, if the current move is successful, where a figure to beat is NOT part
-		 * of this condition check below. Also required, if the own King is not
-		 * threatened --> Avoids to move any figure to a field, while the King is
-		 * threatened. In that case this figure is forced to block this threat.
+		 * of this condition check below. If the own King is threatened, then only a
+		 * legal move blocks this threat, thus no further check is required.
 		 * --------------------------------------------------------------------------
 		 */
-		if ((figure.onValidMove(destination) == MoveEvent.SUCCESSFULLY_MOVE) && !(ownKing.onThreatened())) {
+		final boolean captureMove = Matrix.INSTANCE.onFieldReserved(destination); // a figure to beat is handled below
+
+		if (legalMove && !captureMove && (figure.onValidMove(destination) == MoveEvent.SUCCESSFULLY_MOVE)) {
 			alreadyDone = true;
 			boolean lastCoordinateForPawn = false;
 
@@ -415,21 +413,21 @@ public enum FigureProcedure {
 			if (figure instanceof FigurePawn) { // check, if this figure is a Pawn
 				final FigurePawn tmpPawn = (FigurePawn) figure; // then cast to a Pawn
 
-				if (tmpPawn.onLastCoordinate()) { // and check, if this Pawn is on it's last coordinate
+				if (Matrix.INSTANCE.onLastMatrixCoordinate(destination, tmpPawn)) { // and check, if this Pawn reaches it's last coordinate
 					lastCoordinateForPawn = true;
 
 					BaseFigure.resetFigureProperties(tmpPawn, destination);
 					Matrix.INSTANCE.setNewFigureLocation(tmpPawn, destination, false);
 
 					// update button icons and required properties
-					Inchesstigated.updateFieldImage(figureID, figureColorAsWord, startCoordinateAsWord, destinationCoordinateAsWord);
+					this.listener.onFigureMoved(figureID, figureColorAsWord, startCoordinateAsWord, destinationCoordinateAsWord);
 
 					// finally, print the current move to the history
 					history.usedFigure = FigureSet.getFigureType(figureID);
 					history.startCoord = startCoordinateAsWord;
 					history.destCoord = destinationCoordinateAsWord;
 
-					final String promotedFigure = Inchesstigated.showPawnPromotion(); // receive the selected figure
+					final String promotedFigure = this.listener.onPawnPromotion(); // receive the selected figure
 
 					if (promotedFigure != null) { // TODO: is it possible to avoid to get a null reference?
 						final BaseFigure promotion = tmpPawn.promotePawn(FigureSet.getFigureType(promotedFigure));
@@ -441,8 +439,10 @@ public enum FigureProcedure {
 
 						FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, promotion);
 						FigureHolder.INSTANCE.updateFigureList(Modifier.REMOVE, tmpPawn);
+						MoveWatcherEvent.addLastMoveBy(promotion); // notify this figure move
+						Matrix.INSTANCE.finishFigureMove(tmpPawn, start, null);
 
-						Inchesstigated.updateJLabelOnScreen(0); // add this Pawn to the captured list
+						this.listener.onFigureCaptured(0); // add this Pawn to the captured list
 
 						// TODO: also reduce the number of captured figure by one, which is
 						// now the promoted Pawn, if possible
@@ -454,8 +454,7 @@ public enum FigureProcedure {
 
 						// check, if the opponent's King may now being threatened by figure
 						if (opponentKing.onThreatened()) {
-							final List<Coordinates> kingsEscapeRoutes = opponentKing.createPossibleEscapeFields();
-							if (kingsEscapeRoutes.isEmpty()) {
+							if (this.onCheckMate(opponentKing)) {
 								history.moveType = MoveType.GAME_OVER_PAWN_PROMOTION;
 							} else {
 								history.moveType = MoveType.PAWN_PROMOTION_AND_THREAT;
@@ -487,9 +486,10 @@ public enum FigureProcedure {
 			if (!(figure instanceof FigurePawn) || ((figure instanceof FigurePawn) && !lastCoordinateForPawn)) {
 				this.updateFigureProperties(figure, destination);
 				MoveWatcherEvent.addLastMoveBy(figure); // notify this figure move
+				Matrix.INSTANCE.finishFigureMove(figure, start, null);
 
 				// update button icons and required properties
-				Inchesstigated.updateFieldImage(figureID, figureColorAsWord, startCoordinateAsWord, destinationCoordinateAsWord);
+				this.listener.onFigureMoved(figureID, figureColorAsWord, startCoordinateAsWord, destinationCoordinateAsWord);
 
 				// finally, print the current move to the history
 				history.usedFigure = FigureSet.getFigureType(figureID);
@@ -498,8 +498,7 @@ public enum FigureProcedure {
 
 				// check, if the opponent's King may now being threatened by figure
 				if (opponentKing.onThreatened()) {
-					final List<Coordinates> kingsEscapeRoutes = opponentKing.createPossibleEscapeFields();
-					if (kingsEscapeRoutes.isEmpty()) { // there're no escape routes for this king
+					if (this.onCheckMate(opponentKing)) { // there're no escape routes for this king
 						history.moveType = MoveType.GAME_OVER; // game over
 					} else {
 						history.moveType = MoveType.NORMAL_MOVE_AND_THREAT; // otherwise just a threat
@@ -508,103 +507,12 @@ public enum FigureProcedure {
 					history.moveType = MoveType.NORMAL_MOVE; // otherwise a normal move
 				}
 
-				Inchesstigated.updateMoveHistory(history);
+				this.listener.onMoveFinished(history);
 			}
 
+			ownKing.removeThreat(); // a legal move never leaves the own King threatened
 			incorrectMove = false;
 
-		} else if (ownKing.onThreatened() && !alreadyDone) {
-			alreadyDone = true;
-
-			/*
-			 * --------------------------------------------------------------------------
-			 * This is in use, if the own King is now threatened, thus the destination must
-			 * be used to block the current threat, caused by the last used figure.
-			 * --------------------------------------------------------------------------
-			 */
-			final BaseFigure opponentFigure = MoveWatcherEvent.getLastUsedFigure(opponentColor); // null on first move
-
-			/* save the old figure's location */
-			final Coordinates currentLocation = figure.getLocation();
-
-			/* Set the figure to this coordinate to test the condition below. */
-			this.updateFigureProperties(figure, destination);
-
-			/* "clean" old settings of the opponent figure */
-			this.updateFigureProperties(opponentFigure, opponentFigure.getLocation());
-
-			/*
-			 * --------------------------------------------------------------------------
-			 * Now check, if the destination of the current used figure gives a match with
-			 * the threat area of the last used figure, except Knight. If true, then the
-			 * current figure should now block the King's threat.
-			 * --------------------------------------------------------------------------
-			 */
-
-			boolean isMoveSatisfied = false;
-			final FigureSet opponentFigureType = opponentFigure.getFigureType();
-
-			if ((opponentFigureType != FigureSet.KNIGHT) && (opponentFigureType != FigureSet.KING) && (opponentFigureType != FigureSet.PAWN)) {
-				for (final Coordinates tmpLoc : opponentFigure.getThreatAreas()) {
-					if (tmpLoc.getCoordinatesXY().equals(destination.getCoordinatesXY())) {
-
-						/*
-						 * --------------------------------------------------------------------------
-						 * Remove the threat and update the new figure's properties.
-						 * --------------------------------------------------------------------------
-						 */
-						ownKing.removeThreat();
-
-						MoveWatcherEvent.addLastMoveBy(figure);
-						Inchesstigated.updateFieldImage(figureID, figureColorAsWord, startCoordinateAsWord, destinationCoordinateAsWord);
-
-						history.usedFigure = FigureSet.getFigureType(figureID);
-						history.startCoord = startCoordinateAsWord;
-						history.destCoord = destinationCoordinateAsWord;
-
-						if (opponentKing.onThreatened()) {
-							final List<Coordinates> kingsEscapeRoutes = opponentKing.createPossibleEscapeFields();
-							if (kingsEscapeRoutes.isEmpty()) {
-								history.moveType = MoveType.GAME_OVER;
-							} else {
-								history.moveType = MoveType.NORMAL_MOVE_AND_THREAT;
-							}
-						} else {
-							history.moveType = MoveType.NORMAL_MOVE;
-						}
-
-						Inchesstigated.updateMoveHistory(history);
-						isMoveSatisfied = true;
-						incorrectMove = false;
-
-						break;
-					}
-				}
-			} else {
-				/*
-				 * --------------------------------------------------------------------------
-				 * It's in use only, if a Knight was the last figure, because the Knight's
-				 * threat areas are unable to block.
-				 * --------------------------------------------------------------------------
-				 */
-				incorrectMove = true;
-			}
-
-			/*
-			 * --------------------------------------------------------------------------
-			 * This is in use only, if a block was not successful. In that case the current
-			 * figure's properties and of the last used figure needs to be restored.
-			 * Finally, this selected move is invalid, because the own King is still
-			 * threatened.
-			 * --------------------------------------------------------------------------
-			 */
-			if (!isMoveSatisfied && (opponentFigure.getFigureType() != FigureSet.KNIGHT)) {
-				incorrectMove = true;
-
-				this.updateFigureProperties(figure, currentLocation);
-				this.updateFigureProperties(opponentFigure, opponentFigure.getLocation());
-			}
-
 		} else {
 			/*
 			 * --------------------------------------------------------------------------
@@ -613,7 +521,6 @@ public enum FigureProcedure {
 			 * --------------------------------------------------------------------------
 			 */
 			BaseFigure opponentFigure = MoveWatcherEvent.getLastUsedFigure(opponentColor); // null on first move
-			final BaseFigure lastUsedFigure = MoveWatcherEvent.getLastUsedFigure(opponentColor); // null on first move
 			opponentFigure = Matrix.INSTANCE.getFigureOnField(destination); // null, if no figure has been detected on this field
 
 			if (opponentFigure != null) {
@@ -629,7 +536,7 @@ public enum FigureProcedure {
 						(Math.abs(figure.getLocation().getPosY().charAt(0) - destination.getPosY().charAt(0)) == 1)); // and Y shall be exactly 1
 				final boolean fullCaptureMoveByPawn = (figure.onHitOpponent(opponentFigure) && (figure instanceof FigurePawn) && pawnDiagonalWay); // Pawn only
 
-				if (normalCaptureMove || fullCaptureMoveByPawn) {
+				if (legalMove && (normalCaptureMove || fullCaptureMoveByPawn)) {
 
 					alreadyDone = true;
 
@@ -646,13 +553,11 @@ public enum FigureProcedure {
 
 					/*
 					 * --------------------------------------------------------------------------
-					 * check, if the own King is threatened and the last used figure is equal to the
-					 * spotted threat figure
+					 * a legal move never leaves the own King threatened, thus a former threat has
+					 * been removed by this capture
 					 * --------------------------------------------------------------------------
 					 */
-					if (ownKing.onThreatened() && ownKing.getThreatFigure().equals(lastUsedFigure)) {
-						ownKing.removeThreat(); // remove threat
-					}
+					ownKing.removeThreat();
 
 					/*
 					 * --------------------------------------------------------------------------
@@ -694,14 +599,15 @@ public enum FigureProcedure {
 						labelID += 5; // then update the labelID by 5
 					}
 
-					Inchesstigated.updateJLabelOnScreen(labelID); // finally, update required JLabel
+					this.listener.onFigureCaptured(labelID); // finally, update required JLabel
 					/* -------------------------------------------------------------------------- */
 
 					this.updateFigureProperties(figure, destination);
 					MoveWatcherEvent.addLastMoveBy(figure); // notify this figure move
+					Matrix.INSTANCE.finishFigureMove(figure, start, opponentFigure);
 
 					// update button icons and required properties
-					Inchesstigated.updateFieldImage(figureID, figureColorAsWord, startCoordinateAsWord, destinationCoordinateAsWord);
+					this.listener.onFigureMoved(figureID, figureColorAsWord, startCoordinateAsWord, destinationCoordinateAsWord);
 
 					// finally, print the current move to the history
 					history.usedFigure = FigureSet.getFigureType(figureID);
@@ -710,8 +616,7 @@ public enum FigureProcedure {
 
 					// check, if the opponent's King may now being threatened by figure
 					if (opponentKing.onThreatened()) {
-						final List<Coordinates> kingsEscapeRoutes = opponentKing.createPossibleEscapeFields();
-						if (kingsEscapeRoutes.isEmpty()) { // there're no escape routes for this king
+						if (this.onCheckMate(opponentKing)) { // there're no escape routes for this king
 							history.moveType = MoveType.GAME_OVER_BEATEN_MOVE;
 						} else {
 							history.moveType = MoveType.NORMAL_BEATEN_MOVE_AND_THREAT;
@@ -720,70 +625,59 @@ public enum FigureProcedure {
 						history.moveType = MoveType.NORMAL_BEATEN_MOVE;
 					}
 
-					Inchesstigated.updateMoveHistory(history);
+					this.listener.onMoveFinished(history);
 					incorrectMove = false;
 
-				} else if ((type == FigureSet.PAWN) && !alreadyDone) {
-
-					/*
-					 * --------------------------------------------------------------------------
-					 * For Pawn only: the current move may be invalid by the normal way, because a
-					 * Pawn may move forward and beat any figure by diagonal way only. In that case,
-					 * if an "en passant" is available and used, then the current move is valid, if
-					 * all sub tests were satisfied.
-					 * --------------------------------------------------------------------------
-					 */
-					if (lastUsedFigure != null) { // avoids to call a NullPointerException in onEnPassant() function below
-						final FigurePawn tmpPawn = (FigurePawn) figure;
-
-						if (tmpPawn.onEnPassant()) { // check, if an "en passant" is available
-							alreadyDone = true;
-							incorrectMove = false;
-
-							/*
-							 * avoids to do an "en passant" again; in that case the figure move is valid
-							 */
-							tmpPawn.setEnPassantFlag(false);
-
-							FigureHolder.INSTANCE.updateFigureList(Modifier.REMOVE, lastUsedFigure); // it's a Pawn only, which is going to removed from list
-							Matrix.INSTANCE.removeFigureFromMatrix(lastUsedFigure);
+				}
+			} else if ((type == FigureSet.PAWN) && this.onEnPassantMove(currentColor, start, destination)) {
 
-							final FigureColor colorOfBeatenFigure = lastUsedFigure.getFigureColor();
-							int labelID = 0; // start with ID = 0 --> Pawn
+				/*
+				 * --------------------------------------------------------------------------
+				 * For Pawn only: a Pawn may beat the opponent's Pawn by "en passant", which
+				 * has passed the destination by a double step on the last move. The bit board
+				 * of the matrix knows this field, thus no former move information of any Pawn
+				 * is in use.
+				 * --------------------------------------------------------------------------
+				 */
+				final BaseFigure capturedPawn = Matrix.INSTANCE.getFigureOnField(Coordinates.valueOf(destination.getIndex() ^ 8));
+				final String capturedCoordinateAsWord = capturedPawn.getLocation().getCoordinatesXY();
 
-							if (colorOfBeatenFigure == FigureColor.BLACK) {
-								labelID += 5;
-							}
+				FigureHolder.INSTANCE.updateFigureList(Modifier.REMOVE, capturedPawn); // it's a Pawn only, which is going to removed from list
+				Matrix.INSTANCE.removeFigureFromMatrix(capturedPawn);
 
-							Inchesstigated.updateJLabelOnScreen(labelID); // finally, update required JLabel
-							this.updateFigureProperties(tmpPawn, destination);
+				int labelID = 0; // start with ID = 0 --> Pawn
+				if (capturedPawn.getFigureColor() == FigureColor.BLACK) {
+					labelID += 5;
+				}
 
-							// update button icons and required properties
-							Inchesstigated.updateFieldImage(figureID, figureColorAsWord, startCoordinateAsWord, destinationCoordinateAsWord);
+				this.listener.onFigureCaptured(labelID); // finally, update required JLabel
+				this.updateFigureProperties(figure, destination);
+				MoveWatcherEvent.addLastMoveBy(figure); // notify this figure move
+				Matrix.INSTANCE.finishFigureMove(figure, start, capturedPawn);
+				ownKing.removeThreat(); // a legal move never leaves the own King threatened
 
-							// finally, print the current move to the history
-							history.usedFigure = FigureSet.PAWN;
-							history.startCoord = startCoordinateAsWord;
-							history.destCoord = destinationCoordinateAsWord;
+				// update button icons, where the Pawn passes the field of the captured Pawn to remove it's icon
+				this.listener.onFigureMoved(figureID, figureColorAsWord, startCoordinateAsWord, capturedCoordinateAsWord);
+				this.listener.onFigureMoved(figureID, figureColorAsWord, capturedCoordinateAsWord, destinationCoordinateAsWord);
 
-							// check, if the opponent's King may now being threatened by this Pawn
-							if (opponentKing.onThreatened()) {
-								final List<Coordinates> kingsEscapeRoutes = opponentKing.createPossibleEscapeFields();
-								if (kingsEscapeRoutes.isEmpty()) { // there're no escape routes for this king
-									history.moveType = MoveType.GAME_OVER_EN_PASSANT;
-								} else {
-									history.moveType = MoveType.EN_PASSANT_BEATEN_MOVE_AND_THREAT;
-								}
-							} else {
-								history.moveType = MoveType.EN_PASSANT_BEATEN_MOVE;
-							}
+				// finally, print the current move to the history
+				history.usedFigure = FigureSet.PAWN;
+				history.startCoord = startCoordinateAsWord;
+				history.destCoord = destinationCoordinateAsWord;
 
-							Inchesstigated.updateMoveHistory(history);
-						} else {
-							incorrectMove = true;
-						}
+				// check, if the opponent's King may now being threatened by this Pawn
+				if (opponentKing.onThreatened()) {
+					if (this.onCheckMate(opponentKing)) { // there're no escape routes for this king
+						history.moveType = MoveType.GAME_OVER_EN_PASSANT;
+					} else {
+						history.moveType = MoveType.EN_PASSANT_BEATEN_MOVE_AND_THREAT;
 					}
+				} else {
+					history.moveType = MoveType.EN_PASSANT_BEATEN_MOVE;
 				}
+
+				this.listener.onMoveFinished(history);
+				incorrectMove = false;
 			} else {
 				// it's an invalid move here -> set flag
 				incorrectMove = true;
@@ -791,7 +685,7 @@ public enum FigureProcedure {
 		}
 
 		if (incorrectMove) {
-			Inchesstigated.infoDialog(10, "");
+			this.listener.onInvalidMove();
 			this.moveState = MoveState.INVALID;
 		}
 	}
@@ -845,7 +739,7 @@ public enum FigureProcedure {
 			if (rookToUse != null) { // the Rook must not be null
 				this.makeCastling(kingToUse, rookToUse, type);
 			} else {
-				Inchesstigated.infoDialog(11, "Kein Turm f\u00FCr eine Rochade vorhanden!");
+				this.listener.onCastlingRejected("Kein Turm f\u00FCr eine Rochade vorhanden!");
 			}
 		} catch (final Exception e) {
 			e.printStackTrace();
@@ -869,6 +763,8 @@ public enum FigureProcedure {
 
 		if (CastlingEvent.INSTANCE.onCastlingPossibility(king, rook) == CastlingState.STILL_POSSIBLE) {
 			CastlingEvent.INSTANCE.castlingKingTower(castlingType, king, rook);
+			MoveWatcherEvent.addLastMoveBy(king); // the castling is the move of the King, so the opponent is on turn
+			Matrix.INSTANCE.finishFigureMove(king, Coordinates.valueOf((king.getFigureColor() == FigureColor.WHITE) ? "E1" : "E8"), null);
 
 			final FigureKing ownKing = king;
 			final FigureColor opponentColor = FigureColor.getOpponentColor(ownKing.getFigureColor());
@@ -903,8 +799,7 @@ public enum FigureProcedure {
 				}
 
 				if (opponentKing.onThreatened()) {
-					final List<Coordinates> kingsEscapeRoutes = opponentKing.createPossibleEscapeFields();
-					if (kingsEscapeRoutes.isEmpty()) {
+					if (this.onCheckMate(opponentKing)) {
 						history.moveType = MoveType.GAME_OVER_SMALL_CASTLING;
 					} else {
 						history.moveType = MoveType.SMALL_CASTLING_MOVE_AND_THREAT;
@@ -928,8 +823,7 @@ public enum FigureProcedure {
 				}
 
 				if (opponentKing.onThreatened()) {
-					final List<Coordinates> kingsEscapeRoutes = opponentKing.createPossibleEscapeFields();
-					if (kingsEscapeRoutes.isEmpty()) {
+					if (this.onCheckMate(opponentKing)) {
 						history.moveType = MoveType.GAME_OVER_BIG_CASTLING;
 					} else {
 						history.moveType = MoveType.BIG_BASTLING_MOVE_AND_THREAT;
@@ -939,12 +833,12 @@ public enum FigureProcedure {
 				}
 			}
 
-			Inchesstigated.updateMoveHistory(history);
-			Inchesstigated.updateFieldImage(figureKingID, figureKingColor, startCoordinateKing, destinationCoordinateKing); // update King's position
-			Inchesstigated.updateFieldImage(figureRookID, figureRookColor, startCoordinateRook, destinationCoordinateRook); // and also Rook's position
+			this.listener.onMoveFinished(history);
+			this.listener.onFigureMoved(figureKingID, figureKingColor, startCoordinateKing, destinationCoordinateKing); // update King's position
+			this.listener.onFigureMoved(figureRookID, figureRookColor, startCoordinateRook, destinationCoordinateRook); // and also Rook's position
 		} else {
 			final String errorMessage = CastlingEvent.INSTANCE.getCastlingErrorReason();
-			Inchesstigated.infoDialog(11, errorMessage);
+			this.listener.onCastlingRejected(errorMessage);
 		}
 	}
 
@@ -970,6 +864,55 @@ public enum FigureProcedure {
 		VALID, INVALID
 	}
 
+	/**
+	 * Check, if a Pawn of the given color is able to beat by "en passant" from the
+	 * start to the destination. The destination has to be the "en passant" field
+	 * of the bit board, which is set by the last double step of the opponent's
+	 * Pawn only, and the own King must not be left threatened.
+	 *
+	 * @param color
+	 *            the color of the Pawn
+	 * @param start
+	 *            the start field of the Pawn
+	 * @param destination
+	 *            the destination field
+	 *
+	 * @return true, if the "en passant" is legal,<br>
+	 *         false, otherwise
+	 */
+	private boolean onEnPassantMove(final FigureColor color, final Coordinates start, final Coordinates destination) {
+		final BitBoard board = Matrix.INSTANCE.getBitBoard();
+		if ((board.getSideToMove() != color) || (destination.getIndex() != board.getEnPassantField())) {
+			return false;
+		}
+
+		final int forward = (color == FigureColor.WHITE) ? 1 : -1;
+		if ((Math.abs(destination.getFile() - start.getFile()) != 1) || ((destination.getRank() - start.getRank()) != forward)) {
+			return false;
+		}
+
+		return board.onLegalMove(Move.create(start.getIndex(), destination.getIndex(), Move.FLAG_EN_PASSANT));
+	}
+
+	/**
+	 * Check, if the threatened King of the opponent is mate. The King is mate, if
+	 * it's side has to move and has no legal move at all on the bit board of the
+	 * matrix, where a block or a capture of the threatening figure is a legal
+	 * move, too. The bit board knows the "en passant" field of the last move.
+	 *
+	 * @param king
+	 *            the threatened King
+	 *
+	 * @return true, if the game is over,<br>
+	 *         false, otherwise
+	 */
+	private boolean onCheckMate(final FigureKing king) {
+		final FigureColor color = king.getFigureColor();
+		final BitBoard position = new BitBoard(Matrix.INSTANCE.getBitBoard()); // the listener of the matrix isn't notified
+
+		return (position.getSideToMove() == color) && position.onCheck(color) && (MoveGenerator.generateLegalMoves(position, new int[MoveGenerator.MAX_MOVES]) == 0);
+	}
+
 	/**
 	 * Receiving the current move state.
 	 * 
@@ -28,12 +28,15 @@ import javax.swing.WindowConstants;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
 
+import engine.Accumulator;
 import event.CastlingEvent.CastlingType;
 import event.GameEvent;
 import event.MoveWatcherEvent;
 import figure.properties.FigureColor;
 import figure.properties.FigureSet;
 import gui.MoveHistory.MoveType;
+import interfaces.GameListener;
+import location.Matrix;
 
 /**
  * @author swunsch, ptoepel, dlang2
@@ -41,8 +44,11 @@ import gui.MoveHistory.MoveType;
  *         This class contains the graphical user interface for the WW1 project
  *         "Inchesstigated". It will hold buttons, labels and many more to offer
  *         to interact from outside to the code core.
+ *
+ *         The results of each move are received as {@link GameListener} from
+ *         {@link FigureProcedure}.
  */
-public class Inchesstigated extends JFrame {
+public class Inchesstigated extends JFrame implements GameListener {
 
 	/* default created serial version user ID */
 	private static final long serialVersionUID = 1L;
@@ -66,6 +72,8 @@ public class Inchesstigated extends JFrame {
 	private static JLabel LblRunnerWhite;
 	private static JLabel LblRunnerBlack;
 	private static JLabel lblForCurrentRound;
+	private static EvaluationBar evaluationBar; // the score of the current position beside the chess field
+	private static Accumulator networkAccumulator = null; // the neural network of the evaluation bar, or null
 
 	private static JButton btnsForGame[] = null; // create up to 64 buttons for an "interface"
 
@@ -324,6 +332,11 @@ public class Inchesstigated extends JFrame {
 		bg.add(Inchesstigated.LblRunnerBlack);
 		bg.add(Inchesstigated.getLabelForCurrentRound());
 
+		Inchesstigated.evaluationBar = new EvaluationBar(); // between the chess field and the buttons
+		Inchesstigated.evaluationBar.setBounds(958, 33, 20, 630);
+		Inchesstigated.evaluationBar.setToolTipText("Bewertung der aktuellen Stellung.");
+		bg.add(Inchesstigated.evaluationBar);
+
 		this.createButtonsForGame();
 		for (int i = 0; i < this.NBR_OF_OBJECTS; i++) {
 			bg.add(Inchesstigated.btnsForGame[i]);
@@ -948,6 +961,12 @@ public class Inchesstigated extends JFrame {
 
 				JOptionPane.showMessageDialog(null, sb.toString(), "Fehler Rochade", JOptionPane.ERROR_MESSAGE);
 				break;
+			case 12: // the move of the computer is not possible
+				sb.append("Der Zug des Computers wurde abgelehnt:" + "\n");
+				sb.append(msg);
+
+				JOptionPane.showMessageDialog(null, sb.toString(), "Fehler Computer", JOptionPane.ERROR_MESSAGE);
+				break;
 		}
 	}
 
@@ -962,6 +981,17 @@ public class Inchesstigated extends JFrame {
 		Inchesstigated.Remis.setEnabled(false);
 	}
 
+	/**
+	 * Show the score of the given neural network on the evaluation bar instead of
+	 * the handcrafted evaluation.
+	 *
+	 * @param accumulator
+	 *            the hidden layer, which follows the matrix, or null
+	 */
+	public static void setNetworkAccumulator(final Accumulator accumulator) {
+		Inchesstigated.networkAccumulator = accumulator;
+	}
+
 	/**
 	 * Create a new JLabel for the current round.
 	 * 
@@ -977,4 +1007,83 @@ public class Inchesstigated extends JFrame {
 
 		return Inchesstigated.lblForCurrentRound;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see interfaces.GameListener#onFigureMoved(java.lang.String, java.lang.String, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public void onFigureMoved(final String figureID, final String figureColorAsWord, final String startCoordAsWord, final String destinationCoordAsWord) {
+		Inchesstigated.updateFieldImage(figureID, figureColorAsWord, startCoordAsWord, destinationCoordAsWord);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see interfaces.GameListener#onFigureCaptured(int)
+	 */
+	@Override
+	public void onFigureCaptured(final int labelID) {
+		Inchesstigated.updateJLabelOnScreen(labelID);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see interfaces.GameListener#onPawnPromotion()
+	 */
+	@Override
+	public String onPawnPromotion() {
+		return Inchesstigated.showPawnPromotion();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see interfaces.GameListener#onMoveFinished(gui.MoveHistory)
+	 */
+	@Override
+	public void onMoveFinished(final MoveHistory history) {
+		Inchesstigated.updateMoveHistory(history);
+
+		/* the score is updated with each move, thus no search is required */
+		if (Inchesstigated.networkAccumulator != null) {
+			Inchesstigated.evaluationBar.setScore(Inchesstigated.networkAccumulator.evaluate(FigureColor.WHITE));
+		} else {
+			Inchesstigated.evaluationBar.setScore(Matrix.INSTANCE.getEvaluation());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see interfaces.GameListener#onInvalidMove()
+	 */
+	@Override
+	public void onInvalidMove() {
+		Inchesstigated.infoDialog(10, "");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see interfaces.GameListener#onCastlingRejected(java.lang.String)
+	 */
+	@Override
+	public void onCastlingRejected(final String reason) {
+		Inchesstigated.infoDialog(11, reason);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see interfaces.GameListener#onComputerSearched(java.lang.String)
+	 */
+	@Override
+	public void onComputerSearched(final String status) {
+		Inchesstigated.evaluationBar.setToolTipText("<html>Bewertung der aktuellen Stellung.<br>" + status.replace("\n", "<br>") + "</html>");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see interfaces.GameListener#onComputerMoveRejected(java.lang.String)
+	 */
+	@Override
+	public void onComputerMoveRejected(final String move) {
+		Inchesstigated.infoDialog(12, move);
+	}
 }
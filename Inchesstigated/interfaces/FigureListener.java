@@ -0,0 +1,42 @@
+/**
+ * @package: interfaces
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package interfaces;
+
+/**
+ * @author swunsch
+ *
+ *         This interface is in use for any state, which has to follow each
+ *         single change of a {@link location.BitBoard}, like the accumulator of
+ *         a neural network. It's notified for each figure, which is set or
+ *         removed, including the moves of a search and the moves taken back.
+ */
+public interface FigureListener {
+	/**
+	 * A figure has been set on a free field.
+	 *
+	 * @param figure
+	 *            the figure as (type << 1) | color
+	 * @param field
+	 *            the field index
+	 */
+	public void onFigureSet(int figure, int field);
+
+	/**
+	 * A figure has been removed from a field.
+	 *
+	 * @param figure
+	 *            the figure as (type << 1) | color
+	 * @param field
+	 *            the field index
+	 */
+	public void onFigureRemoved(int figure, int field);
+}
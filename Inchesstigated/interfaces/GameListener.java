@@ -0,0 +1,106 @@
+/**
+ * @package: interfaces
+ * @project: Inchesstigated
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package interfaces;
+
+import figure.properties.FigureSet;
+import gui.FigureProcedure;
+import gui.MoveHistory;
+
+/**
+ * @author swunsch
+ *
+ *         This interface is in use for any user interface of the game. The
+ *         rules of {@link FigureProcedure} notify each result of a move by
+ *         these functions, thus the rules don't depend on any window.
+ *
+ *         Each function does nothing by default, and a Pawn is always promoted
+ *         to a Queen, therefore a game without any user interface (like a
+ *         replay of many games) uses this interface as it is.
+ */
+public interface GameListener {
+	/**
+	 * A figure has been moved from start to destination.
+	 *
+	 * @param figureID
+	 *            the figureID of the moved figure
+	 * @param figureColorAsWord
+	 *            the figure color in words
+	 * @param startCoordAsWord
+	 *            start coordinate
+	 * @param destinationCoordAsWord
+	 *            destination coordinate
+	 */
+	public default void onFigureMoved(final String figureID, final String figureColorAsWord, final String startCoordAsWord, final String destinationCoordAsWord) {
+	}
+
+	/**
+	 * A figure has been removed from the field.
+	 *
+	 * @param labelID
+	 *            the ID of the removed figure by type and color
+	 */
+	public default void onFigureCaptured(final int labelID) {
+	}
+
+	/**
+	 * A Pawn has reached it's last coordinate, thus the new figure needs to be
+	 * selected.
+	 *
+	 * @return the promoted figure in words,<br>
+	 *         or null, if no figure has been selected
+	 */
+	public default String onPawnPromotion() {
+		return FigureSet.QUEEN.toString();
+	}
+
+	/**
+	 * A move has been finished.
+	 *
+	 * @param history
+	 *            holds all properties of this move
+	 */
+	public default void onMoveFinished(final MoveHistory history) {
+	}
+
+	/** The requested move is invalid. */
+	public default void onInvalidMove() {
+	}
+
+	/**
+	 * The requested castling is impossible.
+	 *
+	 * @param reason
+	 *            the reason in words
+	 */
+	public default void onCastlingRejected(final String reason) {
+	}
+
+	/**
+	 * The computer opponent has finished the search of it's move.
+	 *
+	 * @param status
+	 *            the reached depth, the score and the nodes per second of the
+	 *            search and the statistics of it's tables in words
+	 */
+	public default void onComputerSearched(final String status) {
+	}
+
+	/**
+	 * The move of the computer opponent has been rejected by the figures of the
+	 * matrix, thus the computer is unable to continue the game.
+	 *
+	 * @param move
+	 *            the rejected move in words, like "E2E4"
+	 */
+	public default void onComputerMoveRejected(final String move) {
+	}
+}
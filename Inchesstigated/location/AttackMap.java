@@ -0,0 +1,298 @@
+/**
+ * @package: location
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package location;
+
+import java.util.Arrays;
+
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the number of figures of each color, which cover a field, for
+ *         all 64 fields of a {@link BitBoard}. The covered fields of each
+ *         figure are stored as well, thus a change of the position doesn't
+ *         require to collect the covered fields of all figures again.
+ *
+ *         Whenever a field has been changed (a figure has been set or removed),
+ *         only the figure on this field and each Rook, Runner or Queen, which
+ *         covers this field, has to be updated. Any other figure still covers
+ *         the same fields as before.
+ *
+ *         Like in the threat lists of the {@link Matrix}, the rays of a Rook,
+ *         Runner or Queen pass the opponent's King, thus the King is never able
+ *         to step back along such a ray.
+ */
+public final class AttackMap {
+	/** the bit board to observe */
+	private final BitBoard board;
+
+	/** number of covering figures, indexed by FigureColor and field */
+	private final int[][] counts;
+
+	/** the covered fields of the figure on each field, 0 for a free field */
+	private final long[] attacks;
+
+	/** the figure on each field as (type << 1) | color, when it's attacks have been stored */
+	private final int[] figures;
+
+	/** all fields with a Rook, Runner or Queen, when it's attacks have been stored */
+	private long sliders;
+
+	/** all fields with a figure, which covers a changed field or has been changed, since the last request */
+	private long affected;
+
+	/**
+	 * Create the attack map of the given bit board.
+	 *
+	 * @param board
+	 *            the bit board to observe
+	 */
+	public AttackMap(final BitBoard board) {
+		this.board = board;
+		this.counts = new int[BitBoard.COLORS.length][BitBoard.NBR_OF_FIELDS];
+		this.attacks = new long[BitBoard.NBR_OF_FIELDS];
+		this.figures = new int[BitBoard.NBR_OF_FIELDS];
+		this.reset();
+	}
+
+	/**
+	 * Collect the covered fields of all figures from scratch. It's in use, if the
+	 * whole position has been replaced, like {@link BitBoard#setPosition(String)}.
+	 */
+	public void reset() {
+		for (final int[] count : this.counts) {
+			Arrays.fill(count, 0);
+		}
+		Arrays.fill(this.attacks, 0L);
+		Arrays.fill(this.figures, BitBoard.NO_FIGURE);
+		this.sliders = 0L;
+
+		long occupied = this.board.getOccupancy();
+		this.affected |= occupied;
+
+		while (occupied != 0L) {
+			this.addField(Long.numberOfTrailingZeros(occupied));
+			occupied &= occupied - 1;
+		}
+	}
+
+	/**
+	 * Update the map after the given fields have been changed on the bit board.
+	 *
+	 * @param changed
+	 *            all fields, where a figure has been set or removed
+	 *
+	 * @return all fields with a figure, whose covered fields have been updated
+	 */
+	public long update(final long changed) {
+		long dirty = changed;
+
+		/*
+		 * Any figure, which covers a changed field, is affected by this change. A Rook,
+		 * Runner or Queen also covers other fields now, because one of it's rays has
+		 * been changed; this also holds for a moved King, because it's old and new
+		 * field are part of the changed fields.
+		 */
+		long figure = this.board.getOccupancy() & ~changed;
+		while (figure != 0L) {
+			final int field = Long.numberOfTrailingZeros(figure);
+			figure &= figure - 1;
+
+			if ((this.attacks[field] & changed) != 0L) {
+				this.affected |= BitBoard.getFieldMask(field);
+				if ((this.sliders & BitBoard.getFieldMask(field)) != 0L) {
+					dirty |= BitBoard.getFieldMask(field);
+				}
+			}
+		}
+
+		long field = dirty;
+		while (field != 0L) {
+			final int index = Long.numberOfTrailingZeros(field);
+			field &= field - 1;
+
+			this.removeField(index);
+			this.addField(index);
+		}
+
+		final long updated = dirty & this.board.getOccupancy();
+		this.affected |= updated;
+		return updated;
+	}
+
+	/**
+	 * Receive all fields with a figure, which has been set or which covers a
+	 * changed field, since the last call of this function. Only these figures may
+	 * protect or threat other figures than before. The collected fields are
+	 * cleared afterwards.
+	 *
+	 * @return all fields of affected figures
+	 */
+	public long takeAffectedFields() {
+		final long fields = this.affected & this.board.getOccupancy();
+		this.affected = 0L;
+		return fields;
+	}
+
+	/**
+	 * Receive the number of figures with the given color, which cover the given
+	 * field.
+	 *
+	 * @param field
+	 *            the field index
+	 * @param color
+	 *            the color of the covering figures
+	 *
+	 * @return the number of covering figures
+	 */
+	public int getAttackCount(final int field, final FigureColor color) {
+		return this.counts[color.ordinal()][field];
+	}
+
+	/**
+	 * Check, if the given field is covered by any figure of the given color.
+	 *
+	 * @param field
+	 *            the field index
+	 * @param color
+	 *            the color of the covering figures
+	 *
+	 * @return true, if at least one figure covers this field,<br>
+	 *         false, otherwise
+	 */
+	public boolean onAttacked(final int field, final FigureColor color) {
+		return this.counts[color.ordinal()][field] != 0;
+	}
+
+	/**
+	 * Receive all fields, which are covered by the figure on the given field.
+	 *
+	 * @param field
+	 *            the field index
+	 *
+	 * @return the covered fields, 0 for a free field
+	 */
+	public long getAttacks(final int field) {
+		return this.attacks[field];
+	}
+
+	/**
+	 * Receive all fields, which are covered by any figure of the given color.
+	 *
+	 * @param color
+	 *            the color of the covering figures
+	 *
+	 * @return the covered fields
+	 */
+	public long getAttackedFields(final FigureColor color) {
+		long covered = 0L;
+		long own = this.board.getColorMask(color);
+
+		while (own != 0L) {
+			covered |= this.attacks[Long.numberOfTrailingZeros(own)];
+			own &= own - 1;
+		}
+
+		return covered;
+	}
+
+	/**
+	 * Collect the covered fields of a single figure, where the rays of a Rook,
+	 * Runner or Queen pass the opponent's King.
+	 *
+	 * @param board
+	 *            the bit board to use
+	 * @param field
+	 *            the field of the figure
+	 *
+	 * @return the covered fields, 0 for a free field
+	 */
+	public static long computeAttacks(final BitBoard board, final int field) {
+		final int figure = board.getFigure(field);
+		if (figure == BitBoard.NO_FIGURE) {
+			return 0L;
+		}
+
+		final FigureColor color = BitBoard.COLORS[figure & 1];
+		final long occupancy = board.getOccupancy() & ~board.getFigureMask(FigureSet.KING, BitBoard.COLORS[(figure & 1) ^ 1]);
+
+		switch (BitBoard.TYPES[figure >>> 1]) {
+			case PAWN:
+				return AttackTable.getPawnAttacks(field, color);
+			case KNIGHT:
+				return AttackTable.getKnightAttacks(field);
+			case KING:
+				return AttackTable.getKingAttacks(field);
+			case ROOK:
+				return MagicTable.getRookAttacks(field, occupancy);
+			case RUNNER:
+				return MagicTable.getRunnerAttacks(field, occupancy);
+			default:
+				return MagicTable.getQueenAttacks(field, occupancy);
+		}
+	}
+
+	/**
+	 * Store the covered fields of the figure on the given field and count them.
+	 *
+	 * @param field
+	 *            the field index
+	 */
+	private void addField(final int field) {
+		final int figure = this.board.getFigure(field);
+		this.figures[field] = figure;
+		if (figure == BitBoard.NO_FIGURE) {
+			return;
+		}
+
+		final int type = figure >>> 1;
+		if ((type == FigureSet.ROOK.ordinal()) || (type == FigureSet.RUNNER.ordinal()) || (type == FigureSet.QUEEN.ordinal())) {
+			this.sliders |= BitBoard.getFieldMask(field);
+		}
+
+		final long covered = AttackMap.computeAttacks(this.board, field);
+		this.attacks[field] = covered;
+
+		final int[] count = this.counts[figure & 1];
+		long bits = covered;
+		while (bits != 0L) {
+			count[Long.numberOfTrailingZeros(bits)]++;
+			bits &= bits - 1;
+		}
+	}
+
+	/**
+	 * Remove the stored covered fields of the given field from the counts.
+	 *
+	 * @param field
+	 *            the field index
+	 */
+	private void removeField(final int field) {
+		final int figure = this.figures[field];
+		if (figure == BitBoard.NO_FIGURE) {
+			return;
+		}
+
+		final int[] count = this.counts[figure & 1];
+		long bits = this.attacks[field];
+		while (bits != 0L) {
+			count[Long.numberOfTrailingZeros(bits)]--;
+			bits &= bits - 1;
+		}
+
+		this.attacks[field] = 0L;
+		this.figures[field] = BitBoard.NO_FIGURE;
+		this.sliders &= ~BitBoard.getFieldMask(field);
+	}
+}
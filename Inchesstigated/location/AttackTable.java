@@ -0,0 +1,221 @@
+/**
+ * @package: location
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package location;
+
+import figure.properties.FigureColor;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the precomputed attack masks of a Knight, a King and a Pawn for
+ *         each of the 64 fields. These figures cover the same fields on an
+ *         empty or a full chess field, thus the masks are created once, when
+ *         this class has been loaded, and a lookup replaces any step by step
+ *         walk.
+ *
+ *         Beside the attack masks it holds the fields between two fields and the
+ *         whole line through two fields, if both fields are on a common
+ *         horizontal, vertical or diagonal line (see {@link Orientation}). This
+ *         allows to find pinned figures and to block a threat by a single
+ *         lookup.
+ *
+ *         The field index is the same one as in use for the {@link BitBoard}.
+ */
+public final class AttackTable {
+	/** steps {X,Y} for each field which is covered by a Knight */
+	private static final int[][] KNIGHT_STEPS = {
+			{ 2, 1 }, { 1, 2 }, { -1, 2 }, { -2, 1 }, { -2, -1 }, { -1, -2 }, { 1, -2 }, { 2, -1 }
+	};
+
+	/** steps {X,Y} for each field which is covered by a King */
+	private static final int[][] KING_STEPS = {
+			{ 1, 0 }, { 1, 1 }, { 0, 1 }, { -1, 1 }, { -1, 0 }, { -1, -1 }, { 0, -1 }, { 1, -1 }
+	};
+
+	/** steps {X,Y} for each field which is covered by a black Pawn */
+	private static final int[][] BLACK_PAWN_STEPS = {
+			{ -1, -1 }, { 1, -1 }
+	};
+
+	/** steps {X,Y} for each field which is covered by a white Pawn */
+	private static final int[][] WHITE_PAWN_STEPS = {
+			{ -1, 1 }, { 1, 1 }
+	};
+
+	/** attack masks of a Pawn, indexed by FigureColor and field */
+	private static final long[][] PAWN_ATTACKS = {
+			AttackTable.createAttacks(AttackTable.BLACK_PAWN_STEPS), AttackTable.createAttacks(AttackTable.WHITE_PAWN_STEPS)
+	};
+
+	/** attack masks of a Knight, indexed by field */
+	private static final long[] KNIGHT_ATTACKS = AttackTable.createAttacks(AttackTable.KNIGHT_STEPS);
+
+	/** attack masks of a King, indexed by field */
+	private static final long[] KING_ATTACKS = AttackTable.createAttacks(AttackTable.KING_STEPS);
+
+	/** fields strictly between two fields on a common line, indexed by both fields */
+	private static final long[][] BETWEEN = new long[BitBoard.NBR_OF_FIELDS][BitBoard.NBR_OF_FIELDS];
+
+	/** the whole line through two fields on a common line, indexed by both fields */
+	private static final long[][] LINES = new long[BitBoard.NBR_OF_FIELDS][BitBoard.NBR_OF_FIELDS];
+
+	static {
+		for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+			for (final Orientation orientation : Orientation.values()) {
+				final int stepX = orientation.getStepX();
+				final int stepY = orientation.getStepY();
+				final long line = AttackTable.createRay(field, stepX, stepY) | AttackTable.createRay(field, -stepX, -stepY) | BitBoard.getFieldMask(field);
+
+				long between = 0L;
+				int posX = (field & 7) + stepX;
+				int posY = (field >>> 3) + stepY;
+
+				while ((posX >= 0) && (posX < 8) && (posY >= 0) && (posY < 8)) {
+					final int other = (posY << 3) | posX;
+					AttackTable.BETWEEN[field][other] = between;
+					AttackTable.LINES[field][other] = line;
+
+					between |= BitBoard.getFieldMask(other);
+					posX += stepX;
+					posY += stepY;
+				}
+			}
+		}
+	}
+
+	/** no instance required */
+	private AttackTable() {
+	}
+
+	/**
+	 * Create the ray from the given field (excluded) up to the border of the chess
+	 * field.
+	 *
+	 * @param field
+	 *            the start field
+	 * @param stepX
+	 *            the horizontal step
+	 * @param stepY
+	 *            the vertical step
+	 *
+	 * @return the mask of the ray
+	 */
+	private static long createRay(final int field, final int stepX, final int stepY) {
+		long ray = 0L;
+		int posX = (field & 7) + stepX;
+		int posY = (field >>> 3) + stepY;
+
+		while ((posX >= 0) && (posX < 8) && (posY >= 0) && (posY < 8)) {
+			ray |= BitBoard.getFieldMask((posY << 3) | posX);
+			posX += stepX;
+			posY += stepY;
+		}
+
+		return ray;
+	}
+
+	/**
+	 * Create the attack masks for each field by given steps.
+	 *
+	 * @param steps
+	 *            the steps {X,Y} of the figure
+	 *
+	 * @return the attack masks, indexed by field
+	 */
+	private static long[] createAttacks(final int[][] steps) {
+		final long[] attacks = new long[BitBoard.NBR_OF_FIELDS];
+
+		for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+			final int posX = field & 7;
+			final int posY = field >>> 3;
+
+			for (final int[] step : steps) {
+				final int naturalPosX = posX + step[0];
+				final int naturalPosY = posY + step[1];
+
+				if ((naturalPosX >= 0) && (naturalPosX < 8) && (naturalPosY >= 0) && (naturalPosY < 8)) {
+					attacks[field] |= BitBoard.getFieldMask((naturalPosY << 3) | naturalPosX);
+				}
+			}
+		}
+
+		return attacks;
+	}
+
+	/**
+	 * Receive all fields which are covered by a Knight on the given field.
+	 *
+	 * @param field
+	 *            the field index of the Knight
+	 *
+	 * @return the attack mask
+	 */
+	public static long getKnightAttacks(final int field) {
+		return AttackTable.KNIGHT_ATTACKS[field];
+	}
+
+	/**
+	 * Receive all fields which are covered by a King on the given field.
+	 *
+	 * @param field
+	 *            the field index of the King
+	 *
+	 * @return the attack mask
+	 */
+	public static long getKingAttacks(final int field) {
+		return AttackTable.KING_ATTACKS[field];
+	}
+
+	/**
+	 * Receive all fields which are covered by a Pawn on the given field.
+	 *
+	 * @param field
+	 *            the field index of the Pawn
+	 * @param color
+	 *            the color of the Pawn
+	 *
+	 * @return the attack mask
+	 */
+	public static long getPawnAttacks(final int field, final FigureColor color) {
+		return AttackTable.PAWN_ATTACKS[color.ordinal()][field];
+	}
+
+	/**
+	 * Receive all fields strictly between two fields.
+	 *
+	 * @param first
+	 *            the first field index
+	 * @param second
+	 *            the second field index
+	 *
+	 * @return the mask of the fields between,<br>
+	 *         or 0, if both fields are neighbors or not on a common line
+	 */
+	public static long getBetween(final int first, final int second) {
+		return AttackTable.BETWEEN[first][second];
+	}
+
+	/**
+	 * Receive the whole line through two fields, from border to border.
+	 *
+	 * @param first
+	 *            the first field index
+	 * @param second
+	 *            the second field index
+	 *
+	 * @return the mask of the line including both fields,<br>
+	 *         or 0, if both fields are not on a common line
+	 */
+	public static long getLine(final int first, final int second) {
+		return AttackTable.LINES[first][second];
+	}
+}
@@ -0,0 +1,1239 @@
+/**
+ * @package: location
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package location;
+
+import java.util.Arrays;
+
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+import interfaces.FigureListener;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the occupancy of the chess field as 64 bit masks. Each field
+ *         from "A1" to "H8" is mapped to a single bit, where "A1" is bit 0,
+ *         "H1" is bit 7 and "H8" is bit 63.
+ *
+ *         There is one mask for each figure color and one mask for each figure
+ *         type, thus a question like "is there a black Rook on this field?" is
+ *         a single AND operation instead of a lookup inside of the matrix.
+ *
+ *         Beside the figures this bit board also holds the state of the
+ *         position (side to move, castling rights, "en passant" field). A move
+ *         can be made by {@link #makeMove(int)} and taken back by
+ *         {@link #unmakeMove()}, where each made move is stored on an undo
+ *         stack. This allows to try any move without cloning a figure or
+ *         changing the matrix.
+ *
+ *         Each change of the position also updates the Zobrist key (see
+ *         {@link Zobrist}), thus two positions can be compared by a single
+ *         64 bit value. The same way the material and field scores of both
+ *         game phases are summed up (see {@link PieceSquareTable}), thus a
+ *         position is rated without visiting each figure.
+ */
+public final class BitBoard {
+	/* constants */
+	public static final int NBR_OF_FIELDS = 64;
+	public static final int NO_FIELD = -1;
+	public static final int NO_FIGURE = -1;
+
+	/* castling rights */
+	public static final int WHITE_KING_SIDE = 1;
+	public static final int WHITE_QUEEN_SIDE = 2;
+	public static final int BLACK_KING_SIDE = 4;
+	public static final int BLACK_QUEEN_SIDE = 8;
+	public static final int ALL_CASTLING_RIGHTS = 15;
+
+	/** cached values to avoid to create a new array for each values() call */
+	public static final FigureColor[] COLORS = FigureColor.values();
+	public static final FigureSet[] TYPES = FigureSet.values();
+
+	/** the default start position in the Forsyth-Edwards notation (FEN) */
+	public static final String START_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	/** the type index of a Pawn */
+	private static final int PAWN = FigureSet.PAWN.ordinal();
+
+	/** FEN characters of each figure type, indexed by FigureSet (Runner = Bishop) */
+	private static final String FEN_FIGURES = "pnrbkq";
+
+	/** FEN characters of each castling right */
+	private static final String FEN_CASTLING = "KQkq";
+
+	/** initial size of the undo stack, which grows for very long games only */
+	private static final int INITIAL_HISTORY_SIZE = 1024;
+
+	/** castling rights which are left, whenever a figure leaves or reaches a field */
+	private static final int[] CASTLING_MASKS = new int[BitBoard.NBR_OF_FIELDS];
+
+	static {
+		Arrays.fill(BitBoard.CASTLING_MASKS, BitBoard.ALL_CASTLING_RIGHTS);
+		BitBoard.CASTLING_MASKS[0] &= ~BitBoard.WHITE_QUEEN_SIDE; // A1
+		BitBoard.CASTLING_MASKS[4] &= ~(BitBoard.WHITE_KING_SIDE | BitBoard.WHITE_QUEEN_SIDE); // E1
+		BitBoard.CASTLING_MASKS[7] &= ~BitBoard.WHITE_KING_SIDE; // H1
+		BitBoard.CASTLING_MASKS[56] &= ~BitBoard.BLACK_QUEEN_SIDE; // A8
+		BitBoard.CASTLING_MASKS[60] &= ~(BitBoard.BLACK_KING_SIDE | BitBoard.BLACK_QUEEN_SIDE); // E8
+		BitBoard.CASTLING_MASKS[63] &= ~BitBoard.BLACK_KING_SIDE; // H8
+	}
+
+	/** all fields which are reserved by any figure */
+	private long occupancy;
+
+	/** all fields reserved by a figure of a color, indexed by FigureColor */
+	private final long[] colorMasks;
+
+	/** all fields reserved by a figure type, indexed by FigureSet */
+	private final long[] typeMasks;
+
+	/** the figure on each field as (type << 1) | color, or NO_FIGURE */
+	private final int[] figures;
+
+	/** the color which has to move next */
+	private FigureColor sideToMove;
+
+	/** the castling rights left, see WHITE_KING_SIDE, ... */
+	private int castlingRights;
+
+	/** the field behind a Pawn, which has moved two fields, or NO_FIELD */
+	private int enPassantField;
+
+	/** number of half moves since the last capture or Pawn move */
+	private int halfMoveClock;
+
+	/** undo stack: each made move */
+	private int[] historyMoves;
+
+	/** undo stack: the state before each made move */
+	private int[] historyStates;
+
+	/** undo stack: the key before each made move */
+	private long[] historyKeys;
+
+	/** number of moves on the undo stack */
+	private int historySize;
+
+	/** the Zobrist key of the current position */
+	private long key;
+
+	/** the Zobrist key of all Pawns of the current position */
+	private long pawnKey;
+
+	/** the sum of all middle game scores, positive if white is ahead */
+	private int middleGameScore;
+
+	/** the sum of all end game scores, positive if white is ahead */
+	private int endGameScore;
+
+	/** the sum of the phase of all figures */
+	private int phase;
+
+	/** notified for each figure, which is set or removed, or null */
+	private FigureListener listener;
+
+	/** Create an empty bit board. */
+	public BitBoard() {
+		this.colorMasks = new long[BitBoard.COLORS.length];
+		this.typeMasks = new long[BitBoard.TYPES.length];
+		this.figures = new int[BitBoard.NBR_OF_FIELDS];
+		this.historyMoves = new int[BitBoard.INITIAL_HISTORY_SIZE];
+		this.historyStates = new int[BitBoard.INITIAL_HISTORY_SIZE];
+		this.historyKeys = new long[BitBoard.INITIAL_HISTORY_SIZE];
+		this.clearAll();
+	}
+
+	/**
+	 * Create a copy of the given bit board, including the undo stack. The
+	 * {@link FigureListener} is not copied.
+	 *
+	 * @param other
+	 *            the bit board to copy
+	 */
+	public BitBoard(final BitBoard other) {
+		this.occupancy = other.occupancy;
+		this.colorMasks = other.colorMasks.clone();
+		this.typeMasks = other.typeMasks.clone();
+		this.figures = other.figures.clone();
+		this.sideToMove = other.sideToMove;
+		this.castlingRights = other.castlingRights;
+		this.enPassantField = other.enPassantField;
+		this.halfMoveClock = other.halfMoveClock;
+		this.historyMoves = other.historyMoves.clone();
+		this.historyStates = other.historyStates.clone();
+		this.historyKeys = other.historyKeys.clone();
+		this.historySize = other.historySize;
+		this.key = other.key;
+		this.pawnKey = other.pawnKey;
+		this.middleGameScore = other.middleGameScore;
+		this.endGameScore = other.endGameScore;
+		this.phase = other.phase;
+	}
+
+	/**
+	 * Receive the field index from 0 ("A1") to 63 ("H8") by given characters.
+	 *
+	 * @param posX
+	 *            coordinate X from 'A' to 'H'
+	 * @param posY
+	 *            coordinate Y from '1' to '8'
+	 *
+	 * @return the field index, <br>
+	 *         or {@link #NO_FIELD}, if the characters are not a part of the chess
+	 *         field
+	 */
+	public static int getFieldIndex(final char posX, final char posY) {
+		if ((posX < 'A') || (posX > 'H') || (posY < '1') || (posY > '8')) {
+			return BitBoard.NO_FIELD;
+		}
+
+		return ((posY - '1') << 3) | (posX - 'A');
+	}
+
+	/**
+	 * Receive the field index of the given coordinate.
+	 *
+	 * @param loc
+	 *            the coordinate to use
+	 *
+	 * @return the field index, <br>
+	 *         or {@link #NO_FIELD}, if the coordinate is not a part of the chess
+	 *         field
+	 */
+	public static int getFieldIndex(final Coordinates loc) {
+		return BitBoard.getFieldIndex(loc.getPosX().charAt(0), loc.getPosY().charAt(0));
+	}
+
+	/**
+	 * Receive the mask of a single field.
+	 *
+	 * @param index
+	 *            the field index
+	 *
+	 * @return the mask, where only the bit of the given field is set
+	 */
+	public static long getFieldMask(final int index) {
+		return 1L << index;
+	}
+
+	/**
+	 * Put a figure with the given color and type on a field. Whenever the field
+	 * has been reserved before, then the old figure is going to replace.
+	 *
+	 * @param index
+	 *            the field index
+	 * @param color
+	 *            the figure color
+	 * @param type
+	 *            the figure type
+	 */
+	public void setFigure(final int index, final FigureColor color, final FigureSet type) {
+		this.clearField(index);
+		this.putFigure(index, (type.ordinal() << 1) | color.ordinal());
+	}
+
+	/**
+	 * Remove any figure from the given field.
+	 *
+	 * @param index
+	 *            the field index
+	 */
+	public void clearField(final int index) {
+		if (this.figures[index] != BitBoard.NO_FIGURE) {
+			this.removeFigure(index);
+		}
+	}
+
+	/** Remove all figures from this bit board and reset the position state. */
+	public void clearAll() {
+		this.occupancy = 0L;
+		Arrays.fill(this.colorMasks, 0L);
+		Arrays.fill(this.typeMasks, 0L);
+		Arrays.fill(this.figures, BitBoard.NO_FIGURE);
+
+		this.sideToMove = FigureColor.WHITE;
+		this.castlingRights = 0;
+		this.enPassantField = BitBoard.NO_FIELD;
+		this.halfMoveClock = 0;
+		this.historySize = 0;
+		this.key = 0L;
+		this.pawnKey = 0L;
+		this.middleGameScore = 0;
+		this.endGameScore = 0;
+		this.phase = 0;
+	}
+
+	/**
+	 * Replace the whole position by the given position in the Forsyth-Edwards
+	 * notation (FEN), like {@link #START_POSITION}. The undo stack is going to be
+	 * cleared. The move counters are optional.
+	 *
+	 * @param fen
+	 *            the position as FEN
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the given FEN is invalid
+	 */
+	public void setPosition(final String fen) {
+		final String[] parts = fen.trim().split("\\s+");
+		if (parts.length < 4) {
+			throw new IllegalArgumentException("Invalid FEN: " + fen);
+		}
+
+		this.clearAll();
+
+		/* figures: from rank '8' down to rank '1', each rank from 'A' to 'H' */
+		int rank = 7;
+		int file = 0;
+		for (final char c : parts[0].toCharArray()) {
+			if (c == '/') {
+				rank--;
+				file = 0;
+			} else if ((c >= '1') && (c <= '8')) {
+				file += c - '0';
+			} else {
+				final int type = BitBoard.FEN_FIGURES.indexOf(Character.toLowerCase(c));
+				if ((type < 0) || (rank < 0) || (file > 7)) {
+					throw new IllegalArgumentException("Invalid FEN: " + fen);
+				}
+
+				this.putFigure((rank << 3) | file, (type << 1) | (Character.isUpperCase(c) ? FigureColor.WHITE.ordinal() : FigureColor.BLACK.ordinal()));
+				file++;
+			}
+		}
+
+		if ("w".equals(parts[1])) {
+			this.setSideToMove(FigureColor.WHITE);
+		} else if ("b".equals(parts[1])) {
+			this.setSideToMove(FigureColor.BLACK);
+		} else {
+			throw new IllegalArgumentException("Invalid FEN: " + fen);
+		}
+
+		int rights = 0;
+		for (final char c : parts[2].toCharArray()) {
+			final int right = BitBoard.FEN_CASTLING.indexOf(c);
+			if (right >= 0) {
+				rights |= 1 << right;
+			}
+		}
+		this.setCastlingRights(rights);
+
+		if (!"-".equals(parts[3])) {
+			this.setEnPassantField(BitBoard.getFieldIndex(Character.toUpperCase(parts[3].charAt(0)), parts[3].charAt(1)));
+		}
+
+		if (parts.length > 4) {
+			this.halfMoveClock = Integer.parseInt(parts[4]);
+		}
+	}
+
+	/**
+	 * Receive the position in the Forsyth-Edwards notation (FEN), where the full
+	 * move number is always 1.
+	 *
+	 * @return the position as FEN
+	 */
+	public String getPosition() {
+		final StringBuilder fen = new StringBuilder();
+
+		for (int rank = 7; rank >= 0; rank--) {
+			int free = 0;
+			for (int file = 0; file < 8; file++) {
+				final int figure = this.figures[(rank << 3) | file];
+				if (figure == BitBoard.NO_FIGURE) {
+					free++;
+				} else {
+					if (free > 0) {
+						fen.append(free);
+						free = 0;
+					}
+
+					final char c = BitBoard.FEN_FIGURES.charAt(figure >>> 1);
+					fen.append(((figure & 1) == FigureColor.WHITE.ordinal()) ? Character.toUpperCase(c) : c);
+				}
+			}
+
+			if (free > 0) {
+				fen.append(free);
+			}
+			if (rank > 0) {
+				fen.append('/');
+			}
+		}
+
+		fen.append((this.sideToMove == FigureColor.WHITE) ? " w " : " b ");
+
+		if (this.castlingRights == 0) {
+			fen.append('-');
+		} else {
+			for (int right = 0; right < BitBoard.FEN_CASTLING.length(); right++) {
+				if ((this.castlingRights & (1 << right)) != 0) {
+					fen.append(BitBoard.FEN_CASTLING.charAt(right));
+				}
+			}
+		}
+
+		fen.append(' ');
+		if (this.enPassantField == BitBoard.NO_FIELD) {
+			fen.append('-');
+		} else {
+			fen.append(Coordinates.valueOf(this.enPassantField).getCoordinatesXY().toLowerCase());
+		}
+
+		return fen.append(' ').append(this.halfMoveClock).append(" 1").toString();
+	}
+
+	/**
+	 * Put a figure on a free field.
+	 *
+	 * @param index
+	 *            the field index
+	 * @param figure
+	 *            the figure as (type << 1) | color
+	 */
+	private void putFigure(final int index, final int figure) {
+		final long mask = BitBoard.getFieldMask(index);
+		this.occupancy |= mask;
+		this.colorMasks[figure & 1] |= mask;
+		this.typeMasks[figure >>> 1] |= mask;
+		this.figures[index] = figure;
+		this.key ^= Zobrist.getFigureKey(figure, index);
+		if ((figure >>> 1) == BitBoard.PAWN) {
+			this.pawnKey ^= Zobrist.getFigureKey(figure, index);
+		}
+		this.middleGameScore += PieceSquareTable.getMiddleGameScore(figure, index);
+		this.endGameScore += PieceSquareTable.getEndGameScore(figure, index);
+		this.phase += PieceSquareTable.getPhase(figure);
+		if (this.listener != null) {
+			this.listener.onFigureSet(figure, index);
+		}
+	}
+
+	/**
+	 * Remove the figure from a reserved field.
+	 *
+	 * @param index
+	 *            the field index
+	 */
+	private void removeFigure(final int index) {
+		final int figure = this.figures[index];
+		final long mask = ~BitBoard.getFieldMask(index);
+		this.occupancy &= mask;
+		this.colorMasks[figure & 1] &= mask;
+		this.typeMasks[figure >>> 1] &= mask;
+		this.figures[index] = BitBoard.NO_FIGURE;
+		this.key ^= Zobrist.getFigureKey(figure, index);
+		if ((figure >>> 1) == BitBoard.PAWN) {
+			this.pawnKey ^= Zobrist.getFigureKey(figure, index);
+		}
+		this.middleGameScore -= PieceSquareTable.getMiddleGameScore(figure, index);
+		this.endGameScore -= PieceSquareTable.getEndGameScore(figure, index);
+		this.phase -= PieceSquareTable.getPhase(figure);
+		if (this.listener != null) {
+			this.listener.onFigureRemoved(figure, index);
+		}
+	}
+
+	/**
+	 * Check, if the given field is reserved by any figure.
+	 *
+	 * @param index
+	 *            the field index
+	 *
+	 * @return true, if the field is reserved,<br>
+	 *         false, otherwise
+	 */
+	public boolean onReserved(final int index) {
+		return (this.occupancy & BitBoard.getFieldMask(index)) != 0L;
+	}
+
+	/**
+	 * Check, if the given field is reserved by a figure of the given color.
+	 *
+	 * @param index
+	 *            the field index
+	 * @param color
+	 *            the figure color
+	 *
+	 * @return true, if a figure with this color is on the field,<br>
+	 *         false, otherwise
+	 */
+	public boolean onColor(final int index, final FigureColor color) {
+		return (this.colorMasks[color.ordinal()] & BitBoard.getFieldMask(index)) != 0L;
+	}
+
+	/**
+	 * Check, if the given field is reserved by a figure of the given type.
+	 *
+	 * @param index
+	 *            the field index
+	 * @param type
+	 *            the figure type
+	 *
+	 * @return true, if a figure with this type is on the field,<br>
+	 *         false, otherwise
+	 */
+	public boolean onType(final int index, final FigureSet type) {
+		return (this.typeMasks[type.ordinal()] & BitBoard.getFieldMask(index)) != 0L;
+	}
+
+	/**
+	 * Receive the color of the figure on the given field.
+	 *
+	 * @param index
+	 *            the field index
+	 *
+	 * @return the figure color, <br>
+	 *         or null, if the field is free
+	 */
+	public FigureColor getColorOn(final int index) {
+		final int figure = this.figures[index];
+		return (figure == BitBoard.NO_FIGURE) ? null : BitBoard.COLORS[figure & 1];
+	}
+
+	/**
+	 * Receive the type of the figure on the given field.
+	 *
+	 * @param index
+	 *            the field index
+	 *
+	 * @return the figure type, <br>
+	 *         or null, if the field is free
+	 */
+	public FigureSet getTypeOn(final int index) {
+		final int figure = this.figures[index];
+		return (figure == BitBoard.NO_FIGURE) ? null : BitBoard.TYPES[figure >>> 1];
+	}
+
+	/**
+	 * Receive the figure on the given field.
+	 *
+	 * @param index
+	 *            the field index
+	 *
+	 * @return the figure as (type << 1) | color, <br>
+	 *         or {@link #NO_FIGURE}, if the field is free
+	 */
+	public int getFigure(final int index) {
+		return this.figures[index];
+	}
+
+	/**
+	 * Receive all fields which are reserved by any figure.
+	 *
+	 * @return the occupancy mask
+	 */
+	public long getOccupancy() {
+		return this.occupancy;
+	}
+
+	/**
+	 * Receive all fields which are reserved by a figure of the given color.
+	 *
+	 * @param color
+	 *            the figure color
+	 *
+	 * @return the color mask
+	 */
+	public long getColorMask(final FigureColor color) {
+		return this.colorMasks[color.ordinal()];
+	}
+
+	/**
+	 * Receive all fields which are reserved by a figure of the given type.
+	 *
+	 * @param type
+	 *            the figure type
+	 *
+	 * @return the type mask
+	 */
+	public long getTypeMask(final FigureSet type) {
+		return this.typeMasks[type.ordinal()];
+	}
+
+	/**
+	 * Receive all fields which are reserved by a figure of the given type and
+	 * color.
+	 *
+	 * @param type
+	 *            the figure type
+	 * @param color
+	 *            the figure color
+	 *
+	 * @return the figure mask
+	 */
+	public long getFigureMask(final FigureSet type, final FigureColor color) {
+		return this.typeMasks[type.ordinal()] & this.colorMasks[color.ordinal()];
+	}
+
+	/**
+	 * Receive the field of the King with the given color.
+	 *
+	 * @param color
+	 *            the color of the King
+	 *
+	 * @return the field index, <br>
+	 *         or {@link #NO_FIELD}, if there is no such King
+	 */
+	public int getKingField(final FigureColor color) {
+		final long king = this.getFigureMask(FigureSet.KING, color);
+		return (king == 0L) ? BitBoard.NO_FIELD : Long.numberOfTrailingZeros(king);
+	}
+
+	/**
+	 * Receive the color, which has to move next.
+	 *
+	 * @return the side to move
+	 */
+	public FigureColor getSideToMove() {
+		return this.sideToMove;
+	}
+
+	/**
+	 * Update the color, which has to move next.
+	 *
+	 * @param color
+	 *            the side to move
+	 */
+	public void setSideToMove(final FigureColor color) {
+		if (color != this.sideToMove) {
+			this.key ^= Zobrist.getBlackToMoveKey();
+		}
+		this.sideToMove = color;
+	}
+
+	/**
+	 * Receive the castling rights left.
+	 *
+	 * @return any combination of WHITE_KING_SIDE, WHITE_QUEEN_SIDE,
+	 *         BLACK_KING_SIDE and BLACK_QUEEN_SIDE
+	 */
+	public int getCastlingRights() {
+		return this.castlingRights;
+	}
+
+	/**
+	 * Update the castling rights left.
+	 *
+	 * @param rights
+	 *            any combination of WHITE_KING_SIDE, WHITE_QUEEN_SIDE,
+	 *            BLACK_KING_SIDE and BLACK_QUEEN_SIDE
+	 */
+	public void setCastlingRights(final int rights) {
+		this.key ^= Zobrist.getCastlingKey(this.castlingRights);
+		this.castlingRights = rights & BitBoard.ALL_CASTLING_RIGHTS;
+		this.key ^= Zobrist.getCastlingKey(this.castlingRights);
+	}
+
+	/**
+	 * Receive the field, where a Pawn may hit by "en passant".
+	 *
+	 * @return the field index, <br>
+	 *         or {@link #NO_FIELD}, if "en passant" is not available
+	 */
+	public int getEnPassantField() {
+		return this.enPassantField;
+	}
+
+	/**
+	 * Update the field, where a Pawn may hit by "en passant".
+	 *
+	 * @param index
+	 *            the field index or {@link #NO_FIELD}
+	 */
+	public void setEnPassantField(final int index) {
+		this.key ^= Zobrist.getEnPassantKey(this.enPassantField);
+		this.enPassantField = index;
+		this.key ^= Zobrist.getEnPassantKey(this.enPassantField);
+	}
+
+	/**
+	 * Receive the number of half moves since the last capture or Pawn move.
+	 *
+	 * @return the half move clock
+	 */
+	public int getHalfMoveClock() {
+		return this.halfMoveClock;
+	}
+
+	/**
+	 * Update the number of half moves since the last capture or Pawn move.
+	 *
+	 * @param clock
+	 *            the half move clock
+	 */
+	public void setHalfMoveClock(final int clock) {
+		this.halfMoveClock = clock;
+	}
+
+	/**
+	 * Receive the Zobrist key of the current position.
+	 *
+	 * @return the 64 bit key
+	 */
+	public long getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Compute the Zobrist key of the current position from scratch. It's equal to
+	 * {@link #getKey()} and in use to verify the incremental updates.
+	 *
+	 * @return the 64 bit key
+	 */
+	public long computeKey() {
+		long computed = Zobrist.getCastlingKey(this.castlingRights) ^ Zobrist.getEnPassantKey(this.enPassantField);
+		if (this.sideToMove == FigureColor.BLACK) {
+			computed ^= Zobrist.getBlackToMoveKey();
+		}
+
+		for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+			if (this.figures[field] != BitBoard.NO_FIGURE) {
+				computed ^= Zobrist.getFigureKey(this.figures[field], field);
+			}
+		}
+
+		return computed;
+	}
+
+	/**
+	 * Register the listener, which is notified for each figure, which is set or
+	 * removed from now on. The listener has to know the current position by
+	 * itself.
+	 *
+	 * @param listener
+	 *            the listener, or null to remove the listener
+	 */
+	public void setFigureListener(final FigureListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Receive the Zobrist key of all Pawns of the current position. It changes by
+	 * a Pawn move, a capture of a Pawn and a promotion only, thus it's in use to
+	 * cache the rating of the Pawn structure.
+	 *
+	 * @return the 64 bit key, 0 without any Pawn
+	 */
+	public long getPawnKey() {
+		return this.pawnKey;
+	}
+
+	/**
+	 * Compute the Zobrist key of all Pawns from scratch. It's equal to
+	 * {@link #getPawnKey()} and in use to verify the incremental updates.
+	 *
+	 * @return the 64 bit key
+	 */
+	public long computePawnKey() {
+		long computed = 0L;
+		long pawns = this.typeMasks[BitBoard.PAWN];
+		while (pawns != 0L) {
+			final int field = Long.numberOfTrailingZeros(pawns);
+			pawns &= pawns - 1;
+
+			computed ^= Zobrist.getFigureKey(this.figures[field], field);
+		}
+
+		return computed;
+	}
+
+	/**
+	 * Receive the score of the current position, where the middle game and the end
+	 * game score are blended by the phase of the game. It's updated for each
+	 * figure, which is set or removed.
+	 *
+	 * @return the score in centipawns, positive if white is ahead
+	 */
+	public int getScore() {
+		return PieceSquareTable.taper(this.middleGameScore, this.endGameScore, this.phase);
+	}
+
+	/**
+	 * Compute the score of the current position from scratch. It's equal to
+	 * {@link #getScore()} and in use to verify the incremental updates.
+	 *
+	 * @return the score in centipawns, positive if white is ahead
+	 */
+	public int computeScore() {
+		int computedMiddleGame = 0;
+		int computedEndGame = 0;
+		int computedPhase = 0;
+
+		for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+			final int figure = this.figures[field];
+			if (figure != BitBoard.NO_FIGURE) {
+				computedMiddleGame += PieceSquareTable.getMiddleGameScore(figure, field);
+				computedEndGame += PieceSquareTable.getEndGameScore(figure, field);
+				computedPhase += PieceSquareTable.getPhase(figure);
+			}
+		}
+
+		return PieceSquareTable.taper(computedMiddleGame, computedEndGame, computedPhase);
+	}
+
+	/**
+	 * Receive the phase of the current position.
+	 *
+	 * @return the sum of the phase of all figures, {@link PieceSquareTable#MAX_PHASE}
+	 *         for the start position
+	 */
+	public int getPhase() {
+		return this.phase;
+	}
+
+	/**
+	 * Check, if the current position has already been reached before. Only the
+	 * positions since the last capture or Pawn move are compared.
+	 *
+	 * @return true, if the position is a repetition,<br>
+	 *         false, otherwise
+	 */
+	public boolean onRepetition() {
+		final int first = Math.max(0, this.historySize - this.halfMoveClock);
+
+		/* the same side has to move, thus only every second position is compared */
+		for (int i = this.historySize - 2; i >= first; i -= 2) {
+			if (this.historyKeys[i] == this.key) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Receive the number of made moves, which can be taken back.
+	 *
+	 * @return the size of the undo stack
+	 */
+	public int getHistorySize() {
+		return this.historySize;
+	}
+
+	/**
+	 * Receive the last made move, which is the next one to take back.
+	 *
+	 * @return the packed move,<br>
+	 *         or {@link Move#NONE}, if there is no move to take back
+	 */
+	public int getLastMove() {
+		return (this.historySize == 0) ? Move.NONE : this.historyMoves[this.historySize - 1];
+	}
+
+	/**
+	 * Receive all figures of the given color, which cover the given field.
+	 *
+	 * @param field
+	 *            the field index
+	 * @param color
+	 *            the color of the attacking figures
+	 * @param occupancy
+	 *            the occupancy to use for any sliding figure
+	 *
+	 * @return the mask of all attacking figures
+	 */
+	public long getAttackers(final int field, final FigureColor color, final long occupancy) {
+		final long own = this.colorMasks[color.ordinal()];
+		final long queens = this.typeMasks[FigureSet.QUEEN.ordinal()];
+
+		/* a Pawn covers this field, if a Pawn of the opponent on this field would cover the Pawn */
+		long attackers = AttackTable.getPawnAttacks(field, BitBoard.COLORS[color.ordinal() ^ 1]) & this.typeMasks[FigureSet.PAWN.ordinal()];
+		attackers |= AttackTable.getKnightAttacks(field) & this.typeMasks[FigureSet.KNIGHT.ordinal()];
+		attackers |= AttackTable.getKingAttacks(field) & this.typeMasks[FigureSet.KING.ordinal()];
+		attackers |= MagicTable.getRunnerAttacks(field, occupancy) & (this.typeMasks[FigureSet.RUNNER.ordinal()] | queens);
+		attackers |= MagicTable.getRookAttacks(field, occupancy) & (this.typeMasks[FigureSet.ROOK.ordinal()] | queens);
+
+		return attackers & own;
+	}
+
+	/**
+	 * Check, if the given field is covered by any figure of the given color.
+	 *
+	 * @param field
+	 *            the field index
+	 * @param color
+	 *            the color of the attacking figures
+	 *
+	 * @return true, if at least one figure covers this field,<br>
+	 *         false, otherwise
+	 */
+	public boolean onAttacked(final int field, final FigureColor color) {
+		return this.getAttackers(field, color, this.occupancy) != 0L;
+	}
+
+	/**
+	 * Check, if the King of the given color is threatened.
+	 *
+	 * @param color
+	 *            the color of the King
+	 *
+	 * @return true, if the King is threatened,<br>
+	 *         false, otherwise (or if there is no King)
+	 */
+	public boolean onCheck(final FigureColor color) {
+		final int kingField = this.getKingField(color);
+		return (kingField != BitBoard.NO_FIELD) && this.onAttacked(kingField, BitBoard.COLORS[color.ordinal() ^ 1]);
+	}
+
+	/**
+	 * Create a move from start to destination, where the flag ("two fields", "en
+	 * passant" or castling) is determined by the figure on the start field.
+	 *
+	 * @param from
+	 *            the start field
+	 * @param to
+	 *            the destination field
+	 * @param promotion
+	 *            the new figure type of a Pawn or null
+	 *
+	 * @return the packed move, see {@link Move}
+	 */
+	public int createMove(final int from, final int to, final FigureSet promotion) {
+		final int figure = this.figures[from];
+		final int type = figure >>> 1;
+
+		if ((figure != BitBoard.NO_FIGURE) && (type == FigureSet.PAWN.ordinal())) {
+			if (Math.abs(to - from) == 16) {
+				return Move.create(from, to, Move.FLAG_TWO_FIELDS);
+			} else if (((from & 7) != (to & 7)) && !this.onReserved(to)) {
+				/* a diagonal step to a free field is only possible by "en passant" */
+				return Move.create(from, to, Move.FLAG_EN_PASSANT);
+			} else if (promotion != null) {
+				return Move.createPromotion(from, to, promotion);
+			}
+		} else if ((figure != BitBoard.NO_FIGURE) && (type == FigureSet.KING.ordinal()) && (Math.abs(to - from) == 2)) {
+			return Move.create(from, to, Move.FLAG_CASTLING);
+		}
+
+		return Move.create(from, to);
+	}
+
+	/**
+	 * Make the given move on this bit board. The captured figure, the castling
+	 * rights, the "en passant" field and the half move clock are stored on the
+	 * undo stack, thus {@link #unmakeMove()} is able to restore the position.
+	 *
+	 * The move is not checked for legality, see {@link #onLegalMove(int)}.
+	 *
+	 * @param move
+	 *            the packed move, see {@link Move}
+	 */
+	public void makeMove(final int move) {
+		final int from = Move.getFrom(move);
+		final int to = Move.getTo(move);
+		final int flag = Move.getFlag(move);
+		final int figure = this.figures[from];
+
+		/* the captured figure is behind the destination for "en passant" */
+		final int capturedField = (flag == Move.FLAG_EN_PASSANT) ? (to ^ 8) : to;
+		final int captured = this.figures[capturedField];
+
+		this.pushHistory(move, captured);
+
+		if (captured != BitBoard.NO_FIGURE) {
+			this.removeFigure(capturedField);
+		}
+
+		this.removeFigure(from);
+		final FigureSet promotion = Move.getPromotion(move);
+		this.putFigure(to, (promotion == null) ? figure : ((promotion.ordinal() << 1) | (figure & 1)));
+
+		if (flag == Move.FLAG_CASTLING) {
+			/* the Rook jumps over the King */
+			final int rookFrom = (to > from) ? (to + 1) : (to - 2);
+			final int rookTo = (to > from) ? (to - 1) : (to + 1);
+			this.putFigure(rookTo, this.figures[rookFrom]);
+			this.removeFigure(rookFrom);
+		}
+
+		this.updateMoveState(move, figure, captured);
+	}
+
+	/**
+	 * Record the given move, whose figures have already been set and removed one
+	 * by one by {@link #setFigure(int, FigureColor, FigureSet)} and
+	 * {@link #clearField(int)}, like the matrix of the window does. The state
+	 * before the move is stored on the undo stack like by {@link #makeMove(int)}
+	 * and the side to move, the castling rights, the "en passant" field and the
+	 * half move clock are updated the same way, thus {@link #onRepetition()} and
+	 * {@link #unmakeMove()} know the recorded moves, too.
+	 *
+	 * @param move
+	 *            the packed move, see {@link Move}
+	 * @param captured
+	 *            the type of the captured figure, or null
+	 * @param previousKey
+	 *            the key of the position before the move
+	 */
+	public void recordMove(final int move, final FigureSet captured, final long previousKey) {
+		final int to = Move.getTo(move);
+		final int color = this.figures[to] & 1;
+		final int figure = Move.onPromotion(move) ? ((BitBoard.PAWN << 1) | color) : this.figures[to];
+		final int capturedFigure = (captured == null) ? BitBoard.NO_FIGURE : ((captured.ordinal() << 1) | (color ^ 1));
+
+		this.pushHistory(move, capturedFigure);
+		this.historyKeys[this.historySize - 1] = previousKey;
+
+		this.updateMoveState(move, figure, capturedFigure);
+	}
+
+	/**
+	 * Update the "en passant" field, the castling rights, the half move clock and
+	 * the side to move after the figures of a move have been set.
+	 *
+	 * @param move
+	 *            the packed move
+	 * @param figure
+	 *            the moved figure, a Pawn for a promotion
+	 * @param captured
+	 *            the captured figure or {@link #NO_FIGURE}
+	 */
+	private void updateMoveState(final int move, final int figure, final int captured) {
+		final int from = Move.getFrom(move);
+		final int to = Move.getTo(move);
+
+		this.key ^= Zobrist.getEnPassantKey(this.enPassantField) ^ Zobrist.getCastlingKey(this.castlingRights);
+		this.enPassantField = (Move.getFlag(move) == Move.FLAG_TWO_FIELDS) ? ((from + to) >>> 1) : BitBoard.NO_FIELD;
+		this.castlingRights &= BitBoard.CASTLING_MASKS[from] & BitBoard.CASTLING_MASKS[to];
+		this.key ^= Zobrist.getEnPassantKey(this.enPassantField) ^ Zobrist.getCastlingKey(this.castlingRights) ^ Zobrist.getBlackToMoveKey();
+
+		if (((figure >>> 1) == BitBoard.PAWN) || (captured != BitBoard.NO_FIGURE)) {
+			this.halfMoveClock = 0;
+		} else {
+			this.halfMoveClock++;
+		}
+
+		this.sideToMove = BitBoard.COLORS[(figure & 1) ^ 1];
+	}
+
+	/**
+	 * Take back the last made move.
+	 *
+	 * @throws IllegalStateException
+	 *             if there is no move to take back
+	 */
+	public void unmakeMove() {
+		if (this.historySize == 0) {
+			throw new IllegalStateException("There is no move to take back.");
+		}
+
+		this.historySize--;
+		final int move = this.historyMoves[this.historySize];
+		final int state = this.historyStates[this.historySize];
+
+		final int from = Move.getFrom(move);
+		final int to = Move.getTo(move);
+		final int flag = Move.getFlag(move);
+		final int figure = this.figures[to];
+		final int color = figure & 1;
+
+		/* a promoted figure was a Pawn before */
+		this.removeFigure(to);
+		this.putFigure(from, Move.onPromotion(move) ? ((FigureSet.PAWN.ordinal() << 1) | color) : figure);
+
+		if (flag == Move.FLAG_CASTLING) {
+			final int rookFrom = (to > from) ? (to + 1) : (to - 2);
+			final int rookTo = (to > from) ? (to - 1) : (to + 1);
+			this.putFigure(rookFrom, this.figures[rookTo]);
+			this.removeFigure(rookTo);
+		}
+
+		final int captured = (state & 0xF) - 1;
+		if (captured != BitBoard.NO_FIGURE) {
+			this.putFigure((flag == Move.FLAG_EN_PASSANT) ? (to ^ 8) : to, captured);
+		}
+
+		this.castlingRights = (state >>> 4) & 0xF;
+		this.enPassantField = ((state >>> 8) & 0x7F) - 1;
+		this.halfMoveClock = state >>> 15;
+		this.sideToMove = BitBoard.COLORS[color];
+		this.key = this.historyKeys[this.historySize];
+	}
+
+	/**
+	 * Receive all figures of the opponent, which threaten the King of the given
+	 * color.
+	 *
+	 * @param color
+	 *            the color of the King
+	 *
+	 * @return the mask of all threatening figures, <br>
+	 *         or 0, if the King is not threatened (or if there is no King)
+	 */
+	public long getCheckers(final FigureColor color) {
+		final int kingField = this.getKingField(color);
+		if (kingField == BitBoard.NO_FIELD) {
+			return 0L;
+		}
+
+		return this.getAttackers(kingField, BitBoard.COLORS[color.ordinal() ^ 1], this.occupancy);
+	}
+
+	/**
+	 * Receive all figures of the given color, which are pinned to their own King.
+	 * A pinned figure is the only figure between the King and a Rook, Runner or
+	 * Queen of the opponent, thus it may only move along this line.
+	 *
+	 * The Rook, Runner and Queen rays are created from the King's field, where
+	 * only the opponent's figures block a ray. Each opponent's figure, which is
+	 * hit on such a ray, pins a figure, if exactly one own figure is between.
+	 *
+	 * @param color
+	 *            the color of the King and the pinned figures
+	 *
+	 * @return the mask of all pinned figures
+	 */
+	public long getPinned(final FigureColor color) {
+		final int kingField = this.getKingField(color);
+		if (kingField == BitBoard.NO_FIELD) {
+			return 0L;
+		}
+
+		final long opponentFigures = this.colorMasks[color.ordinal() ^ 1];
+		final long queens = this.typeMasks[FigureSet.QUEEN.ordinal()];
+
+		long snipers = MagicTable.getRookAttacks(kingField, opponentFigures) & (this.typeMasks[FigureSet.ROOK.ordinal()] | queens);
+		snipers |= MagicTable.getRunnerAttacks(kingField, opponentFigures) & (this.typeMasks[FigureSet.RUNNER.ordinal()] | queens);
+		snipers &= opponentFigures;
+
+		long pinned = 0L;
+		while (snipers != 0L) {
+			final long between = AttackTable.getBetween(kingField, Long.numberOfTrailingZeros(snipers)) & this.occupancy;
+			snipers &= snipers - 1;
+
+			/* exactly one figure between, which can only be an own figure */
+			if ((between != 0L) && ((between & (between - 1)) == 0L)) {
+				pinned |= between;
+			}
+		}
+
+		return pinned;
+	}
+
+	/**
+	 * Check, if the given move doesn't leave the own King threatened. For a
+	 * castling the King must also not be threatened on it's start field and on
+	 * the field, which is passed.
+	 *
+	 * @param move
+	 *            the packed move, see {@link Move}
+	 *
+	 * @return true, if the move is legal,<br>
+	 *         false, otherwise
+	 */
+	public boolean onLegalMove(final int move) {
+		final FigureColor color = this.getColorOn(Move.getFrom(move));
+		if (color == null) {
+			return false;
+		}
+
+		return this.onLegalMove(move, this.getPinned(color), this.getCheckers(color));
+	}
+
+	/**
+	 * Check, if the given move doesn't leave the own King threatened, where the
+	 * pinned figures and the threatening figures of the position are already
+	 * known. This allows to check all moves of a position without making any
+	 * move:
+	 * <ul>
+	 * <li>the King must not move to a field, which is covered by the opponent,
+	 * where the King itself doesn't block any ray</li>
+	 * <li>a pinned figure may only move along the line to it's King</li>
+	 * <li>if the King is threatened by a single figure, any other figure has to
+	 * beat this figure or to block the ray between both; two threatening figures
+	 * can only be escaped by the King</li>
+	 * </ul>
+	 * Only an "en passant" removes two figures from a line, thus it's still made
+	 * and taken back.
+	 *
+	 * @param move
+	 *            the packed move, see {@link Move}
+	 * @param pinned
+	 *            all pinned figures of the moving color, see
+	 *            {@link #getPinned(FigureColor)}
+	 * @param checkers
+	 *            all figures, which threaten the King of the moving color, see
+	 *            {@link #getCheckers(FigureColor)}
+	 *
+	 * @return true, if the move is legal,<br>
+	 *         false, otherwise
+	 */
+	public boolean onLegalMove(final int move, final long pinned, final long checkers) {
+		final int from = Move.getFrom(move);
+		final int to = Move.getTo(move);
+		final int figure = this.figures[from];
+		if (figure == BitBoard.NO_FIGURE) {
+			return false;
+		}
+
+		final FigureColor color = BitBoard.COLORS[figure & 1];
+		final FigureColor opponent = BitBoard.COLORS[(figure & 1) ^ 1];
+		final int kingField = this.getKingField(color);
+		if (kingField == BitBoard.NO_FIELD) {
+			return true;
+		}
+
+		if (from == kingField) {
+			if (Move.getFlag(move) == Move.FLAG_CASTLING) {
+				if ((checkers != 0L) || this.onAttacked((from + to) >>> 1, opponent)) {
+					return false;
+				}
+			}
+
+			/* the King doesn't block a ray, which covers it's destination */
+			return this.getAttackers(to, opponent, this.occupancy & ~BitBoard.getFieldMask(from)) == 0L;
+		}
+
+		if (Move.getFlag(move) == Move.FLAG_EN_PASSANT) {
+			this.makeMove(move);
+			final boolean legal = !this.onCheck(color);
+			this.unmakeMove();
+
+			return legal;
+		}
+
+		if (checkers != 0L) {
+			if ((checkers & (checkers - 1)) != 0L) {
+				return false; // only the King is able to escape two threats
+			}
+
+			final int checker = Long.numberOfTrailingZeros(checkers);
+			if ((to != checker) && ((AttackTable.getBetween(kingField, checker) & BitBoard.getFieldMask(to)) == 0L)) {
+				return false;
+			}
+		}
+
+		return ((pinned & BitBoard.getFieldMask(from)) == 0L) || ((AttackTable.getLine(kingField, from) & BitBoard.getFieldMask(to)) != 0L);
+	}
+
+	/**
+	 * Store the current state on the undo stack.
+	 *
+	 * @param move
+	 *            the move which is going to be made
+	 * @param captured
+	 *            the captured figure or NO_FIGURE
+	 */
+	private void pushHistory(final int move, final int captured) {
+		if (this.historySize == this.historyMoves.length) {
+			this.historyMoves = Arrays.copyOf(this.historyMoves, this.historySize << 1);
+			this.historyStates = Arrays.copyOf(this.historyStates, this.historySize << 1);
+			this.historyKeys = Arrays.copyOf(this.historyKeys, this.historySize << 1);
+		}
+
+		this.historyMoves[this.historySize] = move;
+		this.historyStates[this.historySize] = (captured + 1) | (this.castlingRights << 4) | ((this.enPassantField + 1) << 8) | (this.halfMoveClock << 15);
+		this.historyKeys[this.historySize] = this.key;
+		this.historySize++;
+	}
+}
@@ -15,14 +15,41 @@ package location;
  * @author swunsch
  *
  *         Holds the coordinates for any chess figure.
+ *
+ *         Each of the 64 fields has a single canonical instance, which can be
+ *         received by {@link #valueOf(int)}, {@link #valueOf(char, char)} or
+ *         {@link #valueOf(String)}. These instances can be compared by identity
+ *         and are in use for each loop inside of the matrix, thus stepping
+ *         over the chess field doesn't create any new object.
  */
 public class Coordinates {
+	/** canonical instances for each field from "A1" (0) to "H8" (63) */
+	private static final Coordinates[] FIELDS = new Coordinates[BitBoard.NBR_OF_FIELDS];
+
+	static {
+		for (int i = 0; i < BitBoard.NBR_OF_FIELDS; i++) {
+			Coordinates.FIELDS[i] = new Coordinates((char) ('A' + (i & 7)), (char) ('1' + (i >>> 3)));
+		}
+	}
+
 	/** coordinate X */
 	private final String posX;
 
 	/** coordinate Y */
 	private final String posY;
 
+	/** coordinate X as character */
+	private final char charX;
+
+	/** coordinate Y as character */
+	private final char charY;
+
+	/** the field index, {@link BitBoard#NO_FIELD} for any coordinate outside */
+	private final int index;
+
+	/** coordinate pair {X,Y} as word */
+	private final String coordinatesXY;
+
 	/**
 	 * Create a new coordinate {X,Y}.
 	 *
@@ -30,13 +57,12 @@ public class Coordinates {
 	 *            the coordinate of type String to use
 	 */
 	public Coordinates(final String coordinate) {
-		this.posX = new String(coordinate.substring(0, 1));
-		this.posY = new String(coordinate.substring(1, 2));
+		this(coordinate.charAt(0), coordinate.charAt(1));
 	}
 
 	/**
 	 * Create a new coordinate {X,Y} by given characters.
-	 * 
+	 *
 	 * @param posX
 	 *            coordinate X
 	 * @param posY
@@ -45,11 +71,60 @@ public class Coordinates {
 	public Coordinates(final char posX, final char posY) {
 		this.posX = String.valueOf(posX);
 		this.posY = String.valueOf(posY);
+		this.charX = posX;
+		this.charY = posY;
+		this.index = BitBoard.getFieldIndex(posX, posY);
+		this.coordinatesXY = this.posX + this.posY;
+	}
+
+	/**
+	 * Receive the canonical coordinate of a field.
+	 *
+	 * @param index
+	 *            the field index from 0 ("A1") to 63 ("H8")
+	 *
+	 * @return the coordinate of this field
+	 */
+	public static Coordinates valueOf(final int index) {
+		return Coordinates.FIELDS[index];
+	}
+
+	/**
+	 * Receive the canonical coordinate of a field by given characters.
+	 *
+	 * @param posX
+	 *            coordinate X
+	 * @param posY
+	 *            coordinate Y
+	 *
+	 * @return the coordinate of this field, <br>
+	 *         or null, if the characters are not a part of the chess field
+	 */
+	public static Coordinates valueOf(final char posX, final char posY) {
+		final int index = BitBoard.getFieldIndex(posX, posY);
+		if (index == BitBoard.NO_FIELD) {
+			return null;
+		}
+
+		return Coordinates.FIELDS[index];
+	}
+
+	/**
+	 * Receive the canonical coordinate of a field by given word, like "E4".
+	 *
+	 * @param coordinate
+	 *            the coordinate as word
+	 *
+	 * @return the coordinate of this field, <br>
+	 *         or null, if the word is not a part of the chess field
+	 */
+	public static Coordinates valueOf(final String coordinate) {
+		return Coordinates.valueOf(coordinate.charAt(0), coordinate.charAt(1));
 	}
 
 	/**
 	 * Receive coordinate X as String.
-	 * 
+	 *
 	 * @return coordinate X
 	 */
 	public String getPosX() {
@@ -58,41 +133,122 @@ public class Coordinates {
 
 	/**
 	 * Receive coordinate Y as String.
-	 * 
+	 *
 	 * @return coordinate Y
 	 */
 	public String getPosY() {
 		return this.posY;
 	}
 
+	/**
+	 * Receive coordinate X as character from 'A' to 'H'.
+	 *
+	 * @return coordinate X
+	 */
+	public char getCharX() {
+		return this.charX;
+	}
+
+	/**
+	 * Receive coordinate Y as character from '1' to '8'.
+	 *
+	 * @return coordinate Y
+	 */
+	public char getCharY() {
+		return this.charY;
+	}
+
+	/**
+	 * Receive the horizontal index from 0 ('A') to 7 ('H').
+	 *
+	 * @return the horizontal index
+	 */
+	public int getFile() {
+		return this.charX - 'A';
+	}
+
+	/**
+	 * Receive the vertical index from 0 ('1') to 7 ('8').
+	 *
+	 * @return the vertical index
+	 */
+	public int getRank() {
+		return this.charY - '1';
+	}
+
+	/**
+	 * Receive the field index from 0 ("A1") to 63 ("H8").
+	 *
+	 * @return the field index, <br>
+	 *         or {@link BitBoard#NO_FIELD}, if this coordinate is not a part of
+	 *         the chess field
+	 */
+	public int getIndex() {
+		return this.index;
+	}
+
 	/**
 	 * Receive coordinate c = {X,Y}.
-	 * 
+	 *
 	 * @return coordinate pair {X,Y} as word
 	 */
 	public String getCoordinatesXY() {
-		final StringBuffer sb = new StringBuffer();
-		sb.append(this.posX);
-		sb.append(this.posY);
-
-		return sb.toString();
+		return this.coordinatesXY;
 	}
 
 	/**
 	 * Receive a coordinate by given characters. It's in use for Matrix class to
 	 * avoid to repeat the code below inside of the most functions.
-	 * 
+	 *
 	 * @param x
 	 *            x coordinate
 	 * @param y
 	 *            y coordinate
-	 * 
+	 *
 	 * @return coordinate pair {X,Y} as word
 	 */
 	public static String getCoordinatesXY(final char x, final char y) {
-		final StringBuffer sb = new StringBuffer();
-		sb.append(String.valueOf(x) + String.valueOf(y));
+		final int index = BitBoard.getFieldIndex(x, y);
+		if (index != BitBoard.NO_FIELD) {
+			return Coordinates.FIELDS[index].coordinatesXY;
+		}
+
+		return String.valueOf(x) + String.valueOf(y);
+	}
 
-		return sb.toString();
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Coordinates)) {
+			return false;
+		}
+
+		final Coordinates other = (Coordinates) obj;
+		return (this.charX == other.charX) && (this.charY == other.charY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return (this.charX << 16) | this.charY;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return this.coordinatesXY;
 	}
 }
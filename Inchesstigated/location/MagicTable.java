@@ -0,0 +1,311 @@
+/**
+ * @package: location
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package location;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the attack masks of each sliding figure (Rook, Runner and
+ *         Queen) by magic bit boards.
+ *
+ *         A sliding figure is blocked by the first figure on each ray, thus
+ *         the covered fields depend on the occupancy of the chess field. For
+ *         each field only the relevant fields of this occupancy (the rays
+ *         without the border) are in use. Multiplied by a magic number and
+ *         shifted, this relevant occupancy becomes an index into a table,
+ *         which holds the attack mask for exactly this occupancy.
+ *
+ *         The magic numbers below have been searched by a fixed seed, thus
+ *         loading this class only fills the tables. Whenever a stored number
+ *         doesn't fit (it never should), a new number is searched by the same
+ *         seed.
+ */
+public final class MagicTable {
+	/** fixed seed for the search of the magic numbers */
+	private static final long SEED = 0x1F2E3D4C5B6A7988L;
+
+	/** all fields of the file 'A' and 'H' */
+	private static final long BORDER_FILES = 0x8181818181818181L;
+
+	/** all fields of the rank '1' and '8' */
+	private static final long BORDER_RANKS = 0xFF000000000000FFL;
+
+	/** ray steps {X,Y} of a Rook */
+	private static final int[][] ROOK_STEPS = {
+			{ 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 }
+	};
+
+	/** ray steps {X,Y} of a Runner */
+	private static final int[][] RUNNER_STEPS = {
+			{ 1, 1 }, { -1, 1 }, { -1, -1 }, { 1, -1 }
+	};
+
+	/** known magic numbers of a Rook, indexed by field */
+	private static final long[] ROOK_KNOWN_MAGICS = {
+			0x2080044000201080L, 0x0200104020820500L, 0x8080100080200008L, 0x0480100044800800L,
+			0x0880080080265400L, 0xC080010400800200L, 0x2100208200044900L, 0x0200007A04003051L,
+			0x0221800240009020L, 0x0024402000401004L, 0x0000801000200080L, 0x0A20800802100081L,
+			0x4507000500480010L, 0x6802000200100805L, 0x0404000204108841L, 0x0402000100A04204L,
+			0x8080024004200040L, 0x0000260045020180L, 0x004C110020004100L, 0x1010010008102100L,
+			0x0501010010080004L, 0x4202008080020400L, 0x1000808002000100L, 0x9020060008830044L,
+			0x1000410100208000L, 0x08A8400040201001L, 0x3200100080802000L, 0x4302002200081040L,
+			0x0241080280040080L, 0x0086000200080410L, 0x0248810400422810L, 0x2440210200009044L,
+			0xB040401088800020L, 0x02A0004000803080L, 0x9040801000802000L, 0x0800080080801000L,
+			0x2010800800800400L, 0x0000800400800201L, 0x0022008422002801L, 0x0400840472000481L,
+			0x00C0002040888000L, 0x8020100420424004L, 0x0420020400101000L, 0x108E615001010008L,
+			0x2400100801010004L, 0x8200040002008080L, 0x400A000801020084L, 0x10210C1050820001L,
+			0x0440208000401080L, 0x000080C001200180L, 0x4000420880102200L, 0x2002204388120200L,
+			0x0008300801004500L, 0x0134008004020080L, 0x0821000402000100L, 0x0A010104A40A4200L,
+			0x8101001040800029L, 0x0000201440048101L, 0x0821004008142001L, 0x0260050021100089L,
+			0x19C1000800020411L, 0x0002000148441002L, 0x0210008110220804L, 0x000A10208C004902L
+	};
+
+	/** known magic numbers of a Runner, indexed by field */
+	private static final long[] RUNNER_KNOWN_MAGICS = {
+			0x22200800C8004042L, 0x0624488085020740L, 0x1C08462242028400L, 0x0608048B04009000L,
+			0x318404208C20E040L, 0x8880900420002848L, 0x0804040104120000L, 0x0102802082202003L,
+			0xC000400401126200L, 0x01B108010C441044L, 0x02000808A10A0000L, 0x60010904050C0400L,
+			0x6000884840908000L, 0x0104020282200080L, 0x0001208808021202L, 0xC045008048084400L,
+			0x187B0840900C0B80L, 0x0021000202021608L, 0x0010220800204012L, 0x06020004220A0000L,
+			0x0042000400A24440L, 0x1011000080A00110L, 0x1800404412021000L, 0x8012D48103019008L,
+			0x8004100141830800L, 0x0252200022148420L, 0x0203100013140120L, 0x0808080020220120L,
+			0x2021010040104000L, 0x01280040420100C0L, 0x0802008A28484800L, 0x0000420008821140L,
+			0x0008208420103C04L, 0x290A102204100248L, 0x0101004040080888L, 0x0004020080080080L,
+			0x0408010808840020L, 0x4804080200402080L, 0x00100400800118C4L, 0x12820A0848062408L,
+			0x1002621004604040L, 0x00AA020120200400L, 0x0230121088111000L, 0x8011064200911800L,
+			0x0802040102104402L, 0x0042200061008080L, 0x0008100428803044L, 0x0428010122081020L,
+			0x2001009004A20400L, 0x4000804108600000L, 0x4003061100880008L, 0x008000004202000CL,
+			0x2004009202020008L, 0x00501020811900A0L, 0x0008620C24040800L, 0x0004080821002002L,
+			0x020A048208012401L, 0x2400004448080918L, 0x3002004042109004L, 0x5D24810080208800L,
+			0x0000028040882220L, 0x0100002002823200L, 0x02600B0828080840L, 0x8810343088820200L
+	};
+
+	/** relevant occupancy masks, indexed by field */
+	private static final long[] ROOK_MASKS = new long[BitBoard.NBR_OF_FIELDS];
+	private static final long[] RUNNER_MASKS = new long[BitBoard.NBR_OF_FIELDS];
+
+	/** magic numbers, indexed by field */
+	private static final long[] ROOK_MAGICS = new long[BitBoard.NBR_OF_FIELDS];
+	private static final long[] RUNNER_MAGICS = new long[BitBoard.NBR_OF_FIELDS];
+
+	/** shift of the product, indexed by field */
+	private static final int[] ROOK_SHIFTS = new int[BitBoard.NBR_OF_FIELDS];
+	private static final int[] RUNNER_SHIFTS = new int[BitBoard.NBR_OF_FIELDS];
+
+	/** attack masks, indexed by field and magic index */
+	private static final long[][] ROOK_ATTACKS = new long[BitBoard.NBR_OF_FIELDS][];
+	private static final long[][] RUNNER_ATTACKS = new long[BitBoard.NBR_OF_FIELDS][];
+
+	/** state of the random number generator */
+	private static long randomState = MagicTable.SEED;
+
+	static {
+		for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+			MagicTable.initializeField(field, MagicTable.ROOK_STEPS, MagicTable.ROOK_KNOWN_MAGICS[field], MagicTable.ROOK_MASKS, MagicTable.ROOK_MAGICS, MagicTable.ROOK_SHIFTS, MagicTable.ROOK_ATTACKS);
+			MagicTable.initializeField(field, MagicTable.RUNNER_STEPS, MagicTable.RUNNER_KNOWN_MAGICS[field], MagicTable.RUNNER_MASKS, MagicTable.RUNNER_MAGICS, MagicTable.RUNNER_SHIFTS, MagicTable.RUNNER_ATTACKS);
+		}
+	}
+
+	/** no instance required */
+	private MagicTable() {
+	}
+
+	/**
+	 * Receive all fields which are covered by a Rook on the given field.
+	 *
+	 * @param field
+	 *            the field index of the Rook
+	 * @param occupancy
+	 *            all fields which are reserved by any figure
+	 *
+	 * @return the attack mask, including the first reserved field on each ray
+	 */
+	public static long getRookAttacks(final int field, final long occupancy) {
+		final int index = (int) (((occupancy & MagicTable.ROOK_MASKS[field]) * MagicTable.ROOK_MAGICS[field]) >>> MagicTable.ROOK_SHIFTS[field]);
+		return MagicTable.ROOK_ATTACKS[field][index];
+	}
+
+	/**
+	 * Receive all fields which are covered by a Runner on the given field.
+	 *
+	 * @param field
+	 *            the field index of the Runner
+	 * @param occupancy
+	 *            all fields which are reserved by any figure
+	 *
+	 * @return the attack mask, including the first reserved field on each ray
+	 */
+	public static long getRunnerAttacks(final int field, final long occupancy) {
+		final int index = (int) (((occupancy & MagicTable.RUNNER_MASKS[field]) * MagicTable.RUNNER_MAGICS[field]) >>> MagicTable.RUNNER_SHIFTS[field]);
+		return MagicTable.RUNNER_ATTACKS[field][index];
+	}
+
+	/**
+	 * Receive all fields which are covered by a Queen on the given field.
+	 *
+	 * @param field
+	 *            the field index of the Queen
+	 * @param occupancy
+	 *            all fields which are reserved by any figure
+	 *
+	 * @return the attack mask, including the first reserved field on each ray
+	 */
+	public static long getQueenAttacks(final int field, final long occupancy) {
+		return MagicTable.getRookAttacks(field, occupancy) | MagicTable.getRunnerAttacks(field, occupancy);
+	}
+
+	/**
+	 * Walk along each ray of the given field, until the border or the first
+	 * reserved field has been reached. This is the slow reference to create the
+	 * tables.
+	 *
+	 * @param field
+	 *            the field index of the sliding figure
+	 * @param occupancy
+	 *            all fields which are reserved by any figure
+	 * @param steps
+	 *            the ray steps {X,Y} of the sliding figure
+	 *
+	 * @return the attack mask
+	 */
+	private static long walkRays(final int field, final long occupancy, final int[][] steps) {
+		long attacks = 0L;
+
+		for (final int[] step : steps) {
+			int posX = (field & 7) + step[0];
+			int posY = (field >>> 3) + step[1];
+
+			while ((posX >= 0) && (posX < 8) && (posY >= 0) && (posY < 8)) {
+				final long mask = BitBoard.getFieldMask((posY << 3) | posX);
+				attacks |= mask;
+				if ((occupancy & mask) != 0L) {
+					break; // the first reserved field blocks this ray
+				}
+
+				posX += step[0];
+				posY += step[1];
+			}
+		}
+
+		return attacks;
+	}
+
+	/**
+	 * Fill the attack table of the given field by the known magic number. If this
+	 * number causes any collision, then a new magic number is searched.
+	 *
+	 * @param field
+	 *            the field index
+	 * @param steps
+	 *            the ray steps {X,Y} of the sliding figure
+	 * @param knownMagic
+	 *            the magic number to try first
+	 * @param masks
+	 *            the relevant occupancy masks to fill
+	 * @param magics
+	 *            the magic numbers to fill
+	 * @param shifts
+	 *            the shifts to fill
+	 * @param attacks
+	 *            the attack tables to fill
+	 */
+	private static void initializeField(final int field, final int[][] steps, final long knownMagic, final long[] masks, final long[] magics, final int[] shifts, final long[][] attacks) {
+		/*
+		 * The last field on each ray is covered, no matter if it's reserved or not,
+		 * thus the border is not relevant, except the figure itself is on it.
+		 */
+		long ignored = 0L;
+		if ((BitBoard.getFieldMask(field) & MagicTable.BORDER_FILES) == 0L) {
+			ignored |= MagicTable.BORDER_FILES;
+		} else {
+			ignored |= MagicTable.BORDER_FILES & ~(0x0101010101010101L << (field & 7));
+		}
+		if ((BitBoard.getFieldMask(field) & MagicTable.BORDER_RANKS) == 0L) {
+			ignored |= MagicTable.BORDER_RANKS;
+		} else {
+			ignored |= MagicTable.BORDER_RANKS & ~(0xFFL << (field & 0x38));
+		}
+
+		final long mask = MagicTable.walkRays(field, 0L, steps) & ~ignored;
+		final int bits = Long.bitCount(mask);
+		final int size = 1 << bits;
+
+		/* each subset of the relevant mask and the reachable fields by this subset */
+		final long[] occupancies = new long[size];
+		final long[] references = new long[size];
+		long subset = 0L;
+		for (int i = 0; i < size; i++) {
+			occupancies[i] = subset;
+			references[i] = MagicTable.walkRays(field, subset, steps);
+			subset = (subset - mask) & mask; // the next subset (Carry-Rippler)
+		}
+
+		final long[] table = new long[size];
+		final int[] epoch = new int[size];
+		int currentEpoch = 0;
+		long magic = knownMagic;
+
+		while (true) {
+			if (currentEpoch > 0) {
+				magic = MagicTable.nextSparseRandom();
+				if (Long.bitCount((mask * magic) & 0xFF00000000000000L) < 6) {
+					continue; // the upper bits are too poor to be a good candidate
+				}
+			}
+
+			currentEpoch++;
+			boolean collision = false;
+			for (int i = 0; i < size; i++) {
+				final int index = (int) ((occupancies[i] * magic) >>> (64 - bits));
+				if (epoch[index] != currentEpoch) {
+					epoch[index] = currentEpoch;
+					table[index] = references[i];
+				} else if (table[index] != references[i]) {
+					collision = true;
+					break;
+				}
+			}
+
+			if (!collision) {
+				masks[field] = mask;
+				magics[field] = magic;
+				shifts[field] = 64 - bits;
+				attacks[field] = table;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Receive a random number with only a few set bits, which is a better
+	 * candidate for a magic number.
+	 *
+	 * @return a sparse random number
+	 */
+	private static long nextSparseRandom() {
+		return MagicTable.nextRandom() & MagicTable.nextRandom() & MagicTable.nextRandom();
+	}
+
+	/**
+	 * Receive the next random number by xorshift.
+	 *
+	 * @return a random number
+	 */
+	private static long nextRandom() {
+		long x = MagicTable.randomState;
+		x ^= x >>> 12;
+		x ^= x << 25;
+		x ^= x >>> 27;
+		MagicTable.randomState = x;
+		return x * 2685821657736338717L;
+	}
+}
@@ -18,15 +18,13 @@ import figure.BaseFigure;
 import figure.FigureKing;
 import figure.FigureKnight;
 import figure.FigurePawn;
-import figure.FigureRook;
-import figure.FigureRunner;
 import figure.properties.FigureColor;
 import figure.properties.FigureHolder;
 import figure.properties.FigureSet;
 import figure.properties.KingDestinationNotifier;
 import figure.properties.MoveSetKnight;
 import figure.properties.ProtectedFigure;
-import figure.properties.TowerIdentification;
+import interfaces.FigureListener;
 
 /**
  * @author swunsch
@@ -73,8 +71,19 @@ public enum Matrix {
 	/** holds the last vertical value ('8') */
 	private char lastVerticalValue;
 
+	/** the occupancy of each field as bit masks, kept in sync with coordMatrix */
+	private final BitBoard bitBoard;
+
+	/** the covered fields of each figure, updated for each changed field only */
+	private final AttackMap attackMap;
+
+	/** the key of the position before the current move, see {@link #finishFigureMove(BaseFigure, Coordinates, BaseFigure)} */
+	private long moveStartKey;
+
 	/** The constructor for this singleton class. */
 	private Matrix() {
+		this.bitBoard = new BitBoard();
+		this.attackMap = new AttackMap(this.bitBoard);
 		this.createMatrix();
 		this.posHorizontalDefault = this.HORIZONTAL_ARRAY[0]; // 'A'
 		this.posVerticalDefault = this.VERTICAL_ARRAY[0]; // '1'
@@ -148,6 +157,153 @@ public enum Matrix {
 		this.coordMatrix[locHorizontal][locVertical].figureType = figure.getFigureType();
 		this.coordMatrix[locHorizontal][locVertical].figureChess = figure;
 		this.coordMatrix[locHorizontal][locVertical].isReserved = true;
+		this.bitBoard.setFigure(this.getField(locHorizontal, locVertical), color, figure.getFigureType());
+		this.attackMap.update(BitBoard.getFieldMask(this.getField(locHorizontal, locVertical)));
+	}
+
+	/**
+	 * Receive the field index for the bit board by given matrix indices.
+	 *
+	 * @param posX
+	 *            horizontal index from 0 ('A') to 7 ('H')
+	 * @param posY
+	 *            vertical index from 0 ('1') to 7 ('8')
+	 *
+	 * @return the field index from 0 ("A1") to 63 ("H8")
+	 */
+	private int getField(final int posX, final int posY) {
+		return (posY << 3) | posX;
+	}
+
+	/**
+	 * Receive the bit board, which holds the occupancy, color and type masks of
+	 * all figures on the chess field.
+	 *
+	 * @return the bit board of this matrix
+	 */
+	public BitBoard getBitBoard() {
+		return this.bitBoard;
+	}
+
+	/**
+	 * Receive the attack map, which holds the number of covering figures for each
+	 * field. Any figure, whose covered fields have been changed by a move, can be
+	 * received by {@link AttackMap#takeAffectedFields()}.
+	 *
+	 * @return the attack map of this matrix
+	 */
+	public AttackMap getAttackMap() {
+		return this.attackMap;
+	}
+
+	/**
+	 * Receive the Zobrist key of the current position, which is updated whenever
+	 * a figure has been set or removed, and by the side to move, the castling
+	 * rights and the "en passant" field of each finished move.
+	 *
+	 * @return the 64 bit key, see {@link BitBoard#getKey()}
+	 */
+	public long getPositionKey() {
+		return this.bitBoard.getKey();
+	}
+
+	/**
+	 * Start a new game, after all figures have been set to their start fields:
+	 * white has to move and all castlings are still possible.
+	 */
+	public void startNewGame() {
+		this.bitBoard.setSideToMove(FigureColor.WHITE);
+		this.bitBoard.setCastlingRights(BitBoard.ALL_CASTLING_RIGHTS);
+		this.bitBoard.setEnPassantField(BitBoard.NO_FIELD);
+		this.bitBoard.setHalfMoveClock(0);
+		this.moveStartKey = this.bitBoard.getKey();
+	}
+
+	/**
+	 * Finish the move of the given figure, after all figures of the move have
+	 * been set or removed. The move is recorded by the bit board, which hands the
+	 * turn to the opponent and updates the castling rights, the "en passant"
+	 * field after a double step of a Pawn and the half move clock, see
+	 * {@link BitBoard#recordMove(int, FigureSet, long)}.
+	 *
+	 * @param figure
+	 *            the moved figure, which is already located on it's destination,
+	 *            the Pawn itself for a promotion and the King for a castling
+	 * @param start
+	 *            the start field of the figure
+	 * @param captured
+	 *            the captured figure, which still knows it's field, or null
+	 */
+	public <T extends BaseFigure> void finishFigureMove(final T figure, final Coordinates start, final BaseFigure captured) {
+		final int from = start.getIndex();
+		final int to = figure.getLocation().getIndex();
+
+		int move = Move.create(from, to);
+		if (figure.getFigureType() == FigureSet.PAWN) {
+			if (Math.abs(to - from) == 16) {
+				move = Move.create(from, to, Move.FLAG_TWO_FIELDS);
+			} else if ((captured != null) && (captured.getLocation().getIndex() != to)) {
+				move = Move.create(from, to, Move.FLAG_EN_PASSANT);
+			} else if (this.bitBoard.getTypeOn(to) != FigureSet.PAWN) {
+				move = Move.createPromotion(from, to, this.bitBoard.getTypeOn(to));
+			}
+		} else if ((figure.getFigureType() == FigureSet.KING) && (Math.abs(to - from) == 2)) {
+			move = Move.create(from, to, Move.FLAG_CASTLING);
+		}
+
+		this.bitBoard.recordMove(move, (captured != null) ? captured.getFigureType() : null, this.moveStartKey);
+		this.moveStartKey = this.bitBoard.getKey();
+	}
+
+	/**
+	 * Register the listener, which is notified for each figure, which is set by
+	 * {@link #setNewFigureLocation(BaseFigure, Coordinates, boolean)} or removed
+	 * by a move or by {@link #removeFigureFromMatrix(BaseFigure)}, like the
+	 * accumulator of a neural network.
+	 *
+	 * @param listener
+	 *            the listener, which knows the current position, or null
+	 */
+	public void setFigureListener(final FigureListener listener) {
+		this.bitBoard.setFigureListener(listener);
+	}
+
+	/**
+	 * Receive the score of the current position by material and fields (tapered
+	 * evaluation). Like the Zobrist key, it's updated by
+	 * {@link #setNewFigureLocation(BaseFigure, Coordinates, boolean)} and by
+	 * {@link #removeFigureFromMatrix(BaseFigure)} for the changed fields only,
+	 * thus it's cheap enough to be received after each move.
+	 *
+	 * @return the score in centipawns, positive if white is ahead, see
+	 *         {@link BitBoard#getScore()}
+	 */
+	public int getEvaluation() {
+		return this.bitBoard.getScore();
+	}
+
+	/**
+	 * Receive all fields which are covered by a Knight on the given location.
+	 *
+	 * @param loc
+	 *            the location of the Knight
+	 *
+	 * @return the attack mask, see {@link AttackTable}
+	 */
+	public long getKnightAttacks(final Coordinates loc) {
+		return AttackTable.getKnightAttacks(loc.getIndex());
+	}
+
+	/**
+	 * Receive all fields which are covered by a King on the given location.
+	 *
+	 * @param loc
+	 *            the location of the King
+	 *
+	 * @return the attack mask, see {@link AttackTable}
+	 */
+	public long getKingAttacks(final Coordinates loc) {
+		return AttackTable.getKingAttacks(loc.getIndex());
 	}
 
 	/**
@@ -160,11 +316,7 @@ public enum Matrix {
 	 */
 	public FigureColor getAreaColorOfPawn(final FigurePawn figure) {
 		final Coordinates loc = figure.getLocation();
-		final char cX = loc.getPosX().charAt(0);
-		final char cY = loc.getPosY().charAt(0);
-		final int posX = (cX - this.posHorizontalDefault);
-		final int posY = (cY - this.posVerticalDefault);
-		final FigureColor color = this.coordMatrix[posX][posY].areaColor;
+		final FigureColor color = this.coordMatrix[loc.getFile()][loc.getRank()].areaColor;
 		return color;
 	}
 
@@ -182,111 +334,31 @@ public enum Matrix {
 	 */
 	@SuppressWarnings("incomplete-switch")
 	public <T extends BaseFigure> List<Coordinates> createNewThreatList(final T figure, final Coordinates loc) {
-		List<Coordinates> tmpList = new ArrayList<>();
+		final List<Coordinates> tmpList = new ArrayList<>();
 		final FigureColor figureColor = figure.getFigureColor();
-		final char cX = loc.getPosX().charAt(0);
-		final char cY = loc.getPosY().charAt(0);
 		switch (figure.getFigureType()) {
 			case PAWN: {
-				Coordinates coordPawn = null;
-				BaseFigure bf = null;
-				int posHorizon;
-				int posVertical;
 				/*
 				 * check, if the coordinate (white Pawn) {X-1,Y+1} or {X+1, Y+1} OR (black Pawn)
 				 * {X-1, Y-1} or {X+1, Y-1} is valid
 				 */
-				if (figureColor == FigureColor.WHITE) {
-					coordPawn = new Coordinates((char) (cX - 1), (char) (cY + 1));
-					posHorizon = Math.abs(coordPawn.getPosX().charAt(0) - this.posHorizontalDefault);
-					posVertical = Math.abs(coordPawn.getPosY().charAt(0) - this.posVerticalDefault);
-					if (this.onValidCoordinate(coordPawn)) {
-						if (this.coordMatrix[posHorizon][posVertical].isReserved && (this.coordMatrix[posHorizon][posVertical].figureColor == figureColor)) {
-							bf = this.coordMatrix[posHorizon][posVertical].figureChess;
-							figure.updateFigureToProtect(bf, null);
-						} else {
-							tmpList.add(coordPawn);
-						}
-					}
-					coordPawn = new Coordinates((char) (cX + 1), (char) (cY + 1));
-					posHorizon = Math.abs(coordPawn.getPosX().charAt(0) - this.posHorizontalDefault);
-					posVertical = Math.abs(coordPawn.getPosY().charAt(0) - this.posVerticalDefault);
-					if (this.onValidCoordinate(coordPawn)) {
-						if (this.coordMatrix[posHorizon][posVertical].isReserved && (this.coordMatrix[posHorizon][posVertical].figureColor == figureColor)) {
-							bf = this.coordMatrix[posHorizon][posVertical].figureChess;
-							figure.updateFigureToProtect(bf, null);
-						} else {
-							tmpList.add(coordPawn);
-						}
-					}
-				} else {
-					coordPawn = new Coordinates((char) (cX - 1), (char) (cY - 1));
-					posHorizon = Math.abs(coordPawn.getPosX().charAt(0) - this.posHorizontalDefault);
-					posVertical = Math.abs(coordPawn.getPosY().charAt(0) - this.posVerticalDefault);
-					if (this.onValidCoordinate(coordPawn)) {
-						if (this.coordMatrix[posHorizon][posVertical].isReserved && (this.coordMatrix[posHorizon][posVertical].figureColor == figureColor)) {
-							bf = this.coordMatrix[posHorizon][posVertical].figureChess;
-							figure.updateFigureToProtect(bf, null);
-						} else {
-							tmpList.add(coordPawn);
-						}
-					}
-					coordPawn = new Coordinates((char) (cX + 1), (char) (cY - 1));
-					posHorizon = Math.abs(coordPawn.getPosX().charAt(0) - this.posHorizontalDefault);
-					posVertical = Math.abs(coordPawn.getPosY().charAt(0) - this.posVerticalDefault);
-					if (this.onValidCoordinate(coordPawn)) {
-						if (this.coordMatrix[posHorizon][posVertical].isReserved && (this.coordMatrix[posHorizon][posVertical].figureColor == figureColor)) {
-							bf = this.coordMatrix[posHorizon][posVertical].figureChess;
-							figure.updateFigureToProtect(bf, null);
+				final int posVertical = loc.getRank() + ((figureColor == FigureColor.WHITE) ? 1 : -1);
+				for (int stepX = -1; stepX <= 1; stepX += 2) {
+					final int posHorizon = loc.getFile() + stepX;
+					if (this.onValidField(posHorizon, posVertical)) {
+						final int field = this.getField(posHorizon, posVertical);
+						if (this.bitBoard.onColor(field, figureColor)) {
+							figure.updateFigureToProtect(this.coordMatrix[posHorizon][posVertical].figureChess, null);
 						} else {
-							tmpList.add(coordPawn);
+							tmpList.add(Coordinates.valueOf(field));
 						}
 					}
 				}
 				break;
 			}
-			case QUEEN: {
-				final FigureColor colorQueen = figure.getFigureColor();
-				List<Coordinates> firstList = new ArrayList<>();
-				FigureRook tmpTower = new FigureRook(loc, colorQueen, TowerIdentification.IMPOSSIBLE_TO_CASTLE);
-				firstList = this.createAreasHigherFigures(tmpTower, firstList);
-
-				final int posX = (cX - this.posHorizontalDefault);
-				final int posY = (cY - this.posVerticalDefault);
-				FigureRunner tmpRunner = new FigureRunner(loc, colorQueen, this.coordMatrix[posX][posY].areaColor);
-
-				tmpList.addAll(this.createAreasHigherFigures(tmpRunner, firstList));
-
-				// finally, collect any known protected figures to Queen
-				for (final ProtectedFigure pfRook : tmpTower.getProtectedFigureList()) {
-					switch (pfRook.getOrientation()) {
-						case HORIZONTAL_LEFT:
-						case HORIZONTAL_RIGHT:
-						case VERTICAL_DOWN:
-						case VERTICAL_UP:
-							figure.updateFigureToProtect(pfRook.getProtectedFigure(), pfRook.getOrientation());
-					}
-				}
-
-				for (final ProtectedFigure pfRunner : tmpRunner.getProtectedFigureList()) {
-					switch (pfRunner.getOrientation()) {
-						case DIAGONAL_QUARTER_ONE:
-						case DIAGONAL_QUARTER_TWO:
-						case DIAGONAL_QUARTER_THREE:
-						case DIAGONAL_QUARTER_FOUR:
-							figure.updateFigureToProtect(pfRunner.getProtectedFigure(), pfRunner.getOrientation());
-					}
-				}
-
-				tmpRunner = null;
-				tmpTower = null;
-				firstList = null;
-				System.gc();
-				break;
-			}
 			default: {
 				/* any other figure left */
-				tmpList = this.createAreasHigherFigures(figure, tmpList);
+				this.createAreasHigherFigures(figure, loc, tmpList);
 			}
 		}
 		return tmpList;
@@ -304,356 +376,177 @@ public enum Matrix {
 	 *         otherwise false
 	 */
 	private boolean onValidCoordinate(final Coordinates tmp) {
-		final char posX = tmp.getPosX().charAt(0);
-		final char posY = tmp.getPosY().charAt(0);
-		return ((posX >= 'A') && (posX <= 'H') && (posY >= '1') && (posY <= '8'));
+		return (tmp.getIndex() != BitBoard.NO_FIELD);
+	}
+
+	/**
+	 * Check, if the given matrix indices are a part of the chess field.
+	 *
+	 * @param posX
+	 *            horizontal index
+	 * @param posY
+	 *            vertical index
+	 *
+	 * @return true, if both indices are between 0 and 7,<br>
+	 *         otherwise false
+	 */
+	private boolean onValidField(final int posX, final int posY) {
+		return ((posX >= 0) && (posX < Matrix.MAX_FIELD_NUMBER) && (posY >= 0) && (posY < Matrix.MAX_FIELD_NUMBER));
 	}
 
 	/**
-	 * Any higher leveled figure (Rook, Runner, Knight or King) may move more than
-	 * one field, except Knight or King.
+	 * Any higher leveled figure (Rook, Runner, Queen, Knight or King) may move
+	 * more than one field, except Knight or King.
 	 *
 	 * @param figure
 	 *            the figure to use
+	 * @param loc
+	 *            the location of the figure
 	 * @param tmpList
 	 *            given list to use
 	 *
 	 * @return the given list with filled entries
 	 */
 	@SuppressWarnings("incomplete-switch")
-	private <T extends BaseFigure> List<Coordinates> createAreasHigherFigures(final T figure, final List<Coordinates> tmpList) {
-		final Coordinates loc = figure.getLocation();
+	private <T extends BaseFigure> List<Coordinates> createAreasHigherFigures(final T figure, final Coordinates loc, final List<Coordinates> tmpList) {
 		final FigureColor color = figure.getFigureColor();
-		final FigureSet type = figure.getFigureType();
-
-		char posX = loc.getPosX().charAt(0);
-		char posY = loc.getPosY().charAt(0);
 
-		Coordinates tmpLoc = new Coordinates(posX, posY);
-		int naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-		int naturalPosY = Math.abs(posY - this.posVerticalDefault);
-
-		FigureKing spottedKing = null; // in use, if this King is threatened by figure T (except King)
-
-		switch (type) {
+		switch (figure.getFigureType()) {
 			case ROOK:
 				/*
 				 * → area = {{X-1,Y}, {X-2,Y}, ..., {X+1,Y}, {X+2,Y}, ..., {X,Y-1}, {X,Y-2},
 				 * ..., {X, Y+1}, {X,Y+2}, ...
 				 */
-				/* check left horizontal line */
-				tmpLoc = new Coordinates(--posX, posY);
-				while (this.onValidCoordinate(tmpLoc)) {
-					naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-					naturalPosY = Math.abs(posY - this.posVerticalDefault);
-					/**
-					 * check, if on this field:
-					 * <ul>
-					 * <li>an allied figure has been spotted OR</li>
-					 * <li>no figure has been spotted OR</li>
-					 * <li>the opponent's King only has been spotted OR</li>
-					 * <li>one of the opponent's figure has been spotted (no King)</li>
-					 * </ul>
-					 */
-					if (this.coordMatrix[naturalPosX][naturalPosY].figureColor == color) {
-						/*
-						 * an allied figure has been spotted on this area → add to the protected list
-						 * for this Rook
-						 */
-						final BaseFigure pf = this.coordMatrix[naturalPosX][naturalPosY].figureChess;
-						figure.updateFigureToProtect(pf, Orientation.HORIZONTAL_LEFT);
-						break;
-					} else if (!this.coordMatrix[naturalPosX][naturalPosY].isReserved) {
-						/* this area is free, where the Rook may move to this field */
-						tmpList.add(tmpLoc);
-					} else if ((this.coordMatrix[naturalPosX][naturalPosY].figureType == FigureSet.KING) && (this.coordMatrix[naturalPosX][naturalPosY].figureColor != color)) {
-						/*
-						 * the opponent's King has been spotted on this location, where all fields
-						 * behind this King will also covered by this Rook
-						 */
-						tmpList.add(tmpLoc);
-
-						/* This King needs also an information of it's current threat. */
-						spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
-						spottedKing.addKingsThreat(figure);
-
-					} else {
-						/*
-						 * otherwise any other opponent figure has been spotted on this area, where this
-						 * Rook may move up to this field to be able to beat the opponent's figure
-						 */
-						tmpList.add(tmpLoc);
-						break;
-					}
-					tmpLoc = new Coordinates(--posX, posY); // go to the next left field
-				}
-
-				/* reset tmpLoc */
-				tmpLoc = loc;
-				posX = loc.getPosX().charAt(0);
-				posY = loc.getPosY().charAt(0);
-
-				/* check right horizontal line */
-				tmpLoc = new Coordinates(++posX, posY);
-				while (this.onValidCoordinate(tmpLoc)) {
-					naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-					naturalPosY = Math.abs(posY - this.posVerticalDefault);
-					if (this.coordMatrix[naturalPosX][naturalPosY].figureColor == color) {
-						final BaseFigure pf = this.coordMatrix[naturalPosX][naturalPosY].figureChess;
-						figure.updateFigureToProtect(pf, Orientation.HORIZONTAL_RIGHT);
-						break;
-					} else if (!this.coordMatrix[naturalPosX][naturalPosY].isReserved) {
-						tmpList.add(tmpLoc);
-					} else if ((this.coordMatrix[naturalPosX][naturalPosY].figureType == FigureSet.KING) && (this.coordMatrix[naturalPosX][naturalPosY].figureColor != color)) {
-						tmpList.add(tmpLoc);
-						spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
-						spottedKing.addKingsThreat(figure);
-					} else {
-						tmpList.add(tmpLoc);
-						break;
-					}
-					tmpLoc = new Coordinates(++posX, posY);
-				}
-
-				/* reset tmpLoc */
-				tmpLoc = loc;
-				posX = loc.getPosX().charAt(0);
-				posY = loc.getPosY().charAt(0);
-
-				/* check the next bottom vertical line */
-				tmpLoc = new Coordinates(posX, --posY);
-				while (this.onValidCoordinate(tmpLoc)) {
-					naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-					naturalPosY = Math.abs(posY - this.posVerticalDefault);
-					if (this.coordMatrix[naturalPosX][naturalPosY].figureColor == color) {
-						final BaseFigure pf = this.coordMatrix[naturalPosX][naturalPosY].figureChess;
-						figure.updateFigureToProtect(pf, Orientation.VERTICAL_DOWN);
-						break;
-					} else if (!this.coordMatrix[naturalPosX][naturalPosY].isReserved) {
-						tmpList.add(tmpLoc);
-					} else if ((this.coordMatrix[naturalPosX][naturalPosY].figureType == FigureSet.KING) && (this.coordMatrix[naturalPosX][naturalPosY].figureColor != color)) {
-						tmpList.add(tmpLoc);
-						spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
-						spottedKing.addKingsThreat(figure);
-					} else {
-						tmpList.add(tmpLoc);
-						break;
-					}
-					tmpLoc = new Coordinates(posX, --posY);
-				}
-
-				/* reset tmpLoc */
-				tmpLoc = loc;
-				posX = loc.getPosX().charAt(0);
-				posY = loc.getPosY().charAt(0);
-
-				/* check the next top vertical line */
-				tmpLoc = new Coordinates(posX, ++posY);
-				while (this.onValidCoordinate(tmpLoc)) {
-					naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-					naturalPosY = Math.abs(posY - this.posVerticalDefault);
-					if (this.coordMatrix[naturalPosX][naturalPosY].figureColor == color) {
-						final BaseFigure pf = this.coordMatrix[naturalPosX][naturalPosY].figureChess;
-						figure.updateFigureToProtect(pf, Orientation.VERTICAL_UP);
-						break;
-					} else if (!this.coordMatrix[naturalPosX][naturalPosY].isReserved) {
-						tmpList.add(tmpLoc);
-					} else if ((this.coordMatrix[naturalPosX][naturalPosY].figureType == FigureSet.KING) && (this.coordMatrix[naturalPosX][naturalPosY].figureColor != color)) {
-						tmpList.add(tmpLoc);
-						spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
-						spottedKing.addKingsThreat(figure);
-					} else {
-						tmpList.add(tmpLoc);
-						break;
-					}
-					tmpLoc = new Coordinates(posX, ++posY);
-				}
-				break;
 			case RUNNER:
 				/*
 				 * → area = {{X-1,Y-1}, {X-2,Y-2}, ..., {X+1,Y+1}, {X+2,Y+1}, ..., {X+1,Y-1},
 				 * {X+1,Y-2}, ..., {X-1, Y+1}, {X-2,Y+2}, ...
 				 */
-				/* check all areas inside of the top right square */
-				tmpLoc = new Coordinates(++posX, ++posY);
-				while (this.onValidCoordinate(tmpLoc)) {
-					naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-					naturalPosY = Math.abs(posY - this.posVerticalDefault);
-					if (this.coordMatrix[naturalPosX][naturalPosY].figureColor == color) {
-						final BaseFigure pf = this.coordMatrix[naturalPosX][naturalPosY].figureChess;
-						figure.updateFigureToProtect(pf, Orientation.DIAGONAL_QUARTER_ONE);
-						break;
-					} else if (!this.coordMatrix[naturalPosX][naturalPosY].isReserved) {
-						tmpList.add(tmpLoc);
-					} else if ((this.coordMatrix[naturalPosX][naturalPosY].figureType == FigureSet.KING) && (this.coordMatrix[naturalPosX][naturalPosY].figureColor != color)) {
-						tmpList.add(tmpLoc);
-						spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
-						spottedKing.addKingsThreat(figure);
-					} else {
-						tmpList.add(tmpLoc);
-						break;
-					}
-					tmpLoc = new Coordinates(++posX, ++posY);
-				}
-
-				/* reset tmpLoc */
-				tmpLoc = loc;
-				posX = loc.getPosX().charAt(0);
-				posY = loc.getPosY().charAt(0);
-
-				/* check all areas inside of the top left square */
-				tmpLoc = new Coordinates(--posX, ++posY);
-				while (this.onValidCoordinate(tmpLoc)) {
-					naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-					naturalPosY = Math.abs(posY - this.posVerticalDefault);
-					if (this.coordMatrix[naturalPosX][naturalPosY].figureColor == color) {
-						final BaseFigure pf = this.coordMatrix[naturalPosX][naturalPosY].figureChess;
-						figure.updateFigureToProtect(pf, Orientation.DIAGONAL_QUARTER_TWO);
-						break;
-					} else if (!this.coordMatrix[naturalPosX][naturalPosY].isReserved) {
-						tmpList.add(tmpLoc);
-					} else if ((this.coordMatrix[naturalPosX][naturalPosY].figureType == FigureSet.KING) && (this.coordMatrix[naturalPosX][naturalPosY].figureColor != color)) {
-						tmpList.add(tmpLoc);
-						spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
-						spottedKing.addKingsThreat(figure);
-					} else {
-						tmpList.add(tmpLoc);
-						break;
-					}
-					tmpLoc = new Coordinates(--posX, ++posY);
-				}
-
-				/* reset tmpLoc */
-				tmpLoc = loc;
-				posX = loc.getPosX().charAt(0);
-				posY = loc.getPosY().charAt(0);
-
-				/* check all areas inside of the bottom left square */
-				tmpLoc = new Coordinates(--posX, --posY);
-				while (this.onValidCoordinate(tmpLoc)) {
-					naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-					naturalPosY = Math.abs(posY - this.posVerticalDefault);
-					if (this.coordMatrix[naturalPosX][naturalPosY].figureColor == color) {
-						final BaseFigure pf = this.coordMatrix[naturalPosX][naturalPosY].figureChess;
-						figure.updateFigureToProtect(pf, Orientation.DIAGONAL_QUARTER_THREE);
-						break;
-					} else if (!this.coordMatrix[naturalPosX][naturalPosY].isReserved) {
-						tmpList.add(tmpLoc);
-					} else if ((this.coordMatrix[naturalPosX][naturalPosY].figureType == FigureSet.KING) && (this.coordMatrix[naturalPosX][naturalPosY].figureColor != color)) {
-						tmpList.add(tmpLoc);
-						spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
-						spottedKing.addKingsThreat(figure);
-					} else {
-						tmpList.add(tmpLoc);
-						break;
-					}
-					tmpLoc = new Coordinates(--posX, --posY);
-				}
-
-				/* reset tmpLoc */
-				tmpLoc = loc;
-				posX = loc.getPosX().charAt(0);
-				posY = loc.getPosY().charAt(0);
-
-				/* check all areas inside of the bottom right square */
-				tmpLoc = new Coordinates(++posX, --posY);
-				while (this.onValidCoordinate(tmpLoc)) {
-					naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-					naturalPosY = Math.abs(posY - this.posVerticalDefault);
-					if (this.coordMatrix[naturalPosX][naturalPosY].figureColor == color) {
-						final BaseFigure pf = this.coordMatrix[naturalPosX][naturalPosY].figureChess;
-						figure.updateFigureToProtect(pf, Orientation.DIAGONAL_QUARTER_FOUR);
-						break;
-					} else if (!this.coordMatrix[naturalPosX][naturalPosY].isReserved) {
-						tmpList.add(tmpLoc);
-					} else if ((this.coordMatrix[naturalPosX][naturalPosY].figureType == FigureSet.KING) && (this.coordMatrix[naturalPosX][naturalPosY].figureColor != color)) {
-						tmpList.add(tmpLoc);
-						spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
-						spottedKing.addKingsThreat(figure);
-					} else {
-						tmpList.add(tmpLoc);
-						break;
-					}
-					tmpLoc = new Coordinates(++posX, --posY);
-				}
+			case QUEEN:
+				/* → area = all areas of a Rook and a Runner */
+				this.collectSlidingAreas(figure, tmpList, loc.getIndex(), color);
 				break;
-			case KNIGHT:
+			case KNIGHT: {
 				/*
 				 * → area = {{X+2,Y+1}, {X+1,Y+2}, {X-1,Y+2}, {X-2,Y+1}, {X-2,Y-1}, {X-1,Y-2},
 				 * {X+1,Y-2}, {X+2, Y-1}}
 				 */
-				final char[][] coordsForKnight = {
-						{ this.holder.pos_horizon = (char) (posX + 2), this.holder.pos_vertical = (char) (posY + 1) },
-						{ this.holder.pos_horizon = (char) (posX + 1), this.holder.pos_vertical = (char) (posY + 2) },
-						{ this.holder.pos_horizon = (char) (posX - 1), this.holder.pos_vertical = (char) (posY + 2) },
-						{ this.holder.pos_horizon = (char) (posX - 2), this.holder.pos_vertical = (char) (posY + 1) },
-						{ this.holder.pos_horizon = (char) (posX - 2), this.holder.pos_vertical = (char) (posY - 1) },
-						{ this.holder.pos_horizon = (char) (posX - 1), this.holder.pos_vertical = (char) (posY - 2) },
-						{ this.holder.pos_horizon = (char) (posX + 1), this.holder.pos_vertical = (char) (posY - 2) },
-						{ this.holder.pos_horizon = (char) (posX + 2), this.holder.pos_vertical = (char) (posY - 1) }
-				};
-
-				for (int i = 0; i < Matrix.MAX_FIELD_NUMBER; i++) {
-					final String builtCoord = Coordinates.getCoordinatesXY(coordsForKnight[i][0], coordsForKnight[i][1]);
-					tmpLoc = new Coordinates(builtCoord);
-					naturalPosX = Math.abs(tmpLoc.getPosX().charAt(0) - this.posHorizontalDefault);
-					naturalPosY = Math.abs(tmpLoc.getPosY().charAt(0) - this.posVerticalDefault);
-					if (this.onValidCoordinate(tmpLoc)) {
+				long attacks = AttackTable.getKnightAttacks(loc.getIndex());
+				while (attacks != 0L) {
+					final int field = Long.numberOfTrailingZeros(attacks);
+					attacks &= attacks - 1; // remove this field from the mask
+
+					/*
+					 * check, if there is any figure with the same color, then this figure is going
+					 * to protect by this Knight
+					 */
+					if (this.bitBoard.onColor(field, color)) {
+						figure.updateFigureToProtect(this.getFigureOnField(field), null);
+					} else if (this.bitBoard.onType(field, FigureSet.KING)) {
+						/* check, if the opponent's King has been spotted there */
+						final FigureKing spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
+						spottedKing.addKingsThreat(figure);
+					} else {
 						/*
-						 * check, if there is any figure with the same color, then this figure is going
-						 * to protect by this Knight
+						 * otherwise any figure with the opponent's color has been spotted or this field
+						 * is empty
 						 */
-						if (this.coordMatrix[naturalPosX][naturalPosY].isReserved && (this.coordMatrix[naturalPosX][naturalPosY].figureColor == color)) {
-							figure.updateFigureToProtect(this.coordMatrix[naturalPosX][naturalPosY].figureChess, null);
-						} else if ((this.coordMatrix[naturalPosX][naturalPosY].figureType == FigureSet.KING) && (this.coordMatrix[naturalPosX][naturalPosY].figureColor != color)) {
-							/* check, if the opponent's King has been spotted there */
-							spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
-							spottedKing.addKingsThreat(figure);
-						} else {
-							/*
-							 * otherwise any figure with the opponent's color has been spotted or this field
-							 * is empty
-							 */
-							tmpList.add(tmpLoc);
-						}
+						tmpList.add(Coordinates.valueOf(field));
 					}
 				}
 				break;
-			case KING:
+			}
+			case KING: {
 				/*
 				 * → area = {{X+1,Y}, {X+1,Y+1}, {X,Y+1}, {X-1,Y+1}, {X-1,Y}, {X-1,Y-1}, {X,
 				 * Y-1}, {X+1,Y-1}}
 				 */
-				final char[][] coordsForKing = {
-						{ this.holder.pos_horizon = (char) (posX + 1), this.holder.pos_vertical = (posY) },
-						{ this.holder.pos_horizon = (char) (posX + 1), this.holder.pos_vertical = (char) (posY + 1) },
-						{ this.holder.pos_horizon = (posX), this.holder.pos_vertical = (char) (posY + 1) },
-						{ this.holder.pos_horizon = (char) (posX - 1), this.holder.pos_vertical = (char) (posY + 1) },
-						{ this.holder.pos_horizon = (char) (posX - 1), this.holder.pos_vertical = (posY) },
-						{ this.holder.pos_horizon = (char) (posX - 1), this.holder.pos_vertical = (char) (posY - 1) },
-						{ this.holder.pos_horizon = (posX), this.holder.pos_vertical = (char) (posY - 1) },
-						{ this.holder.pos_horizon = (char) (posX + 1), this.holder.pos_vertical = (char) (posY - 1) }
-				};
-
-				for (int i = 0; i < Matrix.MAX_FIELD_NUMBER; i++) {
-					final String builtCoord = Coordinates.getCoordinatesXY(coordsForKing[i][0], coordsForKing[i][1]);
-					tmpLoc = new Coordinates(builtCoord);
-					naturalPosX = Math.abs(tmpLoc.getPosX().charAt(0) - this.posHorizontalDefault);
-					naturalPosY = Math.abs(tmpLoc.getPosY().charAt(0) - this.posVerticalDefault);
-					if (this.onValidCoordinate(tmpLoc)) {
-						if (this.coordMatrix[naturalPosX][naturalPosY].isReserved && (this.coordMatrix[naturalPosX][naturalPosY].figureColor == color)) {
-							figure.updateFigureToProtect(this.coordMatrix[naturalPosX][naturalPosY].figureChess, null);
-						} else {
-							tmpList.add(tmpLoc);
-						}
+				long attacks = AttackTable.getKingAttacks(loc.getIndex());
+				while (attacks != 0L) {
+					final int field = Long.numberOfTrailingZeros(attacks);
+					attacks &= attacks - 1; // remove this field from the mask
+
+					if (this.bitBoard.onColor(field, color)) {
+						figure.updateFigureToProtect(this.getFigureOnField(field), null);
+					} else {
+						tmpList.add(Coordinates.valueOf(field));
 					}
 				}
 				break;
+			}
 		}
 
 		return tmpList;
 	}
 
+	/**
+	 * Collect all areas of a Rook, Runner or Queen by the {@link MagicTable}. For
+	 * each covered field it's checked, if:
+	 * <ul>
+	 * <li>an allied figure has been spotted OR</li>
+	 * <li>no figure has been spotted OR</li>
+	 * <li>the opponent's King only has been spotted OR</li>
+	 * <li>one of the opponent's figure has been spotted (no King)</li>
+	 * </ul>
+	 *
+	 * @param figure
+	 *            the figure to use
+	 * @param tmpList
+	 *            given list to use
+	 * @param from
+	 *            the field index of the figure
+	 * @param color
+	 *            the color of the figure
+	 */
+	@SuppressWarnings("incomplete-switch")
+	private <T extends BaseFigure> void collectSlidingAreas(final T figure, final List<Coordinates> tmpList, final int from, final FigureColor color) {
+		/*
+		 * The opponent's King doesn't block any ray, where all fields behind this King
+		 * will also covered by this figure.
+		 */
+		final long opponentKing = this.bitBoard.getFigureMask(FigureSet.KING, FigureColor.getOpponentColor(color));
+		final long occupancy = this.bitBoard.getOccupancy() & ~opponentKing;
+
+		long attacks = 0L;
+		switch (figure.getFigureType()) {
+			case ROOK:
+				attacks = MagicTable.getRookAttacks(from, occupancy);
+				break;
+			case RUNNER:
+				attacks = MagicTable.getRunnerAttacks(from, occupancy);
+				break;
+			case QUEEN:
+				attacks = MagicTable.getQueenAttacks(from, occupancy);
+				break;
+		}
+
+		while (attacks != 0L) {
+			final int field = Long.numberOfTrailingZeros(attacks);
+			attacks &= attacks - 1; // remove this field from the mask
+
+			if (this.bitBoard.onColor(field, color)) {
+				/*
+				 * an allied figure has been spotted on this area → add to the protected list
+				 * for this figure
+				 */
+				figure.updateFigureToProtect(this.getFigureOnField(field), Orientation.getOrientation(from, field));
+			} else {
+				/*
+				 * this area is free or any opponent figure has been spotted on this area, where
+				 * this figure may move up to this field to be able to beat the opponent's
+				 * figure
+				 */
+				tmpList.add(Coordinates.valueOf(field));
+
+				if ((opponentKing & BitBoard.getFieldMask(field)) != 0L) {
+					/* This King needs also an information of it's current threat. */
+					final FigureKing spottedKing = FigureHolder.INSTANCE.getKing(FigureColor.getOpponentColor(color));
+					spottedKing.addKingsThreat(figure);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Check, if any figure T, except Knight, may move from start to destination,
 	 * where:
@@ -702,359 +595,89 @@ public enum Matrix {
 		}
 
 		// also check, if start is not equal to destination
-		if (start.getCoordinatesXY().equals(destination.getCoordinatesXY())) {
+		final int destinationField = destination.getIndex();
+		if (start.getIndex() == destinationField) {
 			return false;
 		}
 
-		/*
-		 * properties for a better usage; We assume that all fields between start and
-		 * destination are free.
-		 */
-		final String NO_FREE_AREAS_AVAILABLE = "NO_FREE_AREAS_AVAILABLE";
-		String currentResult = "STILL_AVAILABLE";
+		/* We assume that all fields between start and destination are free. */
 		boolean conditionFreeAreas = true;
+		final FigureColor color = figure.getFigureColor();
 
-		/* variables to use */
-		Coordinates tmp = null;
-		final FigureSet type = figure.getFigureType();
-
-		char cX = start.getPosX().charAt(0);
-		char cY = start.getPosY().charAt(0);
-		final char cX_destination = destination.getPosX().charAt(0);
-		final char cY_destination = destination.getPosY().charAt(0);
-
-		int posX = 0;
-		int posY = 0;
-		Orientation orientation = null;
-
-		switch (type) {
+		switch (figure.getFigureType()) {
 			case ROOK:
-				orientation = this.getCurrentOrientation(start, destination, type);
-				if (orientation == null) { // it's a save action, if the orientation could not being determined
-					currentResult = NO_FREE_AREAS_AVAILABLE;
-					break;
-				} else {
-					switch (orientation) {
-						case HORIZONTAL_LEFT:
-							tmp = new Coordinates(--cX, cY);
-
-							// while the destination coordinate has not been reached yet
-							do {
-								posX = Math.abs(cX - this.posHorizontalDefault);
-								posY = Math.abs(cY - this.posVerticalDefault);
-
-								// just check, if the field f between TMP and DESTINATION is not blocked
-								if (this.coordMatrix[posX][posY].isReserved && (this.coordMatrix[posX][posY].figureColor == figure.getFigureColor())) {
-									/*
-									 * In this case a figure (no matter, if an allied figure or an opponent's
-									 * figure) has been spotted, thus the destination is unable to reach. There is
-									 * no check anywhere, thus the boolean flag 'conditionFreeAreas' will be set to
-									 * 'false'.
-									 */
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-									break;
-								}
-
-								// go to the next left area
-								tmp = new Coordinates(--cX, cY);
-							} while (!(destination.getCoordinatesXY().equals(tmp.getCoordinatesXY())));
-
-							break; // end switch(orientation)
-						case HORIZONTAL_RIGHT:
-							tmp = new Coordinates(++cX, cY);
-							do {
-								posX = Math.abs(cX - this.posHorizontalDefault);
-								posY = Math.abs(cY - this.posVerticalDefault);
-								if (this.coordMatrix[posX][posY].isReserved && (this.coordMatrix[posX][posY].figureColor == figure.getFigureColor())) {
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-									break;
-								}
-								tmp = new Coordinates(++cX, cY);
-							} while (!(destination.getCoordinatesXY().equals(tmp.getCoordinatesXY())));
-
-							break; // end switch(orientation)
-						case VERTICAL_UP:
-							tmp = new Coordinates(cX, ++cY);
-							do {
-								posX = Math.abs(cX - this.posHorizontalDefault);
-								posY = Math.abs(cY - this.posVerticalDefault);
-								if (this.coordMatrix[posX][posY].isReserved && (this.coordMatrix[posX][posY].figureColor == figure.getFigureColor())) {
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-									break;
-								}
-								tmp = new Coordinates(cX, ++cY);
-							} while (!(destination.getCoordinatesXY().equals(tmp.getCoordinatesXY())));
-
-							break; // end switch(orientation)
-						case VERTICAL_DOWN:
-							tmp = new Coordinates(cX, --cY);
-							do {
-								posX = Math.abs(cX - this.posHorizontalDefault);
-								posY = Math.abs(cY - this.posVerticalDefault);
-								if (this.coordMatrix[posX][posY].isReserved && (this.coordMatrix[posX][posY].figureColor == figure.getFigureColor())) {
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-									break;
-								}
-
-								tmp = new Coordinates(cX, --cY);
-							} while (!(destination.getCoordinatesXY().equals(tmp.getCoordinatesXY())));
-
-							break; // end switch(orientation)
-					}
-
-					break; // end switch(type)
-				}
 			case RUNNER:
-				orientation = this.getCurrentOrientation(start, destination, type);
+			case QUEEN: {
+				final Orientation orientation = this.getCurrentOrientation(start, destination, figure.getFigureType());
 				if (orientation == null) { // it's a save action, if the orientation could not being determined
-					currentResult = NO_FREE_AREAS_AVAILABLE;
+					conditionFreeAreas = false;
 					break;
-				} else {
-					switch (orientation) {
-						case DIAGONAL_QUARTER_ONE:
-							tmp = new Coordinates(++cX, ++cY);
-
-							do {
-								posX = Math.abs(cX - this.posHorizontalDefault);
-								posY = Math.abs(cY - this.posVerticalDefault);
-								if (this.coordMatrix[posX][posY].isReserved && (this.coordMatrix[posX][posY].figureColor == figure.getFigureColor())) {
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-									break;
-								}
-								// go to the next top right area
-								tmp = new Coordinates(++cX, ++cY);
-							} while (!(destination.getCoordinatesXY().equals(tmp.getCoordinatesXY())));
-
-							break; // end switch(orientation)
-						case DIAGONAL_QUARTER_TWO:
-							tmp = new Coordinates(--cX, ++cY);
-
-							do {
-								posX = Math.abs(cX - this.posHorizontalDefault);
-								posY = Math.abs(cY - this.posVerticalDefault);
-								if (this.coordMatrix[posX][posY].isReserved && (this.coordMatrix[posX][posY].figureColor == figure.getFigureColor())) {
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-									break;
-								}
-								// go to the next top left area
-								tmp = new Coordinates(--cX, ++cY);
-							} while (!(destination.getCoordinatesXY().equals(tmp.getCoordinatesXY())));
-
-							break; // end switch(orientation)
-						case DIAGONAL_QUARTER_THREE:
-							tmp = new Coordinates(--cX, --cY);
-
-							do {
-								posX = Math.abs(cX - this.posHorizontalDefault);
-								posY = Math.abs(cY - this.posVerticalDefault);
-								if (this.coordMatrix[posX][posY].isReserved && (this.coordMatrix[posX][posY].figureColor == figure.getFigureColor())) {
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-									break;
-								}
-								// go to the next bottom left area
-								tmp = new Coordinates(--cX, --cY);
-							} while (!(destination.getCoordinatesXY().equals(tmp.getCoordinatesXY())));
-
-							break; // end switch(orientation)
-						case DIAGONAL_QUARTER_FOUR:
-							tmp = new Coordinates(++cX, --cY);
-
-							do {
-								posX = Math.abs(cX - this.posHorizontalDefault);
-								posY = Math.abs(cY - this.posVerticalDefault);
-								if (this.coordMatrix[posX][posY].isReserved && (this.coordMatrix[posX][posY].figureColor == figure.getFigureColor())) {
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-									break;
-								}
-								// go to the next bottom right area
-								tmp = new Coordinates(++cX, --cY);
-							} while (!(destination.getCoordinatesXY().equals(tmp.getCoordinatesXY())));
-
-							break; // end switch(orientation)
-					}
-					break; // end switch(type)
 				}
-			case QUEEN:
-				orientation = this.getCurrentOrientation(start, destination, FigureSet.QUEEN);
-				if (orientation == null) { // it's a save action, if the orientation could not being determined
-					currentResult = NO_FREE_AREAS_AVAILABLE;
-					break;
-				} else {
-					switch (orientation) {
-						case HORIZONTAL_LEFT:
-						case HORIZONTAL_RIGHT:
-						case VERTICAL_DOWN:
-						case VERTICAL_UP:
-
-							/*
-							 * The Queen wants to move like a Rook, thus we're creating a temporary Rook on
-							 * Queen's position.
-							 */
-							final FigureRook tmpRook = new FigureRook(start, figure.getFigureColor(), TowerIdentification.IMPOSSIBLE_TO_CASTLE);
-
-							// copy all protected figures from Queen to tmpRook to handle with
-							// recursive calls
-							for (final ProtectedFigure pf : figure.getProtectedFigureList()) {
-								switch (pf.getOrientation()) {
-									case HORIZONTAL_LEFT:
-									case HORIZONTAL_RIGHT:
-									case VERTICAL_DOWN:
-									case VERTICAL_UP:
-										tmpRook.updateFigureToProtect(pf.getProtectedFigure(), pf.getOrientation());
-								}
-							}
-							// call this method by using recursion
-							boolean subChecker = this.onFreeAreas(tmpRook, start, destination);
-							if (subChecker == false) {
-								/*
-								 * In this case the Queen want's to move like a Rook, but there was an obstacle,
-								 * thus it's no need to check with a Runner and this method will also return
-								 * false.
-								 */
-								currentResult = NO_FREE_AREAS_AVAILABLE;
-							}
-							break;
-						default:
-							/*
-							 * Otherwise the Queen wants to move like a Runner. Do the same operations for a
-							 * temporary Runner and check, if the Queen is able to move from start to
-							 * destination.
-							 */
-							posX = Math.abs(cX - this.posHorizontalDefault);
-							posY = Math.abs(cY - this.posVerticalDefault);
-							final FigureRunner tmpRunner = new FigureRunner(start, figure.getFigureColor(), this.coordMatrix[posX][posY].areaColor);
-							for (final ProtectedFigure pf : figure.getProtectedFigureList()) {
-								switch (pf.getOrientation()) {
-									case DIAGONAL_QUARTER_ONE:
-									case DIAGONAL_QUARTER_TWO:
-									case DIAGONAL_QUARTER_THREE:
-									case DIAGONAL_QUARTER_FOUR:
-										tmpRunner.updateFigureToProtect(pf.getProtectedFigure(), pf.getOrientation());
-								}
-							}
-							subChecker = this.onFreeAreas(tmpRunner, start, destination);
-							if (subChecker == false) {
-								currentResult = NO_FREE_AREAS_AVAILABLE;
-							}
-							break; // end switch(orientation)
+
+				/*
+				 * each field between start and destination must be free, no matter if an allied
+				 * figure or an opponent's figure has been spotted
+				 */
+				int posX = start.getFile() + orientation.getStepX();
+				int posY = start.getRank() + orientation.getStepY();
+				int field = this.getField(posX, posY);
+				while (field != destinationField) {
+					if (this.bitBoard.onReserved(field)) {
+						conditionFreeAreas = false;
+						break;
 					}
-					break; // end switch(type)
+
+					posX += orientation.getStepX(); // go to the next field
+					posY += orientation.getStepY();
+					field = this.getField(posX, posY);
+				}
+
+				/* the destination itself may hold an opponent's figure only */
+				if (this.bitBoard.onColor(destinationField, color)) {
+					conditionFreeAreas = false;
 				}
-			case PAWN:
-				int fieldDifference = Math.abs(cY - destination.getPosY().charAt(0));
-				posX = Math.abs(destination.getPosX().charAt(0) - this.posHorizontalDefault);
-				posY = Math.abs(destination.getPosY().charAt(0) - this.posVerticalDefault);
+				break;
+			}
+			case PAWN: {
 				final FigurePawn tmpPawn = (FigurePawn) figure;
-				final FigureColor colorPawn = tmpPawn.getFigureColor();
 
-				switch (colorPawn) {
-					case WHITE:
-						/*
-						 * Check, if the white Pawn is able to do this move having on the field
-						 * difference. For each normal move the X axis of start and destination shall be
-						 * equal, where the Y axis of start and destination is different.
-						 */
-						if ((cX == cX_destination) && (cY < cY_destination)) {
-
-							if (fieldDifference == 1) {
-								if (this.coordMatrix[posX][posY].isReserved) {
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-								}
-							} else if (fieldDifference == 2) {
-								/*
-								 * Only in use, if the given figure Pawn has not been moved before, thus it's
-								 * possible to move two fields upwards once only.
-								 */
-								if (tmpPawn.onFirstMove()) {
-									while (fieldDifference != 0) {
-										if (this.coordMatrix[posX][posY].isReserved) {
-											currentResult = NO_FREE_AREAS_AVAILABLE;
-											break;
-										}
-
-										fieldDifference--;
-										posY--;
-									}
-								} else {
-									/*
-									 * The Pawn want's move two fields, but it's impossible.
-									 */
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-								}
-							} else {
-								/*
-								 * In this case the Pawn wants to move more than 2 fields, which is still
-								 * invalid.
-								 */
-								currentResult = NO_FREE_AREAS_AVAILABLE;
-							}
-						} else {
-							/*
-							 * The Pawn want's to move backwards or sidewards (capturing), which is normally
-							 * impossible.
-							 */
-							currentResult = NO_FREE_AREAS_AVAILABLE;
-						}
-						break;
-					case BLACK:
-						if ((cX == cX_destination) && (cY > cY_destination)) {
-
-							if (fieldDifference == 1) {
-								if (this.coordMatrix[posX][posY].isReserved) {
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-								}
-							} else if (fieldDifference == 2) {
-								/*
-								 * Only in use, if the given figure Pawn has not been moved before, thus it's
-								 * possible to move two fields upwards once only.
-								 */
-								if (tmpPawn.onFirstMove()) {
-									while (fieldDifference != 0) {
-										if (this.coordMatrix[posX][posY].isReserved) {
-											currentResult = NO_FREE_AREAS_AVAILABLE;
-											break;
-										}
-										fieldDifference--;
-										posY++;
-									}
-								} else {
-									/*
-									 * The Pawn want's move two fields, but it's impossible.
-									 */
-									currentResult = NO_FREE_AREAS_AVAILABLE;
-								}
-							} else {
-								/*
-								 * In this case the Pawn wants to move more than 2 fields, which is still
-								 * invalid.
-								 */
-								currentResult = NO_FREE_AREAS_AVAILABLE;
-							}
-						} else {
-							/*
-							 * The Pawn want's to move backwards or sidewards, which is normally impossible.
-							 */
-							currentResult = NO_FREE_AREAS_AVAILABLE;
-						}
+				/*
+				 * For each normal move the X axis of start and destination shall be equal, where
+				 * the Y axis goes upwards for a white Pawn and downwards for a black Pawn.
+				 */
+				final int stepY = (color == FigureColor.WHITE) ? 1 : -1;
+				final int fieldDifference = (destination.getRank() - start.getRank()) * stepY;
 
-						break;
-				} // end switch(colorPawn)
-				break; // end switch(type)
-			case KING:
-				posX = Math.abs(destination.getPosX().charAt(0) - this.posHorizontalDefault);
-				posY = Math.abs(destination.getPosY().charAt(0) - this.posVerticalDefault);
+				if ((start.getFile() != destination.getFile()) || (fieldDifference < 1) || (fieldDifference > 2)) {
+					/*
+					 * The Pawn want's to move backwards, sidewards (capturing) or more than 2
+					 * fields, which is normally impossible.
+					 */
+					conditionFreeAreas = false;
+				} else if ((fieldDifference == 2) && !tmpPawn.onFirstMove()) {
+					/*
+					 * Two fields are only possible, if the given figure Pawn has not been moved
+					 * before.
+					 */
+					conditionFreeAreas = false;
+				} else if (this.bitBoard.onReserved(destinationField) || ((fieldDifference == 2) && this.bitBoard.onReserved(this.getField(start.getFile(), start.getRank() + stepY)))) {
+					conditionFreeAreas = false;
+				}
+				break;
+			}
+			case KING: {
 				final FigureKing tmpKing = (FigureKing) figure;
 				// just check, if the destination field may be blocked
-				if (this.coordMatrix[posX][posY].isReserved) {
+				if (this.bitBoard.onReserved(destinationField)) {
 					/*
 					 * The destination field is blocked. Now it's required to know, which figure
 					 * blocks this field.
 					 */
-					final BaseFigure spottedFigure = this.coordMatrix[posX][posY].figureChess;
-					if (this.coordMatrix[posX][posY].figureColor.equals(tmpKing.getFigureColor())) {
+					final BaseFigure spottedFigure = this.coordMatrix[destination.getFile()][destination.getRank()].figureChess;
+					if (this.bitBoard.onColor(destinationField, color)) {
 						// An allied figure blocks this field.
 						tmpKing.updateDestinationNotifier(KingDestinationNotifier.FIELD_IS_BLOCKED_BY_ALLY, spottedFigure);
-						currentResult = NO_FREE_AREAS_AVAILABLE;
+						conditionFreeAreas = false;
 					} else {
 						tmpKing.updateDestinationNotifier(KingDestinationNotifier.FIELD_IS_BLOCKED_BY_OPPONENT, spottedFigure);
 					}
@@ -1066,12 +689,9 @@ public enum Matrix {
 					tmpKing.updateDestinationNotifier(KingDestinationNotifier.FIELD_IS_FREE, null);
 				}
 				break;
+			}
 		} // end switch
 
-		if (currentResult.equals(NO_FREE_AREAS_AVAILABLE)) {
-			conditionFreeAreas = false;
-		}
-
 		return conditionFreeAreas;
 	}
 
@@ -1095,10 +715,10 @@ public enum Matrix {
 	@SuppressWarnings("incomplete-switch")
 	private Orientation getCurrentOrientation(final Coordinates current, final Coordinates destination, final FigureSet type) {
 		if ((type == FigureSet.RUNNER) || (type == FigureSet.ROOK) || (type == FigureSet.QUEEN)) {
-			final char currentX = current.getPosX().charAt(0);
-			final char currentY = current.getPosY().charAt(0);
-			final char destX = destination.getPosX().charAt(0);
-			final char destY = destination.getPosY().charAt(0);
+			final char currentX = current.getCharX();
+			final char currentY = current.getCharY();
+			final char destX = destination.getCharX();
+			final char destY = destination.getCharY();
 			switch (type) {
 				case RUNNER:
 					/*
@@ -1266,14 +886,16 @@ public enum Matrix {
 		// every figure, except the King, is able to being removed from matrix class
 		if (figure.getFigureType() != FigureSet.KING) {
 			final Coordinates figureLocation = figure.getLocation();
-			final int locX = (Math.abs(figureLocation.getPosX().charAt(0)) - this.posHorizontalDefault);
-			final int locY = (Math.abs(figureLocation.getPosY().charAt(0)) - this.posVerticalDefault);
+			final int locX = figureLocation.getFile();
+			final int locY = figureLocation.getRank();
 			// check, if on this coordinate is the given figure
 			if (this.coordMatrix[locX][locY].isReserved && this.coordMatrix[locX][locY].figureChess.equals(figure)) {
 				this.coordMatrix[locX][locY].figureChess = null;
 				this.coordMatrix[locX][locY].figureColor = null;
 				this.coordMatrix[locX][locY].figureType = null;
 				this.coordMatrix[locX][locY].isReserved = false;
+				this.bitBoard.clearField(this.getField(locX, locY));
+				this.attackMap.update(BitBoard.getFieldMask(this.getField(locX, locY)));
 				success = true;
 			}
 		}
@@ -1294,24 +916,17 @@ public enum Matrix {
 	 */
 	public <T extends BaseFigure> void removeProtections(final T figure, final FigureColor color, final FigureSet type) {
 		if (figure != null) {
-			// get the allied King
-			final FigureKing tmpKing = FigureHolder.INSTANCE.getKing(color);
-			for (final ProtectedFigure pf : tmpKing.getProtectedFigureList()) {
-				if (pf.getProtectedFigure().equals(figure)) {
-					tmpKing.removeFigureToProtect(pf);
-					break; // otherwise an InvocationTargetException occurs
-				}
-			}
-			// check any other figure left
-			for (final FigureSet tmpType : FigureSet.values()) {
-				if (!tmpType.equals(FigureSet.KING)) { // ignore the King
-					for (final BaseFigure baseFigure : FigureHolder.INSTANCE.getListOfAllFiguresBy(tmpType, color)) {
-						if (!baseFigure.equals(figure)) { // baseFigure must not be equal to the given figure
-							for (final ProtectedFigure protectedFigrure : baseFigure.getProtectedFigureList()) {
-								if (protectedFigrure.getProtectedFigure().equals(figure)) {
-									baseFigure.removeFigureToProtect(protectedFigrure);
-									break; // otherwise an InvocationTargetException occurs
-								}
+			// check any allied figure, the King included
+			for (final FigureSet tmpType : BitBoard.TYPES) {
+				final int nbrOfFigures = FigureHolder.INSTANCE.getNumberOfFigures(tmpType, color);
+
+				for (int i = 0; i < nbrOfFigures; i++) {
+					final BaseFigure baseFigure = FigureHolder.INSTANCE.getFigure(tmpType, color, i);
+					if (!baseFigure.equals(figure)) { // baseFigure must not be equal to the given figure
+						for (final ProtectedFigure protectedFigrure : baseFigure.getProtectedFigureList()) {
+							if (protectedFigrure.getProtectedFigure().equals(figure)) {
+								baseFigure.removeFigureToProtect(protectedFigrure);
+								break; // otherwise an InvocationTargetException occurs
 							}
 						}
 					}
@@ -1329,70 +944,23 @@ public enum Matrix {
 	 * @param knight
 	 *            the Knight to use
 	 * @param set
-	 *            the given set of valid moves to compare
+	 *            the given set of valid moves, which is already covered by the
+	 *            {@link AttackTable}
 	 *
 	 * @return true, if the move is valid,<br>
 	 *         false, otherwise
 	 */
 	public boolean onValidKnightMove(final Coordinates destination, final FigureKnight knight, final List<MoveSetKnight[]> set) {
-		/* get each coordinate */
-		char posXStart = knight.getLocation().getPosX().charAt(0);
-		char posYStart = knight.getLocation().getPosY().charAt(0);
-		final char posXDest = destination.getPosX().charAt(0);
-		final char posYDest = destination.getPosY().charAt(0);
+		if (!this.onValidCoordinate(destination)) {
+			return false;
+		}
 
 		/*
-		 * Check, if the distance between start and destination of X and Y coordinate is
-		 * not higher than 2. It false, then the Knight would like to move to an invalid
-		 * coordinate, thus the current Knight move is invalid.
+		 * The attack table holds exactly the fields of the default move set, thus a
+		 * single lookup is enough to check, if the Knight move is valid.
 		 */
-		final int distanceHorizon = Math.abs(posXStart - posXDest);
-		final int distanceVertical = Math.abs(posYStart - posYDest);
-
-		final boolean validVerticalBegin = ((distanceHorizon == 1) && (distanceVertical == 2));
-		final boolean validHorizontalBegin = ((distanceHorizon == 2) && (distanceVertical == 1));
-
-		/* check, if the Knight move is valid */
-		if (validVerticalBegin || validHorizontalBegin) {
-			/* generating the sub move from start to destination */
-			final MoveSetKnight subMove[] = new MoveSetKnight[3];
-			int ctrMove = 0;
-
-			/* check horizontal area */
-			while (posXStart != posXDest) {
-				if (posXStart < posXDest) {
-					subMove[ctrMove] = MoveSetKnight.HORIZONTAL_RIGHT;
-					posXStart++;
-				} else if (posXStart > posXDest) {
-					subMove[ctrMove] = MoveSetKnight.HORIZONTAL_LEFT;
-					posXStart--;
-				}
-				ctrMove++;
-			}
-
-			/* check vertical area */
-			while (posYStart != posYDest) {
-				if (posYStart < posYDest) {
-					subMove[ctrMove] = MoveSetKnight.VERTICAL_UP;
-					posYStart++;
-				} else if (posYStart > posYDest) {
-					subMove[ctrMove] = MoveSetKnight.VERTICAL_DOWN;
-					posYStart--;
-				}
-				ctrMove++;
-			}
-			/*
-			 * the generated sub move has been created; now check, if this set is a part of
-			 * the default move set
-			 */
-			for (final MoveSetKnight[] tmp : set) {
-				if (subMove[0].equals(tmp[0]) && subMove[1].equals(tmp[1]) && subMove[2].equals(tmp[2])) {
-					return true;
-				}
-			}
-		}
-
-		return false;
+		final long attacks = AttackTable.getKnightAttacks(knight.getLocation().getIndex());
+		return (attacks & BitBoard.getFieldMask(destination.getIndex())) != 0L;
 	}
 
 	/**
@@ -1422,221 +990,22 @@ public enum Matrix {
 		final Coordinates locBaseFigure = baseFigure.getLocation();
 		final Coordinates locInterrupted = interruptedFigure.getLocation();
 
-		/* holds the location to modify */
-		Coordinates tmpLoc = locBaseFigure;
-		char posX = tmpLoc.getPosX().charAt(0);
-		char posY = tmpLoc.getPosY().charAt(0);
+		/* the orientation from BF to IF, null if IF is not on any ray of BF */
+		final Orientation orientation = this.getCurrentOrientation(locBaseFigure, locInterrupted, type);
 
 		for (final ProtectedFigure pf : listOfProtectedFigures) {
 			switch (type) {
 				case ROOK:
-					tmpLoc = new Coordinates(--posX, posY);
-					while (this.onValidCoordinate(tmpLoc)) {
-						if (locInterrupted.getCoordinatesXY().equals(tmpLoc.getCoordinatesXY())) {
-							if (pf.getOrientation() == Orientation.HORIZONTAL_LEFT) {
-								baseFigure.removeFigureToProtect(pf);
-								if (interruptedFigure.getFigureColor() == color) {
-									baseFigure.updateFigureToProtect(interruptedFigure, Orientation.HORIZONTAL_LEFT);
-								}
-								return true;
-							}
-						}
-						tmpLoc = new Coordinates(--posX, posY);
-					}
-
-					/* reset properties */
-					tmpLoc = locBaseFigure;
-					posX = tmpLoc.getPosX().charAt(0);
-					posY = tmpLoc.getPosY().charAt(0);
-
-					tmpLoc = new Coordinates(++posX, posY);
-					while (this.onValidCoordinate(tmpLoc)) {
-						if (locInterrupted.getCoordinatesXY().equals(tmpLoc.getCoordinatesXY())) {
-							if (pf.getOrientation() == Orientation.HORIZONTAL_RIGHT) {
-								baseFigure.removeFigureToProtect(pf);
-								if (interruptedFigure.getFigureColor() == color) {
-									baseFigure.updateFigureToProtect(interruptedFigure, Orientation.HORIZONTAL_RIGHT);
-								}
-								return true;
-							}
-						}
-						tmpLoc = new Coordinates(++posX, posY);
-					}
-
-					/* reset properties */
-					tmpLoc = locBaseFigure;
-					posX = tmpLoc.getPosX().charAt(0);
-					posY = tmpLoc.getPosY().charAt(0);
-
-					tmpLoc = new Coordinates(posX, --posY);
-					while (this.onValidCoordinate(tmpLoc)) {
-						if (locInterrupted.getCoordinatesXY().equals(tmpLoc.getCoordinatesXY())) {
-							if (pf.getOrientation() == Orientation.VERTICAL_DOWN) {
-								baseFigure.removeFigureToProtect(pf);
-								if (interruptedFigure.getFigureColor() == color) {
-									baseFigure.updateFigureToProtect(interruptedFigure, Orientation.VERTICAL_DOWN);
-								}
-								return true;
-							}
-						}
-						tmpLoc = new Coordinates(posX, --posY);
-					}
-
-					/* reset properties */
-					tmpLoc = locBaseFigure;
-					posX = tmpLoc.getPosX().charAt(0);
-					posY = tmpLoc.getPosY().charAt(0);
-
-					tmpLoc = new Coordinates(posX, ++posY);
-					while (this.onValidCoordinate(tmpLoc)) {
-						if (locInterrupted.getCoordinatesXY().equals(tmpLoc.getCoordinatesXY())) {
-							if (pf.getOrientation() == Orientation.VERTICAL_UP) {
-								baseFigure.removeFigureToProtect(pf);
-								if (interruptedFigure.getFigureColor() == color) {
-									baseFigure.updateFigureToProtect(interruptedFigure, Orientation.VERTICAL_UP);
-								}
-								return true;
-							}
-						}
-						tmpLoc = new Coordinates(posX, ++posY);
-					}
-					break;
 				case RUNNER:
-					tmpLoc = new Coordinates(++posX, ++posY);
-					while (this.onValidCoordinate(tmpLoc)) {
-						if (locInterrupted.getCoordinatesXY().equals(tmpLoc.getCoordinatesXY())) {
-							if (pf.getOrientation() == Orientation.DIAGONAL_QUARTER_ONE) {
-								baseFigure.removeFigureToProtect(pf);
-								if (interruptedFigure.getFigureColor() == color) {
-									baseFigure.updateFigureToProtect(interruptedFigure, Orientation.DIAGONAL_QUARTER_ONE);
-								}
-								return true;
-							}
-						}
-						tmpLoc = new Coordinates(++posX, ++posY);
-					}
-
-					/* reset properties */
-					tmpLoc = locBaseFigure;
-					posX = tmpLoc.getPosX().charAt(0);
-					posY = tmpLoc.getPosY().charAt(0);
-
-					tmpLoc = new Coordinates(--posX, ++posY);
-					while (this.onValidCoordinate(tmpLoc)) {
-						if (locInterrupted.getCoordinatesXY().equals(tmpLoc.getCoordinatesXY())) {
-							if (pf.getOrientation() == Orientation.DIAGONAL_QUARTER_TWO) {
-								baseFigure.removeFigureToProtect(pf);
-								if (interruptedFigure.getFigureColor() == color) {
-									baseFigure.updateFigureToProtect(interruptedFigure, Orientation.DIAGONAL_QUARTER_TWO);
-								}
-								return true;
-							}
-						}
-						tmpLoc = new Coordinates(--posX, ++posY);
-					}
-
-					/* reset properties */
-					tmpLoc = locBaseFigure;
-					posX = tmpLoc.getPosX().charAt(0);
-					posY = tmpLoc.getPosY().charAt(0);
-
-					tmpLoc = new Coordinates(--posX, --posY);
-					while (this.onValidCoordinate(tmpLoc)) {
-						if (locInterrupted.getCoordinatesXY().equals(tmpLoc.getCoordinatesXY())) {
-							if (pf.getOrientation() == Orientation.DIAGONAL_QUARTER_THREE) {
-								baseFigure.removeFigureToProtect(pf);
-								if (interruptedFigure.getFigureColor() == color) {
-									baseFigure.updateFigureToProtect(interruptedFigure, Orientation.DIAGONAL_QUARTER_THREE);
-								}
-								return true;
-							}
-						}
-						tmpLoc = new Coordinates(--posX, --posY);
-					}
-
-					/* reset properties */
-					tmpLoc = locBaseFigure;
-					posX = tmpLoc.getPosX().charAt(0);
-					posY = tmpLoc.getPosY().charAt(0);
-
-					tmpLoc = new Coordinates(++posX, --posY);
-					while (this.onValidCoordinate(tmpLoc)) {
-						if (locInterrupted.getCoordinatesXY().equals(tmpLoc.getCoordinatesXY())) {
-							if (pf.getOrientation() == Orientation.DIAGONAL_QUARTER_FOUR) {
-								baseFigure.removeFigureToProtect(pf);
-								if (interruptedFigure.getFigureColor() == color) {
-									baseFigure.updateFigureToProtect(interruptedFigure, Orientation.DIAGONAL_QUARTER_FOUR);
-								}
-								return true;
-							}
-						}
-						tmpLoc = new Coordinates(++posX, --posY);
-					}
-					break;
 				case QUEEN:
-					FigureRook tmpRook = new FigureRook(locBaseFigure, color, TowerIdentification.IMPOSSIBLE_TO_CASTLE);
-					tmpRook.updateThreatList(this.createNewThreatList(tmpRook, locBaseFigure));
-
-					/* step 1: tmpRook needs to know all protected figures of the Queen */
-					for (final ProtectedFigure pf1 : baseFigure.getProtectedFigureList()) {
-						switch (pf1.getOrientation()) {
-							case HORIZONTAL_LEFT:
-							case HORIZONTAL_RIGHT:
-							case VERTICAL_DOWN:
-							case VERTICAL_UP:
-								tmpRook.updateFigureToProtect(pf1.getProtectedFigure(), pf1.getOrientation());
+					/* IF interrupts the chain only, if it's on the same ray as the protected figure */
+					if ((orientation != null) && (pf.getOrientation() == orientation)) {
+						baseFigure.removeFigureToProtect(pf);
+						if (interruptedFigure.getFigureColor() == color) {
+							baseFigure.updateFigureToProtect(interruptedFigure, orientation);
 						}
+						return true;
 					}
-
-					/* step 2: tmpRunner needs to know all protected figures of the Queen */
-					final int naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-					final int naturalPosY = Math.abs(posY - this.posVerticalDefault);
-					FigureRunner tmpRunner = new FigureRunner(locBaseFigure, color, this.coordMatrix[naturalPosX][naturalPosY].areaColor);
-					tmpRunner.updateThreatList(this.createNewThreatList(tmpRunner, locBaseFigure));
-
-					for (final ProtectedFigure pf2 : baseFigure.getProtectedFigureList()) {
-						switch (pf2.getOrientation()) {
-							case DIAGONAL_QUARTER_ONE:
-							case DIAGONAL_QUARTER_TWO:
-							case DIAGONAL_QUARTER_THREE:
-							case DIAGONAL_QUARTER_FOUR:
-								tmpRunner.updateFigureToProtect(pf2.getProtectedFigure(), pf2.getOrientation());
-						}
-					}
-
-					/* step 3: do a recursive step with tmpRook and tmpRunner */
-					this.onInterruptProtectionChain(tmpRook, interruptedFigure, tmpRook.getProtectedFigureList());
-					this.onInterruptProtectionChain(tmpRunner, interruptedFigure, tmpRunner.getProtectedFigureList());
-
-					/*
-					 * step 4: remove the Queen's protected figures and replace with tmpRook and
-					 * tmpRunner
-					 */
-					baseFigure.removeAllProtectedFigures();
-					for (final ProtectedFigure pf3 : tmpRook.getProtectedFigureList()) {
-						switch (pf3.getOrientation()) {
-							case HORIZONTAL_LEFT:
-							case HORIZONTAL_RIGHT:
-							case VERTICAL_DOWN:
-							case VERTICAL_UP:
-								baseFigure.updateFigureToProtect(pf3.getProtectedFigure(), pf3.getOrientation());
-						}
-					}
-
-					for (final ProtectedFigure pf4 : tmpRunner.getProtectedFigureList()) {
-						switch (pf4.getOrientation()) {
-							case DIAGONAL_QUARTER_ONE:
-							case DIAGONAL_QUARTER_TWO:
-							case DIAGONAL_QUARTER_THREE:
-							case DIAGONAL_QUARTER_FOUR:
-								baseFigure.updateFigureToProtect(pf4.getProtectedFigure(), pf4.getOrientation());
-						}
-					}
-
-					/* final step: clean up */
-					tmpRunner = null;
-					tmpRook = null;
-					System.gc();
 					break;
 			}
 		}
@@ -1659,146 +1028,55 @@ public enum Matrix {
 	 *         false, otherwise
 	 */
 	public boolean onFreeCastlingAreas(final FigureColor color, final Coordinates coordKing, final Coordinates coordRook) {
-		/*
-		 * both flags below are required, where freeAreas shall be true and
-		 * threatenedAreas shall be false to ensure to do a castling
-		 */
-		boolean freeAreas = true;
-		boolean threatenedAreas = false;
-		boolean justCompleted = false;
-		/* holds all coordinates from King to Rook or in the other way around */
-		List<CoordinationHolder> coordHolder = new ArrayList<>();
-		boolean rookComesFirst = false;
-		for (final char cX : this.HORIZONTAL_ARRAY) {
-			if (!justCompleted) {
-				for (final char cY : this.VERTICAL_ARRAY) {
-					if (!justCompleted) {
-						final String tmpCoord = Coordinates.getCoordinatesXY(cX, cY);
-						/*
-						 * check, which figure comes first; whenever this condition check returns true,
-						 * then add all fields left and finally leave both loops
-						 */
-						if (tmpCoord.equals(coordKing.getCoordinatesXY()) || tmpCoord.equals(coordRook.getCoordinatesXY())) {
-							if (tmpCoord.equals(coordRook.getCoordinatesXY())) {
-								rookComesFirst = true;
-							}
-							if (rookComesFirst) {
-								/*
-								 * the Rook comes first → append all areas between Rook and King
-								 */
-								coordHolder = this.collectCoordinates(coordRook, coordKing);
-							} else {
-								/*
-								 * otherwise the King comes first → append all areas between King and Rook
-								 */
-								coordHolder = this.collectCoordinates(coordKing, coordRook);
-							}
-							justCompleted = true;
-						}
-					}
-				}
+		/* walk along all fields between King and Rook, no matter which figure comes first */
+		final int posY = coordKing.getRank();
+		final int lastPosX = Math.max(coordKing.getFile(), coordRook.getFile());
+
+		for (int posX = Math.min(coordKing.getFile(), coordRook.getFile()) + 1; posX < lastPosX; posX++) {
+			final int field = this.getField(posX, posY);
+			if (this.bitBoard.onReserved(field)) {
+				return false;
 			}
-		}
-		/*
-		 * The list now holds all areas between King and Rook or vice versa. Finally,
-		 * it's time to check, if all these areas are not covered by any figure of the
-		 * opponent.
-		 */
-		boolean noMoreChecks = false;
-		for (final CoordinationHolder ch : coordHolder) {
-			if (noMoreChecks) {
-				break;
-			}
-			if (!ch.isReserved) {
-				// check, if no figure by the opponent threats this area
-				// final FigureColor opponentColor = FigureColor.getOpponentColor(color);
-				for (final FigureSet type : FigureSet.values()) {
-					if (noMoreChecks) {
-						break;
-					}
-					if (type != FigureSet.KING) {
-						final List<? extends BaseFigure> figureList = FigureHolder.INSTANCE.getListOfAllFiguresBy(type, color);
-
-						for (final BaseFigure bf : figureList) {
-							if (!this.onRealFreeArea(bf, ch)) {
-								threatenedAreas = true;
-								noMoreChecks = true;
-								break; // break, because the conditions are no longer satisfied
-							}
-						}
-					} else {
-						// for the foes King only
-						final figure.FigureKing opponentKing = FigureHolder.INSTANCE.getKing(color);
-						if (!this.onRealFreeArea(opponentKing, ch)) {
-							threatenedAreas = true;
-							noMoreChecks = true;
-						}
+
+			// check, if no figure by the opponent threats this area
+			for (final FigureSet type : BitBoard.TYPES) {
+				final int nbrOfFigures = FigureHolder.INSTANCE.getNumberOfFigures(type, color);
+
+				for (int i = 0; i < nbrOfFigures; i++) {
+					if (!this.onRealFreeArea(FigureHolder.INSTANCE.getFigure(type, color, i), field)) {
+						return false; // the conditions are no longer satisfied
 					}
 				}
-			} else {
-				freeAreas = false;
-				break;
 			}
 		}
-		return ((freeAreas) && (!threatenedAreas));
-	}
 
-	/**
-	 * Collect all areas between King and Rook or vice versa with it's required
-	 * properties.
-	 *
-	 * @param start
-	 *            start coordinate
-	 * @param end
-	 *            destination coordinate
-	 *
-	 * @return a list with all areas
-	 */
-	private List<CoordinationHolder> collectCoordinates(final Coordinates start, final Coordinates end) {
-		final List<CoordinationHolder> tmp = new ArrayList<>();
-		char posX = start.getPosX().charAt(0);
-		final char posY = start.getPosY().charAt(0);
-		Coordinates freeArea = new Coordinates(++posX, posY);
-		while (!freeArea.getCoordinatesXY().equals(end.getCoordinatesXY())) {
-			final CoordinationHolder ch = new CoordinationHolder();
-			ch.pos_horizon = posX;
-			ch.pos_vertical = posY;
-			final int naturalPosX = Math.abs(posX - this.posHorizontalDefault);
-			final int naturalPosY = Math.abs(posY - this.posVerticalDefault);
-			ch.isReserved = this.coordMatrix[naturalPosX][naturalPosY].isReserved;
-			tmp.add(ch);
-			freeArea = new Coordinates(++posX, posY);
-		}
-		return tmp;
+		return true;
 	}
 
 	/**
-	 * Check, if every opponent's figure doesn't threat the given free area.
-	 * Whenever any figure is able to threat the given coordinate, then the nested
-	 * property `decision` returns false.
+	 * Check, if the given figure of the opponent doesn't threat the given free
+	 * area.
 	 *
 	 * @param figure
 	 *            the figure to use
-	 * @param ch
-	 *            the current coordination holder
+	 * @param field
+	 *            the field index of the area between King and Rook
 	 *
-	 * @return the content of `decision`
+	 * @return true, if the area is not covered by figure T,<br>
+	 *         false, otherwise
 	 */
-	private <T extends BaseFigure> boolean onRealFreeArea(final T figure, final CoordinationHolder ch) {
-		boolean decision = true;
-		final List<Coordinates> threatenedAreaList = figure.getThreatAreas();
+	private <T extends BaseFigure> boolean onRealFreeArea(final T figure, final int field) {
 		// check each area which is covered by this figure
-		for (final Coordinates c : threatenedAreaList) {
-			final Coordinates area = new Coordinates(ch.pos_horizon, ch.pos_vertical);
+		for (final Coordinates c : figure.getThreatAreas()) {
 			/*
-			 * if field `area`, which is a part of an area between King and Rook, is covered
-			 * by figure T, then there is no chance to do a castling
+			 * if the area between King and Rook is covered by figure T, then there is no
+			 * chance to do a castling
 			 */
-			if (area.getCoordinatesXY().equals(c.getCoordinatesXY())) {
-				decision = false;
+			if (c.getIndex() == field) {
+				return false;
 			}
 		}
-		return decision;
+		return true;
 	}
 
 	/**
@@ -1824,30 +1102,35 @@ public enum Matrix {
 			condition = false;
 		} else {
 			int locHorizon, locVertical;
+			long changed = 0L;
 			if (!newFigureUsage) {
 				/*
 				 * if the figure still exists in the game, then remove this figure from its old
 				 * coordinate and finally, set the figure to its new location by given coord
 				 */
 				final Coordinates oldLoc = figure.getLocation();
-				final char cX = oldLoc.getPosX().charAt(0);
-				final char cY = oldLoc.getPosY().charAt(0);
 				// remove figure from old matrix coordinate
-				locHorizon = Math.abs(cX - this.posHorizontalDefault);
-				locVertical = Math.abs(cY - this.posVerticalDefault);
+				locHorizon = oldLoc.getFile();
+				locVertical = oldLoc.getRank();
 				this.coordMatrix[locHorizon][locVertical].figureChess = null;
 				this.coordMatrix[locHorizon][locVertical].figureColor = null;
 				this.coordMatrix[locHorizon][locVertical].figureType = null;
 				this.coordMatrix[locHorizon][locVertical].isReserved = false;
+				this.bitBoard.clearField(this.getField(locHorizon, locVertical));
+				changed |= BitBoard.getFieldMask(this.getField(locHorizon, locVertical));
 			}
 			figure.updateFigureLocation(coord); // the figure has now the new location
 			// set figure T to the new matrix coordinate `coord`
-			locHorizon = Math.abs(coord.getPosX().charAt(0) - this.posHorizontalDefault);
-			locVertical = Math.abs(coord.getPosY().charAt(0) - this.posVerticalDefault);
+			locHorizon = coord.getFile();
+			locVertical = coord.getRank();
 			this.coordMatrix[locHorizon][locVertical].figureChess = figure;
 			this.coordMatrix[locHorizon][locVertical].figureColor = figure.getFigureColor();
 			this.coordMatrix[locHorizon][locVertical].figureType = figure.getFigureType();
 			this.coordMatrix[locHorizon][locVertical].isReserved = true;
+			this.bitBoard.setFigure(this.getField(locHorizon, locVertical), figure.getFigureColor(), figure.getFigureType());
+
+			/* only the figures on the changed fields and any ray through them are updated */
+			this.attackMap.update(changed | BitBoard.getFieldMask(this.getField(locHorizon, locVertical)));
 		}
 		return condition;
 	}
@@ -1863,9 +1146,7 @@ public enum Matrix {
 	 *         false, otherwise
 	 */
 	public boolean onFieldReserved(final Coordinates loc) {
-		final int posX = Math.abs(loc.getPosX().charAt(0) - this.posHorizontalDefault);
-		final int posY = Math.abs(loc.getPosY().charAt(0) - this.posVerticalDefault);
-		return this.coordMatrix[posX][posY].isReserved;
+		return this.bitBoard.onReserved(loc.getIndex());
 	}
 
 	/**
@@ -1878,8 +1159,19 @@ public enum Matrix {
 	 * @return the given figure on this field
 	 */
 	public BaseFigure getFigureOnField(final Coordinates loc) {
-		final int posX = Math.abs(loc.getPosX().charAt(0) - this.posHorizontalDefault);
-		final int posY = Math.abs(loc.getPosY().charAt(0) - this.posVerticalDefault);
-		return this.coordMatrix[posX][posY].figureChess;
+		return this.coordMatrix[loc.getFile()][loc.getRank()].figureChess;
+	}
+
+	/**
+	 * Receive the figure on the given field index.
+	 *
+	 * @param field
+	 *            the field index
+	 *
+	 * @return the figure on this field,<br>
+	 *         or null, if the field is free
+	 */
+	private BaseFigure getFigureOnField(final int field) {
+		return this.coordMatrix[field & 7][field >>> 3].figureChess;
 	}
 }
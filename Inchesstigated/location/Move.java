@@ -0,0 +1,206 @@
+/**
+ * @package: location
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package location;
+
+import figure.properties.FigureSet;
+
+/**
+ * @author swunsch
+ *
+ *         Packs a move of any figure into a single int value, thus a list of
+ *         moves is a plain int array and doesn't create any object.
+ *
+ *         <pre>
+ *         bits  0 -  5: start field
+ *         bits  6 - 11: destination field
+ *         bits 12 - 14: promotion (FigureSet ordinal + 1, 0 for none)
+ *         bits 15 - 16: flag (normal, two fields, en passant, castling)
+ *         </pre>
+ *
+ *         A captured figure is not a part of the move, it's a part of the
+ *         position, where this move will be made.
+ */
+public final class Move {
+	/** no move at all ("A1" to "A1" is never a valid move) */
+	public static final int NONE = 0;
+
+	/* flags */
+	public static final int FLAG_NORMAL = 0;
+	public static final int FLAG_TWO_FIELDS = 1;
+	public static final int FLAG_EN_PASSANT = 2;
+	public static final int FLAG_CASTLING = 3;
+
+	/* bit positions */
+	private static final int SHIFT_TO = 6;
+	private static final int SHIFT_PROMOTION = 12;
+	private static final int SHIFT_FLAG = 15;
+
+	/** characters of each promotion, indexed by FigureSet */
+	private static final char[] PROMOTION_CHARS = {
+			'P', 'N', 'R', 'B', 'K', 'Q'
+	};
+
+	/** no instance required */
+	private Move() {
+	}
+
+	/**
+	 * Create a move by given fields and flag.
+	 *
+	 * @param from
+	 *            the start field
+	 * @param to
+	 *            the destination field
+	 * @param flag
+	 *            one of the FLAG values
+	 *
+	 * @return the packed move
+	 */
+	public static int create(final int from, final int to, final int flag) {
+		return from | (to << Move.SHIFT_TO) | (flag << Move.SHIFT_FLAG);
+	}
+
+	/**
+	 * Create a normal move by given fields.
+	 *
+	 * @param from
+	 *            the start field
+	 * @param to
+	 *            the destination field
+	 *
+	 * @return the packed move
+	 */
+	public static int create(final int from, final int to) {
+		return Move.create(from, to, Move.FLAG_NORMAL);
+	}
+
+	/**
+	 * Create a move of a Pawn, which is going to promote.
+	 *
+	 * @param from
+	 *            the start field
+	 * @param to
+	 *            the destination field
+	 * @param promotion
+	 *            the new figure type
+	 *
+	 * @return the packed move
+	 */
+	public static int createPromotion(final int from, final int to, final FigureSet promotion) {
+		return Move.create(from, to, Move.FLAG_NORMAL) | ((promotion.ordinal() + 1) << Move.SHIFT_PROMOTION);
+	}
+
+	/**
+	 * Receive the start field.
+	 *
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return the start field
+	 */
+	public static int getFrom(final int move) {
+		return move & 0x3F;
+	}
+
+	/**
+	 * Receive the destination field.
+	 *
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return the destination field
+	 */
+	public static int getTo(final int move) {
+		return (move >>> Move.SHIFT_TO) & 0x3F;
+	}
+
+	/**
+	 * Receive the flag of the move.
+	 *
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return one of the FLAG values
+	 */
+	public static int getFlag(final int move) {
+		return (move >>> Move.SHIFT_FLAG) & 0x3;
+	}
+
+	/**
+	 * Check, if the move promotes a Pawn.
+	 *
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return true, if a Pawn promotes,<br>
+	 *         false, otherwise
+	 */
+	public static boolean onPromotion(final int move) {
+		return ((move >>> Move.SHIFT_PROMOTION) & 0x7) != 0;
+	}
+
+	/**
+	 * Receive the new figure type of a promotion.
+	 *
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return the figure type,<br>
+	 *         or null, if this move is not a promotion
+	 */
+	public static FigureSet getPromotion(final int move) {
+		final int promotion = (move >>> Move.SHIFT_PROMOTION) & 0x7;
+		return (promotion == 0) ? null : BitBoard.TYPES[promotion - 1];
+	}
+
+	/**
+	 * Receive all fields, where a figure is set or removed by this move: start and
+	 * destination, the captured Pawn of "en passant" and both fields of the Rook
+	 * while castling.
+	 *
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return the mask of all changed fields
+	 */
+	public static long getChangedFields(final int move) {
+		final int from = Move.getFrom(move);
+		final int to = Move.getTo(move);
+		long changed = BitBoard.getFieldMask(from) | BitBoard.getFieldMask(to);
+
+		switch (Move.getFlag(move)) {
+			case Move.FLAG_EN_PASSANT:
+				changed |= BitBoard.getFieldMask(to ^ 8);
+				break;
+			case Move.FLAG_CASTLING:
+				changed |= (to > from) ? (BitBoard.getFieldMask(to + 1) | BitBoard.getFieldMask(to - 1)) : (BitBoard.getFieldMask(to - 2) | BitBoard.getFieldMask(to + 1));
+				break;
+		}
+
+		return changed;
+	}
+
+	/**
+	 * Receive the move as word, like "E2E4" or "E7E8Q".
+	 *
+	 * @param move
+	 *            the packed move
+	 *
+	 * @return the move as word
+	 */
+	public static String toString(final int move) {
+		final String word = Coordinates.valueOf(Move.getFrom(move)).getCoordinatesXY() + Coordinates.valueOf(Move.getTo(move)).getCoordinatesXY();
+		final FigureSet promotion = Move.getPromotion(move);
+
+		return (promotion == null) ? word : (word + Move.PROMOTION_CHARS[promotion.ordinal()]);
+	}
+}
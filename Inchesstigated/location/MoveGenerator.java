@@ -0,0 +1,334 @@
+/**
+ * @package: location
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package location;
+
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+
+/**
+ * @author swunsch
+ *
+ *         Generates all legal moves of the side to move for a given
+ *         {@link BitBoard}. Each move is packed by {@link Move} and written
+ *         into an int array given by the caller, thus no object is created for
+ *         each call.
+ *
+ *         The generator covers each castling (like {@link event.CastlingEvent})
+ *         and "en passant" (like {@link figure.FigurePawn}). A Pawn, which
+ *         reaches it's last field, creates four moves (Queen, Rook, Runner and
+ *         Knight).
+ */
+public final class MoveGenerator {
+	/** the maximum number of moves in any position (218 is the known maximum) */
+	public static final int MAX_MOVES = 256;
+
+	/** the fields between King and Rook, which must be free for each castling */
+	private static final long WHITE_KING_SIDE_FREE = 0x60L; // F1, G1
+	private static final long WHITE_QUEEN_SIDE_FREE = 0x0EL; // B1, C1, D1
+	private static final long BLACK_KING_SIDE_FREE = 0x60L << 56; // F8, G8
+	private static final long BLACK_QUEEN_SIDE_FREE = 0x0EL << 56; // B8, C8, D8
+
+	/** the types of a promotion, the most valuable one first */
+	private static final FigureSet[] PROMOTIONS = {
+			FigureSet.QUEEN, FigureSet.ROOK, FigureSet.RUNNER, FigureSet.KNIGHT
+	};
+
+	/** no instance required */
+	private MoveGenerator() {
+	}
+
+	/**
+	 * Fill the given array with all legal moves of the side to move.
+	 *
+	 * @param board
+	 *            the position to use; it's changed during this call, but it's
+	 *            equal to the given position afterwards
+	 * @param moves
+	 *            the array to fill, at least {@link #MAX_MOVES} entries
+	 *
+	 * @return the number of legal moves
+	 */
+	public static int generateLegalMoves(final BitBoard board, final int[] moves) {
+		final int count = MoveGenerator.generatePseudoLegalMoves(board, moves, false);
+		return MoveGenerator.filterLegalMoves(board, moves, count);
+	}
+
+	/**
+	 * Fill the given array with all legal captures (including "en passant") and
+	 * promotions of the side to move.
+	 *
+	 * @param board
+	 *            the position to use
+	 * @param moves
+	 *            the array to fill, at least {@link #MAX_MOVES} entries
+	 *
+	 * @return the number of legal captures
+	 */
+	public static int generateLegalCaptures(final BitBoard board, final int[] moves) {
+		final int count = MoveGenerator.generatePseudoLegalMoves(board, moves, true);
+		return MoveGenerator.filterLegalMoves(board, moves, count);
+	}
+
+	/**
+	 * Keep each move in front of the array, which doesn't leave the own King
+	 * threatened. The pinned figures and the threatening figures are collected
+	 * once for all moves, see {@link BitBoard#onLegalMove(int, long, long)}.
+	 *
+	 * @param board
+	 *            the position to use
+	 * @param moves
+	 *            the array with all moves
+	 * @param count
+	 *            the number of moves in the array
+	 *
+	 * @return the number of legal moves
+	 */
+	private static int filterLegalMoves(final BitBoard board, final int[] moves, final int count) {
+		final FigureColor color = board.getSideToMove();
+		final long pinned = board.getPinned(color);
+		final long checkers = board.getCheckers(color);
+
+		int legal = 0;
+		for (int i = 0; i < count; i++) {
+			if (board.onLegalMove(moves[i], pinned, checkers)) {
+				moves[legal++] = moves[i];
+			}
+		}
+
+		return legal;
+	}
+
+	/**
+	 * Fill the given array with each move of the side to move, which doesn't
+	 * consider the own King. Castling moves are only added, if the King is not
+	 * threatened on it's start field and the passed field.
+	 *
+	 * @param board
+	 *            the position to use
+	 * @param moves
+	 *            the array to fill
+	 * @param capturesOnly
+	 *            true, if only captures and promotions are required
+	 *
+	 * @return the number of moves
+	 */
+	private static int generatePseudoLegalMoves(final BitBoard board, final int[] moves, final boolean capturesOnly) {
+		final FigureColor color = board.getSideToMove();
+		final FigureColor opponent = BitBoard.COLORS[color.ordinal() ^ 1];
+		final long occupancy = board.getOccupancy();
+		final long opponentFigures = board.getColorMask(opponent);
+		final long targets = capturesOnly ? opponentFigures : ~board.getColorMask(color);
+
+		int count = MoveGenerator.generatePawnMoves(board, moves, 0, color, occupancy, opponentFigures, capturesOnly);
+
+		long figures = board.getFigureMask(FigureSet.KNIGHT, color);
+		while (figures != 0L) {
+			final int from = Long.numberOfTrailingZeros(figures);
+			figures &= figures - 1;
+			count = MoveGenerator.addMoves(moves, count, from, AttackTable.getKnightAttacks(from) & targets);
+		}
+
+		figures = board.getFigureMask(FigureSet.RUNNER, color);
+		while (figures != 0L) {
+			final int from = Long.numberOfTrailingZeros(figures);
+			figures &= figures - 1;
+			count = MoveGenerator.addMoves(moves, count, from, MagicTable.getRunnerAttacks(from, occupancy) & targets);
+		}
+
+		figures = board.getFigureMask(FigureSet.ROOK, color);
+		while (figures != 0L) {
+			final int from = Long.numberOfTrailingZeros(figures);
+			figures &= figures - 1;
+			count = MoveGenerator.addMoves(moves, count, from, MagicTable.getRookAttacks(from, occupancy) & targets);
+		}
+
+		figures = board.getFigureMask(FigureSet.QUEEN, color);
+		while (figures != 0L) {
+			final int from = Long.numberOfTrailingZeros(figures);
+			figures &= figures - 1;
+			count = MoveGenerator.addMoves(moves, count, from, MagicTable.getQueenAttacks(from, occupancy) & targets);
+		}
+
+		final int kingField = board.getKingField(color);
+		if (kingField != BitBoard.NO_FIELD) {
+			count = MoveGenerator.addMoves(moves, count, kingField, AttackTable.getKingAttacks(kingField) & targets);
+
+			if (!capturesOnly) {
+				count = MoveGenerator.generateCastlingMoves(board, moves, count, color, opponent, kingField, occupancy);
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Add all Pawn moves of the given color.
+	 *
+	 * @param board
+	 *            the position to use
+	 * @param moves
+	 *            the array to fill
+	 * @param count
+	 *            the number of moves in the array
+	 * @param color
+	 *            the color of the Pawns
+	 * @param occupancy
+	 *            all reserved fields
+	 * @param opponentFigures
+	 *            all fields reserved by the opponent
+	 * @param capturesOnly
+	 *            true, if only captures and promotions are required
+	 *
+	 * @return the new number of moves
+	 */
+	private static int generatePawnMoves(final BitBoard board, final int[] moves, int count, final FigureColor color, final long occupancy, final long opponentFigures,
+			final boolean capturesOnly) {
+		final boolean white = (color == FigureColor.WHITE);
+		final int step = white ? 8 : -8;
+		final int startRank = white ? 1 : 6;
+		final int lastRank = white ? 7 : 0;
+		final int enPassantField = board.getEnPassantField();
+
+		long pawns = board.getFigureMask(FigureSet.PAWN, color);
+		while (pawns != 0L) {
+			final int from = Long.numberOfTrailingZeros(pawns);
+			pawns &= pawns - 1;
+
+			/* one field forward and two fields from the start rank */
+			final int to = from + step;
+			if ((occupancy & BitBoard.getFieldMask(to)) == 0L) {
+				if ((to >>> 3) == lastRank) {
+					count = MoveGenerator.addPromotions(moves, count, from, to);
+				} else if (!capturesOnly) {
+					moves[count++] = Move.create(from, to);
+
+					final int twoFields = to + step;
+					if (((from >>> 3) == startRank) && ((occupancy & BitBoard.getFieldMask(twoFields)) == 0L)) {
+						moves[count++] = Move.create(from, twoFields, Move.FLAG_TWO_FIELDS);
+					}
+				}
+			}
+
+			/* diagonal captures */
+			final long attacks = AttackTable.getPawnAttacks(from, color);
+			long captures = attacks & opponentFigures;
+			while (captures != 0L) {
+				final int capture = Long.numberOfTrailingZeros(captures);
+				captures &= captures - 1;
+
+				if ((capture >>> 3) == lastRank) {
+					count = MoveGenerator.addPromotions(moves, count, from, capture);
+				} else {
+					moves[count++] = Move.create(from, capture);
+				}
+			}
+
+			/* "en passant" */
+			if ((enPassantField != BitBoard.NO_FIELD) && ((attacks & BitBoard.getFieldMask(enPassantField)) != 0L)) {
+				moves[count++] = Move.create(from, enPassantField, Move.FLAG_EN_PASSANT);
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Add both castling moves of the given color, if the castling rights are left,
+	 * the fields between King and Rook are free and the King is not threatened on
+	 * it's start field and the passed field.
+	 *
+	 * @param board
+	 *            the position to use
+	 * @param moves
+	 *            the array to fill
+	 * @param count
+	 *            the number of moves in the array
+	 * @param color
+	 *            the color of the King
+	 * @param opponent
+	 *            the color of the opponent
+	 * @param kingField
+	 *            the field of the King
+	 * @param occupancy
+	 *            all reserved fields
+	 *
+	 * @return the new number of moves
+	 */
+	private static int generateCastlingMoves(final BitBoard board, final int[] moves, int count, final FigureColor color, final FigureColor opponent, final int kingField,
+			final long occupancy) {
+		final int rights = board.getCastlingRights();
+		final boolean white = (color == FigureColor.WHITE);
+		final int kingSide = white ? BitBoard.WHITE_KING_SIDE : BitBoard.BLACK_KING_SIDE;
+		final int queenSide = white ? BitBoard.WHITE_QUEEN_SIDE : BitBoard.BLACK_QUEEN_SIDE;
+
+		if (((rights & (kingSide | queenSide)) == 0) || board.onAttacked(kingField, opponent)) {
+			return count;
+		}
+
+		if (((rights & kingSide) != 0) && ((occupancy & (white ? MoveGenerator.WHITE_KING_SIDE_FREE : MoveGenerator.BLACK_KING_SIDE_FREE)) == 0L)
+				&& !board.onAttacked(kingField + 1, opponent)) {
+			moves[count++] = Move.create(kingField, kingField + 2, Move.FLAG_CASTLING);
+		}
+
+		if (((rights & queenSide) != 0) && ((occupancy & (white ? MoveGenerator.WHITE_QUEEN_SIDE_FREE : MoveGenerator.BLACK_QUEEN_SIDE_FREE)) == 0L)
+				&& !board.onAttacked(kingField - 1, opponent)) {
+			moves[count++] = Move.create(kingField, kingField - 2, Move.FLAG_CASTLING);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Add a normal move for each field of the given mask.
+	 *
+	 * @param moves
+	 *            the array to fill
+	 * @param count
+	 *            the number of moves in the array
+	 * @param from
+	 *            the start field
+	 * @param targets
+	 *            the destination fields
+	 *
+	 * @return the new number of moves
+	 */
+	private static int addMoves(final int[] moves, int count, final int from, long targets) {
+		while (targets != 0L) {
+			moves[count++] = Move.create(from, Long.numberOfTrailingZeros(targets));
+			targets &= targets - 1;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Add a move for each possible promotion.
+	 *
+	 * @param moves
+	 *            the array to fill
+	 * @param count
+	 *            the number of moves in the array
+	 * @param from
+	 *            the start field
+	 * @param to
+	 *            the destination field
+	 *
+	 * @return the new number of moves
+	 */
+	private static int addPromotions(final int[] moves, int count, final int from, final int to) {
+		for (final FigureSet promotion : MoveGenerator.PROMOTIONS) {
+			moves[count++] = Move.createPromotion(from, to, promotion);
+		}
+
+		return count;
+	}
+}
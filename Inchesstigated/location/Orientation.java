@@ -22,26 +22,96 @@ package location;
  */
 public enum Orientation {
 	/** the current right side of the Rook, Queen */
-	HORIZONTAL_RIGHT,
+	HORIZONTAL_RIGHT(1, 0),
 
 	/** the current left side of the Rook, Queen */
-	HORIZONTAL_LEFT,
+	HORIZONTAL_LEFT(-1, 0),
 
 	/** the current top side of the Rook, Queen */
-	VERTICAL_UP,
+	VERTICAL_UP(0, 1),
 
 	/** the current bottom side of the Rook, Queen */
-	VERTICAL_DOWN,
+	VERTICAL_DOWN(0, -1),
 
 	/** right top area, where {X++,Y++} for Runner, Queen */
-	DIAGONAL_QUARTER_ONE,
+	DIAGONAL_QUARTER_ONE(1, 1),
 
 	/** top left area, where {X--, Y++} for Runner, Queen */
-	DIAGONAL_QUARTER_TWO,
+	DIAGONAL_QUARTER_TWO(-1, 1),
 
 	/** bottom left area, where {X--, Y--} for Runner, Queen */
-	DIAGONAL_QUARTER_THREE,
+	DIAGONAL_QUARTER_THREE(-1, -1),
 
 	/** bottom right area, where {X++, Y--} for Runner, Queen */
-	DIAGONAL_QUARTER_FOUR
+	DIAGONAL_QUARTER_FOUR(1, -1);
+
+	/** the orientation from one field to another field, indexed by both fields */
+	private static final Orientation[][] BETWEEN = new Orientation[BitBoard.NBR_OF_FIELDS][BitBoard.NBR_OF_FIELDS];
+
+	static {
+		for (final Orientation orientation : Orientation.values()) {
+			for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+				int posX = (field & 7) + orientation.stepX;
+				int posY = (field >>> 3) + orientation.stepY;
+
+				while ((posX >= 0) && (posX < 8) && (posY >= 0) && (posY < 8)) {
+					Orientation.BETWEEN[field][(posY << 3) | posX] = orientation;
+					posX += orientation.stepX;
+					posY += orientation.stepY;
+				}
+			}
+		}
+	}
+
+	/** the horizontal step for each field on this orientation */
+	private final int stepX;
+
+	/** the vertical step for each field on this orientation */
+	private final int stepY;
+
+	/**
+	 * Create an orientation by given steps.
+	 *
+	 * @param stepX
+	 *            the horizontal step
+	 * @param stepY
+	 *            the vertical step
+	 */
+	private Orientation(final int stepX, final int stepY) {
+		this.stepX = stepX;
+		this.stepY = stepY;
+	}
+
+	/**
+	 * Receive the horizontal step to reach the next field on this orientation.
+	 *
+	 * @return -1, 0 or 1
+	 */
+	public int getStepX() {
+		return this.stepX;
+	}
+
+	/**
+	 * Receive the vertical step to reach the next field on this orientation.
+	 *
+	 * @return -1, 0 or 1
+	 */
+	public int getStepY() {
+		return this.stepY;
+	}
+
+	/**
+	 * Receive the orientation from a field to another field.
+	 *
+	 * @param from
+	 *            the field index to start
+	 * @param to
+	 *            the field index to reach
+	 *
+	 * @return the orientation,<br>
+	 *         or null, if both fields are not on the same line or diagonal
+	 */
+	public static Orientation getOrientation(final int from, final int to) {
+		return Orientation.BETWEEN[from][to];
+	}
 }
@@ -0,0 +1,265 @@
+/**
+ * @package: location
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package location;
+
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the score of each figure on each field for the middle game and
+ *         for the end game: the value of the figure and the bonus of the field
+ *         (piece square table). The tables hold the bonus of a white figure from
+ *         "A1" to "H8", a black figure uses the mirrored field and a negative
+ *         score.
+ *
+ *         Both scores are blended by the phase of the game (tapered evaluation),
+ *         which is the sum of the phase of all Knights, Runners, Rooks and
+ *         Queens. Like the Zobrist key, the sums are changed for each figure,
+ *         which is set or removed, see {@link BitBoard#getScore()}.
+ *
+ *         Each score is given in centipawns, where a Pawn is worth 100 in the
+ *         middle game.
+ */
+public final class PieceSquareTable {
+	/** the phase with all figures on the chess field */
+	public static final int MAX_PHASE = 24;
+
+	/** the value of each figure type in the middle game, indexed by FigureSet */
+	private static final int[] MIDDLE_GAME_VALUES = {
+			100, // PAWN
+			320, // KNIGHT
+			500, // ROOK
+			330, // RUNNER
+			0, // KING
+			900 // QUEEN
+	};
+
+	/** the value of each figure type in the end game, indexed by FigureSet */
+	private static final int[] END_GAME_VALUES = {
+			120, // PAWN
+			300, // KNIGHT
+			520, // ROOK
+			330, // RUNNER
+			0, // KING
+			920 // QUEEN
+	};
+
+	/** the phase of each figure type, indexed by FigureSet */
+	private static final int[] PHASES = {
+			0, // PAWN
+			1, // KNIGHT
+			2, // ROOK
+			1, // RUNNER
+			0, // KING
+			4 // QUEEN
+	};
+
+	/* the piece square tables from "A1" to "H8" */
+	private static final int[] PAWN_TABLE = {
+			0, 0, 0, 0, 0, 0, 0, 0,
+			5, 10, 10, -20, -20, 10, 10, 5,
+			5, -5, -10, 0, 0, -10, -5, 5,
+			0, 0, 0, 20, 20, 0, 0, 0,
+			5, 5, 10, 25, 25, 10, 5, 5,
+			10, 10, 20, 30, 30, 20, 10, 10,
+			50, 50, 50, 50, 50, 50, 50, 50,
+			0, 0, 0, 0, 0, 0, 0, 0
+	};
+
+	private static final int[] PAWN_END_TABLE = {
+			0, 0, 0, 0, 0, 0, 0, 0,
+			0, 0, 0, 0, 0, 0, 0, 0,
+			5, 5, 5, 5, 5, 5, 5, 5,
+			15, 15, 15, 15, 15, 15, 15, 15,
+			30, 30, 30, 30, 30, 30, 30, 30,
+			50, 50, 50, 50, 50, 50, 50, 50,
+			80, 80, 80, 80, 80, 80, 80, 80,
+			0, 0, 0, 0, 0, 0, 0, 0
+	};
+
+	private static final int[] KNIGHT_TABLE = {
+			-50, -40, -30, -30, -30, -30, -40, -50,
+			-40, -20, 0, 5, 5, 0, -20, -40,
+			-30, 5, 10, 15, 15, 10, 5, -30,
+			-30, 0, 15, 20, 20, 15, 0, -30,
+			-30, 5, 15, 20, 20, 15, 5, -30,
+			-30, 0, 10, 15, 15, 10, 0, -30,
+			-40, -20, 0, 0, 0, 0, -20, -40,
+			-50, -40, -30, -30, -30, -30, -40, -50
+	};
+
+	private static final int[] ROOK_TABLE = {
+			0, 0, 0, 5, 5, 0, 0, 0,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			5, 10, 10, 10, 10, 10, 10, 5,
+			0, 0, 0, 0, 0, 0, 0, 0
+	};
+
+	private static final int[] RUNNER_TABLE = {
+			-20, -10, -10, -10, -10, -10, -10, -20,
+			-10, 5, 0, 0, 0, 0, 5, -10,
+			-10, 10, 10, 10, 10, 10, 10, -10,
+			-10, 0, 10, 10, 10, 10, 0, -10,
+			-10, 5, 5, 10, 10, 5, 5, -10,
+			-10, 0, 5, 10, 10, 5, 0, -10,
+			-10, 0, 0, 0, 0, 0, 0, -10,
+			-20, -10, -10, -10, -10, -10, -10, -20
+	};
+
+	private static final int[] KING_TABLE = {
+			20, 30, 10, 0, 0, 10, 30, 20,
+			20, 20, 0, 0, 0, 0, 20, 20,
+			-10, -20, -20, -20, -20, -20, -20, -10,
+			-20, -30, -30, -40, -40, -30, -30, -20,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30
+	};
+
+	/** the King has to leave the corner in the end game */
+	private static final int[] KING_END_TABLE = {
+			-50, -30, -30, -30, -30, -30, -30, -50,
+			-30, -30, 0, 0, 0, 0, -30, -30,
+			-30, -10, 20, 30, 30, 20, -10, -30,
+			-30, -10, 30, 40, 40, 30, -10, -30,
+			-30, -10, 30, 40, 40, 30, -10, -30,
+			-30, -10, 20, 30, 30, 20, -10, -30,
+			-30, -20, -10, 0, 0, -10, -20, -30,
+			-50, -40, -30, -20, -20, -30, -40, -50
+	};
+
+	private static final int[] QUEEN_TABLE = {
+			-20, -10, -10, -5, -5, -10, -10, -20,
+			-10, 0, 5, 0, 0, 0, 0, -10,
+			-10, 5, 5, 5, 5, 5, 0, -10,
+			0, 0, 5, 5, 5, 5, 0, -5,
+			-5, 0, 5, 5, 5, 5, 0, -5,
+			-10, 0, 5, 5, 5, 5, 0, -10,
+			-10, 0, 0, 0, 0, 0, 0, -10,
+			-20, -10, -10, -5, -5, -10, -10, -20
+	};
+
+	/** the piece square tables of the middle game, indexed by FigureSet */
+	private static final int[][] MIDDLE_GAME_TABLES = {
+			PieceSquareTable.PAWN_TABLE, PieceSquareTable.KNIGHT_TABLE, PieceSquareTable.ROOK_TABLE, PieceSquareTable.RUNNER_TABLE, PieceSquareTable.KING_TABLE,
+			PieceSquareTable.QUEEN_TABLE
+	};
+
+	/** the piece square tables of the end game, indexed by FigureSet */
+	private static final int[][] END_GAME_TABLES = {
+			PieceSquareTable.PAWN_END_TABLE, PieceSquareTable.KNIGHT_TABLE, PieceSquareTable.ROOK_TABLE, PieceSquareTable.RUNNER_TABLE, PieceSquareTable.KING_END_TABLE,
+			PieceSquareTable.QUEEN_TABLE
+	};
+
+	/** the middle game score of each figure ((type << 1) | color) and field */
+	private static final int[][] MIDDLE_GAME = new int[BitBoard.TYPES.length << 1][BitBoard.NBR_OF_FIELDS];
+
+	/** the end game score of each figure ((type << 1) | color) and field */
+	private static final int[][] END_GAME = new int[BitBoard.TYPES.length << 1][BitBoard.NBR_OF_FIELDS];
+
+	static {
+		for (int type = 0; type < BitBoard.TYPES.length; type++) {
+			final int white = (type << 1) | FigureColor.WHITE.ordinal();
+			final int black = (type << 1) | FigureColor.BLACK.ordinal();
+
+			for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+				PieceSquareTable.MIDDLE_GAME[white][field] = PieceSquareTable.MIDDLE_GAME_VALUES[type] + PieceSquareTable.MIDDLE_GAME_TABLES[type][field];
+				PieceSquareTable.END_GAME[white][field] = PieceSquareTable.END_GAME_VALUES[type] + PieceSquareTable.END_GAME_TABLES[type][field];
+
+				/* a black figure uses the mirrored field */
+				PieceSquareTable.MIDDLE_GAME[black][field] = -(PieceSquareTable.MIDDLE_GAME_VALUES[type] + PieceSquareTable.MIDDLE_GAME_TABLES[type][field ^ 56]);
+				PieceSquareTable.END_GAME[black][field] = -(PieceSquareTable.END_GAME_VALUES[type] + PieceSquareTable.END_GAME_TABLES[type][field ^ 56]);
+			}
+		}
+	}
+
+	/** no instance required */
+	private PieceSquareTable() {
+	}
+
+	/**
+	 * Receive the value of a figure type in the middle game.
+	 *
+	 * @param type
+	 *            the figure type
+	 *
+	 * @return the value in centipawns, 0 for the King
+	 */
+	public static int getValue(final FigureSet type) {
+		return PieceSquareTable.MIDDLE_GAME_VALUES[type.ordinal()];
+	}
+
+	/**
+	 * Receive the middle game score of a figure on a field.
+	 *
+	 * @param figure
+	 *            the figure as (type << 1) | color
+	 * @param field
+	 *            the field index
+	 *
+	 * @return the score in centipawns, where a black figure has a negative score
+	 */
+	public static int getMiddleGameScore(final int figure, final int field) {
+		return PieceSquareTable.MIDDLE_GAME[figure][field];
+	}
+
+	/**
+	 * Receive the end game score of a figure on a field.
+	 *
+	 * @param figure
+	 *            the figure as (type << 1) | color
+	 * @param field
+	 *            the field index
+	 *
+	 * @return the score in centipawns, where a black figure has a negative score
+	 */
+	public static int getEndGameScore(final int figure, final int field) {
+		return PieceSquareTable.END_GAME[figure][field];
+	}
+
+	/**
+	 * Receive the phase of a figure.
+	 *
+	 * @param figure
+	 *            the figure as (type << 1) | color
+	 *
+	 * @return the phase from 0 (Pawn, King) to 4 (Queen)
+	 */
+	public static int getPhase(final int figure) {
+		return PieceSquareTable.PHASES[figure >>> 1];
+	}
+
+	/**
+	 * Blend the middle game and the end game score by the phase of the game.
+	 *
+	 * @param middleGame
+	 *            the middle game score
+	 * @param endGame
+	 *            the end game score
+	 * @param phase
+	 *            the phase of the game, which is limited to {@link #MAX_PHASE}
+	 *            after a promotion
+	 *
+	 * @return the blended score in centipawns
+	 */
+	public static int taper(final int middleGame, final int endGame, final int phase) {
+		final int limited = Math.min(phase, PieceSquareTable.MAX_PHASE);
+		return ((middleGame * limited) + (endGame * (PieceSquareTable.MAX_PHASE - limited))) / PieceSquareTable.MAX_PHASE;
+	}
+}
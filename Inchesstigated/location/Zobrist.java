@@ -0,0 +1,143 @@
+/**
+ * @package: location
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package location;
+
+/**
+ * @author swunsch
+ *
+ *         Holds the random numbers to create a 64 bit key (Zobrist key) of a
+ *         position. The key is the XOR of one number for each figure on it's
+ *         field, one number for the castling rights, one number for the file
+ *         of the "en passant" field and one number, if black has to move.
+ *
+ *         Since XOR is it's own inverse, each change of the position changes
+ *         the key by a single XOR, see {@link BitBoard#getKey()}.
+ */
+public final class Zobrist {
+	/** fixed seed, thus each run creates the same keys */
+	private static final long SEED = 0x5DEECE66D2019L;
+
+	/** numbers for each figure ((type << 1) | color) and field */
+	private static final long[][] FIGURES = new long[BitBoard.TYPES.length << 1][BitBoard.NBR_OF_FIELDS];
+
+	/** numbers for each combination of castling rights */
+	private static final long[] CASTLING = new long[BitBoard.ALL_CASTLING_RIGHTS + 1];
+
+	/** numbers for each file of the "en passant" field */
+	private static final long[] EN_PASSANT = new long[8];
+
+	/** number, if black has to move */
+	private static final long BLACK_TO_MOVE;
+
+	static {
+		long state = Zobrist.SEED;
+
+		for (final long[] figure : Zobrist.FIGURES) {
+			for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+				state = Zobrist.nextState(state);
+				figure[field] = Zobrist.scramble(state);
+			}
+		}
+
+		/* no castling rights at all doesn't change the key */
+		for (int rights = 1; rights < Zobrist.CASTLING.length; rights++) {
+			state = Zobrist.nextState(state);
+			Zobrist.CASTLING[rights] = Zobrist.scramble(state);
+		}
+
+		for (int file = 0; file < Zobrist.EN_PASSANT.length; file++) {
+			state = Zobrist.nextState(state);
+			Zobrist.EN_PASSANT[file] = Zobrist.scramble(state);
+		}
+
+		state = Zobrist.nextState(state);
+		BLACK_TO_MOVE = Zobrist.scramble(state);
+	}
+
+	/** no instance required */
+	private Zobrist() {
+	}
+
+	/**
+	 * Receive the number of a figure on a field.
+	 *
+	 * @param figure
+	 *            the figure as (type << 1) | color
+	 * @param field
+	 *            the field index
+	 *
+	 * @return the random number
+	 */
+	public static long getFigureKey(final int figure, final int field) {
+		return Zobrist.FIGURES[figure][field];
+	}
+
+	/**
+	 * Receive the number of the given castling rights.
+	 *
+	 * @param rights
+	 *            the castling rights
+	 *
+	 * @return the random number, 0 for no castling rights
+	 */
+	public static long getCastlingKey(final int rights) {
+		return Zobrist.CASTLING[rights];
+	}
+
+	/**
+	 * Receive the number of the given "en passant" field.
+	 *
+	 * @param field
+	 *            the field index or {@link BitBoard#NO_FIELD}
+	 *
+	 * @return the random number, 0 for no "en passant" field
+	 */
+	public static long getEnPassantKey(final int field) {
+		return (field == BitBoard.NO_FIELD) ? 0L : Zobrist.EN_PASSANT[field & 7];
+	}
+
+	/**
+	 * Receive the number, if black has to move.
+	 *
+	 * @return the random number
+	 */
+	public static long getBlackToMoveKey() {
+		return Zobrist.BLACK_TO_MOVE;
+	}
+
+	/**
+	 * Receive the next state of the random number generator (xorshift).
+	 *
+	 * @param state
+	 *            the current state
+	 *
+	 * @return the next state
+	 */
+	private static long nextState(long state) {
+		state ^= state >>> 12;
+		state ^= state << 25;
+		state ^= state >>> 27;
+		return state;
+	}
+
+	/**
+	 * Receive a random number of the given state.
+	 *
+	 * @param state
+	 *            the state
+	 *
+	 * @return the random number
+	 */
+	private static long scramble(final long state) {
+		return state * 2685821657736338717L;
+	}
+}
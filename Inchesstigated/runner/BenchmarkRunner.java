@@ -0,0 +1,134 @@
+/**
+ * @package: runner
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package runner;
+
+import engine.ParallelSearch;
+import engine.PawnTable;
+import engine.SearchResult;
+import engine.TranspositionTable;
+import location.BitBoard;
+
+/**
+ * @author swunsch
+ *
+ *         The runner program for the benchmark of the parallel search. Each
+ *         position is searched up to the given depth by 1, 2, 4, ... threads,
+ *         where each run starts with an empty transposition table and an empty
+ *         table of Pawn structures. The speedup is the time of a single thread
+ *         divided by the time of n threads.
+ *
+ *         <pre>
+ *         usage: BenchmarkRunner &lt;depth&gt; [--fen "&lt;FEN&gt;"] [--threads &lt;n&gt;] [--hash &lt;MB&gt;]
+ *         </pre>
+ */
+public class BenchmarkRunner {
+	/** the positions of the benchmark, if no position is given */
+	private static final String[] POSITIONS = {
+			BitBoard.START_POSITION,
+			"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+			"r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w KQkq - 4 4",
+			"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"
+	};
+
+	/** the default size of the table of each run in megabytes */
+	private static final int DEFAULT_MEGABYTES = 16;
+
+	/** no time limit, the depth limits the search */
+	private static final long NO_TIME_LIMIT = Long.MAX_VALUE / 2000000L;
+
+	/**
+	 * @param args
+	 *            the depth, optionally a single position as FEN, the maximum
+	 *            number of threads and the size of the transposition table
+	 */
+	public static void main(final String[] args) {
+		if (args.length == 0) {
+			BenchmarkRunner.printUsage();
+			return;
+		}
+
+		String[] positions = BenchmarkRunner.POSITIONS;
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		int megabytes = BenchmarkRunner.DEFAULT_MEGABYTES;
+		final int depth;
+
+		try {
+			depth = Integer.parseInt(args[0]);
+
+			for (int i = 1; i < args.length; i++) {
+				if ("--fen".equals(args[i]) && ((i + 1) < args.length)) {
+					positions = new String[] { args[++i] };
+				} else if ("--threads".equals(args[i]) && ((i + 1) < args.length)) {
+					maxThreads = Math.max(1, Integer.parseInt(args[++i]));
+				} else if ("--hash".equals(args[i]) && ((i + 1) < args.length)) {
+					megabytes = Integer.parseInt(args[++i]);
+				} else {
+					BenchmarkRunner.printUsage();
+					return;
+				}
+			}
+		} catch (final NumberFormatException e) {
+			BenchmarkRunner.printUsage();
+			return;
+		}
+
+		final BitBoard[] boards = new BitBoard[positions.length];
+		final TranspositionTable table;
+		try {
+			for (int i = 0; i < positions.length; i++) {
+				boards[i] = new BitBoard();
+				boards[i].setPosition(positions[i]);
+			}
+			table = new TranspositionTable(megabytes);
+		} catch (final IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			return;
+		}
+
+		final PawnTable pawnTable = new PawnTable();
+		System.out.println("threads      time ms        nodes          nps  speedup  hit rate  pawn hit rate");
+
+		long singleTime = 0L;
+		for (int threads = 1; threads <= maxThreads; threads = (threads == maxThreads) ? (threads + 1) : Math.min(threads * 2, maxThreads)) {
+			long nodes = 0L;
+			long probes = 0L;
+			long hits = 0L;
+			long pawnProbes = 0L;
+			long pawnHits = 0L;
+			final long start = System.nanoTime();
+
+			for (final BitBoard board : boards) {
+				table.clear();
+				pawnTable.clear();
+				final SearchResult result = new ParallelSearch(board, threads, table, pawnTable).search(BenchmarkRunner.NO_TIME_LIMIT, depth);
+				nodes += result.getNodes();
+				probes += table.getProbes();
+				hits += table.getHits();
+				pawnProbes += pawnTable.getProbes();
+				pawnHits += pawnTable.getHits();
+			}
+
+			final long elapsed = Math.max(1L, System.nanoTime() - start);
+			if (threads == 1) {
+				singleTime = elapsed;
+			}
+
+			System.out.println(String.format("%7d %12d %12d %12d %8.2f %8.1f%% %13.1f%%", threads, elapsed / 1000000L, nodes, (nodes * 1000000000L) / elapsed,
+					(double) singleTime / elapsed, (probes == 0L) ? 0.0 : ((hits * 100.0) / probes), (pawnProbes == 0L) ? 0.0 : ((pawnHits * 100.0) / pawnProbes)));
+		}
+	}
+
+	/** Print the usage of this runner. */
+	private static void printUsage() {
+		System.out.println("usage: BenchmarkRunner <depth> [--fen \"<FEN>\"] [--threads <n>] [--hash <MB>]");
+	}
+}
@@ -0,0 +1,143 @@
+/**
+ * @package: runner
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package runner;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+
+import engine.StaticExchange;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         The runner program to analyze games in bulk. Each line of the file
+ *         holds a game from the start position as moves in coordinate notation,
+ *         like "E2E4 E7E5 G1F3". A move is flagged as blunder, whenever the
+ *         opponent wins at least the threshold of material by a capture
+ *         afterwards, which is rated by the static exchange evaluation. Empty
+ *         lines and lines starting with '#' are skipped.
+ *
+ *         <pre>
+ *         usage: BlunderRunner &lt;path&gt; [--threshold &lt;centipawns&gt;]
+ *         </pre>
+ */
+public class BlunderRunner {
+	/** the default material to lose for a blunder in centipawns */
+	private static final int DEFAULT_THRESHOLD = 200;
+
+	/**
+	 * @param args
+	 *            the file of games and the material to lose for a blunder
+	 */
+	public static void main(final String[] args) {
+		if (args.length == 0) {
+			BlunderRunner.printUsage();
+			return;
+		}
+
+		int threshold = BlunderRunner.DEFAULT_THRESHOLD;
+
+		try {
+			for (int i = 1; i < args.length; i++) {
+				if ("--threshold".equals(args[i]) && ((i + 1) < args.length)) {
+					threshold = Integer.parseInt(args[++i]);
+				} else {
+					BlunderRunner.printUsage();
+					return;
+				}
+			}
+		} catch (final NumberFormatException e) {
+			BlunderRunner.printUsage();
+			return;
+		}
+
+		final BitBoard board = new BitBoard();
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		int games = 0;
+		int positions = 0;
+		int blunders = 0;
+
+		final long start = System.nanoTime();
+		try (BufferedReader reader = new BufferedReader(new FileReader(args[0]))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+
+				games++;
+				board.setPosition(BitBoard.START_POSITION);
+				final String[] words = line.split("\\s+");
+
+				for (int ply = 0; ply < words.length; ply++) {
+					final int move = BlunderRunner.findMove(board, words[ply], moves);
+					if (move == Move.NONE) {
+						System.out.println("game " + games + ", half move " + (ply + 1) + ": illegal move " + words[ply]);
+						break;
+					}
+
+					board.makeMove(move);
+					positions++;
+
+					final int lost = StaticExchange.getHangingValue(board, moves);
+					if (lost >= threshold) {
+						blunders++;
+						System.out.println("game " + games + ", half move " + (ply + 1) + ": " + words[ply] + " loses " + lost);
+					}
+				}
+			}
+		} catch (final IOException e) {
+			System.err.println(e.getMessage());
+			return;
+		}
+
+		final long elapsed = Math.max(1L, System.nanoTime() - start);
+		System.out.println("games:     " + games + " (" + positions + " positions, " + blunders + " blunders)");
+		System.out.println("time:      " + (elapsed / 1000000L) + " ms");
+		System.out.println("per sec:   " + ((positions * 1000000000L) / elapsed));
+	}
+
+	/**
+	 * Receive the legal move, which matches the given word.
+	 *
+	 * @param board
+	 *            the current position
+	 * @param word
+	 *            the move in coordinate notation, like "E2E4" or "E7E8Q"
+	 * @param moves
+	 *            the array to fill, at least {@link MoveGenerator#MAX_MOVES}
+	 *            entries
+	 *
+	 * @return the packed move,<br>
+	 *         or {@link Move#NONE}, if the move is not legal
+	 */
+	private static int findMove(final BitBoard board, final String word, final int[] moves) {
+		final int count = MoveGenerator.generateLegalMoves(board, moves);
+		for (int i = 0; i < count; i++) {
+			if (Move.toString(moves[i]).equalsIgnoreCase(word)) {
+				return moves[i];
+			}
+		}
+
+		return Move.NONE;
+	}
+
+	/** Print the usage of this runner. */
+	private static void printUsage() {
+		System.out.println("usage: BlunderRunner <path> [--threshold <centipawns>]");
+	}
+}
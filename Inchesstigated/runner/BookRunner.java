@@ -0,0 +1,228 @@
+/**
+ * @package: runner
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package runner;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import engine.OpeningBook;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         The runner program to create an opening book. Each line of the file
+ *         holds a game from the start position as moves in coordinate notation,
+ *         like "E2E4 E7E5 G1F3", where the first half moves of each game are
+ *         added to the book. The weight of a move is the number of games, which
+ *         played it. Empty lines and lines starting with '#' are skipped.
+ *
+ *         Afterwards the book is opened and the start position is probed to
+ *         show the book moves and the time of a single probe.
+ *
+ *         <pre>
+ *         usage: BookRunner &lt;games&gt; &lt;book&gt; [--plies &lt;n&gt;] [--min &lt;games&gt;]
+ *         </pre>
+ */
+public class BookRunner {
+	/** the default number of half moves of each game */
+	private static final int DEFAULT_PLIES = 16;
+
+	/** the number of probes to measure */
+	private static final int PROBES = 100000;
+
+	/**
+	 * @param args
+	 *            the file of games, the book file to create, the number of half
+	 *            moves of each game and the minimum number of games of a move
+	 */
+	public static void main(final String[] args) {
+		if (args.length < 2) {
+			BookRunner.printUsage();
+			return;
+		}
+
+		int plies = BookRunner.DEFAULT_PLIES;
+		int min = 1;
+
+		try {
+			for (int i = 2; i < args.length; i++) {
+				if ("--plies".equals(args[i]) && ((i + 1) < args.length)) {
+					plies = Integer.parseInt(args[++i]);
+				} else if ("--min".equals(args[i]) && ((i + 1) < args.length)) {
+					min = Integer.parseInt(args[++i]);
+				} else {
+					BookRunner.printUsage();
+					return;
+				}
+			}
+		} catch (final NumberFormatException e) {
+			BookRunner.printUsage();
+			return;
+		}
+
+		final OpeningBook book;
+		try {
+			final Map<Long, Map<Integer, Integer>> positions = BookRunner.readGames(args[0], plies);
+			BookRunner.saveBook(args[1], positions, min);
+			book = OpeningBook.open(args[1]);
+		} catch (final IOException e) {
+			System.err.println(e.getMessage());
+			return;
+		}
+
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int[] weights = new int[MoveGenerator.MAX_MOVES];
+		final int count = book.getMoves(board.getKey(), moves, weights);
+		final StringBuilder line = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			line.append(' ').append(Move.toString(moves[i])).append('(').append(weights[i]).append(')');
+		}
+
+		long found = 0L;
+		final long start = System.nanoTime();
+		for (int i = 0; i < BookRunner.PROBES; i++) {
+			if (book.probe(board) != Move.NONE) {
+				found++;
+			}
+		}
+		final long elapsed = System.nanoTime() - start;
+
+		System.out.println("entries:   " + book.getCount());
+		System.out.println("start:    " + ((count == 0) ? " -" : line.toString()));
+		System.out.println("probe:     " + String.format("%.2f", elapsed / (1000.0 * BookRunner.PROBES)) + " us (" + found + " found)");
+	}
+
+	/**
+	 * Count the moves of each position of all games.
+	 *
+	 * @param path
+	 *            the file of games
+	 * @param plies
+	 *            the number of half moves of each game
+	 *
+	 * @return the number of games of each move by the key of the position
+	 *
+	 * @throws IOException
+	 *             if the file is not readable
+	 */
+	private static Map<Long, Map<Integer, Integer>> readGames(final String path, final int plies) throws IOException {
+		final Map<Long, Map<Integer, Integer>> positions = new HashMap<>();
+		final BitBoard board = new BitBoard();
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		int games = 0;
+
+		try (BufferedReader reader = new BufferedReader(new FileReader(path))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+
+				games++;
+				board.setPosition(BitBoard.START_POSITION);
+				final String[] words = line.split("\\s+");
+
+				for (int ply = 0; (ply < words.length) && (ply < plies); ply++) {
+					final int move = BookRunner.findMove(board, words[ply], moves);
+					if (move == Move.NONE) {
+						System.out.println("game " + games + ", half move " + (ply + 1) + ": illegal move " + words[ply]);
+						break;
+					}
+
+					positions.computeIfAbsent(board.getKey(), key -> new HashMap<>()).merge(move, 1, Integer::sum);
+					board.makeMove(move);
+				}
+			}
+		}
+
+		System.out.println("games:     " + games + " (" + positions.size() + " positions)");
+		return positions;
+	}
+
+	/**
+	 * Save all moves, which have been played by enough games.
+	 *
+	 * @param path
+	 *            the book file to create
+	 * @param positions
+	 *            the number of games of each move by the key of the position
+	 * @param min
+	 *            the minimum number of games of a move
+	 *
+	 * @throws IOException
+	 *             if the file is not writable
+	 */
+	private static void saveBook(final String path, final Map<Long, Map<Integer, Integer>> positions, final int min) throws IOException {
+		int size = 0;
+		for (final Map<Integer, Integer> moves : positions.values()) {
+			size += moves.size();
+		}
+
+		final long[] keys = new long[size];
+		final int[] moves = new int[size];
+		final int[] weights = new int[size];
+		int count = 0;
+
+		for (final Map.Entry<Long, Map<Integer, Integer>> position : positions.entrySet()) {
+			for (final Map.Entry<Integer, Integer> move : position.getValue().entrySet()) {
+				if (move.getValue() >= min) {
+					keys[count] = position.getKey();
+					moves[count] = move.getKey();
+					weights[count] = move.getValue();
+					count++;
+				}
+			}
+		}
+
+		OpeningBook.save(path, keys, moves, weights, count);
+	}
+
+	/**
+	 * Receive the legal move, which matches the given word.
+	 *
+	 * @param board
+	 *            the current position
+	 * @param word
+	 *            the move in coordinate notation, like "E2E4" or "E7E8Q"
+	 * @param moves
+	 *            the array to fill, at least {@link MoveGenerator#MAX_MOVES}
+	 *            entries
+	 *
+	 * @return the packed move,<br>
+	 *         or {@link Move#NONE}, if the move is not legal
+	 */
+	private static int findMove(final BitBoard board, final String word, final int[] moves) {
+		final int count = MoveGenerator.generateLegalMoves(board, moves);
+		for (int i = 0; i < count; i++) {
+			if (Move.toString(moves[i]).equalsIgnoreCase(word)) {
+				return moves[i];
+			}
+		}
+
+		return Move.NONE;
+	}
+
+	/** Print the usage of this runner. */
+	private static void printUsage() {
+		System.out.println("usage: BookRunner <games> <book> [--plies <n>] [--min <games>]");
+	}
+}
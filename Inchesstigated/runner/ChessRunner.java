@@ -12,40 +12,161 @@
 package runner;
 
 import java.awt.EventQueue;
+import java.io.IOException;
 
+import engine.Accumulator;
+import engine.Network;
+import engine.OpeningBook;
+import engine.Tablebase;
 import event.GameEvent;
+import figure.properties.FigureColor;
 import gui.ActionCommand;
+import gui.ComputerPlayer;
+import gui.ComputerPlayer.Strategy;
 import gui.FigureProcedure;
 import gui.Inchesstigated;
+import location.Matrix;
 
 /**
  * @author swunsch
  *
  *         The runner program for the game Chess. It will hold the main method
- *         only, where all graphical content is located on package "gui".
+ *         only, where all graphical content is located on package "gui". The
+ *         options may be given in any order, where the options of the search
+ *         require the computer opponent.
+ *
+ *         <pre>
+ *         usage: ChessRunner [--computer [WHITE|BLACK] [&lt;ms&gt;]] [--threads &lt;n&gt;] [--hash &lt;MB&gt;] [--mcts]
+ *                            [--nnue &lt;file&gt;] [--book &lt;file&gt;] [--tablebase &lt;directory&gt;]
+ *         </pre>
  */
 public class ChessRunner {
+	/** the default time budget of the computer for each move in milliseconds */
+	private static final long DEFAULT_MILLIS = 3000L;
+
 	/**
 	 * @param args
-	 *            given arguments, where no arguments are in use
+	 *            given arguments: "--computer [WHITE|BLACK] [milliseconds]" to
+	 *            play against the computer, which plays black by default,
+	 *            "--threads &lt;n&gt;" for the number of search threads, "--hash
+	 *            &lt;MB&gt;" for the size of the transposition table, "--mcts" for
+	 *            the Monte Carlo tree search, "--nnue &lt;file&gt;" for the
+	 *            evaluation by a neural network, "--book &lt;file&gt;" for the
+	 *            opening book and "--tablebase &lt;directory&gt;" for the
+	 *            endings of the tablebase
 	 */
 	public static void main(final String[] args) {
+		boolean onComputer = false;
+		boolean onSearchOption = false; // an option, which requires the computer opponent
+		FigureColor color = FigureColor.BLACK;
+		long millis = ChessRunner.DEFAULT_MILLIS;
+		int threads = 1;
+		int megabytes = ComputerPlayer.DEFAULT_MEGABYTES;
+		Strategy strategy = Strategy.ALPHA_BETA;
+		String networkFile = null;
+		String bookFile = null;
+		String tablebaseDirectory = null;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				if ("--computer".equals(args[i]) && !onComputer) {
+					onComputer = true;
+
+					/* the color and the time budget may follow */
+					if (((i + 1) < args.length) && (FigureColor.getColorType(args[i + 1].toUpperCase()) != null)) {
+						color = FigureColor.getColorType(args[++i].toUpperCase());
+					}
+					if (((i + 1) < args.length) && !args[i + 1].startsWith("--")) {
+						millis = Long.parseLong(args[++i]);
+					}
+				} else if ("--threads".equals(args[i]) && ((i + 1) < args.length)) {
+					threads = Integer.parseInt(args[++i]);
+					onSearchOption = true;
+				} else if ("--hash".equals(args[i]) && ((i + 1) < args.length)) {
+					megabytes = Integer.parseInt(args[++i]);
+					onSearchOption = true;
+				} else if ("--mcts".equals(args[i])) {
+					strategy = Strategy.MONTE_CARLO;
+					onSearchOption = true;
+				} else if ("--nnue".equals(args[i]) && ((i + 1) < args.length)) {
+					networkFile = args[++i]; // the evaluation bar uses the network, too
+				} else if ("--book".equals(args[i]) && ((i + 1) < args.length)) {
+					bookFile = args[++i];
+					onSearchOption = true;
+				} else if ("--tablebase".equals(args[i]) && ((i + 1) < args.length)) {
+					tablebaseDirectory = args[++i];
+					onSearchOption = true;
+				} else {
+					ChessRunner.printUsage();
+					return;
+				}
+			}
+		} catch (final NumberFormatException e) {
+			ChessRunner.printUsage();
+			return;
+		}
+
+		if (onSearchOption && !onComputer) {
+			ChessRunner.printUsage();
+			return;
+		}
+
+		final Network network;
+		final OpeningBook book;
+		final Tablebase tablebase;
+		try {
+			network = (networkFile != null) ? Network.load(networkFile) : null;
+			book = (bookFile != null) ? OpeningBook.open(bookFile) : null;
+			tablebase = (tablebaseDirectory != null) ? Tablebase.open(tablebaseDirectory) : null;
+		} catch (final IOException e) {
+			System.err.println(e.getMessage());
+			return;
+		}
+
+		final ComputerPlayer computer;
+		if (onComputer) {
+			computer = new ComputerPlayer(color, millis, threads, megabytes);
+			computer.setStrategy(strategy);
+			computer.setNetwork(network);
+			computer.setOpeningBook(book);
+			computer.setTablebase(tablebase);
+		} else {
+			computer = null;
+		}
+
 		EventQueue.invokeLater(new Runnable() {
 			@Override
 			public void run() {
 				try {
 					final Inchesstigated game = new Inchesstigated(); // load game board
 					final ActionCommand control = new ActionCommand(game); // load action handler
+					control.setComputerPlayer(computer);
 					game.notifyActions(control); // activating action handler
 
+					if (network != null) {
+						/* the hidden layer follows each figure, which is set or removed by the matrix */
+						final Accumulator accumulator = new Accumulator(network);
+						accumulator.refresh(Matrix.INSTANCE.getBitBoard());
+						Matrix.INSTANCE.setFigureListener(accumulator);
+						Inchesstigated.setNetworkAccumulator(accumulator);
+					}
+
+					FigureProcedure.INSTANCE.setGameListener(game); // the window shows each move
 					FigureProcedure.INSTANCE.initializeFiguresOnField(); // initialize interface
 					GameEvent.updateGameEvent(GameEvent.NO_RESULT);
 
 					game.setVisible(true);
+					control.letComputerMove(); // the computer may start with white
 				} catch (final Exception e) {
 					e.printStackTrace();
 				}
 			}
 		});
 	}
+
+	/** Print the usage of this runner. */
+	private static void printUsage() {
+		System.out.println("usage: ChessRunner [--computer [WHITE|BLACK] [<ms>]] [--threads <n>] [--hash <MB>] [--mcts]");
+		System.out.println("                   [--nnue <file>] [--book <file>] [--tablebase <directory>]");
+	}
 }
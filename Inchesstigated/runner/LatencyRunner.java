@@ -0,0 +1,99 @@
+/**
+ * @package: runner
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package runner;
+
+import figure.BaseFigure;
+import gui.FigureProcedure;
+import location.Coordinates;
+import location.Matrix;
+
+/**
+ * @author swunsch
+ *
+ *         The runner program for the latency of a single move in the figure
+ *         layer of the GUI. The start position is set up without any window,
+ *         the white Pawn is moved to E4 and both Knights are moved G1-F3,
+ *         B8-C6, F3-G1 and C6-B8 again and again. Each move updates the
+ *         properties of the moved figure and of all figures, which are affected
+ *         by the move. The time per move is printed for each round, the first
+ *         rounds warm up the virtual machine.
+ *
+ *         <pre>
+ *         usage: LatencyRunner [--moves &lt;n&gt;] [--rounds &lt;n&gt;]
+ *         </pre>
+ */
+public class LatencyRunner {
+	/** the fields of the Knights, a move from each field to the next one */
+	private static final String[] FIELDS = {
+			"G1", "B8", "F3", "C6"
+	};
+
+	/** the default number of moves per round, a multiple of four */
+	private static final int DEFAULT_MOVES = 50000;
+
+	/** the default number of rounds */
+	private static final int DEFAULT_ROUNDS = 10;
+
+	/**
+	 * @param args
+	 *            the number of moves per round and the number of rounds
+	 */
+	public static void main(final String[] args) {
+		int moves = LatencyRunner.DEFAULT_MOVES;
+		int rounds = LatencyRunner.DEFAULT_ROUNDS;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				if ("--moves".equals(args[i]) && ((i + 1) < args.length)) {
+					moves = Math.max(4, Integer.parseInt(args[++i]) & ~3); // both Knights return home
+				} else if ("--rounds".equals(args[i]) && ((i + 1) < args.length)) {
+					rounds = Math.max(1, Integer.parseInt(args[++i]));
+				} else {
+					LatencyRunner.printUsage();
+					return;
+				}
+			}
+		} catch (final NumberFormatException e) {
+			LatencyRunner.printUsage();
+			return;
+		}
+
+		FigureProcedure.INSTANCE.initializeFiguresOnField();
+		FigureProcedure.INSTANCE.updateFigureProperties(Matrix.INSTANCE.getFigureOnField(Coordinates.valueOf("E2")), Coordinates.valueOf("E4"));
+
+		final BaseFigure[] knights = {
+				Matrix.INSTANCE.getFigureOnField(Coordinates.valueOf(LatencyRunner.FIELDS[0])),
+				Matrix.INSTANCE.getFigureOnField(Coordinates.valueOf(LatencyRunner.FIELDS[1]))
+		};
+		final Coordinates[] destinations = new Coordinates[LatencyRunner.FIELDS.length];
+		for (int i = 0; i < destinations.length; i++) {
+			destinations[i] = Coordinates.valueOf(LatencyRunner.FIELDS[(i + 2) % LatencyRunner.FIELDS.length]);
+		}
+
+		System.out.println("round      time ms    us per move");
+		for (int round = 1; round <= rounds; round++) {
+			final long start = System.nanoTime();
+			for (int i = 0; i < moves; i++) {
+				final int step = i & 3;
+				FigureProcedure.INSTANCE.updateFigureProperties(knights[step & 1], destinations[step]);
+			}
+			final long elapsed = System.nanoTime() - start;
+
+			System.out.println(String.format("%5d %12d %14.3f", round, elapsed / 1000000L, elapsed / (1000.0 * moves)));
+		}
+	}
+
+	/** Print the usage of this runner. */
+	private static void printUsage() {
+		System.out.println("usage: LatencyRunner [--moves <n>] [--rounds <n>]");
+	}
+}
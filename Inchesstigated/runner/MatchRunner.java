@@ -0,0 +1,143 @@
+/**
+ * @package: runner
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package runner;
+
+import engine.MonteCarloSearch;
+import engine.ParallelSearch;
+import engine.Search;
+import engine.SearchResult;
+import engine.TranspositionTable;
+import figure.properties.FigureColor;
+import location.BitBoard;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         The runner program for a match between the alpha-beta search and the
+ *         Monte Carlo tree search, where both use the same time and the same
+ *         number of threads for each move. The colors change from game to
+ *         game. A repeated position, the 50 moves rule, two Kings only and a
+ *         game without a result after 300 half moves are a draw.
+ *
+ *         <pre>
+ *         usage: MatchRunner &lt;games&gt; [--millis &lt;ms&gt;] [--threads &lt;n&gt;]
+ *         </pre>
+ */
+public class MatchRunner {
+	/** the default time for each move in milliseconds */
+	private static final long DEFAULT_MILLIS = 500L;
+
+	/** a game is a draw after 300 half moves */
+	private static final int MAX_GAME_LENGTH = 300;
+
+	/** the size of the transposition table of the alpha-beta search */
+	private static final int TABLE_MEGABYTES = 16;
+
+	/* results from the view of the Monte Carlo tree search */
+	private static final int LOSS = 0;
+	private static final int DRAW = 1;
+	private static final int WIN = 2;
+
+	/**
+	 * @param args
+	 *            the number of games, the time for each move and the number of
+	 *            threads
+	 */
+	public static void main(final String[] args) {
+		if (args.length == 0) {
+			MatchRunner.printUsage();
+			return;
+		}
+
+		long millis = MatchRunner.DEFAULT_MILLIS;
+		int threads = 1;
+		final int games;
+
+		try {
+			games = Integer.parseInt(args[0]);
+
+			for (int i = 1; i < args.length; i++) {
+				if ("--millis".equals(args[i]) && ((i + 1) < args.length)) {
+					millis = Long.parseLong(args[++i]);
+				} else if ("--threads".equals(args[i]) && ((i + 1) < args.length)) {
+					threads = Integer.parseInt(args[++i]);
+				} else {
+					MatchRunner.printUsage();
+					return;
+				}
+			}
+		} catch (final NumberFormatException e) {
+			MatchRunner.printUsage();
+			return;
+		}
+
+		final int[] results = new int[3];
+		for (int game = 0; game < games; game++) {
+			final FigureColor monteCarloColor = ((game & 1) == 0) ? FigureColor.WHITE : FigureColor.BLACK;
+			final int result = MatchRunner.playGame(monteCarloColor, millis, threads);
+			results[result]++;
+
+			System.out.println("game " + (game + 1) + ": MCTS as " + monteCarloColor + " " + ((result == MatchRunner.WIN) ? "wins" : ((result == MatchRunner.LOSS) ? "loses" : "draws")));
+		}
+
+		System.out.println("MCTS vs alpha-beta: +" + results[MatchRunner.WIN] + " =" + results[MatchRunner.DRAW] + " -" + results[MatchRunner.LOSS]);
+	}
+
+	/**
+	 * Play a single game from the start position.
+	 *
+	 * @param monteCarloColor
+	 *            the color of the Monte Carlo tree search
+	 * @param millis
+	 *            the time for each move in milliseconds
+	 * @param threads
+	 *            the number of threads of each search
+	 *
+	 * @return the result from the view of the Monte Carlo tree search
+	 */
+	private static int playGame(final FigureColor monteCarloColor, final long millis, final int threads) {
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+		final TranspositionTable table = new TranspositionTable(MatchRunner.TABLE_MEGABYTES);
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+		for (int ply = 0; ply < MatchRunner.MAX_GAME_LENGTH; ply++) {
+			final FigureColor side = board.getSideToMove();
+
+			if (MoveGenerator.generateLegalMoves(board, moves) == 0) {
+				if (!board.onCheck(side)) {
+					return MatchRunner.DRAW; // stalemate
+				}
+				return (side == monteCarloColor) ? MatchRunner.LOSS : MatchRunner.WIN;
+			}
+			if (board.onRepetition() || (board.getHalfMoveClock() >= 100) || (Long.bitCount(board.getOccupancy()) == 2)) {
+				return MatchRunner.DRAW;
+			}
+
+			final SearchResult result;
+			if (side == monteCarloColor) {
+				result = new MonteCarloSearch(board, threads).search(millis);
+			} else {
+				result = new ParallelSearch(board, threads, table).search(millis, Search.MAX_DEPTH);
+			}
+			board.makeMove(result.getBestMove());
+		}
+
+		return MatchRunner.DRAW;
+	}
+
+	/** Print the usage of this runner. */
+	private static void printUsage() {
+		System.out.println("usage: MatchRunner <games> [--millis <ms>] [--threads <n>]");
+	}
+}
@@ -0,0 +1,139 @@
+/**
+ * @package: runner
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package runner;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import engine.MateSolver;
+import location.BitBoard;
+import location.Move;
+
+/**
+ * @author swunsch
+ *
+ *         The runner program for the mate solver. It proves or refutes a forced
+ *         mate in n moves for a single position or for each position of a
+ *         puzzle collection, where each line holds a position as FEN. Empty
+ *         lines and lines starting with '#' are skipped.
+ *
+ *         <pre>
+ *         usage: MateRunner &lt;n&gt; [--fen "&lt;FEN&gt;"] [--file &lt;path&gt;] [--threads &lt;n&gt;]
+ *         </pre>
+ */
+public class MateRunner {
+	/**
+	 * @param args
+	 *            the number of moves, a position as FEN or a file of positions and
+	 *            the number of threads
+	 */
+	public static void main(final String[] args) {
+		if (args.length == 0) {
+			MateRunner.printUsage();
+			return;
+		}
+
+		final List<String> positions = new ArrayList<>();
+		int threads = Runtime.getRuntime().availableProcessors();
+		final int n;
+
+		try {
+			n = Integer.parseInt(args[0]);
+
+			for (int i = 1; i < args.length; i++) {
+				if ("--fen".equals(args[i]) && ((i + 1) < args.length)) {
+					positions.add(args[++i]);
+				} else if ("--file".equals(args[i]) && ((i + 1) < args.length)) {
+					MateRunner.readPositions(args[++i], positions);
+				} else if ("--threads".equals(args[i]) && ((i + 1) < args.length)) {
+					threads = Integer.parseInt(args[++i]);
+				} else {
+					MateRunner.printUsage();
+					return;
+				}
+			}
+		} catch (final NumberFormatException e) {
+			MateRunner.printUsage();
+			return;
+		} catch (final IOException e) {
+			System.err.println(e.getMessage());
+			return;
+		}
+
+		if ((n < 1) || positions.isEmpty()) {
+			MateRunner.printUsage();
+			return;
+		}
+
+		final ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+		final MateSolver solver = new MateSolver(pool);
+		final BitBoard board = new BitBoard();
+		int proven = 0;
+		int invalid = 0;
+
+		final long start = System.nanoTime();
+		for (final String fen : positions) {
+			try {
+				board.setPosition(fen);
+			} catch (final IllegalArgumentException e) {
+				System.out.println(fen + ": " + e.getMessage());
+				invalid++;
+				continue;
+			}
+
+			final int mate = solver.solve(board, n);
+			if (mate != Move.NONE) {
+				proven++;
+			}
+			System.out.println(fen + ": " + ((mate != Move.NONE) ? ("mate by " + Move.toString(mate)) : ("no mate in " + n)));
+		}
+		pool.shutdown();
+
+		final long elapsed = Math.max(1L, System.nanoTime() - start);
+		final int solved = positions.size() - invalid;
+		System.out.println("positions: " + solved + " (" + proven + " proven, " + (solved - proven) + " refuted, " + invalid + " invalid)");
+		System.out.println("time:      " + (elapsed / 1000000L) + " ms");
+		System.out.println("per min:   " + ((solved * 60000000000L) / elapsed));
+	}
+
+	/**
+	 * Read all positions of a puzzle collection.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @param positions
+	 *            the list to fill
+	 *
+	 * @throws IOException
+	 *             if the file is not readable
+	 */
+	private static void readPositions(final String path, final List<String> positions) throws IOException {
+		try (BufferedReader reader = new BufferedReader(new FileReader(path))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (!line.isEmpty() && !line.startsWith("#")) {
+					positions.add(line);
+				}
+			}
+		}
+	}
+
+	/** Print the usage of this runner. */
+	private static void printUsage() {
+		System.out.println("usage: MateRunner <n> [--fen \"<FEN>\"] [--file <path>] [--threads <n>]");
+	}
+}
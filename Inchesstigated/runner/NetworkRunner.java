@@ -0,0 +1,199 @@
+/**
+ * @package: runner
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package runner;
+
+import java.io.IOException;
+
+import engine.Accumulator;
+import engine.Evaluation;
+import engine.Network;
+import location.BitBoard;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         The runner program for the benchmark of the neural network. Each
+ *         move of some positions is made, rated and taken back, where the
+ *         evaluations per second are compared between a simple material count,
+ *         the network with it's hidden layer updated by each move and the
+ *         network with it's hidden layer computed from scratch.
+ *
+ *         Without a network file a network of random weights is in use, which
+ *         can be saved by "--save" to test the file format.
+ *
+ *         <pre>
+ *         usage: NetworkRunner [--file &lt;path&gt;] [--hidden &lt;n&gt;] [--millis &lt;ms&gt;] [--save &lt;path&gt;]
+ *         </pre>
+ */
+public class NetworkRunner {
+	/** the positions of the benchmark */
+	private static final String[] POSITIONS = {
+			BitBoard.START_POSITION,
+			"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+			"r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w KQkq - 4 4",
+			"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"
+	};
+
+	/** the default size of the hidden layer of a random network */
+	private static final int DEFAULT_HIDDEN = 256;
+
+	/** the default time of each kind of evaluation in milliseconds */
+	private static final long DEFAULT_MILLIS = 2000L;
+
+	/* the kinds of evaluation */
+	private static final int MATERIAL = 0;
+	private static final int INCREMENTAL = 1;
+	private static final int REFRESH = 2;
+
+	/**
+	 * @param args
+	 *            the network file or the size of a random network, the time of
+	 *            each kind of evaluation and the file to save the network
+	 */
+	public static void main(final String[] args) {
+		String file = null;
+		String save = null;
+		int hidden = NetworkRunner.DEFAULT_HIDDEN;
+		long millis = NetworkRunner.DEFAULT_MILLIS;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				if ("--file".equals(args[i]) && ((i + 1) < args.length)) {
+					file = args[++i];
+				} else if ("--hidden".equals(args[i]) && ((i + 1) < args.length)) {
+					hidden = Integer.parseInt(args[++i]);
+				} else if ("--millis".equals(args[i]) && ((i + 1) < args.length)) {
+					millis = Long.parseLong(args[++i]);
+				} else if ("--save".equals(args[i]) && ((i + 1) < args.length)) {
+					save = args[++i];
+				} else {
+					NetworkRunner.printUsage();
+					return;
+				}
+			}
+		} catch (final NumberFormatException e) {
+			NetworkRunner.printUsage();
+			return;
+		}
+
+		final Network network;
+		try {
+			network = (file != null) ? Network.load(file) : Network.createRandom(hidden, 2019L);
+			if (save != null) {
+				network.save(save);
+			}
+		} catch (final IOException | IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			return;
+		}
+
+		System.out.println("hidden layer: " + network.getHiddenSize());
+		final String[] names = {
+				"material count", "network (incremental)", "network (from scratch)"
+		};
+		for (int kind = NetworkRunner.MATERIAL; kind <= NetworkRunner.REFRESH; kind++) {
+			final long[] result = NetworkRunner.run(network, kind, millis);
+			System.out.println(String.format("%-24s %12d evaluations/s (checksum %d)", names[kind], (result[0] * 1000000000L) / Math.max(1L, result[1]), result[2]));
+		}
+	}
+
+	/**
+	 * Make, rate and take back each move of all positions, until the time is up.
+	 *
+	 * @param network
+	 *            the network to use
+	 * @param kind
+	 *            the kind of evaluation
+	 * @param millis
+	 *            the time in milliseconds
+	 *
+	 * @return the number of evaluations, the elapsed nanoseconds and the sum of
+	 *         all scores
+	 */
+	private static long[] run(final Network network, final int kind, final long millis) {
+		final BitBoard[] boards = new BitBoard[NetworkRunner.POSITIONS.length];
+		final Accumulator[] accumulators = new Accumulator[boards.length];
+		final int[][] moves = new int[boards.length][MoveGenerator.MAX_MOVES];
+		final int[] counts = new int[boards.length];
+
+		for (int i = 0; i < boards.length; i++) {
+			boards[i] = new BitBoard();
+			boards[i].setPosition(NetworkRunner.POSITIONS[i]);
+			counts[i] = MoveGenerator.generateLegalMoves(boards[i], moves[i]);
+			accumulators[i] = new Accumulator(network);
+			if (kind == NetworkRunner.INCREMENTAL) {
+				accumulators[i].attach(boards[i]);
+			}
+		}
+
+		long evaluations = 0L;
+		long checksum = 0L;
+		final long start = System.nanoTime();
+		final long deadline = start + (millis * 1000000L);
+
+		while (System.nanoTime() < deadline) {
+			for (int i = 0; i < boards.length; i++) {
+				final BitBoard board = boards[i];
+
+				for (int j = 0; j < counts[i]; j++) {
+					board.makeMove(moves[i][j]);
+
+					if (kind == NetworkRunner.MATERIAL) {
+						checksum += NetworkRunner.countMaterial(board);
+					} else {
+						if (kind == NetworkRunner.REFRESH) {
+							accumulators[i].refresh(board);
+						}
+						checksum += accumulators[i].evaluate(board.getSideToMove());
+					}
+
+					board.unmakeMove();
+				}
+				evaluations += counts[i];
+			}
+		}
+
+		return new long[] {
+				evaluations, System.nanoTime() - start, checksum
+		};
+	}
+
+	/**
+	 * Count the material of both players.
+	 *
+	 * @param board
+	 *            the position to rate
+	 *
+	 * @return the difference of the material in centipawns, positive if white
+	 *         is ahead
+	 */
+	private static int countMaterial(final BitBoard board) {
+		int score = 0;
+
+		long occupied = board.getOccupancy();
+		while (occupied != 0L) {
+			final int field = Long.numberOfTrailingZeros(occupied);
+			occupied &= occupied - 1;
+
+			final int figure = board.getFigure(field);
+			score += ((figure & 1) == 1) ? Evaluation.getValue(figure) : -Evaluation.getValue(figure);
+		}
+
+		return score;
+	}
+
+	/** Print the usage of this runner. */
+	private static void printUsage() {
+		System.out.println("usage: NetworkRunner [--file <path>] [--hidden <n>] [--millis <ms>] [--save <path>]");
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * @package: runner
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package runner;
+
+import java.util.concurrent.ForkJoinPool;
+
+import engine.Perft;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         The runner program for the performance test of the move generator.
+ *         It counts all leaf nodes up to the given depth and prints the nodes
+ *         per second.
+ *
+ *         <pre>
+ *         usage: PerftRunner &lt;depth&gt; [--fen "&lt;FEN&gt;"] [--divide] [--threads &lt;n&gt;]
+ *         </pre>
+ */
+public class PerftRunner {
+	/**
+	 * @param args
+	 *            the depth, optionally a position as FEN, the divide mode and the
+	 *            number of threads for the divide mode
+	 */
+	public static void main(final String[] args) {
+		if (args.length == 0) {
+			PerftRunner.printUsage();
+			return;
+		}
+
+		String fen = BitBoard.START_POSITION;
+		boolean divide = false;
+		int threads = Runtime.getRuntime().availableProcessors();
+		final int depth;
+
+		try {
+			depth = Integer.parseInt(args[0]);
+
+			for (int i = 1; i < args.length; i++) {
+				if ("--fen".equals(args[i]) && ((i + 1) < args.length)) {
+					fen = args[++i];
+				} else if ("--divide".equals(args[i])) {
+					divide = true;
+				} else if ("--threads".equals(args[i]) && ((i + 1) < args.length)) {
+					threads = Integer.parseInt(args[++i]);
+				} else {
+					PerftRunner.printUsage();
+					return;
+				}
+			}
+		} catch (final NumberFormatException e) {
+			PerftRunner.printUsage();
+			return;
+		}
+
+		final BitBoard board = new BitBoard();
+		try {
+			board.setPosition(fen);
+		} catch (final IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			return;
+		}
+
+		final long start = System.nanoTime();
+		long nodes = 0L;
+
+		if (divide && (depth > 0)) {
+			final int[] moves = new int[MoveGenerator.MAX_MOVES];
+			final long[] divided = new long[MoveGenerator.MAX_MOVES];
+			final ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+
+			final int count = Perft.divide(board, depth, moves, divided, pool);
+			pool.shutdown();
+
+			for (int i = 0; i < count; i++) {
+				System.out.println(Move.toString(moves[i]) + ": " + divided[i]);
+				nodes += divided[i];
+			}
+			System.out.println("moves: " + count);
+		} else {
+			nodes = Perft.countNodes(board, depth);
+		}
+
+		final long elapsed = Math.max(1L, System.nanoTime() - start);
+		System.out.println("nodes: " + nodes);
+		System.out.println("time:  " + (elapsed / 1000000L) + " ms");
+		System.out.println("nps:   " + ((nodes * 1000000000L) / elapsed));
+	}
+
+	/** Print the usage of this runner. */
+	private static void printUsage() {
+		System.out.println("usage: PerftRunner <depth> [--fen \"<FEN>\"] [--divide] [--threads <n>]");
+	}
+}
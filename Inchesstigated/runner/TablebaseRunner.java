@@ -0,0 +1,155 @@
+/**
+ * @package: runner
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package runner;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import engine.Search;
+import engine.Tablebase;
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.Move;
+
+/**
+ * @author swunsch
+ *
+ *         The runner program to generate the endings King and Queen, King and
+ *         Rook and King and Pawn against the lone King by all threads. The
+ *         files are saved to the given directory and mapped again to play the
+ *         given position (or some example positions) by the tablebase until the
+ *         end.
+ *
+ *         <pre>
+ *         usage: TablebaseRunner &lt;directory&gt; [--threads &lt;n&gt;] [--fen "&lt;FEN&gt;"]
+ *         </pre>
+ */
+public class TablebaseRunner {
+	/** the example positions to play */
+	private static final String[] POSITIONS = {
+			"8/8/8/4k3/8/8/8/KQ6 w - - 0 1",
+			"8/8/3k4/8/8/8/8/R3K3 b - - 0 1",
+			"8/8/8/8/4k3/8/4P3/4K3 w - - 0 1",
+			"8/8/8/4k3/8/8/4P3/4K3 w - - 0 1"
+	};
+
+	/** the number of probes to measure */
+	private static final int PROBES = 1000000;
+
+	/**
+	 * @param args
+	 *            the directory of the files, the number of threads and a
+	 *            position as FEN
+	 */
+	public static void main(final String[] args) {
+		if (args.length == 0) {
+			TablebaseRunner.printUsage();
+			return;
+		}
+
+		int threads = Runtime.getRuntime().availableProcessors();
+		String[] positions = TablebaseRunner.POSITIONS;
+
+		try {
+			for (int i = 1; i < args.length; i++) {
+				if ("--threads".equals(args[i]) && ((i + 1) < args.length)) {
+					threads = Integer.parseInt(args[++i]);
+				} else if ("--fen".equals(args[i]) && ((i + 1) < args.length)) {
+					positions = new String[] {
+							args[++i]
+					};
+				} else {
+					TablebaseRunner.printUsage();
+					return;
+				}
+			}
+		} catch (final NumberFormatException e) {
+			TablebaseRunner.printUsage();
+			return;
+		}
+
+		final Tablebase generated = new Tablebase();
+		final ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			for (final FigureSet type : Tablebase.ENDINGS) {
+				final long start = System.nanoTime();
+				final int longest = generated.generate(type, pool);
+				System.out.println(String.format("%s: longest mate %d half moves, %d ms (%d threads)", Tablebase.getFileName(type), longest, (System.nanoTime() - start) / 1000000L, threads));
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		final Tablebase tablebase;
+		try {
+			generated.save(args[0]);
+			tablebase = Tablebase.open(args[0]);
+		} catch (final IOException e) {
+			System.err.println(e.getMessage());
+			return;
+		}
+
+		final BitBoard board = new BitBoard();
+		for (final String fen : positions) {
+			try {
+				board.setPosition(fen);
+			} catch (final IllegalArgumentException e) {
+				System.err.println(e.getMessage());
+				continue;
+			}
+
+			final int score = tablebase.probe(board);
+			if (score == Tablebase.NOT_FOUND) {
+				System.out.println(fen + ": not in the tablebase");
+				continue;
+			}
+
+			long start = System.nanoTime();
+			for (int i = 0; i < TablebaseRunner.PROBES; i++) {
+				tablebase.probe(board);
+			}
+			final long elapsed = System.nanoTime() - start;
+
+			final StringBuilder line = new StringBuilder();
+			int move;
+			while ((move = tablebase.getBestMove(board)) != Move.NONE) {
+				line.append(' ').append(Move.toString(move));
+				board.makeMove(move);
+			}
+
+			System.out.println(fen + ": " + TablebaseRunner.toResult(score) + String.format(" (%.3f us),", elapsed / (1000.0 * TablebaseRunner.PROBES)) + line);
+		}
+	}
+
+	/**
+	 * Receive the result of a score.
+	 *
+	 * @param score
+	 *            the score of the tablebase
+	 *
+	 * @return the result as text
+	 */
+	private static String toResult(final int score) {
+		if (score > 0) {
+			return "mate in " + (Search.MATE - score) + " half moves";
+		} else if (score < 0) {
+			return "mated in " + (Search.MATE + score) + " half moves";
+		}
+
+		return "draw";
+	}
+
+	/** Print the usage of this runner. */
+	private static void printUsage() {
+		System.out.println("usage: TablebaseRunner <directory> [--threads <n>] [--fen \"<FEN>\"]");
+	}
+}
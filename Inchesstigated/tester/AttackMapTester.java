@@ -0,0 +1,129 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import figure.properties.FigureColor;
+import location.AttackMap;
+import location.BitBoard;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the attack map, which holds the number of covering
+ *         figures for each field.
+ */
+public class AttackMapTester {
+	/** a position with many castling, "en passant" and promotion moves */
+	private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+	/**
+	 * Test method for {@link location.AttackMap#getAttackCount(int, FigureColor)}.
+	 *
+	 * expected result: the known numbers of the start position
+	 */
+	@Test
+	public void test_00_StartPosition() {
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+		final AttackMap map = new AttackMap(board);
+
+		/* "F3" is covered by the Pawns on "E2" and "G2" and by the Knight on "G1" */
+		Assertions.assertEquals(3, map.getAttackCount(BitBoard.getFieldIndex('F', '3'), FigureColor.WHITE));
+		Assertions.assertEquals(0, map.getAttackCount(BitBoard.getFieldIndex('F', '3'), FigureColor.BLACK));
+
+		/* "D1" is covered by the King, the Rook doesn't pass the Knight */
+		Assertions.assertEquals(1, map.getAttackCount(BitBoard.getFieldIndex('D', '1'), FigureColor.WHITE));
+		Assertions.assertFalse(map.onAttacked(BitBoard.getFieldIndex('E', '4'), FigureColor.WHITE));
+		/* the whole second and third rank and all fields of the first rank except the corners */
+		Assertions.assertEquals(0x0000000000FFFF7EL, map.getAttackedFields(FigureColor.WHITE));
+	}
+
+	/**
+	 * Test method for {@link location.AttackMap#update(long)}.
+	 *
+	 * expected result: after each random move the updated map is equal to a map,
+	 * which has been created from scratch
+	 */
+	@Test
+	public void test_01_Update() {
+		final Random random = new Random(2019L);
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int[] before = new int[BitBoard.NBR_OF_FIELDS];
+
+		for (final String fen : new String[] {
+				BitBoard.START_POSITION, AttackMapTester.KIWIPETE
+		}) {
+			final BitBoard board = new BitBoard();
+			board.setPosition(fen);
+			final AttackMap map = new AttackMap(board);
+
+			for (int ply = 0; ply < 200; ply++) {
+				final int count = MoveGenerator.generateLegalMoves(board, moves);
+				if (count == 0) {
+					break;
+				}
+
+				for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+					before[field] = board.getFigure(field);
+				}
+				board.makeMove(moves[random.nextInt(count)]);
+
+				long changed = 0L;
+				for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+					if (before[field] != board.getFigure(field)) {
+						changed |= BitBoard.getFieldMask(field);
+					}
+				}
+				map.update(changed);
+
+				final AttackMap expected = new AttackMap(board);
+				for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+					Assertions.assertEquals(expected.getAttacks(field), map.getAttacks(field));
+					for (final FigureColor color : BitBoard.COLORS) {
+						Assertions.assertEquals(expected.getAttackCount(field, color), map.getAttackCount(field, color));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link location.AttackMap#takeAffectedFields()}.
+	 *
+	 * expected result: a Knight move only affects the Knight and the figures,
+	 * which cover the start or the destination
+	 */
+	@Test
+	public void test_02_AffectedFields() {
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+		final AttackMap map = new AttackMap(board);
+		map.takeAffectedFields();
+
+		final int g1 = BitBoard.getFieldIndex('G', '1');
+		final int f3 = BitBoard.getFieldIndex('F', '3');
+		board.makeMove(board.createMove(g1, f3, null));
+		map.update(BitBoard.getFieldMask(g1) | BitBoard.getFieldMask(f3));
+
+		/* the Rook on "H1" covers the start, the Pawns on "E2" and "G2" the destination */
+		final long expected = BitBoard.getFieldMask(f3) | BitBoard.getFieldMask(BitBoard.getFieldIndex('H', '1'))
+				| BitBoard.getFieldMask(BitBoard.getFieldIndex('E', '2')) | BitBoard.getFieldMask(BitBoard.getFieldIndex('G', '2'));
+		Assertions.assertEquals(expected, map.takeAffectedFields());
+		Assertions.assertEquals(0L, map.takeAffectedFields());
+	}
+}
@@ -0,0 +1,89 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import location.AttackTable;
+import location.BitBoard;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the precomputed attack masks of Knight and King.
+ */
+public class AttackTableTester {
+
+	/**
+	 * Test method for {@link location.AttackTable#getKnightAttacks(int)}.
+	 *
+	 * expected result: a Knight covers two fields in a corner and eight fields in
+	 * the middle of the chess field
+	 */
+	@Test
+	public void test_00_KnightAttacks() {
+		final long cornerA1 = AttackTable.getKnightAttacks(BitBoard.getFieldIndex('A', '1'));
+		Assertions.assertEquals(2, Long.bitCount(cornerA1));
+		Assertions.assertNotEquals(0L, cornerA1 & BitBoard.getFieldMask(BitBoard.getFieldIndex('B', '3')));
+		Assertions.assertNotEquals(0L, cornerA1 & BitBoard.getFieldMask(BitBoard.getFieldIndex('C', '2')));
+
+		Assertions.assertEquals(8, Long.bitCount(AttackTable.getKnightAttacks(BitBoard.getFieldIndex('E', '4'))));
+		Assertions.assertEquals(3, Long.bitCount(AttackTable.getKnightAttacks(BitBoard.getFieldIndex('G', '1'))));
+	}
+
+	/**
+	 * Test method for {@link location.AttackTable#getKingAttacks(int)}.
+	 *
+	 * expected result: a King covers three fields in a corner, five fields on the
+	 * border and eight fields in the middle of the chess field
+	 */
+	@Test
+	public void test_01_KingAttacks() {
+		Assertions.assertEquals(3, Long.bitCount(AttackTable.getKingAttacks(BitBoard.getFieldIndex('H', '8'))));
+		Assertions.assertEquals(5, Long.bitCount(AttackTable.getKingAttacks(BitBoard.getFieldIndex('E', '1'))));
+		Assertions.assertEquals(8, Long.bitCount(AttackTable.getKingAttacks(BitBoard.getFieldIndex('D', '5'))));
+
+		/* the King never covers it's own field */
+		final int e1 = BitBoard.getFieldIndex('E', '1');
+		Assertions.assertEquals(0L, AttackTable.getKingAttacks(e1) & BitBoard.getFieldMask(e1));
+	}
+
+	/**
+	 * Test method for {@link location.AttackTable#getBetween(int, int)} and
+	 * {@link location.AttackTable#getLine(int, int)}.
+	 *
+	 * expected result: only fields on a common line have fields between and a
+	 * line, where both directions give the same result
+	 */
+	@Test
+	public void test_02_BetweenAndLine() {
+		final int a1 = BitBoard.getFieldIndex('A', '1');
+		final int d4 = BitBoard.getFieldIndex('D', '4');
+		final int h8 = BitBoard.getFieldIndex('H', '8');
+		final int e1 = BitBoard.getFieldIndex('E', '1');
+		final int f3 = BitBoard.getFieldIndex('F', '3');
+
+		/* "B2" and "C3" */
+		Assertions.assertEquals(0x0000000000040200L, AttackTable.getBetween(a1, d4));
+		Assertions.assertEquals(AttackTable.getBetween(a1, d4), AttackTable.getBetween(d4, a1));
+
+		/* the whole diagonal from "A1" to "H8" */
+		Assertions.assertEquals(0x8040201008040201L, AttackTable.getLine(d4, h8));
+		Assertions.assertEquals(AttackTable.getLine(a1, h8), AttackTable.getLine(h8, d4));
+
+		/* neighbors and fields without a common line */
+		Assertions.assertEquals(0L, AttackTable.getBetween(a1, BitBoard.getFieldIndex('B', '2')));
+		Assertions.assertEquals(0L, AttackTable.getBetween(e1, f3));
+		Assertions.assertEquals(0L, AttackTable.getLine(e1, f3));
+	}
+}
@@ -0,0 +1,299 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.Coordinates;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the bit board, which holds the occupancy of each
+ *         field as a 64 bit mask.
+ */
+public class BitBoardTester {
+
+	/**
+	 * Test method for {@link location.BitBoard#getFieldIndex(char, char)}.
+	 *
+	 * expected result: "A1" is the first field, "H8" the last one and any
+	 * coordinate outside of the chess field is invalid
+	 */
+	@Test
+	public void test_00_GetFieldIndex() {
+		Assertions.assertEquals(0, BitBoard.getFieldIndex('A', '1'));
+		Assertions.assertEquals(7, BitBoard.getFieldIndex('H', '1'));
+		Assertions.assertEquals(60, BitBoard.getFieldIndex(new Coordinates("E8")));
+		Assertions.assertEquals(63, BitBoard.getFieldIndex('H', '8'));
+		Assertions.assertEquals(BitBoard.NO_FIELD, BitBoard.getFieldIndex('I', '1'));
+		Assertions.assertEquals(BitBoard.NO_FIELD, BitBoard.getFieldIndex('A', '0'));
+	}
+
+	/**
+	 * Test method for
+	 * {@link location.BitBoard#setFigure(int, FigureColor, FigureSet)}.
+	 *
+	 * expected result: a figure which replaces another figure on the same field
+	 * removes the old color and type from all masks
+	 */
+	@Test
+	public void test_01_SetFigure() {
+		final BitBoard board = new BitBoard();
+		final int e4 = BitBoard.getFieldIndex('E', '4');
+
+		board.setFigure(e4, FigureColor.WHITE, FigureSet.PAWN);
+		Assertions.assertTrue(board.onReserved(e4));
+		Assertions.assertTrue(board.onColor(e4, FigureColor.WHITE));
+		Assertions.assertTrue(board.onType(e4, FigureSet.PAWN));
+
+		board.setFigure(e4, FigureColor.BLACK, FigureSet.KNIGHT);
+		Assertions.assertEquals(FigureColor.BLACK, board.getColorOn(e4));
+		Assertions.assertEquals(FigureSet.KNIGHT, board.getTypeOn(e4));
+		Assertions.assertEquals(0L, board.getColorMask(FigureColor.WHITE));
+		Assertions.assertEquals(0L, board.getTypeMask(FigureSet.PAWN));
+		Assertions.assertEquals(BitBoard.getFieldMask(e4), board.getFigureMask(FigureSet.KNIGHT, FigureColor.BLACK));
+	}
+
+	/**
+	 * Test method for {@link location.BitBoard#clearField(int)}.
+	 *
+	 * expected result: the field is free again and no mask contains this field
+	 */
+	@Test
+	public void test_02_ClearField() {
+		final BitBoard board = new BitBoard();
+		final int d8 = BitBoard.getFieldIndex('D', '8');
+
+		board.setFigure(d8, FigureColor.BLACK, FigureSet.QUEEN);
+		board.clearField(d8);
+
+		Assertions.assertFalse(board.onReserved(d8));
+		Assertions.assertNull(board.getColorOn(d8));
+		Assertions.assertNull(board.getTypeOn(d8));
+		Assertions.assertEquals(0L, board.getOccupancy());
+	}
+
+	/**
+	 * Test method for {@link location.BitBoard#makeMove(int)} and
+	 * {@link location.BitBoard#unmakeMove()}.
+	 *
+	 * expected result: a castling, a Pawn move of two fields, an "en passant" and
+	 * a promotion are taken back to the exact position before
+	 */
+	@Test
+	public void test_03_MakeUnmakeMove() {
+		final BitBoard board = new BitBoard();
+		final int e1 = BitBoard.getFieldIndex('E', '1');
+		final int h1 = BitBoard.getFieldIndex('H', '1');
+		final int e5 = BitBoard.getFieldIndex('E', '5');
+		final int d7 = BitBoard.getFieldIndex('D', '7');
+		final int b7 = BitBoard.getFieldIndex('B', '7');
+		final int e8 = BitBoard.getFieldIndex('E', '8');
+
+		board.setFigure(e1, FigureColor.WHITE, FigureSet.KING);
+		board.setFigure(h1, FigureColor.WHITE, FigureSet.ROOK);
+		board.setFigure(e5, FigureColor.WHITE, FigureSet.PAWN);
+		board.setFigure(b7, FigureColor.WHITE, FigureSet.PAWN);
+		board.setFigure(d7, FigureColor.BLACK, FigureSet.PAWN);
+		board.setFigure(e8, FigureColor.BLACK, FigureSet.KING);
+		board.setCastlingRights(BitBoard.WHITE_KING_SIDE);
+
+		final long occupancy = board.getOccupancy();
+
+		/* castling: the Rook jumps over the King */
+		board.makeMove(board.createMove(e1, BitBoard.getFieldIndex('G', '1'), null));
+		Assertions.assertEquals(FigureSet.ROOK, board.getTypeOn(BitBoard.getFieldIndex('F', '1')));
+		Assertions.assertEquals(0, board.getCastlingRights());
+		Assertions.assertEquals(FigureColor.BLACK, board.getSideToMove());
+
+		/* two fields: the field behind the Pawn may be hit by "en passant" */
+		board.makeMove(board.createMove(d7, BitBoard.getFieldIndex('D', '5'), null));
+		Assertions.assertEquals(BitBoard.getFieldIndex('D', '6'), board.getEnPassantField());
+
+		/* "en passant": the black Pawn on "D5" has been captured */
+		board.makeMove(board.createMove(e5, BitBoard.getFieldIndex('D', '6'), null));
+		Assertions.assertFalse(board.onReserved(BitBoard.getFieldIndex('D', '5')));
+
+		board.makeMove(board.createMove(e8, BitBoard.getFieldIndex('E', '7'), null));
+
+		/* promotion */
+		board.makeMove(board.createMove(b7, BitBoard.getFieldIndex('B', '8'), FigureSet.QUEEN));
+		Assertions.assertEquals(FigureSet.QUEEN, board.getTypeOn(BitBoard.getFieldIndex('B', '8')));
+		Assertions.assertEquals(5, board.getHistorySize());
+
+		for (int i = 0; i < 5; i++) {
+			board.unmakeMove();
+		}
+
+		Assertions.assertEquals(occupancy, board.getOccupancy());
+		Assertions.assertEquals(FigureSet.PAWN, board.getTypeOn(b7));
+		Assertions.assertEquals(FigureColor.BLACK, board.getColorOn(d7));
+		Assertions.assertEquals(BitBoard.WHITE_KING_SIDE, board.getCastlingRights());
+		Assertions.assertEquals(BitBoard.NO_FIELD, board.getEnPassantField());
+		Assertions.assertEquals(FigureColor.WHITE, board.getSideToMove());
+	}
+
+	/**
+	 * Test method for {@link location.BitBoard#onLegalMove(int)}.
+	 *
+	 * expected result: a Rook which protects it's King against a Runner is unable
+	 * to leave this line
+	 */
+	@Test
+	public void test_04_OnLegalMove() {
+		final BitBoard board = new BitBoard();
+		final int d2 = BitBoard.getFieldIndex('D', '2');
+
+		board.setFigure(BitBoard.getFieldIndex('E', '1'), FigureColor.WHITE, FigureSet.KING);
+		board.setFigure(d2, FigureColor.WHITE, FigureSet.ROOK);
+		board.setFigure(BitBoard.getFieldIndex('B', '4'), FigureColor.BLACK, FigureSet.RUNNER);
+		board.setFigure(BitBoard.getFieldIndex('E', '8'), FigureColor.BLACK, FigureSet.KING);
+
+		Assertions.assertFalse(board.onLegalMove(board.createMove(d2, BitBoard.getFieldIndex('D', '5'), null)));
+		Assertions.assertTrue(board.onLegalMove(board.createMove(BitBoard.getFieldIndex('E', '1'), BitBoard.getFieldIndex('F', '1'), null)));
+		Assertions.assertEquals(0, board.getHistorySize());
+	}
+
+	/**
+	 * Test method for {@link location.BitBoard#getKey()}.
+	 *
+	 * expected result: the incremental key is equal to the computed key after
+	 * each move, the same position by another move order has the same key and
+	 * a repetition has been detected
+	 */
+	@Test
+	public void test_05_ZobristKey() {
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+		final long startKey = board.getKey();
+		Assertions.assertEquals(board.computeKey(), startKey);
+
+		final String[] knightMoves = {
+				"G1F3", "G8F6", "F3G1", "F6G8"
+		};
+		for (final String move : knightMoves) {
+			board.makeMove(board.createMove(BitBoard.getFieldIndex(move.charAt(0), move.charAt(1)), BitBoard.getFieldIndex(move.charAt(2), move.charAt(3)), null));
+			Assertions.assertEquals(board.computeKey(), board.getKey());
+		}
+
+		Assertions.assertEquals(startKey, board.getKey());
+		Assertions.assertTrue(board.onRepetition());
+
+		/* "E2E4" creates an "en passant" field, thus the key differs from "E2E3" + "E3E4" */
+		board.setPosition(BitBoard.START_POSITION);
+		board.makeMove(board.createMove(BitBoard.getFieldIndex('E', '2'), BitBoard.getFieldIndex('E', '4'), null));
+		final long twoFieldsKey = board.getKey();
+		board.unmakeMove();
+		Assertions.assertEquals(startKey, board.getKey());
+
+		board.makeMove(board.createMove(BitBoard.getFieldIndex('E', '2'), BitBoard.getFieldIndex('E', '3'), null));
+		Assertions.assertNotEquals(twoFieldsKey, board.getKey());
+	}
+
+	/**
+	 * Test method for {@link location.BitBoard#getPinned(FigureColor)},
+	 * {@link location.BitBoard#getCheckers(FigureColor)} and
+	 * {@link location.BitBoard#onLegalMove(int)}.
+	 *
+	 * expected result: a pinned figure may only move along the line to it's King
+	 * and a threat has to be blocked or beaten
+	 */
+	@Test
+	public void test_06_PinnedAndCheckers() {
+		final BitBoard board = new BitBoard();
+
+		/* the Rook on "D2", the Knight on "E2" and the Runner on "F2" are pinned */
+		board.setPosition("4r3/8/8/b7/7b/8/3RNB2/4K3 w - - 0 1");
+		final int e1 = BitBoard.getFieldIndex('E', '1');
+		final int d2 = BitBoard.getFieldIndex('D', '2');
+		final int e2 = BitBoard.getFieldIndex('E', '2');
+		final int f2 = BitBoard.getFieldIndex('F', '2');
+
+		Assertions.assertEquals(0L, board.getCheckers(FigureColor.WHITE));
+		Assertions.assertEquals(BitBoard.getFieldMask(d2) | BitBoard.getFieldMask(e2) | BitBoard.getFieldMask(f2), board.getPinned(FigureColor.WHITE));
+		Assertions.assertFalse(board.onLegalMove(board.createMove(d2, BitBoard.getFieldIndex('D', '3'), null)));
+		Assertions.assertFalse(board.onLegalMove(board.createMove(e2, BitBoard.getFieldIndex('C', '3'), null)));
+		Assertions.assertFalse(board.onLegalMove(board.createMove(f2, BitBoard.getFieldIndex('E', '3'), null)));
+		Assertions.assertTrue(board.onLegalMove(board.createMove(f2, BitBoard.getFieldIndex('G', '3'), null)));
+		Assertions.assertTrue(board.onLegalMove(board.createMove(f2, BitBoard.getFieldIndex('H', '4'), null)));
+
+		/* the King may not step back along the ray of the Queen */
+		board.setPosition("4k3/8/8/8/8/8/8/q3K3 w - - 0 1");
+		Assertions.assertEquals(BitBoard.getFieldMask(0), board.getCheckers(FigureColor.WHITE));
+		Assertions.assertFalse(board.onLegalMove(board.createMove(e1, BitBoard.getFieldIndex('F', '1'), null)));
+		Assertions.assertTrue(board.onLegalMove(board.createMove(e1, BitBoard.getFieldIndex('E', '2'), null)));
+	}
+
+	/**
+	 * Test method for {@link location.BitBoard#recordMove(int, FigureSet, long)}.
+	 *
+	 * expected result: a move, whose figures have been set one by one like by the
+	 * matrix, leads to the same key, castling rights, "en passant" field, half
+	 * move clock and side to move like the made move, and it's taken back the
+	 * same way
+	 */
+	@Test
+	public void test_07_RecordMove() {
+		final String position = "r3k2r/8/8/8/3p4/8/4P3/R3K2R w KQkq - 0 1";
+		final BitBoard made = new BitBoard();
+		final BitBoard recorded = new BitBoard();
+		made.setPosition(position);
+		recorded.setPosition(position);
+		final long startKey = recorded.getKey();
+
+		final String[] moves = {
+				"E2E4", "D4E3", "E1G1", "A8A1"
+		};
+		for (final String word : moves) {
+			final int move = made.createMove(BitBoard.getFieldIndex(word.charAt(0), word.charAt(1)), BitBoard.getFieldIndex(word.charAt(2), word.charAt(3)), null);
+			final int from = BitBoard.getFieldIndex(word.charAt(0), word.charAt(1));
+			final int to = BitBoard.getFieldIndex(word.charAt(2), word.charAt(3));
+			final FigureColor color = recorded.getColorOn(from);
+			final FigureSet type = recorded.getTypeOn(from);
+
+			/* the figures are set one by one, where "en passant" beats the Pawn behind the destination */
+			final int capturedField = ((type == FigureSet.PAWN) && ((from & 7) != (to & 7)) && !recorded.onReserved(to)) ? (to ^ 8) : to;
+			final FigureSet captured = recorded.getTypeOn(capturedField);
+			final long previousKey = recorded.getKey();
+			recorded.clearField(capturedField);
+			recorded.clearField(from);
+			recorded.setFigure(to, color, type);
+			if ((type == FigureSet.KING) && (Math.abs(to - from) == 2)) {
+				recorded.clearField(to + 1);
+				recorded.setFigure(to - 1, color, FigureSet.ROOK);
+			}
+			recorded.recordMove(move, captured, previousKey);
+			made.makeMove(move);
+
+			Assertions.assertEquals(made.getKey(), recorded.getKey(), word);
+			Assertions.assertEquals(recorded.computeKey(), recorded.getKey(), word);
+			Assertions.assertEquals(made.getCastlingRights(), recorded.getCastlingRights(), word);
+			Assertions.assertEquals(made.getEnPassantField(), recorded.getEnPassantField(), word);
+			Assertions.assertEquals(made.getHalfMoveClock(), recorded.getHalfMoveClock(), word);
+			Assertions.assertEquals(made.getSideToMove(), recorded.getSideToMove(), word);
+		}
+
+		Assertions.assertEquals(BitBoard.BLACK_KING_SIDE, recorded.getCastlingRights()); // the Rook on "A8" has captured the Rook on "A1"
+		Assertions.assertEquals(moves.length, recorded.getHistorySize());
+
+		for (int i = 0; i < moves.length; i++) {
+			recorded.unmakeMove();
+		}
+		Assertions.assertEquals(startKey, recorded.getKey());
+		Assertions.assertEquals(position, recorded.getPosition());
+	}
+}
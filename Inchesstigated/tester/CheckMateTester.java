@@ -0,0 +1,103 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import figure.properties.FigureColor;
+import gui.FigureProcedure;
+import gui.FigureProcedure.MoveState;
+import gui.MoveHistory;
+import gui.MoveHistory.MoveType;
+import interfaces.GameListener;
+import location.Matrix;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the decision of a mate, where each move is made by
+ *         {@link FigureProcedure} without any window. All figures are
+ *         singletons, thus a single game is played from the start position.
+ */
+public class CheckMateTester {
+	/**
+	 * Move a figure and compare the type of the finished move.
+	 *
+	 * @param histories
+	 *            the finished moves so far
+	 * @param expected
+	 *            the expected type of the move
+	 * @param command
+	 *            the figure ID, the color and the move, like "PAWN WHITE E2 E4"
+	 */
+	private static void move(final List<MoveHistory> histories, final MoveType expected, final String command) {
+		final String[] words = command.split(" ");
+		final int size = histories.size();
+		FigureProcedure.INSTANCE.moveFigure(words[0], words[1], words[2], words[3]);
+
+		Assertions.assertEquals(MoveState.VALID, FigureProcedure.INSTANCE.getCurrentMoveState(), command);
+		Assertions.assertEquals(size + 1, histories.size(), command);
+		Assertions.assertEquals(expected, histories.get(size).moveType, command);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gui.FigureProcedure#moveFigure(String, String, String, String)}.
+	 *
+	 * expected result: a threat, which can be blocked, is no mate, even if the
+	 * King has no escape field, while a threat without any legal move of the
+	 * threatened side is the end of the game
+	 */
+	@Test
+	public void test_00_CheckMate() {
+		final List<MoveHistory> histories = new ArrayList<>();
+		FigureProcedure.INSTANCE.setGameListener(new GameListener() {
+			@Override
+			public void onMoveFinished(final MoveHistory history) {
+				histories.add(history);
+			}
+		});
+
+		try {
+			FigureProcedure.INSTANCE.initializeFiguresOnField();
+
+			CheckMateTester.move(histories, MoveType.NORMAL_MOVE, "PAWN WHITE E2 E4");
+			CheckMateTester.move(histories, MoveType.NORMAL_MOVE, "PAWN BLACK F7 F5");
+
+			/* the black King has no escape field, but the Pawn on "G7" blocks the Queen */
+			CheckMateTester.move(histories, MoveType.NORMAL_MOVE_AND_THREAT, "QUEEN WHITE D1 H5");
+			CheckMateTester.move(histories, MoveType.NORMAL_MOVE, "PAWN BLACK G7 G6");
+
+			/* the Pawn on "H7" captures the Queen */
+			CheckMateTester.move(histories, MoveType.NORMAL_BEATEN_MOVE_AND_THREAT, "QUEEN WHITE H5 G6");
+			CheckMateTester.move(histories, MoveType.NORMAL_BEATEN_MOVE, "PAWN BLACK H7 G6");
+			CheckMateTester.move(histories, MoveType.NORMAL_MOVE, "RUNNER WHITE F1 E2");
+			CheckMateTester.move(histories, MoveType.NORMAL_MOVE, "PAWN BLACK A7 A6");
+			CheckMateTester.move(histories, MoveType.NORMAL_MOVE, "RUNNER WHITE E2 H5");
+			CheckMateTester.move(histories, MoveType.NORMAL_MOVE, "PAWN BLACK A6 A5");
+
+			/* nothing blocks or captures the Runner on "G6" */
+			CheckMateTester.move(histories, MoveType.GAME_OVER_BEATEN_MOVE, "RUNNER WHITE H5 G6");
+
+			/* the mate is decided on the bit board of the matrix, where black has to move */
+			Assertions.assertEquals(FigureColor.BLACK, Matrix.INSTANCE.getBitBoard().getSideToMove());
+			Assertions.assertTrue(Matrix.INSTANCE.getBitBoard().onCheck(FigureColor.BLACK));
+		} finally {
+			FigureProcedure.INSTANCE.setGameListener(new GameListener() {
+			});
+		}
+	}
+}
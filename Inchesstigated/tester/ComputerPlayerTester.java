@@ -0,0 +1,100 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import figure.properties.FigureColor;
+import gui.ComputerPlayer;
+import gui.FigureProcedure;
+import gui.FigureProcedure.MoveState;
+import interfaces.GameListener;
+import location.BitBoard;
+import location.Matrix;
+import location.Move;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the computer opponent, which plays a game of the
+ *         window. All figures are singletons, thus a single game is played
+ *         from the start position.
+ */
+public class ComputerPlayerTester {
+	/**
+	 * Move a figure, where the move has to be valid.
+	 *
+	 * @param command
+	 *            the figure ID, the color and the move, like "PAWN WHITE E2 E4"
+	 */
+	private static void move(final String command) {
+		final String[] words = command.split(" ");
+		FigureProcedure.INSTANCE.moveFigure(words[0], words[1], words[2], words[3]);
+
+		Assertions.assertEquals(MoveState.VALID, FigureProcedure.INSTANCE.getCurrentMoveState(), command);
+	}
+
+	/**
+	 * Test method for {@link gui.ComputerPlayer#createPosition()} and
+	 * {@link gui.ComputerPlayer#makeMove(int)}.
+	 *
+	 * expected result: the position to search follows the whole game, where a
+	 * Pawn, which has captured after it's double step, allows no "en passant",
+	 * the half move clock is kept and a repetition is known; a move, which is
+	 * rejected by the matrix, is reported
+	 */
+	@Test
+	public void test_00_CreatePosition() {
+		FigureProcedure.INSTANCE.setGameListener(new GameListener() {
+		});
+		FigureProcedure.INSTANCE.initializeFiguresOnField();
+		final ComputerPlayer computer = new ComputerPlayer(FigureColor.WHITE, 100L);
+
+		ComputerPlayerTester.move("PAWN WHITE E2 E4");
+		ComputerPlayerTester.move("PAWN BLACK D7 D5");
+		Assertions.assertEquals(BitBoard.getFieldIndex('D', '6'), computer.createPosition().getEnPassantField());
+
+		ComputerPlayerTester.move("KNIGHT WHITE G1 F3");
+		ComputerPlayerTester.move("PAWN BLACK D5 E4");
+		ComputerPlayerTester.move("PAWN WHITE D2 D3");
+		ComputerPlayerTester.move("PAWN BLACK E4 F3");
+
+		/* the black Pawn on "F3" has made a double step before, but it's last move was a capture */
+		BitBoard position = computer.createPosition();
+		Assertions.assertEquals(BitBoard.NO_FIELD, position.getEnPassantField());
+		Assertions.assertEquals(FigureColor.WHITE, position.getSideToMove());
+		Assertions.assertEquals(BitBoard.ALL_CASTLING_RIGHTS, position.getCastlingRights());
+		Assertions.assertEquals(6, position.getHistorySize());
+		Assertions.assertFalse(position.onRepetition());
+
+		/* both Knights return to their start fields */
+		ComputerPlayerTester.move("KNIGHT WHITE B1 C3");
+		ComputerPlayerTester.move("KNIGHT BLACK B8 C6");
+		ComputerPlayerTester.move("KNIGHT WHITE C3 B1");
+		ComputerPlayerTester.move("KNIGHT BLACK C6 B8");
+
+		position = computer.createPosition();
+		Assertions.assertEquals(4, position.getHalfMoveClock());
+		Assertions.assertTrue(position.onRepetition());
+
+		/* the Pawn on "D3" blocks the Queen, thus the move is rejected */
+		Assertions.assertFalse(computer.makeMove(Move.create(BitBoard.getFieldIndex('D', '1'), BitBoard.getFieldIndex('D', '5'))));
+		Assertions.assertEquals(position.getKey(), Matrix.INSTANCE.getPositionKey());
+
+		/* the move of the computer is made by the figures of the matrix */
+		Assertions.assertTrue(computer.onTurn());
+		computer.play();
+		Assertions.assertEquals(FigureColor.BLACK, computer.createPosition().getSideToMove());
+		Assertions.assertFalse(computer.onTurn());
+	}
+}
@@ -0,0 +1,126 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import figure.FigurePawn;
+import figure.properties.FigureColor;
+import figure.properties.FigureHolder;
+import figure.properties.FigureSet;
+import figure.properties.Modifier;
+import location.Coordinates;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the holder of all figures, which stores the
+ *         figures in arrays by color and type.
+ */
+public class FigureHolderTester {
+	/** more Pawns than the initial capacity of a single color and type */
+	private static final String[] FIELDS = {
+			"A2", "B2", "C2", "D2", "E2", "F2", "G2", "H2", "A3", "B3", "C3", "D3"
+	};
+
+	/** all Pawns, which have been added by a test */
+	private final List<FigurePawn> pawns = new ArrayList<>();
+
+	/**
+	 * Remove all added Pawns, because the holder is shared by all tests.
+	 */
+	@AfterEach
+	public void tearDown() {
+		for (final FigurePawn pawn : this.pawns) {
+			FigureHolder.INSTANCE.updateFigureList(Modifier.REMOVE, pawn);
+		}
+		this.pawns.clear();
+	}
+
+	/**
+	 * Add a white Pawn for each of the given fields.
+	 */
+	private void addPawns() {
+		for (final String field : FigureHolderTester.FIELDS) {
+			final FigurePawn pawn = new FigurePawn(FigureColor.WHITE, new Coordinates(field));
+			this.pawns.add(pawn);
+			FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, pawn);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link figure.properties.FigureHolder#getFigure(FigureSet, FigureColor, int)}.
+	 *
+	 * expected result: all Pawns are stored in the order of their addition, even
+	 * if the initial capacity has been exceeded
+	 */
+	@Test
+	public void test_00_AddFigures() {
+		final int before = FigureHolder.INSTANCE.getNumberOfFigures(FigureSet.PAWN, FigureColor.WHITE);
+		this.addPawns();
+
+		Assertions.assertEquals(before + FigureHolderTester.FIELDS.length, FigureHolder.INSTANCE.getNumberOfFigures(FigureSet.PAWN, FigureColor.WHITE));
+		for (int i = 0; i < this.pawns.size(); i++) {
+			Assertions.assertSame(this.pawns.get(i), FigureHolder.INSTANCE.getFigure(FigureSet.PAWN, FigureColor.WHITE, before + i));
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link figure.properties.FigureHolder#updateFigureList(Modifier, figure.BaseFigure)}.
+	 *
+	 * expected result: a removed Pawn vanishes, while all other Pawns keep their
+	 * order
+	 */
+	@Test
+	public void test_01_RemoveFigure() {
+		final int before = FigureHolder.INSTANCE.getNumberOfFigures(FigureSet.PAWN, FigureColor.WHITE);
+		this.addPawns();
+
+		final FigurePawn removed = this.pawns.remove(3);
+		FigureHolder.INSTANCE.updateFigureList(Modifier.REMOVE, removed);
+
+		Assertions.assertEquals(before + this.pawns.size(), FigureHolder.INSTANCE.getNumberOfFigures(FigureSet.PAWN, FigureColor.WHITE));
+		Assertions.assertFalse(FigureHolder.INSTANCE.getListOfAllPawns(FigureColor.WHITE).contains(removed));
+		for (int i = 0; i < this.pawns.size(); i++) {
+			Assertions.assertSame(this.pawns.get(i), FigureHolder.INSTANCE.getFigure(FigureSet.PAWN, FigureColor.WHITE, before + i));
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link figure.properties.FigureHolder#getListOfAllPawns(FigureColor)}.
+	 *
+	 * expected result: the list is an unmodifiable view, which follows any change
+	 * of the holder
+	 */
+	@Test
+	public void test_02_ListView() {
+		final List<FigurePawn> view = FigureHolder.INSTANCE.getListOfAllPawns(FigureColor.WHITE);
+		final int before = view.size();
+		this.addPawns();
+
+		Assertions.assertSame(view, FigureHolder.INSTANCE.getListOfAllPawns(FigureColor.WHITE));
+		Assertions.assertSame(view, FigureHolder.INSTANCE.getListOfAllFiguresBy(FigureSet.PAWN, FigureColor.WHITE));
+		Assertions.assertEquals(before + FigureHolderTester.FIELDS.length, view.size());
+		Assertions.assertTrue(view.containsAll(this.pawns));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> view.add(this.pawns.get(0)));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> view.get(view.size()));
+		Assertions.assertTrue(FigureHolder.INSTANCE.getListOfAllFiguresBy(FigureSet.KING, FigureColor.WHITE).isEmpty());
+	}
+}
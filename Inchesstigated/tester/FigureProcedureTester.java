@@ -0,0 +1,125 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import event.CastlingEvent.CastlingType;
+import event.MoveWatcherEvent;
+import figure.properties.FigureColor;
+import figure.properties.FigureHolder;
+import figure.properties.FigureSet;
+import gui.FigureProcedure;
+import gui.FigureProcedure.MoveState;
+import interfaces.GameListener;
+import location.BitBoard;
+import location.Coordinates;
+import location.Matrix;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the rules of a whole game without any window,
+ *         where each move is made by {@link FigureProcedure}. All figures are
+ *         singletons, thus a single game is played from the start position.
+ */
+public class FigureProcedureTester {
+	/**
+	 * Move a figure and compare the move state.
+	 *
+	 * @param expected
+	 *            the expected move state
+	 * @param command
+	 *            the figure ID, the color and the move, like "PAWN WHITE E2 E4"
+	 */
+	private static void move(final MoveState expected, final String command) {
+		final String[] words = command.split(" ");
+		FigureProcedure.INSTANCE.moveFigure(words[0], words[1], words[2], words[3]);
+
+		Assertions.assertEquals(expected, FigureProcedure.INSTANCE.getCurrentMoveState(), command);
+	}
+
+	/**
+	 * Test method for
+	 * {@link gui.FigureProcedure#moveFigure(String, String, String, String)} and
+	 * {@link gui.FigureProcedure#collectCastlingDecision(CastlingType)}.
+	 *
+	 * expected result: a castling, an "en passant" and a promotion hand the turn
+	 * to the opponent, while the own King is threatened only a move, which
+	 * removes the threat, is valid, and the King is no longer threatened
+	 * afterwards; the bit board of the matrix follows the whole game
+	 */
+	@Test
+	public void test_00_PlayGame() {
+		FigureProcedure.INSTANCE.setGameListener(new GameListener() {
+		});
+		FigureProcedure.INSTANCE.initializeFiguresOnField();
+
+		FigureProcedureTester.move(MoveState.VALID, "PAWN WHITE E2 E4");
+		FigureProcedureTester.move(MoveState.VALID, "PAWN BLACK E7 E5");
+		FigureProcedureTester.move(MoveState.VALID, "KNIGHT WHITE G1 F3");
+		FigureProcedureTester.move(MoveState.VALID, "KNIGHT BLACK B8 C6");
+		FigureProcedureTester.move(MoveState.VALID, "RUNNER WHITE F1 C4");
+		FigureProcedureTester.move(MoveState.VALID, "RUNNER BLACK F8 C5");
+
+		/* the castling is the move of white, thus black is on turn */
+		FigureProcedure.INSTANCE.collectCastlingDecision(CastlingType.SMALL_CASTLING);
+		Assertions.assertEquals(FigureSet.KING, Matrix.INSTANCE.getFigureOnField(Coordinates.valueOf("G1")).getFigureType());
+		Assertions.assertEquals(FigureColor.WHITE, MoveWatcherEvent.getLastFigureColor());
+
+		/* the black Runner captures on "F2" and threatens the white King */
+		FigureProcedureTester.move(MoveState.VALID, "RUNNER BLACK C5 F2");
+		Assertions.assertEquals(FigureColor.BLACK, MoveWatcherEvent.getLastFigureColor());
+		Assertions.assertTrue(FigureHolder.INSTANCE.getKing(FigureColor.WHITE).onThreatened());
+
+		/* a move, which doesn't remove the threat, is invalid */
+		FigureProcedureTester.move(MoveState.INVALID, "PAWN WHITE D2 D3");
+		FigureProcedureTester.move(MoveState.INVALID, "KNIGHT WHITE F3 G5");
+
+		/* the Rook captures the threatening Runner */
+		FigureProcedureTester.move(MoveState.VALID, "ROOK WHITE F1 F2");
+		Assertions.assertEquals(FigureSet.ROOK, Matrix.INSTANCE.getFigureOnField(Coordinates.valueOf("F2")).getFigureType());
+		Assertions.assertFalse(FigureHolder.INSTANCE.getKing(FigureColor.WHITE).onThreatened());
+
+		FigureProcedureTester.move(MoveState.VALID, "PAWN BLACK H7 H6");
+		FigureProcedureTester.move(MoveState.VALID, "PAWN WHITE A2 A4");
+		FigureProcedureTester.move(MoveState.VALID, "PAWN BLACK H6 H5");
+		FigureProcedureTester.move(MoveState.VALID, "PAWN WHITE A4 A5");
+
+		/* the double step of the black Pawn allows an "en passant" on "B6" for the next move only */
+		FigureProcedureTester.move(MoveState.VALID, "PAWN BLACK B7 B5");
+		Assertions.assertEquals(Coordinates.valueOf("B6").getIndex(), Matrix.INSTANCE.getBitBoard().getEnPassantField());
+		Assertions.assertEquals(FigureColor.WHITE, Matrix.INSTANCE.getBitBoard().getSideToMove());
+		FigureProcedureTester.move(MoveState.VALID, "PAWN WHITE A5 B6");
+		Assertions.assertNull(Matrix.INSTANCE.getFigureOnField(Coordinates.valueOf("B5")));
+		Assertions.assertEquals(FigureColor.WHITE, MoveWatcherEvent.getLastFigureColor());
+		Assertions.assertEquals(BitBoard.NO_FIELD, Matrix.INSTANCE.getBitBoard().getEnPassantField());
+
+		FigureProcedureTester.move(MoveState.VALID, "PAWN BLACK H5 H4");
+		FigureProcedureTester.move(MoveState.VALID, "PAWN WHITE B6 B7");
+		FigureProcedureTester.move(MoveState.VALID, "PAWN BLACK G7 G6");
+
+		/* the Pawn reaches the last field "B8", it's promotion is the move of white */
+		FigureProcedureTester.move(MoveState.VALID, "PAWN WHITE B7 B8");
+		Assertions.assertEquals(FigureSet.QUEEN, Matrix.INSTANCE.getFigureOnField(Coordinates.valueOf("B8")).getFigureType());
+		Assertions.assertEquals(FigureColor.WHITE, MoveWatcherEvent.getLastFigureColor());
+
+		FigureProcedureTester.move(MoveState.VALID, "PAWN BLACK G6 G5");
+		FigureProcedureTester.move(MoveState.VALID, "QUEEN WHITE B8 B7");
+
+		/* the bit board of the matrix knows the side to move, the castling rights and the clock */
+		final BitBoard board = Matrix.INSTANCE.getBitBoard();
+		Assertions.assertEquals("r1bqk1nr/pQpp1p2/2n5/4p1p1/2B1P2p/5N2/1PPP1RPP/RNBQ2K1 b kq - 1 1", board.getPosition());
+		Assertions.assertEquals(board.computeKey(), Matrix.INSTANCE.getPositionKey());
+	}
+}
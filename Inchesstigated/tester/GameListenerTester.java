@@ -0,0 +1,97 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import figure.properties.FigureSet;
+import gui.FigureProcedure;
+import gui.FigureProcedure.MoveState;
+import gui.MoveHistory;
+import gui.MoveHistory.MoveType;
+import interfaces.GameListener;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the rules without any window, where each result of
+ *         a move is received by a {@link GameListener}.
+ */
+public class GameListenerTester {
+	/**
+	 * Test method for
+	 * {@link gui.FigureProcedure#moveFigure(String, String, String, String)}.
+	 *
+	 * expected result: each valid move is notified as moved figure and as move
+	 * history, an invalid move is notified as well, also a move from a start
+	 * field without an own figure of the given type
+	 */
+	@Test
+	public void test_00_HeadlessMoves() {
+		final List<String> movedFigures = new ArrayList<>();
+		final List<MoveHistory> histories = new ArrayList<>();
+		final int[] invalidMoves = new int[1];
+
+		FigureProcedure.INSTANCE.setGameListener(new GameListener() {
+			@Override
+			public void onFigureMoved(final String figureID, final String figureColorAsWord, final String startCoordAsWord, final String destinationCoordAsWord) {
+				movedFigures.add(figureID + "_" + figureColorAsWord + "_" + startCoordAsWord + destinationCoordAsWord);
+			}
+
+			@Override
+			public void onMoveFinished(final MoveHistory history) {
+				histories.add(history);
+			}
+
+			@Override
+			public void onInvalidMove() {
+				invalidMoves[0]++;
+			}
+		});
+
+		try {
+			FigureProcedure.INSTANCE.initializeFiguresOnField();
+
+			FigureProcedure.INSTANCE.moveFigure("PAWN", "WHITE", "E2", "E4");
+			Assertions.assertEquals(MoveState.VALID, FigureProcedure.INSTANCE.getCurrentMoveState());
+			FigureProcedure.INSTANCE.moveFigure("KNIGHT", "BLACK", "G8", "F6");
+			Assertions.assertEquals(MoveState.VALID, FigureProcedure.INSTANCE.getCurrentMoveState());
+
+			/* the Pawn on "D2" blocks the Queen */
+			FigureProcedure.INSTANCE.moveFigure("QUEEN", "WHITE", "D1", "D5");
+			Assertions.assertEquals(MoveState.INVALID, FigureProcedure.INSTANCE.getCurrentMoveState());
+
+			/* the start field must hold an own figure of the given type */
+			FigureProcedure.INSTANCE.moveFigure("QUEEN", "WHITE", "D2", "D3");
+			Assertions.assertEquals(MoveState.INVALID, FigureProcedure.INSTANCE.getCurrentMoveState());
+			FigureProcedure.INSTANCE.moveFigure("PAWN", "WHITE", "E3", "E5");
+			Assertions.assertEquals(MoveState.INVALID, FigureProcedure.INSTANCE.getCurrentMoveState());
+			FigureProcedure.INSTANCE.moveFigure("PAWN", "WHITE", "D7", "D6");
+			Assertions.assertEquals(MoveState.INVALID, FigureProcedure.INSTANCE.getCurrentMoveState());
+
+			Assertions.assertEquals(2, movedFigures.size());
+			Assertions.assertEquals("PAWN_WHITE_E2E4", movedFigures.get(0));
+			Assertions.assertEquals("KNIGHT_BLACK_G8F6", movedFigures.get(1));
+			Assertions.assertEquals(2, histories.size());
+			Assertions.assertEquals(FigureSet.KNIGHT, histories.get(1).usedFigure);
+			Assertions.assertEquals(MoveType.NORMAL_MOVE, histories.get(1).moveType);
+			Assertions.assertEquals(4, invalidMoves[0]);
+		} finally {
+			FigureProcedure.INSTANCE.setGameListener(new GameListener() {
+			});
+		}
+	}
+}
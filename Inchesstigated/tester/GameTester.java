@@ -0,0 +1,153 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.Perft;
+import figure.properties.FigureColor;
+import game.Game;
+import location.AttackMap;
+import location.BitBoard;
+import location.Matrix;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for a single game, where no state is shared with any
+ *         other game.
+ */
+public class GameTester {
+	/**
+	 * Test method for {@link game.Game#makeMove(int)}.
+	 *
+	 * expected result: a move of one game doesn't change any other game
+	 */
+	@Test
+	public void test_00_IndependentGames() {
+		final Game first = new Game();
+		final Game second = new Game();
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+		first.generateLegalMoves(moves);
+		first.makeMove(moves[0]);
+
+		Assertions.assertEquals(FigureColor.BLACK, first.getSideToMove());
+		Assertions.assertEquals(FigureColor.WHITE, second.getSideToMove());
+		Assertions.assertEquals(BitBoard.START_POSITION, second.getBitBoard().getPosition());
+		Assertions.assertNotSame(first.getAttackMap(), second.getAttackMap());
+
+		final Game copy = new Game(first);
+		copy.unmakeMove();
+		Assertions.assertEquals(FigureColor.BLACK, first.getSideToMove());
+		Assertions.assertEquals(BitBoard.START_POSITION, copy.getBitBoard().getPosition());
+	}
+
+	/**
+	 * Test method for {@link game.Game#unmakeMove()}.
+	 *
+	 * expected result: the attack map follows each made and each taken back move,
+	 * and the start position is restored after all moves have been taken back
+	 */
+	@Test
+	public void test_01_MakeAndUnmake() {
+		final Random random = new Random(2019L);
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final Game game = new Game();
+		final long key = game.getBitBoard().getKey();
+
+		int ply = 0;
+		for (; ply < 120; ply++) {
+			final int count = game.generateLegalMoves(moves);
+			if (count == 0) {
+				break;
+			}
+
+			game.makeMove(moves[random.nextInt(count)]);
+			GameTester.assertAttackMap(game);
+		}
+
+		for (; ply > 0; ply--) {
+			game.unmakeMove();
+			GameTester.assertAttackMap(game);
+		}
+
+		Assertions.assertEquals(BitBoard.START_POSITION, game.getBitBoard().getPosition());
+		Assertions.assertEquals(key, game.getBitBoard().getKey());
+	}
+
+	/**
+	 * Test method for {@link game.Game#Game(Game)}.
+	 *
+	 * expected result: many copies of a game count the same nodes at the same
+	 * time
+	 */
+	@Test
+	public void test_02_ParallelGames() throws Exception {
+		final Game game = new Game();
+		final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+		try {
+			final List<Future<Long>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				final Game copy = new Game(game);
+				results.add(pool.submit(() -> Perft.countNodes(copy.getBitBoard(), 3)));
+			}
+
+			for (final Future<Long> result : results) {
+				Assertions.assertEquals(8902L, result.get().longValue());
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Test method for {@link game.Game#getDefault()}.
+	 *
+	 * expected result: the default game uses the bit board and the attack map of
+	 * the matrix, but no other game does
+	 */
+	@Test
+	public void test_03_DefaultGame() {
+		Assertions.assertSame(Matrix.INSTANCE.getBitBoard(), Game.getDefault().getBitBoard());
+		Assertions.assertSame(Matrix.INSTANCE.getAttackMap(), Game.getDefault().getAttackMap());
+		Assertions.assertNotSame(Matrix.INSTANCE.getBitBoard(), new Game().getBitBoard());
+	}
+
+	/**
+	 * Compare the attack map of the given game with a map, which has been created
+	 * from scratch.
+	 *
+	 * @param game
+	 *            the game to test
+	 */
+	private static void assertAttackMap(final Game game) {
+		final AttackMap expected = new AttackMap(game.getBitBoard());
+
+		for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+			Assertions.assertEquals(expected.getAttacks(field), game.getAttackMap().getAttacks(field));
+			for (final FigureColor color : BitBoard.COLORS) {
+				Assertions.assertEquals(expected.getAttackCount(field, color), game.getAttackMap().getAttackCount(field, color));
+			}
+		}
+	}
+}
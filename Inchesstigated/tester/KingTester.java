@@ -162,12 +162,21 @@ public class KingTester {
 	/**
 	 * Test method for {@link figure.FigureKing#onHitOpponent(figure.BaseFigure)}.
 	 * 
-	 * Test, if a King is able to hit any opponent figure.
+	 * Test, if a King is able to hit any opponent figure, which is not covered by
+	 * another opponent figure. The black Rook on E2 is covered by the black Rook on
+	 * H2, thus an own black Rook is set on A3 for this test only.
 	 */
 	@Test
 	public void test_03_OnHitOpponent() {
-		final boolean hitCondition = this.kingWhite.onHitOpponent(this.rookBlack);
+		final FigureRook rookUncovered = new FigureRook(new Coordinates("A3"), FigureColor.BLACK, TowerIdentification.IMPOSSIBLE_TO_CASTLE);
+		FigureHolder.INSTANCE.updateFigureList(Modifier.ADD, rookUncovered);
+		Matrix.INSTANCE.setNewFigureLocation(rookUncovered, rookUncovered.getLocation(), true);
+
+		final boolean hitCondition = this.kingWhite.onHitOpponent(rookUncovered);
 		Assertions.assertTrue(hitCondition);
+
+		Matrix.INSTANCE.removeFigureFromMatrix(rookUncovered);
+		FigureHolder.INSTANCE.updateFigureList(Modifier.REMOVE, rookUncovered);
 	}
 
 	/**
@@ -0,0 +1,107 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import location.BitBoard;
+import location.MagicTable;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the magic bit boards of each sliding figure.
+ */
+public class MagicTableTester {
+	/** ray steps {X,Y} of a Rook */
+	private static final int[][] ROOK_STEPS = {
+			{ 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 }
+	};
+
+	/** ray steps {X,Y} of a Runner */
+	private static final int[][] RUNNER_STEPS = {
+			{ 1, 1 }, { -1, 1 }, { -1, -1 }, { 1, -1 }
+	};
+
+	/**
+	 * Walk along each ray until the border or the first reserved field.
+	 *
+	 * @param field
+	 *            the field index of the sliding figure
+	 * @param occupancy
+	 *            all reserved fields
+	 * @param steps
+	 *            the ray steps
+	 *
+	 * @return the expected attack mask
+	 */
+	private long walkRays(final int field, final long occupancy, final int[][] steps) {
+		long attacks = 0L;
+
+		for (final int[] step : steps) {
+			int posX = (field & 7) + step[0];
+			int posY = (field >>> 3) + step[1];
+
+			while ((posX >= 0) && (posX < 8) && (posY >= 0) && (posY < 8)) {
+				final long mask = BitBoard.getFieldMask((posY << 3) | posX);
+				attacks |= mask;
+				if ((occupancy & mask) != 0L) {
+					break;
+				}
+
+				posX += step[0];
+				posY += step[1];
+			}
+		}
+
+		return attacks;
+	}
+
+	/**
+	 * Test method for {@link location.MagicTable#getRookAttacks(int, long)}.
+	 *
+	 * expected result: a Rook covers 14 fields on an empty chess field
+	 */
+	@Test
+	public void test_00_EmptyField() {
+		for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+			Assertions.assertEquals(14, Long.bitCount(MagicTable.getRookAttacks(field, 0L)));
+		}
+
+		Assertions.assertEquals(7, Long.bitCount(MagicTable.getRunnerAttacks(BitBoard.getFieldIndex('A', '1'), 0L)));
+		Assertions.assertEquals(27, Long.bitCount(MagicTable.getQueenAttacks(BitBoard.getFieldIndex('D', '4'), 0L)));
+	}
+
+	/**
+	 * Test method for {@link location.MagicTable#getRookAttacks(int, long)} and
+	 * {@link location.MagicTable#getRunnerAttacks(int, long)}.
+	 *
+	 * expected result: each lookup is equal to a walk along each ray for random
+	 * occupancies
+	 */
+	@Test
+	public void test_01_RandomOccupancy() {
+		final Random random = new Random(2019);
+
+		for (int i = 0; i < 1000; i++) {
+			final long occupancy = random.nextLong() & random.nextLong();
+
+			for (int field = 0; field < BitBoard.NBR_OF_FIELDS; field++) {
+				Assertions.assertEquals(this.walkRays(field, occupancy, MagicTableTester.ROOK_STEPS), MagicTable.getRookAttacks(field, occupancy));
+				Assertions.assertEquals(this.walkRays(field, occupancy, MagicTableTester.RUNNER_STEPS), MagicTable.getRunnerAttacks(field, occupancy));
+			}
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.MateSolver;
+import location.BitBoard;
+import location.Move;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the solver of mate puzzles.
+ */
+public class MateSolverTester {
+	/** the pool of each test */
+	private final ForkJoinPool pool = new ForkJoinPool(2);
+
+	/**
+	 * Stop all threads of the pool.
+	 */
+	@AfterEach
+	public void shutdown() {
+		this.pool.shutdown();
+	}
+
+	/**
+	 * Test method for {@link engine.MateSolver#solve(BitBoard, int)}.
+	 *
+	 * expected result: the mate by the Rook on the last row is found
+	 */
+	@Test
+	public void test_00_MateInOne() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1");
+
+		Assertions.assertEquals("A1A8", Move.toString(new MateSolver(this.pool).solve(board, 1)));
+	}
+
+	/**
+	 * Test method for {@link engine.MateSolver#solve(BitBoard, int)}.
+	 *
+	 * expected result: the sacrifice of the Knight forces a mate in two moves, but
+	 * there is no mate in one move
+	 */
+	@Test
+	public void test_01_MateInTwo() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("r2qkb1r/pp2nppp/3p4/2pNN1B1/2BnP3/3P4/PPP2PPP/R2bK2R w KQkq - 1 1");
+		final String position = board.getPosition();
+
+		Assertions.assertFalse(MateSolver.onForcedMate(board, 1));
+		Assertions.assertTrue(MateSolver.onForcedMate(board, 2));
+		Assertions.assertEquals("D5F6", Move.toString(new MateSolver(this.pool).solve(board, 2)));
+		Assertions.assertEquals(position, board.getPosition());
+	}
+
+	/**
+	 * Test method for {@link engine.MateSolver#solve(BitBoard, int)}.
+	 *
+	 * expected result: the shortest mate is found, there is no mate in the start
+	 * position
+	 */
+	@Test
+	public void test_02_ShortestMateAndRefutation() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("7k/5Q2/6K1/8/8/8/8/8 w - - 0 1");
+		Assertions.assertEquals("F7G7", Move.toString(new MateSolver(this.pool).solve(board, 3)));
+
+		board.setPosition(BitBoard.START_POSITION);
+		Assertions.assertEquals(Move.NONE, new MateSolver(this.pool).solve(board, 2));
+	}
+}
@@ -0,0 +1,84 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.MonteCarloSearch;
+import engine.SearchResult;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the Monte Carlo tree search.
+ */
+public class MonteCarloSearchTester {
+	/**
+	 * Test method for {@link engine.MonteCarloSearch#search(long)}.
+	 *
+	 * expected result: the mate by the Rook on the last row is found by two
+	 * threads
+	 */
+	@Test
+	public void test_00_MateInOne() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1");
+
+		final SearchResult result = new MonteCarloSearch(board, 2).search(500L);
+
+		Assertions.assertEquals("A1A8", Move.toString(result.getBestMove()));
+		Assertions.assertTrue(result.getScore() > 0);
+	}
+
+	/**
+	 * Test method for {@link engine.MonteCarloSearch#search(long)}.
+	 *
+	 * expected result: the best move is a legal move, where random games have been
+	 * played and the given board is untouched
+	 */
+	@Test
+	public void test_01_LegalBestMove() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		final String position = board.getPosition();
+
+		final SearchResult result = new MonteCarloSearch(board, 2).search(300L);
+
+		Assertions.assertTrue(result.getNodes() > 0);
+		Assertions.assertEquals(position, board.getPosition());
+
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int count = MoveGenerator.generateLegalMoves(board, moves);
+		boolean found = false;
+		for (int i = 0; i < count; i++) {
+			found |= (moves[i] == result.getBestMove());
+		}
+		Assertions.assertTrue(found);
+	}
+
+	/**
+	 * Test method for {@link engine.MonteCarloSearch#search(long)}.
+	 *
+	 * expected result: there is no move in a mate position
+	 */
+	@Test
+	public void test_02_NoMove() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("R5k1/5ppp/8/8/8/8/5PPP/6K1 b - - 1 1");
+
+		Assertions.assertEquals(Move.NONE, new MonteCarloSearch(board, 2).search(100L).getBestMove());
+	}
+}
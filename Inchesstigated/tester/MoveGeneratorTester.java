@@ -0,0 +1,165 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the generator of all legal moves.
+ */
+public class MoveGeneratorTester {
+	/** the figures of the first rank from 'A' to 'H' */
+	private static final FigureSet[] FIRST_RANK = {
+			FigureSet.ROOK, FigureSet.KNIGHT, FigureSet.RUNNER, FigureSet.QUEEN, FigureSet.KING, FigureSet.RUNNER, FigureSet.KNIGHT, FigureSet.ROOK
+	};
+
+	/**
+	 * Create the default start position.
+	 *
+	 * @return the bit board
+	 */
+	private BitBoard createStartPosition() {
+		final BitBoard board = new BitBoard();
+
+		for (int file = 0; file < 8; file++) {
+			board.setFigure(file, FigureColor.WHITE, MoveGeneratorTester.FIRST_RANK[file]);
+			board.setFigure(8 + file, FigureColor.WHITE, FigureSet.PAWN);
+			board.setFigure(48 + file, FigureColor.BLACK, FigureSet.PAWN);
+			board.setFigure(56 + file, FigureColor.BLACK, MoveGeneratorTester.FIRST_RANK[file]);
+		}
+
+		board.setCastlingRights(BitBoard.ALL_CASTLING_RIGHTS);
+		return board;
+	}
+
+	/**
+	 * Count the leaf nodes up to the given depth.
+	 *
+	 * @param board
+	 *            the position
+	 * @param depth
+	 *            the depth
+	 * @param moves
+	 *            one array for each depth
+	 *
+	 * @return the number of leaf nodes
+	 */
+	private long countNodes(final BitBoard board, final int depth, final int[][] moves) {
+		final int count = MoveGenerator.generateLegalMoves(board, moves[depth]);
+		if (depth == 1) {
+			return count;
+		}
+
+		long nodes = 0L;
+		for (int i = 0; i < count; i++) {
+			board.makeMove(moves[depth][i]);
+			nodes += this.countNodes(board, depth - 1, moves);
+			board.unmakeMove();
+		}
+
+		return nodes;
+	}
+
+	/**
+	 * Test method for
+	 * {@link location.MoveGenerator#generateLegalMoves(BitBoard, int[])}.
+	 *
+	 * expected result: 20 moves on the first half move and the known number of
+	 * 8902 positions after three half moves
+	 */
+	@Test
+	public void test_00_StartPosition() {
+		final BitBoard board = this.createStartPosition();
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+		Assertions.assertEquals(20, MoveGenerator.generateLegalMoves(board, moves));
+		Assertions.assertEquals(8902L, this.countNodes(board, 3, new int[4][MoveGenerator.MAX_MOVES]));
+		Assertions.assertEquals(0, board.getHistorySize());
+	}
+
+	/**
+	 * Test method for
+	 * {@link location.MoveGenerator#generateLegalMoves(BitBoard, int[])}.
+	 *
+	 * expected result: both castling moves are available, but the small castling
+	 * disappears, whenever an opponent's Rook covers the passed field
+	 */
+	@Test
+	public void test_01_Castling() {
+		final BitBoard board = new BitBoard();
+		board.setFigure(BitBoard.getFieldIndex('E', '1'), FigureColor.WHITE, FigureSet.KING);
+		board.setFigure(BitBoard.getFieldIndex('A', '1'), FigureColor.WHITE, FigureSet.ROOK);
+		board.setFigure(BitBoard.getFieldIndex('H', '1'), FigureColor.WHITE, FigureSet.ROOK);
+		board.setFigure(BitBoard.getFieldIndex('A', '8'), FigureColor.BLACK, FigureSet.KING);
+		board.setCastlingRights(BitBoard.WHITE_KING_SIDE | BitBoard.WHITE_QUEEN_SIDE);
+
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		Assertions.assertEquals(2, this.countCastlingMoves(moves, MoveGenerator.generateLegalMoves(board, moves)));
+
+		board.setFigure(BitBoard.getFieldIndex('F', '8'), FigureColor.BLACK, FigureSet.ROOK);
+		Assertions.assertEquals(1, this.countCastlingMoves(moves, MoveGenerator.generateLegalMoves(board, moves)));
+	}
+
+	/**
+	 * Test method for
+	 * {@link location.MoveGenerator#generateLegalCaptures(BitBoard, int[])}.
+	 *
+	 * expected result: a white Pawn is able to hit a black Pawn by "en passant",
+	 * which has moved two fields before
+	 */
+	@Test
+	public void test_02_EnPassant() {
+		final BitBoard board = new BitBoard();
+		board.setFigure(BitBoard.getFieldIndex('E', '1'), FigureColor.WHITE, FigureSet.KING);
+		board.setFigure(BitBoard.getFieldIndex('E', '5'), FigureColor.WHITE, FigureSet.PAWN);
+		board.setFigure(BitBoard.getFieldIndex('D', '7'), FigureColor.BLACK, FigureSet.PAWN);
+		board.setFigure(BitBoard.getFieldIndex('E', '8'), FigureColor.BLACK, FigureSet.KING);
+		board.setSideToMove(FigureColor.BLACK);
+
+		board.makeMove(board.createMove(BitBoard.getFieldIndex('D', '7'), BitBoard.getFieldIndex('D', '5'), null));
+
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		Assertions.assertEquals(1, MoveGenerator.generateLegalCaptures(board, moves));
+		Assertions.assertEquals(Move.FLAG_EN_PASSANT, Move.getFlag(moves[0]));
+		Assertions.assertEquals("E5D6", Move.toString(moves[0]));
+	}
+
+	/**
+	 * Count all castling moves.
+	 *
+	 * @param moves
+	 *            the moves
+	 * @param count
+	 *            the number of moves
+	 *
+	 * @return the number of castling moves
+	 */
+	private int countCastlingMoves(final int[] moves, final int count) {
+		int castling = 0;
+		for (int i = 0; i < count; i++) {
+			if (Move.getFlag(moves[i]) == Move.FLAG_CASTLING) {
+				castling++;
+			}
+		}
+
+		return castling;
+	}
+}
@@ -0,0 +1,129 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.Accumulator;
+import engine.Network;
+import figure.properties.FigureColor;
+import location.BitBoard;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the neural network and it's accumulator.
+ */
+public class NetworkTester {
+	/** a position with castling, en passant and promotions */
+	private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+	/**
+	 * Test method for {@link engine.Network#write(java.io.OutputStream)} and
+	 * {@link engine.Network#read(java.io.InputStream)}.
+	 *
+	 * expected result: a written and read network rates a position equally,
+	 * while a stream without the magic number is rejected
+	 */
+	@Test
+	public void test_00_ReadAndWrite() throws IOException {
+		final Network network = Network.createRandom(32, 1L);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		network.write(out);
+
+		final Network copy = Network.read(new ByteArrayInputStream(out.toByteArray()));
+		Assertions.assertEquals(32, copy.getHiddenSize());
+
+		final BitBoard board = new BitBoard();
+		board.setPosition(NetworkTester.KIWIPETE);
+		final Accumulator expected = new Accumulator(network);
+		final Accumulator actual = new Accumulator(copy);
+		expected.refresh(board);
+		actual.refresh(board);
+		Assertions.assertEquals(expected.evaluate(FigureColor.WHITE), actual.evaluate(FigureColor.WHITE));
+		Assertions.assertEquals(expected.evaluate(FigureColor.BLACK), actual.evaluate(FigureColor.BLACK));
+
+		final byte[] invalid = out.toByteArray();
+		invalid[0] = 0;
+		Assertions.assertThrows(IOException.class, () -> Network.read(new ByteArrayInputStream(invalid)));
+		Assertions.assertThrows(IOException.class, () -> Network.read(new ByteArrayInputStream(out.toByteArray(), 0, 100)));
+	}
+
+	/**
+	 * Test method for {@link engine.Accumulator#attach(BitBoard)}.
+	 *
+	 * expected result: the incrementally updated accumulator is equal to an
+	 * accumulator computed from scratch after each move and each move taken
+	 * back
+	 */
+	@Test
+	public void test_01_IncrementalUpdate() {
+		final Network network = Network.createRandom(64, 2L);
+		final BitBoard board = new BitBoard();
+		board.setPosition(NetworkTester.KIWIPETE);
+
+		final Accumulator incremental = new Accumulator(network);
+		final Accumulator refreshed = new Accumulator(network);
+		incremental.attach(board);
+
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int count = MoveGenerator.generateLegalMoves(board, moves);
+		for (int i = 0; i < count; i++) {
+			board.makeMove(moves[i]);
+			refreshed.refresh(board);
+			Assertions.assertEquals(refreshed.evaluate(FigureColor.WHITE), incremental.evaluate(FigureColor.WHITE));
+			Assertions.assertEquals(refreshed.evaluate(FigureColor.BLACK), incremental.evaluate(FigureColor.BLACK));
+
+			board.unmakeMove();
+		}
+
+		refreshed.refresh(board);
+		Assertions.assertEquals(refreshed.evaluate(FigureColor.WHITE), incremental.evaluate(FigureColor.WHITE));
+	}
+
+	/**
+	 * Test method for {@link engine.Network#getFeature(FigureColor, int, int)}.
+	 *
+	 * expected result: a position is rated for white like the mirrored
+	 * position with changed colors for black
+	 */
+	@Test
+	public void test_02_Perspective() {
+		final Network network = Network.createRandom(64, 3L);
+		final BitBoard board = new BitBoard();
+		final BitBoard mirrored = new BitBoard();
+		board.setPosition(NetworkTester.KIWIPETE);
+		mirrored.clearAll();
+
+		long occupied = board.getOccupancy();
+		while (occupied != 0L) {
+			final int field = Long.numberOfTrailingZeros(occupied);
+			occupied &= occupied - 1;
+
+			final FigureColor color = (board.getColorOn(field) == FigureColor.WHITE) ? FigureColor.BLACK : FigureColor.WHITE;
+			mirrored.setFigure(field ^ 56, color, board.getTypeOn(field));
+		}
+
+		final Accumulator original = new Accumulator(network);
+		final Accumulator flipped = new Accumulator(network);
+		original.refresh(board);
+		flipped.refresh(mirrored);
+		Assertions.assertEquals(original.evaluate(FigureColor.WHITE), flipped.evaluate(FigureColor.BLACK));
+		Assertions.assertEquals(original.evaluate(FigureColor.BLACK), flipped.evaluate(FigureColor.WHITE));
+	}
+}
@@ -0,0 +1,158 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.OpeningBook;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the memory mapped opening book.
+ */
+public class OpeningBookTester {
+	/**
+	 * Create a temporary book file, which is deleted on exit.
+	 *
+	 * @return the path of the file
+	 */
+	private static String createPath() throws IOException {
+		final File file = File.createTempFile("book", ".bin");
+		file.deleteOnExit();
+		return file.getPath();
+	}
+
+	/**
+	 * Receive the legal move, which matches the given word.
+	 *
+	 * @param board
+	 *            the current position
+	 * @param word
+	 *            the move in coordinate notation
+	 *
+	 * @return the packed move
+	 */
+	private static int findMove(final BitBoard board, final String word) {
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int count = MoveGenerator.generateLegalMoves(board, moves);
+		for (int i = 0; i < count; i++) {
+			if (Move.toString(moves[i]).equals(word)) {
+				return moves[i];
+			}
+		}
+
+		return Move.NONE;
+	}
+
+	/**
+	 * Test method for {@link engine.OpeningBook#getMoves(long, int[], int[])}.
+	 *
+	 * expected result: the moves of a position are found by it's key, the
+	 * highest weight first, while an unknown key has no moves
+	 */
+	@Test
+	public void test_00_SaveAndOpen() throws IOException {
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+		final long start = board.getKey();
+		final int e4 = OpeningBookTester.findMove(board, "E2E4");
+		final int d4 = OpeningBookTester.findMove(board, "D2D4");
+		board.makeMove(e4);
+		final long afterE4 = board.getKey();
+		final int e5 = OpeningBookTester.findMove(board, "E7E5");
+
+		final String path = OpeningBookTester.createPath();
+		OpeningBook.save(path, new long[] {
+				afterE4, start, start
+		}, new int[] {
+				e5, d4, e4
+		}, new int[] {
+				7, 3, 10
+		}, 3);
+
+		final OpeningBook book = OpeningBook.open(path);
+		Assertions.assertEquals(3, book.getCount());
+
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int[] weights = new int[MoveGenerator.MAX_MOVES];
+		Assertions.assertEquals(2, book.getMoves(start, moves, weights));
+		Assertions.assertEquals(e4, moves[0]);
+		Assertions.assertEquals(10, weights[0]);
+		Assertions.assertEquals(d4, moves[1]);
+		Assertions.assertEquals(3, weights[1]);
+		Assertions.assertEquals(1, book.getMoves(afterE4, moves, null));
+		Assertions.assertEquals(e5, moves[0]);
+		Assertions.assertEquals(0, book.getMoves(start ^ afterE4, moves, weights));
+	}
+
+	/**
+	 * Test method for {@link engine.OpeningBook#probe(BitBoard)}.
+	 *
+	 * expected result: the legal book move of the highest weight is returned,
+	 * a move, which is not legal in the position, is never returned
+	 */
+	@Test
+	public void test_01_Probe() throws IOException {
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+		final int illegal = Move.create(BitBoard.getFieldIndex('E', '2'), BitBoard.getFieldIndex('E', '5'));
+		final int c4 = OpeningBookTester.findMove(board, "C2C4");
+
+		final String path = OpeningBookTester.createPath();
+		OpeningBook.save(path, new long[] {
+				board.getKey(), board.getKey()
+		}, new int[] {
+				illegal, c4
+		}, new int[] {
+				100, 1
+		}, 2);
+
+		final OpeningBook book = OpeningBook.open(path);
+		Assertions.assertEquals(c4, book.probe(board));
+
+		board.makeMove(c4);
+		Assertions.assertEquals(Move.NONE, book.probe(board));
+	}
+
+	/**
+	 * Test method for {@link engine.OpeningBook#open(String)}.
+	 *
+	 * expected result: a file without the magic number or with a wrong size is
+	 * rejected
+	 */
+	@Test
+	public void test_02_InvalidFile() throws IOException {
+		final String path = OpeningBookTester.createPath();
+		try (FileOutputStream out = new FileOutputStream(path)) {
+			out.write(new byte[] {
+					'I', 'B', 'O', 'X', 0, 0, 0, 1, 0, 0, 0, 0
+			});
+		}
+		Assertions.assertThrows(IOException.class, () -> OpeningBook.open(path));
+
+		try (FileOutputStream out = new FileOutputStream(path)) {
+			out.write(new byte[] {
+					'I', 'B', 'O', 'K', 0, 0, 0, 1, 0, 0, 0, 2
+			});
+		}
+		Assertions.assertThrows(IOException.class, () -> OpeningBook.open(path));
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.ParallelSearch;
+import engine.Search;
+import engine.SearchResult;
+import engine.TranspositionTable;
+import location.BitBoard;
+import location.Move;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the search by several threads, which share a
+ *         single transposition table.
+ */
+public class ParallelSearchTester {
+	/**
+	 * Test method for {@link engine.ParallelSearch#search(long, int)}.
+	 *
+	 * expected result: four threads find the mate by the Rook on the last row
+	 */
+	@Test
+	public void test_00_MateInOne() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1");
+
+		final SearchResult result = new ParallelSearch(board, 4, new TranspositionTable(1)).search(2000L, 4);
+
+		Assertions.assertEquals("A1A8", Move.toString(result.getBestMove()));
+		Assertions.assertEquals(Search.MATE - 1, result.getScore());
+	}
+
+	/**
+	 * Test method for {@link engine.ParallelSearch#search(long, int)}.
+	 *
+	 * expected result: the main thread completes the given depth, where the nodes
+	 * of the helper threads are counted as well, and the given board is untouched
+	 */
+	@Test
+	public void test_01_HelperThreads() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		final String position = board.getPosition();
+
+		final TranspositionTable table = new TranspositionTable(1);
+		final SearchResult parallel = new ParallelSearch(board, 3, table).search(60000L, 4);
+
+		Assertions.assertEquals(4, parallel.getDepth());
+		Assertions.assertNotEquals(Move.NONE, parallel.getBestMove());
+		Assertions.assertTrue(parallel.getNodes() > 0);
+		Assertions.assertNotEquals(TranspositionTable.NO_ENTRY, table.probe(board.getKey()));
+		Assertions.assertEquals(position, board.getPosition());
+	}
+}
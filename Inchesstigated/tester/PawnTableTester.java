@@ -0,0 +1,109 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.Evaluation;
+import engine.PawnTable;
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the table of Pawn structures and the Pawn key.
+ */
+public class PawnTableTester {
+	/**
+	 * Test method for {@link location.BitBoard#getPawnKey()}.
+	 *
+	 * expected result: the incremental Pawn key is equal to the computed key
+	 * after each move, where only a move or capture of a Pawn changes it
+	 */
+	@Test
+	public void test_00_PawnKey() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		final long pawnKey = board.getPawnKey();
+		Assertions.assertEquals(board.computePawnKey(), pawnKey);
+
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int count = MoveGenerator.generateLegalMoves(board, moves);
+		for (int i = 0; i < count; i++) {
+			final boolean pawnChanged = board.onType(Move.getFrom(moves[i]), FigureSet.PAWN) || board.onType(Move.getTo(moves[i]), FigureSet.PAWN);
+
+			board.makeMove(moves[i]);
+			Assertions.assertEquals(board.computePawnKey(), board.getPawnKey());
+			Assertions.assertEquals(pawnChanged, pawnKey != board.getPawnKey());
+			board.unmakeMove();
+		}
+
+		Assertions.assertEquals(pawnKey, board.getPawnKey());
+	}
+
+	/**
+	 * Test method for {@link engine.PawnTable#probe(long)}.
+	 *
+	 * expected result: a stored rating is found by it's key only, including
+	 * negative scores, and each probe is counted
+	 */
+	@Test
+	public void test_01_ProbeAndStore() {
+		final PawnTable table = new PawnTable(1024);
+		Assertions.assertEquals(1024, table.getCapacity());
+		Assertions.assertEquals(PawnTable.NO_ENTRY, table.probe(0L));
+
+		table.store(0x1234L, PawnTable.pack(-35, 120));
+		final long data = table.probe(0x1234L);
+		Assertions.assertEquals(-35, PawnTable.getMiddleGame(data));
+		Assertions.assertEquals(120, PawnTable.getEndGame(data));
+		Assertions.assertEquals(PawnTable.NO_ENTRY, table.probe(0x1234L + 1024L)); // same entry, other key
+
+		Assertions.assertEquals(3, table.getProbes());
+		Assertions.assertEquals(1, table.getHits());
+
+		table.clear();
+		Assertions.assertEquals(PawnTable.NO_ENTRY, table.probe(0x1234L));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new PawnTable(1000));
+	}
+
+	/**
+	 * Test method for {@link engine.Evaluation#getPawnStructure(BitBoard)}.
+	 *
+	 * expected result: doubled, isolated and passed Pawns are rated, and the
+	 * cached rating is equal to the rating from scratch
+	 */
+	@Test
+	public void test_02_PawnStructure() {
+		final BitBoard board = new BitBoard();
+
+		/* both Pawns are doubled and isolated, only the front Pawn is passed */
+		board.setPosition("4k3/8/8/8/8/P7/P7/4K3 w - - 0 1");
+		final long pawns = Evaluation.getPawnStructure(board);
+		Assertions.assertEquals(-10 - 20 + 10, PawnTable.getMiddleGame(pawns));
+		Assertions.assertEquals(-20 - 30 + 15, PawnTable.getEndGame(pawns));
+
+		/* a symmetric Pawn structure is equal for both players */
+		board.setPosition(BitBoard.START_POSITION);
+		Assertions.assertEquals(0L, Evaluation.getPawnStructure(board));
+
+		final PawnTable table = new PawnTable();
+		board.setPosition("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1");
+		Assertions.assertEquals(Evaluation.evaluate(board), Evaluation.evaluate(board, table)); // stored
+		Assertions.assertEquals(Evaluation.evaluate(board), Evaluation.evaluate(board, table)); // found
+		Assertions.assertEquals(1, table.getHits());
+	}
+}
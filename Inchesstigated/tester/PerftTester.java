@@ -0,0 +1,96 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.Perft;
+import location.BitBoard;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the performance test, which compares the number of
+ *         leaf nodes with the published numbers.
+ */
+public class PerftTester {
+	/** a position with many castling, "en passant" and promotion moves */
+	private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+	/** an endgame with many checks and "en passant" moves */
+	private static final String ENDGAME = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+	/**
+	 * Test method for {@link engine.Perft#countNodes(BitBoard, int)}.
+	 *
+	 * expected result: the published numbers of the start position
+	 */
+	@Test
+	public void test_00_StartPosition() {
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+
+		Assertions.assertEquals(20L, Perft.countNodes(board, 1));
+		Assertions.assertEquals(400L, Perft.countNodes(board, 2));
+		Assertions.assertEquals(8902L, Perft.countNodes(board, 3));
+		Assertions.assertEquals(197281L, Perft.countNodes(board, 4));
+		Assertions.assertEquals(BitBoard.START_POSITION, board.getPosition());
+	}
+
+	/**
+	 * Test method for {@link engine.Perft#countNodes(BitBoard, int)}.
+	 *
+	 * expected result: the published numbers of two well known test positions
+	 */
+	@Test
+	public void test_01_KnownPositions() {
+		final BitBoard board = new BitBoard();
+
+		board.setPosition(PerftTester.KIWIPETE);
+		Assertions.assertEquals(48L, Perft.countNodes(board, 1));
+		Assertions.assertEquals(2039L, Perft.countNodes(board, 2));
+		Assertions.assertEquals(97862L, Perft.countNodes(board, 3));
+
+		board.setPosition(PerftTester.ENDGAME);
+		Assertions.assertEquals(2812L, Perft.countNodes(board, 3));
+		Assertions.assertEquals(43238L, Perft.countNodes(board, 4));
+	}
+
+	/**
+	 * Test method for
+	 * {@link engine.Perft#divide(BitBoard, int, int[], long[], ForkJoinPool)}.
+	 *
+	 * expected result: the sum of all root moves is equal to the number of leaf
+	 * nodes
+	 */
+	@Test
+	public void test_02_Divide() {
+		final BitBoard board = new BitBoard();
+		board.setPosition(PerftTester.KIWIPETE);
+
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final long[] nodes = new long[MoveGenerator.MAX_MOVES];
+		final int count = Perft.divide(board, 3, moves, nodes, ForkJoinPool.commonPool());
+
+		long sum = 0L;
+		for (int i = 0; i < count; i++) {
+			sum += nodes[i];
+		}
+
+		Assertions.assertEquals(48, count);
+		Assertions.assertEquals(97862L, sum);
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import figure.properties.FigureColor;
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.MoveGenerator;
+import location.PieceSquareTable;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the tapered evaluation, which is updated by the
+ *         bit board for each figure.
+ */
+public class PieceSquareTableTester {
+	/**
+	 * Test method for {@link location.BitBoard#getScore()}.
+	 *
+	 * expected result: the start position is equal for both players and it's
+	 * phase is the middle game
+	 */
+	@Test
+	public void test_00_StartPosition() {
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+
+		Assertions.assertEquals(0, board.getScore());
+		Assertions.assertEquals(0, board.computeScore());
+		Assertions.assertEquals(PieceSquareTable.MAX_PHASE, board.getPhase());
+	}
+
+	/**
+	 * Test method for {@link location.BitBoard#getScore()}.
+	 *
+	 * expected result: the incremental score is equal to the computed score
+	 * after each move and after each move has been taken back, including
+	 * captures, castlings, "en passant" and promotions
+	 */
+	@Test
+	public void test_01_IncrementalScore() {
+		final BitBoard board = new BitBoard();
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final String[] positions = {
+				BitBoard.START_POSITION,
+				"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+				"8/2P5/8/3pP3/8/8/5p2/K6k w - d6 0 1"
+		};
+
+		for (final String fen : positions) {
+			board.setPosition(fen);
+			final int score = board.getScore();
+
+			final int count = MoveGenerator.generateLegalMoves(board, moves);
+			for (int i = 0; i < count; i++) {
+				board.makeMove(moves[i]);
+				Assertions.assertEquals(board.computeScore(), board.getScore());
+				board.unmakeMove();
+				Assertions.assertEquals(score, board.getScore());
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link location.PieceSquareTable#taper(int, int, int)}.
+	 *
+	 * expected result: without any Knight, Runner, Rook or Queen only the end
+	 * game score is in use, where the King in the center is better than in the
+	 * corner
+	 */
+	@Test
+	public void test_02_EndGame() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("7k/8/8/8/3K4/8/8/8 w - - 0 1");
+		Assertions.assertEquals(0, board.getPhase());
+
+		final int king = (FigureSet.KING.ordinal() << 1) | FigureColor.WHITE.ordinal();
+		final int center = PieceSquareTable.getEndGameScore(king, BitBoard.getFieldIndex('D', '4'));
+		final int corner = PieceSquareTable.getEndGameScore((FigureSet.KING.ordinal() << 1) | FigureColor.BLACK.ordinal(), BitBoard.getFieldIndex('H', '8'));
+		Assertions.assertEquals(center + corner, board.getScore());
+		Assertions.assertTrue(board.getScore() > 0);
+
+		Assertions.assertEquals(100, PieceSquareTable.taper(100, 0, PieceSquareTable.MAX_PHASE));
+		Assertions.assertEquals(100, PieceSquareTable.taper(100, 0, PieceSquareTable.MAX_PHASE + 4));
+		Assertions.assertEquals(50, PieceSquareTable.taper(100, 0, PieceSquareTable.MAX_PHASE / 2));
+	}
+}
@@ -0,0 +1,86 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.Evaluation;
+import engine.Search;
+import engine.SearchResult;
+import location.BitBoard;
+import location.Move;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the search of the computer opponent.
+ */
+public class SearchTester {
+	/**
+	 * Test method for {@link engine.Evaluation#evaluate(BitBoard)}.
+	 *
+	 * expected result: the start position is rated equal for both players
+	 */
+	@Test
+	public void test_00_EvaluateStartPosition() {
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+
+		Assertions.assertEquals(0, Evaluation.evaluate(board));
+	}
+
+	/**
+	 * Test method for {@link engine.Search#search(long, int)}.
+	 *
+	 * expected result: the mate by the Rook on the last row is found
+	 */
+	@Test
+	public void test_01_MateInOne() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1");
+
+		final SearchResult result = new Search(board).search(2000L, 4);
+
+		Assertions.assertEquals("A1A8", Move.toString(result.getBestMove()));
+		Assertions.assertEquals(Search.MATE - 1, result.getScore());
+	}
+
+	/**
+	 * Test method for {@link engine.Search#search(long, int)}.
+	 *
+	 * expected result: the best move is a legal move of the given position, where
+	 * the search is limited by the given depth
+	 */
+	@Test
+	public void test_02_LegalBestMove() {
+		final BitBoard board = new BitBoard();
+		board.setPosition(BitBoard.START_POSITION);
+		final String position = board.getPosition();
+
+		final SearchResult result = new Search(board).search(10000L, 3);
+
+		Assertions.assertEquals(3, result.getDepth());
+		Assertions.assertTrue(result.getNodes() > 0);
+		Assertions.assertEquals(result.getBestMove(), result.getPrincipalVariation()[0]);
+		Assertions.assertEquals(position, board.getPosition()); // the given board is untouched
+
+		final int[] moves = new int[MoveGenerator.MAX_MOVES];
+		final int count = MoveGenerator.generateLegalMoves(board, moves);
+		boolean found = false;
+		for (int i = 0; i < count; i++) {
+			found |= (moves[i] == result.getBestMove());
+		}
+		Assertions.assertTrue(found);
+	}
+}
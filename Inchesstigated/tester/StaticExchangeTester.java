@@ -0,0 +1,79 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.Evaluation;
+import engine.StaticExchange;
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.MoveGenerator;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the static exchange evaluation.
+ */
+public class StaticExchangeTester {
+	/**
+	 * Test method for {@link engine.StaticExchange#getExchangeValue(BitBoard, int)}.
+	 *
+	 * expected result: the capture of an unprotected Pawn wins the Pawn
+	 */
+	@Test
+	public void test_00_UnprotectedFigure() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("4k3/8/8/3p4/8/8/8/3RK3 w - - 0 1");
+		final int move = board.createMove(BitBoard.getFieldIndex('D', '1'), BitBoard.getFieldIndex('D', '5'), null);
+
+		Assertions.assertEquals(Evaluation.getValue(FigureSet.PAWN), StaticExchange.getExchangeValue(board, move));
+		Assertions.assertEquals(Evaluation.getValue(FigureSet.PAWN), StaticExchange.getHangingValue(board, new int[MoveGenerator.MAX_MOVES]));
+	}
+
+	/**
+	 * Test method for {@link engine.StaticExchange#getExchangeValue(BitBoard, int)}.
+	 *
+	 * expected result: the Knight captures a Pawn, which is protected by a Pawn,
+	 * thus the Knight is lost
+	 */
+	@Test
+	public void test_01_ProtectedFigure() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("4k3/8/2p5/3p4/8/4N3/8/4K3 w - - 0 1");
+		final int move = board.createMove(BitBoard.getFieldIndex('E', '3'), BitBoard.getFieldIndex('D', '5'), null);
+		final int expected = Evaluation.getValue(FigureSet.PAWN) - Evaluation.getValue(FigureSet.KNIGHT);
+
+		Assertions.assertEquals(expected, StaticExchange.getExchangeValue(board, move));
+		Assertions.assertFalse(StaticExchange.onExchangeAtLeast(board, move, 0));
+		Assertions.assertEquals(0, StaticExchange.getHangingValue(board, new int[MoveGenerator.MAX_MOVES]));
+	}
+
+	/**
+	 * Test method for {@link engine.StaticExchange#onExchangeAtLeast(BitBoard, int, int)}.
+	 *
+	 * expected result: the Rook behind the capturing Rook recaptures, thus the
+	 * Pawn is won
+	 */
+	@Test
+	public void test_02_XRay() {
+		final BitBoard board = new BitBoard();
+		board.setPosition("3rk3/8/8/3p4/8/8/3R4/3RK3 w - - 0 1");
+		final int move = board.createMove(BitBoard.getFieldIndex('D', '2'), BitBoard.getFieldIndex('D', '5'), null);
+		final int pawn = Evaluation.getValue(FigureSet.PAWN);
+
+		Assertions.assertEquals(pawn, StaticExchange.getExchangeValue(board, move));
+		Assertions.assertTrue(StaticExchange.onExchangeAtLeast(board, move, pawn));
+		Assertions.assertFalse(StaticExchange.onExchangeAtLeast(board, move, pawn + 1));
+	}
+}
@@ -0,0 +1,165 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.Search;
+import engine.Tablebase;
+import figure.properties.FigureSet;
+import location.BitBoard;
+import location.Move;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the generation and the probes of the endings of
+ *         the tablebase.
+ */
+public class TablebaseTester {
+	/** all endings, generated once for all tests */
+	private static Tablebase tablebase = null;
+
+	/**
+	 * Receive the tablebase of all endings.
+	 *
+	 * @return the generated tablebase
+	 */
+	private static synchronized Tablebase getTablebase() {
+		if (TablebaseTester.tablebase == null) {
+			final ForkJoinPool pool = new ForkJoinPool(2);
+			final Tablebase generated = new Tablebase();
+			Assertions.assertEquals(20, generated.generate(FigureSet.QUEEN, pool)); // mate in 10 moves
+			Assertions.assertEquals(32, generated.generate(FigureSet.ROOK, pool)); // mate in 16 moves
+			generated.generate(FigureSet.PAWN, pool);
+			pool.shutdown();
+
+			TablebaseTester.tablebase = generated;
+		}
+
+		return TablebaseTester.tablebase;
+	}
+
+	/**
+	 * Rate a position by the tablebase.
+	 *
+	 * @param tablebase
+	 *            the tablebase to use
+	 * @param fen
+	 *            the position as FEN
+	 *
+	 * @return the score of the tablebase
+	 */
+	private static int probe(final Tablebase tablebase, final String fen) {
+		final BitBoard board = new BitBoard();
+		board.setPosition(fen);
+		return tablebase.probe(board);
+	}
+
+	/**
+	 * Test method for {@link engine.Tablebase#probe(BitBoard)}.
+	 *
+	 * expected result: mates, stalemates, draws and wins of the stronger side
+	 * are rated exactly, where a position of a black figure is rated like the
+	 * mirrored position
+	 */
+	@Test
+	public void test_00_Probe() {
+		final Tablebase tablebase = TablebaseTester.getTablebase();
+
+		Assertions.assertEquals(-Search.MATE, TablebaseTester.probe(tablebase, "k7/1Q6/1K6/8/8/8/8/8 b - - 0 1")); // mated
+		Assertions.assertEquals(Search.MATE - 1, TablebaseTester.probe(tablebase, "k7/8/1K6/8/8/8/7Q/8 w - - 0 1")); // Qh8#
+		Assertions.assertEquals(0, TablebaseTester.probe(tablebase, "k7/P7/1K6/8/8/8/8/8 b - - 0 1")); // stalemate
+		Assertions.assertEquals(0, TablebaseTester.probe(tablebase, "8/8/8/8/4k3/8/4P3/4K3 w - - 0 1")); // the lone King holds the opposition
+		Assertions.assertTrue(TablebaseTester.probe(tablebase, "4k3/8/4K3/4P3/8/8/8/8 w - - 0 1") > 0); // the King in front of it's Pawn
+
+		Assertions.assertEquals(TablebaseTester.probe(tablebase, "8/8/8/4k3/8/8/8/KQ6 w - - 0 1"), TablebaseTester.probe(tablebase, "kq6/8/8/8/4K3/8/8/8 b - - 0 1"));
+		Assertions.assertEquals(TablebaseTester.probe(tablebase, "4k3/8/4K3/4P3/8/8/8/8 b - - 0 1"), TablebaseTester.probe(tablebase, "8/8/8/8/4p3/4k3/8/4K3 w - - 0 1"));
+
+		Assertions.assertEquals(Tablebase.NOT_FOUND, TablebaseTester.probe(tablebase, "4k3/8/8/8/8/8/8/4K3 w - - 0 1")); // no figure
+		Assertions.assertEquals(Tablebase.NOT_FOUND, TablebaseTester.probe(tablebase, "4k3/8/8/8/8/8/8/4KN2 w - - 0 1")); // no ending of a Knight
+		Assertions.assertEquals(Tablebase.NOT_FOUND, TablebaseTester.probe(tablebase, "4k3/8/8/8/8/8/8/4K2R w K - 0 1")); // castling rights
+	}
+
+	/**
+	 * Test method for {@link engine.Tablebase#getBestMove(BitBoard)}.
+	 *
+	 * expected result: the best moves of both sides reach the mate in exactly
+	 * the rated number of half moves
+	 */
+	@Test
+	public void test_01_BestMove() {
+		final Tablebase tablebase = TablebaseTester.getTablebase();
+		final BitBoard board = new BitBoard();
+
+		for (final String fen : new String[] {
+				"8/8/3k4/8/8/8/8/R3K3 b - - 0 1", "8/8/4k3/8/8/3PK3/8/8 w - - 0 1"
+		}) {
+			board.setPosition(fen);
+			final int score = tablebase.probe(board);
+			final int plies = (score > 0) ? (Search.MATE - score) : (Search.MATE + score);
+
+			for (int ply = 0; ply < plies; ply++) {
+				final int move = tablebase.getBestMove(board);
+				Assertions.assertNotEquals(Move.NONE, move);
+				board.makeMove(move);
+			}
+
+			Assertions.assertEquals(-Search.MATE, tablebase.probe(board));
+			Assertions.assertEquals(Move.NONE, tablebase.getBestMove(board));
+		}
+	}
+
+	/**
+	 * Test method for {@link engine.Tablebase#save(String)} and
+	 * {@link engine.Tablebase#open(String)}.
+	 *
+	 * expected result: the mapped files rate each position like the generated
+	 * tablebase, while a directory without valid files is rejected
+	 */
+	@Test
+	public void test_02_SaveAndOpen() throws IOException {
+		final Tablebase tablebase = TablebaseTester.getTablebase();
+		final Path directory = Files.createTempDirectory("tablebase");
+		tablebase.save(directory.toString());
+
+		final Tablebase opened = Tablebase.open(directory.toString());
+		for (final FigureSet type : Tablebase.ENDINGS) {
+			Assertions.assertTrue(opened.onAvailable(type));
+		}
+		for (final String fen : new String[] {
+				"8/8/8/4k3/8/8/8/KQ6 w - - 0 1", "8/8/3k4/8/8/8/8/R3K3 b - - 0 1", "4k3/8/4K3/4P3/8/8/8/8 w - - 0 1", "8/8/8/8/4k3/8/4P3/4K3 w - - 0 1"
+		}) {
+			Assertions.assertEquals(TablebaseTester.probe(tablebase, fen), TablebaseTester.probe(opened, fen));
+		}
+
+		final Path invalid = Files.createTempDirectory("tablebase");
+		Assertions.assertThrows(IOException.class, () -> Tablebase.open(invalid.toString()));
+		Files.write(invalid.resolve(Tablebase.getFileName(FigureSet.ROOK)), new byte[] {
+				'I', 'T', 'B', 'L', 0, 0, 0, 1
+		});
+		Assertions.assertThrows(IOException.class, () -> Tablebase.open(invalid.toString()));
+
+		for (final FigureSet type : Tablebase.ENDINGS) {
+			Files.deleteIfExists(directory.resolve(Tablebase.getFileName(type)));
+			Files.deleteIfExists(invalid.resolve(Tablebase.getFileName(type)));
+		}
+		Files.delete(directory);
+		Files.delete(invalid);
+	}
+}
@@ -0,0 +1,104 @@
+/**
+ * @package: tester
+ * @project: Chess
+ * @author: swunsch
+ *
+ * -----------------------------------------------------
+ * Hochschule Mittweida - University of Applied Sciences
+ * Project "Inchesstigated" WW1 / 2019
+ * All rights reserved.
+ * -----------------------------------------------------
+ */
+package tester;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import engine.Search;
+import engine.TranspositionTable;
+import location.Move;
+
+/**
+ * @author swunsch
+ *
+ *         Testing class for the transposition table.
+ */
+public class TranspositionTableTester {
+	/** the number of buckets of a table with 1 MB */
+	private static final long BUCKETS = (1L << 20) / 64L;
+
+	/**
+	 * Test method for {@link engine.TranspositionTable#TranspositionTable(int)}.
+	 *
+	 * expected result: the number of entries is a power of two, an invalid size is
+	 * rejected
+	 */
+	@Test
+	public void test_00_Size() {
+		final TranspositionTable table = new TranspositionTable(3);
+
+		Assertions.assertEquals(3, table.getMegabytes());
+		Assertions.assertEquals(1 << 17, table.getCapacity()); // 2 MB of 3 MB, 16 bytes each entry
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+	}
+
+	/**
+	 * Test method for {@link engine.TranspositionTable#store(long, int, int, int, int)}.
+	 *
+	 * expected result: each stored value is received again, an unknown position
+	 * is not found
+	 */
+	@Test
+	public void test_01_StoreAndProbe() {
+		final TranspositionTable table = new TranspositionTable(1);
+		final int move = Move.create(12, 28, Move.FLAG_TWO_FIELDS);
+
+		table.store(0x123456789ABCDEFL, move, -(Search.MATE - 3), 12, TranspositionTable.BOUND_UPPER);
+		final long data = table.probe(0x123456789ABCDEFL);
+
+		Assertions.assertEquals(move, TranspositionTable.getMove(data));
+		Assertions.assertEquals(-(Search.MATE - 3), TranspositionTable.getScore(data));
+		Assertions.assertEquals(12, TranspositionTable.getDepth(data));
+		Assertions.assertEquals(TranspositionTable.BOUND_UPPER, TranspositionTable.getBound(data));
+		Assertions.assertEquals(TranspositionTable.NO_ENTRY, table.probe(0x123456789ABCDEFL ^ (1L << 40)));
+
+		/* a result without a move keeps the known move */
+		table.store(0x123456789ABCDEFL, Move.NONE, 50, 13, TranspositionTable.BOUND_LOWER);
+		Assertions.assertEquals(move, TranspositionTable.getMove(table.probe(0x123456789ABCDEFL)));
+
+		Assertions.assertEquals(3, table.getProbes());
+		Assertions.assertEquals(2, table.getHits());
+	}
+
+	/**
+	 * Test method for {@link engine.TranspositionTable#store(long, int, int, int, int)}.
+	 *
+	 * expected result: the entry with the lowest depth is replaced, where an entry
+	 * of an older search is replaced first
+	 */
+	@Test
+	public void test_02_Replacement() {
+		final TranspositionTable table = new TranspositionTable(1);
+		final long[] keys = new long[7];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = 42L + (i * TranspositionTableTester.BUCKETS); // all keys share one bucket
+		}
+
+		for (int i = 0; i < 4; i++) {
+			table.store(keys[i], Move.NONE, 0, 5 + i, TranspositionTable.BOUND_EXACT);
+		}
+		table.store(keys[4], Move.NONE, 0, 7, TranspositionTable.BOUND_EXACT);
+
+		Assertions.assertEquals(TranspositionTable.NO_ENTRY, table.probe(keys[0])); // depth 5 replaced
+		Assertions.assertNotEquals(TranspositionTable.NO_ENTRY, table.probe(keys[4]));
+
+		/* the entries of the former search are replaced before the new one */
+		table.newSearch();
+		table.store(keys[5], Move.NONE, 0, 1, TranspositionTable.BOUND_EXACT);
+		table.store(keys[6], Move.NONE, 0, 1, TranspositionTable.BOUND_EXACT);
+
+		Assertions.assertNotEquals(TranspositionTable.NO_ENTRY, table.probe(keys[5]));
+		Assertions.assertNotEquals(TranspositionTable.NO_ENTRY, table.probe(keys[6]));
+		Assertions.assertNotEquals(TranspositionTable.NO_ENTRY, table.probe(keys[3])); // depth 8 survives
+	}
+}